@@ -0,0 +1,53 @@
+package com.portfolio.food_delivery.common.exception;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거절되는 요청 하나가 예외 생성에 쓰는 비용
+ * 컨트롤러까지의 필터/프록시 호출 깊이를 흉내 내기 위해 depth 만큼 재귀한 뒤 예외를 던지고 잡는다.
+ * - withStackTrace: 변경 전 (RuntimeException 기본 생성자처럼 스택을 채움)
+ * - stackless: 현재 BusinessException (4xx)
+ *
+ * 측정 (JDK 17, 1 CPU, -wi 3 -i 5 -f 2, ns/op):
+ *   depth 20  - withStackTrace 3241 ± 985,   stackless 1046 ± 111
+ *   depth 150 - withStackTrace 16618 ± 4750, stackless 8375 ± 2237
+ * 스택 수집을 빼면 거절 요청당 2~8 µs 줄고, 남는 비용은 프레임을 되감는(unwind) 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessExceptionBenchmark {
+
+    @Param({"20", "150"})
+    private int depth;
+
+    @Benchmark
+    public Object withStackTrace() {
+        try {
+            return throwAt(depth, false);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object stackless() {
+        try {
+            return throwAt(depth, true);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static Object throwAt(int remaining, boolean stackless) {
+        if (remaining > 0) {
+            return throwAt(remaining - 1, stackless);
+        }
+        if (stackless) {
+            throw new EntityNotFoundException("메뉴를 찾을 수 없습니다.");
+        }
+        throw new IllegalStateException("메뉴를 찾을 수 없습니다.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.portfolio.food_delivery.domain.benchmark.service;
+
+// ServiceMetricsAspect 의 포인트컷(domain.*.service)에 걸리는 벤치마크 전용 서비스
+public class EchoService {
+
+    public long echo(long value) {
+        return value + 1;
+    }
+}
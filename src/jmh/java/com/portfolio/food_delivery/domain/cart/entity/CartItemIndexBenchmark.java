@@ -0,0 +1,88 @@
+package com.portfolio.food_delivery.domain.cart.entity;
+
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 항목 조회/수량 변경 비용 (항목 1/10/100개)
+ * - scan*: 변경 전 Cart (항목 목록을 스트림으로 훑어 찾고, 합계도 매번 다시 더함)
+ * - indexed*: 현재 Cart (CartItemIndex 로 찾고, 합계는 변경 시 함께 갱신)
+ * updateAndTotals 는 수량 변경 API 한 번(항목 찾기 + 수량 변경 + 응답의 합계 두 개)에 해당한다.
+ *
+ * 측정 (JDK 17, 1 CPU, -wi 3 -i 5 -f 2, ns/op, 항목 1/10/100개):
+ *   lookup          - scan 31 / 39 / 162,    indexed 4.7 / 4.6 / 3.9
+ *   updateAndTotals - scan 326 / 355 / 823,  indexed 15 / 14 / 17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartItemIndexBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private Cart cart;
+    private List<CartItem> scanItems;
+    private Long[] menuIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Restaurant restaurant = Restaurant.builder().id(1L).name("벤치마크 식당").build();
+        cart = Cart.builder().build();
+        scanItems = new ArrayList<>(items);
+        menuIds = new Long[items];
+        for (int i = 0; i < items; i++) {
+            Menu menu = Menu.builder().id(1_000L + i).restaurant(restaurant).name("메뉴" + i).price(1_000 + i).build();
+            menuIds[i] = menu.getId();
+            cart.addItem(CartItem.builder().menu(menu).quantity(1).build());
+            scanItems.add(CartItem.builder().menu(menu).quantity(1).build());
+        }
+        cart.getTotalAmount(); // 금액 합계는 첫 요청 때 계산되므로 미리 채워 둔다
+    }
+
+    private Long nextMenuId() {
+        Long menuId = menuIds[next];
+        next = next + 1 == menuIds.length ? 0 : next + 1;
+        return menuId;
+    }
+
+    @Benchmark
+    public CartItem scanLookup() {
+        Long menuId = nextMenuId();
+        return scanItems.stream()
+                .filter(item -> item.getMenu().getId().equals(menuId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public CartItem indexedLookup() {
+        return cart.findCartItemByMenuId(nextMenuId());
+    }
+
+    @Benchmark
+    public int scanUpdateAndTotals() {
+        Long menuId = nextMenuId();
+        CartItem item = scanItems.stream()
+                .filter(candidate -> candidate.getMenu().getId().equals(menuId))
+                .findFirst()
+                .orElse(null);
+        item.updateQuantity(3 - item.getQuantity()); // 1 ↔ 2
+        return scanItems.stream().mapToInt(CartItem::getSubtotal).sum()
+                + scanItems.stream().mapToInt(CartItem::getQuantity).sum();
+    }
+
+    @Benchmark
+    public int indexedUpdateAndTotals() {
+        Long menuId = nextMenuId();
+        CartItem item = cart.findCartItemByMenuId(menuId);
+        cart.updateItemQuantity(menuId, 3 - item.getQuantity()); // 1 ↔ 2
+        return cart.getTotalAmount() + cart.getTotalQuantity();
+    }
+}
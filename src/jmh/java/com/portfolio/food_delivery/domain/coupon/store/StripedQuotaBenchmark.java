@@ -0,0 +1,54 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 선착순 쿠폰 수량 확보 경합 (1,000개 스레드가 같은 쿠폰에 몰리는 경우)
+ * - singleCounter: 하나의 AtomicLong 에 CAS (칸을 나누기 전)
+ * - stripedQuota: StripedQuota (스레드마다 다른 칸에서 CAS)
+ * 수량이 떨어지지 않도록 확보한 즉시 반납한다. 반납도 같은 칸/카운터에 대한 경합이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1000)
+public class StripedQuotaBenchmark {
+
+    private static final long PERMITS = 1_000_000;
+
+    @Param({"16", "64"})
+    private int stripes;
+
+    private AtomicLong counter;
+    private StripedQuota quota;
+
+    @Setup
+    public void setUp() {
+        counter = new AtomicLong(PERMITS);
+        quota = new StripedQuota(PERMITS, stripes);
+    }
+
+    @Benchmark
+    public boolean singleCounter() {
+        long current;
+        while ((current = counter.get()) > 0) {
+            if (counter.compareAndSet(current, current - 1)) {
+                counter.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean stripedQuota() {
+        if (quota.tryAcquire()) {
+            quota.release();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package com.portfolio.food_delivery.domain.dispatch.matcher;
+
+import com.portfolio.food_delivery.domain.dispatch.store.PendingOrderPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배차 한 주기의 비용 (노드당 파트너 1만 명, 대기 주문 5만 건 기준)
+ * 서울 크기(약 30km x 30km)에 파트너와 주문을 고르게 흩뿌린다.
+ * - match: 묶음 하나(batchSize)의 격자 생성 + 매칭
+ * - oldestBatch: 대기열 전체에서 오래 기다린 묶음을 고르는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RiderMatcherBenchmark {
+
+    private static final double BASE_LAT = 37.42;
+    private static final double BASE_LON = 126.85;
+    private static final double SPAN_DEGREES = 0.3;
+
+    @Param({"1000", "10000"})
+    private int riderCount;
+
+    @Param({"50000"})
+    private int pendingCount;
+
+    @Param({"5000"})
+    private int batchSize;
+
+    private RiderMatcher matcher;
+    private PendingOrderPool pool;
+    private List<RiderPosition> riders;
+    private List<PendingOrder> batch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        matcher = new RiderMatcher(5, 1);
+
+        riders = new ArrayList<>(riderCount);
+        for (long i = 0; i < riderCount; i++) {
+            riders.add(new RiderPosition(i, BASE_LAT + random.nextDouble() * SPAN_DEGREES,
+                    BASE_LON + random.nextDouble() * SPAN_DEGREES));
+        }
+
+        pool = new PendingOrderPool();
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 0; i < pendingCount; i++) {
+            pool.add(new PendingOrder(i, BASE_LAT + random.nextDouble() * SPAN_DEGREES,
+                    BASE_LON + random.nextDouble() * SPAN_DEGREES, now.minusSeconds(random.nextInt(1800))));
+        }
+        batch = pool.oldest(batchSize);
+    }
+
+    @Benchmark
+    public List<Assignment> match() {
+        return matcher.match(batch, riders);
+    }
+
+    @Benchmark
+    public List<PendingOrder> oldestBatch() {
+        return pool.oldest(batchSize);
+    }
+}
@@ -0,0 +1,50 @@
+package com.portfolio.food_delivery.domain.dispatch.store;
+
+import com.portfolio.food_delivery.domain.dispatch.matcher.RiderPosition;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 파트너 위치 갱신 처리량과 배차 주기마다 하는 스냅샷 비용 (파트너 1만 명)
+ * - updateLocation: 여러 요청 스레드가 동시에 위치를 보고하는 경우
+ * - availableRiders: 위치 보고와 동시에 배차 엔진이 배차 대기 파트너를 모으는 경우
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RiderRegistryBenchmark {
+
+    @Param({"10000"})
+    private int riderCount;
+
+    private RiderRegistry registry;
+    private String[] emails;
+
+    @Setup
+    public void setUp() {
+        registry = new RiderRegistry();
+        emails = new String[riderCount];
+        for (int i = 0; i < riderCount; i++) {
+            emails[i] = "rider" + i + "@example.com";
+            registry.online((long) i, emails[i], 37.5, 127.0, null);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public boolean updateLocation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return registry.updateLocation(emails[random.nextInt(riderCount)],
+                37.4 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public List<RiderPosition> availableRiders() {
+        return registry.availableRiders(Duration.ofMinutes(2));
+    }
+}
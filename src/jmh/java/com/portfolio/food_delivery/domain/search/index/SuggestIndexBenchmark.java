@@ -0,0 +1,109 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.event.MenuChangedEvent;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import com.portfolio.food_delivery.domain.restaurant.event.RestaurantChangedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회/갱신 비용 (레스토랑 5만 개, 메뉴 100만 개)
+ * - suggest: 입력 중인 검색어(자모 접두어, 초성, 없는 접두어)를 돌아가며 조회 - SampleTime 으로 p99 를 본다
+ * - menuChanged: 메뉴 이름 변경 이벤트 한 건 (빼고 다시 넣기) - 조회가 기다리는 쓰기 잠금 구간
+ *
+ * 이름은 "수식어 + 음식" 조합이라 같은 접두어 아래 항목이 수만 개씩 몰린다 (실제 분포보다 나쁜 쪽).
+ * 색인은 warmUp 과 같은 순서(레스토랑 → 메뉴)로 변경 이벤트를 넣어 만든다. 저장소는 쓰지 않는다.
+ *
+ * 측정 (JDK 17, 1 CPU, -Xmx2g, -wi 3 -i 5 -f 2):
+ * suggest 평균 0.72 ± 0.23 µs, p50 0.26 µs, p99 0.68 µs, p99.9 6.4 µs, p99.99 175 µs, 최대 13.6 ms (GC 정지)
+ * menuChanged 34 ± 13 µs, 색인 구성 6~8초
+ * → p99 가 목표(1 ms 미만)보다 세 자릿수 아래이다. 꼬리는 조회가 아니라 2 GB 힙의 GC 정지이다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SuggestIndexBenchmark {
+
+    private static final String[] PREFIXES = {"황금", "원조", "행복한", "우리동네", "옛날", "바삭", "할매", "명품",
+            "수제", "정직한", "골목", "큰집", "24시", "본가", "신선"};
+
+    private static final String[] DISTRICTS = {"강남", "서초", "송파", "강동", "마포", "용산", "성동", "광진", "영등포",
+            "동작", "관악", "종로", "서대문", "은평", "노원", "강서", "양천", "구로", "성북", "중구"};
+
+    private static final String[] DISHES = {"김치찌개", "된장찌개", "제육볶음", "불고기", "비빔밥", "갈비탕", "보쌈",
+            "초밥", "돈카츠", "라멘", "우동", "짜장면", "짬뽕", "탕수육", "볶음밥", "까르보나라", "스테이크", "리조또",
+            "후라이드치킨", "양념치킨", "간장치킨", "닭강정", "페퍼로니피자", "불고기피자", "고구마피자", "치즈버거",
+            "새우버거", "감자튀김", "아메리카노", "카페라떼", "치즈케이크", "쌀국수", "팟타이", "떡볶이", "순대", "김밥",
+            "족발", "곱창", "마라탕", "국밥"};
+
+    private static final String[] MODIFIERS = {"", "", "", "매운 ", "순살 ", "치즈 ", "특 ", "곱빼기 ", "세트 ",
+            "반반 ", "크림 ", "마늘 "};
+
+    // 한 글자씩 입력하는 흐름 + 초성 + 색인에 없는 접두어
+    private static final String[] QUERIES = {"ㅊ", "치", "치즈", "치즈ㅂ", "치즈버", "양념", "양념치킨", "떡ㅂ", "떡볶이",
+            "황금", "황금 치킨", "강남", "ㄱㄴ", "ㅊㅈ", "ㄸㅂㅇ", "ㅎㄱ", "후라이", "마라", "곱빼기 짜", "없는메뉴"};
+
+    @Param({"50000"})
+    private int restaurantCount;
+
+    @Param({"1000000"})
+    private int menuCount;
+
+    private SuggestIndex index;
+    private String[] menuNames;
+    private int queryCursor;
+    private long renameCursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        RestaurantCategory[] categories = RestaurantCategory.values();
+        index = new SuggestIndex(null, null, 10, 4);
+
+        long started = System.nanoTime();
+        for (long id = 1; id <= restaurantCount; id++) {
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + " "
+                    + DISHES[random.nextInt(DISHES.length)] + " "
+                    + DISTRICTS[random.nextInt(DISTRICTS.length)] + (id % 97) + "호점";
+            // 리뷰 수는 소수 가게에 몰린다
+            int reviewCount = (int) Math.min(100_000, Math.round(Math.exp(random.nextDouble() * 11)));
+            index.onRestaurantChanged(new RestaurantChangedEvent(id, name,
+                    categories[random.nextInt(categories.length)], RestaurantStatus.OPEN, reviewCount));
+        }
+
+        menuNames = new String[menuCount + 1];
+        for (long id = 1; id <= menuCount; id++) {
+            menuNames[(int) id] = MODIFIERS[random.nextInt(MODIFIERS.length)] + DISHES[random.nextInt(DISHES.length)];
+            index.onMenuChanged(new MenuChangedEvent(id, restaurantIdOf(id), menuNames[(int) id], MenuStatus.AVAILABLE));
+        }
+        System.out.printf("%n색인 구성 %d ms%n", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Suggestion> suggest() {
+        String query = QUERIES[queryCursor];
+        queryCursor = (queryCursor + 1) % QUERIES.length;
+        return index.suggest(query, 10);
+    }
+
+    // 같은 메뉴를 두 이름 사이에서 번갈아 바꾼다 (색인 크기 유지)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void menuChanged() {
+        long round = renameCursor++;
+        long menuId = 1 + (round / 2) % menuCount;
+        String name = round % 2 == 0 ? menuNames[(int) menuId] + " 2인분" : menuNames[(int) menuId];
+        index.onMenuChanged(new MenuChangedEvent(menuId, restaurantIdOf(menuId), name, MenuStatus.AVAILABLE));
+    }
+
+    private long restaurantIdOf(long menuId) {
+        return 1 + (menuId - 1) % restaurantCount;
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.food_delivery.infrastructure.metrics;
+
+import com.portfolio.food_delivery.domain.benchmark.service.EchoService;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 타이머의 호출당 비용
+ * - direct: 프록시 없는 호출
+ * - proxyOnly: 어드바이스 없는 CGLIB 프록시 (트랜잭션 프록시 등으로 이미 내고 있는 비용)
+ * - timed: ServiceMetricsAspect 적용 (application.yml 과 같은 히스토그램/SLO 설정)
+ *
+ * timed - proxyOnly 가 지표 수집으로 늘어나는 비용이다.
+ *
+ * 측정 (JDK 17, 1 CPU, -wi 3 -i 5 -f 2): direct 1.8 ± 0.2 ns, proxyOnly 28 ± 10 ns, timed 383 ± 84 ns
+ * → 호출당 약 0.35 µs. 수 ms 단위인 서비스 호출(DB 왕복 포함)에 비해 0.1% 미만이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServiceMetricsAspectBenchmark {
+
+    private EchoService direct;
+    private EchoService proxyOnly;
+    private EchoService timed;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(5).toNanos())
+                        .serviceLevelObjectives(
+                                Duration.ofMillis(50).toNanos(),
+                                Duration.ofMillis(100).toNanos(),
+                                Duration.ofMillis(300).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+
+        direct = new EchoService();
+
+        AspectJProxyFactory plain = new AspectJProxyFactory(new EchoService());
+        plain.setProxyTargetClass(true);
+        proxyOnly = plain.getProxy();
+
+        AspectJProxyFactory withAspect = new AspectJProxyFactory(new EchoService());
+        withAspect.setProxyTargetClass(true);
+        withAspect.addAspect(new ServiceMetricsAspect(registry, Tracer.NOOP));
+        timed = withAspect.getProxy();
+    }
+
+    @Benchmark
+    public long direct() {
+        return direct.echo(value++);
+    }
+
+    @Benchmark
+    public long proxyOnly() {
+        return proxyOnly.echo(value++);
+    }
+
+    @Benchmark
+    public long timed() {
+        return timed.echo(value++);
+    }
+}
@@ -0,0 +1,66 @@
+package com.portfolio.food_delivery.loadtest.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저녁 피크 부하 드라이버 (./gradlew dinnerRush)
+ * seededBootRun 으로 띄운 서버에 시드 고객 rush.users 명이 동시에 접속해 둘러보기/담기/주문/결제/리뷰를 rush.mix 비율로 반복한다.
+ * 결제는 서버의 MockPaymentGatewayService 를 그대로 거친다.
+ * 닫힌 모델(사용자 수 고정 + think-time)이라 서버가 느려지면 요청률도 함께 떨어진다 - 처리량과 지연을 같이 본다.
+ * ramp-up 동안 사용자를 고르게 투입하고, 그 뒤 duration 동안의 요청만 집계해 요청별 처리량과 지연 백분위를 출력한다.
+ */
+public class DinnerRushDriver {
+
+    private static final long PROGRESS_INTERVAL_SECONDS = 10;
+
+    public static void main(String[] args) throws InterruptedException {
+        RushConfig config = RushConfig.fromSystemProperties();
+        System.out.printf("저녁 피크 부하 - 대상 %s, 고객 %d명, ramp-up %s, 측정 %s, think-time %s, mix %s%n",
+                config.baseUrl(), config.users(), config.rampUp(), config.duration(), config.thinkTime(), config.mix());
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        long started = System.nanoTime();
+        long measureFrom = started + config.rampUp().toNanos();
+        long deadline = measureFrom + config.duration().toNanos();
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> {
+            long[] interval = recorder.drainInterval();
+            System.out.printf("[%4ds] %.1f req/s, 오류 %d%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started),
+                    interval[0] / (double) PROGRESS_INTERVAL_SECONDS, interval[1]);
+        }, PROGRESS_INTERVAL_SECONDS, PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        ExecutorService customers = Executors.newFixedThreadPool(config.users());
+        try {
+            long rampStep = config.rampUp().toNanos() / Math.max(1, config.users());
+            for (int i = 0; i < config.users(); i++) {
+                customers.submit(new VirtualCustomer(config, client, objectMapper, recorder,
+                        config.firstCustomer() + i, measureFrom, deadline));
+                TimeUnit.NANOSECONDS.sleep(rampStep);
+            }
+            customers.shutdown();
+            long remaining = deadline - System.nanoTime() + config.requestTimeout().toNanos();
+            if (!customers.awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                customers.shutdownNow();
+            }
+        } finally {
+            customers.shutdownNow();
+            progress.shutdownNow();
+        }
+
+        recorder.report(System.out, config.duration().toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.portfolio.food_delivery.loadtest.driver;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 이름별 응답 시간과 상태 코드를 모은다.
+ * 측정 구간의 표본은 전부 보관해 끝나고 정렬하므로 백분위가 근사가 아니다 (5분에 수십만 건이면 수 MB).
+ */
+class LatencyRecorder {
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final LongAdder intervalRequests = new LongAdder();
+    private final LongAdder intervalErrors = new LongAdder();
+
+    /**
+     * @param status HTTP 상태 코드, 연결 실패/시간 초과는 -1
+     */
+    void record(String name, long latencyNanos, int status) {
+        operations.computeIfAbsent(name, key -> new Operation()).add(latencyNanos, status);
+        intervalRequests.increment();
+        if (isError(status)) {
+            intervalErrors.increment();
+        }
+    }
+
+    // 진행 상황 출력용 - 마지막 호출 이후 요청/오류 수
+    long[] drainInterval() {
+        return new long[]{intervalRequests.sumThenReset(), intervalErrors.sumThenReset()};
+    }
+
+    void report(PrintStream out, double seconds) {
+        out.printf("%n%-16s %9s %9s %8s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "req/s", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "status");
+
+        long[] all = new long[0];
+        long totalErrors = 0;
+        Map<Integer, Long> totalStatuses = new TreeMap<>();
+        for (Map.Entry<String, Operation> entry : new TreeMap<>(operations).entrySet()) {
+            Operation operation = entry.getValue();
+            long[] samples = operation.sortedSamples();
+            Map<Integer, Long> statuses = operation.statuses();
+            long errors = operation.errors.sum();
+            printRow(out, entry.getKey(), samples, errors, statuses, seconds);
+
+            all = merge(all, samples);
+            totalErrors += errors;
+            statuses.forEach((status, count) -> totalStatuses.merge(status, count, Long::sum));
+        }
+        printRow(out, "TOTAL", all, totalErrors, totalStatuses, seconds);
+    }
+
+    private static void printRow(PrintStream out, String name, long[] sorted, long errors,
+                                 Map<Integer, Long> statuses, double seconds) {
+        out.printf("%-16s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                name, sorted.length, sorted.length / seconds, errors,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6,
+                statuses);
+    }
+
+    // nearest-rank 백분위 (ms)
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private static long[] merge(long[] left, long[] right) {
+        long[] merged = new long[left.length + right.length];
+        int i = 0, j = 0, k = 0;
+        while (i < left.length && j < right.length) {
+            merged[k++] = left[i] <= right[j] ? left[i++] : right[j++];
+        }
+        while (i < left.length) {
+            merged[k++] = left[i++];
+        }
+        while (j < right.length) {
+            merged[k++] = right[j++];
+        }
+        return merged;
+    }
+
+    static boolean isError(int status) {
+        return status < 0 || status >= 400;
+    }
+
+    private static final class Operation {
+
+        private long[] samples = new long[1024];
+        private int size;
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        void add(long latencyNanos, int status) {
+            synchronized (this) {
+                if (size == samples.length) {
+                    samples = Arrays.copyOf(samples, size * 2);
+                }
+                samples[size++] = latencyNanos;
+            }
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+            if (isError(status)) {
+                errors.increment();
+            }
+        }
+
+        synchronized long[] sortedSamples() {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        Map<Integer, Long> statuses() {
+            Map<Integer, Long> snapshot = new TreeMap<>();
+            statuses.forEach((status, count) -> snapshot.put(status, count.sum()));
+            return snapshot;
+        }
+    }
+}
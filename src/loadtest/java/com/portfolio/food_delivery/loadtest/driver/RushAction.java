@@ -0,0 +1,20 @@
+package com.portfolio.food_delivery.loadtest.driver;
+
+import java.util.Locale;
+
+/**
+ * 가상 사용자가 한 번에 하는 행동 (rush.mix 의 키)
+ * 앞 단계가 안 돼 있으면 앞 단계부터 한다 (예: 장바구니가 비었는데 checkout 이 뽑히면 담기부터).
+ */
+enum RushAction {
+
+    BROWSE,     // 레스토랑 목록 -> 메뉴판
+    CART,       // 최소 주문 금액까지 장바구니 담기
+    CHECKOUT,   // 장바구니로 주문
+    PAY,        // 결제 대기 주문 결제 (MockPaymentGatewayService)
+    REVIEW;     // 배달 완료 주문에 리뷰
+
+    static RushAction of(String key) {
+        return valueOf(key.trim().toUpperCase(Locale.ROOT));
+    }
+}
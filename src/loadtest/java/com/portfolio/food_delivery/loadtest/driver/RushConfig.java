@@ -0,0 +1,57 @@
+package com.portfolio.food_delivery.loadtest.driver;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 설정 (시스템 프로퍼티 rush.*)
+ * - rush.base-url       대상 서버 (기본 http://localhost:8080)
+ * - rush.users          동시에 움직이는 고객 수, customer{first-customer} 부터 차례로 로그인
+ * - rush.duration       측정 구간 길이 (ISO-8601, 기본 PT5M)
+ * - rush.ramp-up        사용자를 나눠 투입하는 구간 - 측정에서 뺀다 (기본 PT30S)
+ * - rush.think-time     행동 사이 평균 대기 (지수 분포, 기본 PT0.5S)
+ * - rush.mix            행동 가중치 (기본 browse:60,cart:15,checkout:10,pay:10,review:5)
+ */
+record RushConfig(URI baseUrl,
+                  int users,
+                  int firstCustomer,
+                  String password,
+                  Duration duration,
+                  Duration rampUp,
+                  Duration thinkTime,
+                  Duration requestTimeout,
+                  Map<RushAction, Integer> mix) {
+
+    static RushConfig fromSystemProperties() {
+        return new RushConfig(
+                URI.create(System.getProperty("rush.base-url", "http://localhost:8080")),
+                Integer.getInteger("rush.users", 200),
+                Integer.getInteger("rush.first-customer", 1),
+                System.getProperty("rush.password", "password123!"),
+                Duration.parse(System.getProperty("rush.duration", "PT5M")),
+                Duration.parse(System.getProperty("rush.ramp-up", "PT30S")),
+                Duration.parse(System.getProperty("rush.think-time", "PT0.5S")),
+                Duration.parse(System.getProperty("rush.request-timeout", "PT10S")),
+                parseMix(System.getProperty("rush.mix", "browse:60,cart:15,checkout:10,pay:10,review:5")));
+    }
+
+    private static Map<RushAction, Integer> parseMix(String value) {
+        Map<RushAction, Integer> mix = new EnumMap<>(RushAction.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("rush.mix 는 action:weight 목록이어야 합니다: " + value);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(RushAction.of(pair[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("rush.mix 에 가중치가 0보다 큰 행동이 없습니다: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,299 @@
+package com.portfolio.food_delivery.loadtest.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 한 명의 고객 - 로그인한 뒤 마감 시각까지 rush.mix 비율로 행동을 고르고, 행동 사이에 think-time 만큼 쉰다.
+ * 장바구니/결제 대기 주문 같은 흐름 상태를 들고 있어 각 행동이 실제 서비스 규칙(최소 주문 금액, 한 레스토랑 장바구니)을 지킨다.
+ */
+class VirtualCustomer implements Runnable {
+
+    private static final String[] CATEGORIES = {"KOREAN", "JAPANESE", "CHINESE", "WESTERN", "CHICKEN", "PIZZA",
+            "BURGER", "CAFE", "ASIAN", "SNACK", "MIDNIGHT"};
+
+    private final RushConfig config;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final String email;
+    private final long measureFromNanos;
+    private final long deadlineNanos;
+    private final SplittableRandom random;
+    private final RushAction[] actions;
+    private final int[] cumulativeWeights;
+
+    private String token;
+
+    // 마지막으로 본 메뉴판
+    private long restaurantId;
+    private int minimumOrderAmount;
+    private final List<long[]> menus = new ArrayList<>();   // {menuId, price}
+
+    // 장바구니와 결제 대기 주문
+    private long cartRestaurantId;
+    private int cartAmount;
+    private Long pendingOrderId;
+
+    VirtualCustomer(RushConfig config, HttpClient client, ObjectMapper objectMapper, LatencyRecorder recorder,
+                    int customerNumber, long measureFromNanos, long deadlineNanos) {
+        this.config = config;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.email = "customer" + customerNumber + "@seed.local";
+        this.measureFromNanos = measureFromNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new SplittableRandom(customerNumber);
+
+        Map<RushAction, Integer> mix = config.mix();
+        this.actions = mix.keySet().toArray(new RushAction[0]);
+        this.cumulativeWeights = new int[actions.length];
+        int sum = 0;
+        for (int i = 0; i < actions.length; i++) {
+            sum += mix.get(actions[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (!login()) {
+                return;
+            }
+            while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+                perform(nextAction());
+                think();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RushAction nextAction() {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < actions.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+
+    private void perform(RushAction action) throws InterruptedException {
+        switch (action) {
+            case BROWSE -> browse();
+            case CART -> fillCart();
+            case CHECKOUT -> checkout();
+            case PAY -> pay();
+            case REVIEW -> review();
+        }
+    }
+
+    private boolean login() throws InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("email", email)
+                .put("password", config.password());
+        Response response = send("login", post("/api/users/login", body, false));
+        if (!response.ok()) {
+            System.err.printf("로그인 실패 (%s): %d - 시드 데이터의 고객 수가 rush.users 보다 적은지 확인하세요.%n", email, response.status());
+            return false;
+        }
+        token = response.json().path("accessToken").asText();
+
+        // 이전 실행에서 남은 장바구니가 다른 레스토랑 것이면 담기가 계속 실패하므로 비우고 시작
+        send("cart.clear", authorized(HttpRequest.newBuilder(uri("/api/cart")).DELETE()));
+        return true;
+    }
+
+    // 인기 레스토랑 위주로 목록 앞쪽을 더 자주 고른다
+    private void browse() throws InterruptedException {
+        String query = "?size=20&page=" + (random.nextDouble() < 0.7 ? 0 : random.nextInt(1, 5))
+                + (random.nextDouble() < 0.5 ? "&category=" + CATEGORIES[random.nextInt(CATEGORIES.length)] : "");
+        Response list = send("browse.list", get("/api/restaurants" + query));
+        JsonNode content = list.json().path("content");
+        if (!list.ok() || content.isEmpty()) {
+            return;
+        }
+
+        double skew = random.nextDouble();
+        JsonNode restaurant = content.get((int) (skew * skew * content.size()));
+        long id = restaurant.path("id").asLong();
+        Response menuBoard = send("browse.menus", get("/api/restaurants/" + id + "/menus"));
+        if (!menuBoard.ok() || menuBoard.json().isEmpty()) {
+            return;
+        }
+
+        restaurantId = id;
+        minimumOrderAmount = restaurant.path("minimumOrderAmount").asInt();
+        menus.clear();
+        for (JsonNode menu : menuBoard.json()) {
+            menus.add(new long[]{menu.path("id").asLong(), menu.path("price").asLong()});
+        }
+    }
+
+    private void fillCart() throws InterruptedException {
+        if (menus.isEmpty()) {
+            browse();
+            if (menus.isEmpty()) {
+                return;
+            }
+        }
+        // 장바구니는 한 레스토랑만 담을 수 있다
+        if (cartAmount > 0 && cartRestaurantId != restaurantId) {
+            send("cart.clear", authorized(HttpRequest.newBuilder(uri("/api/cart")).DELETE()));
+            cartAmount = 0;
+        }
+
+        while (cartAmount < minimumOrderAmount || cartAmount == 0) {
+            long[] menu = menus.get((int) (Math.pow(random.nextDouble(), 2) * menus.size()));
+            ObjectNode body = objectMapper.createObjectNode()
+                    .put("menuId", menu[0])
+                    .put("quantity", 1);
+            if (!send("cart.add", post("/api/cart/items", body, true)).ok()) {
+                return;
+            }
+            cartRestaurantId = restaurantId;
+            cartAmount += (int) menu[1];
+        }
+    }
+
+    private void checkout() throws InterruptedException {
+        if (cartAmount == 0 || cartAmount < minimumOrderAmount || cartRestaurantId != restaurantId) {
+            fillCart();
+            if (cartAmount < minimumOrderAmount || cartAmount == 0) {
+                return;
+            }
+        }
+        Response response = send("checkout", authorized(HttpRequest.newBuilder(uri("/api/orders/from-cart"))
+                .POST(HttpRequest.BodyPublishers.noBody())));
+        if (response.ok()) {
+            pendingOrderId = response.json().path("id").asLong();
+            cartAmount = 0;
+        }
+    }
+
+    private void pay() throws InterruptedException {
+        if (pendingOrderId == null) {
+            checkout();
+            if (pendingOrderId == null) {
+                return;
+            }
+        }
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("orderId", pendingOrderId)
+                .put("paymentMethod", "CREDIT_CARD")
+                .put("cardNumber", "1234567812345678")
+                .put("cardCvc", "123")
+                .put("cardExpiry", "12/30");
+        send("pay", post("/api/payments", body, true));
+        pendingOrderId = null;  // 실패해도 같은 주문을 다시 결제하지 않는다
+    }
+
+    // 시드 데이터의 배달 완료 주문 중 리뷰가 없는 것에 리뷰를 남긴다
+    private void review() throws InterruptedException {
+        Response history = send("review.history", get("/api/orders/my?size=20"));
+        if (!history.ok()) {
+            return;
+        }
+        for (JsonNode order : history.json().path("content")) {
+            if ("DELIVERED".equals(order.path("status").asText()) && !order.path("hasReview").asBoolean()) {
+                ObjectNode body = objectMapper.createObjectNode()
+                        .put("orderId", order.path("id").asLong())
+                        .put("rating", 3 + random.nextInt(3))
+                        .put("content", "저녁 피크 부하 테스트 리뷰입니다.");
+                send("review.create", post("/api/reviews", body, true));
+                return;
+            }
+        }
+    }
+
+    private void think() throws InterruptedException {
+        long meanMillis = config.thinkTime().toMillis();
+        if (meanMillis > 0) {
+            Thread.sleep((long) (-meanMillis * Math.log(1 - random.nextDouble())));
+        }
+    }
+
+    private Response send(String name, HttpRequest request) throws InterruptedException {
+        long started = System.nanoTime();
+        int status;
+        String body = null;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            body = response.body();
+        } catch (IOException e) {
+            status = -1;
+        }
+        long finished = System.nanoTime();
+        if (started >= measureFromNanos && finished <= deadlineNanos) {
+            recorder.record(name, finished - started, status);
+        }
+        return new Response(status, body);
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    private HttpRequest post(String path, JsonNode body, boolean authorized) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        return authorized ? authorized(builder) : builder.timeout(config.requestTimeout()).build();
+    }
+
+    private HttpRequest authorized(HttpRequest.Builder builder) {
+        return builder.header("Authorization", "Bearer " + token)
+                .timeout(config.requestTimeout())
+                .build();
+    }
+
+    private URI uri(String path) {
+        return config.baseUrl().resolve(path);
+    }
+
+    private final class Response {
+
+        private final int status;
+        private final String body;
+        private JsonNode json;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        int status() {
+            return status;
+        }
+
+        JsonNode json() {
+            if (json == null) {
+                try {
+                    json = body == null || body.isEmpty() ? objectMapper.missingNode() : objectMapper.readTree(body);
+                } catch (IOException e) {
+                    json = objectMapper.missingNode();
+                }
+            }
+            return json;
+        }
+    }
+}
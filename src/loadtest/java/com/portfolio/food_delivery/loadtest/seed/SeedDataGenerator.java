@@ -0,0 +1,699 @@
+package com.portfolio.food_delivery.loadtest.seed;
+
+import com.portfolio.food_delivery.common.id.IdGenerator;
+import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 합성 데이터 생성기 (seed 프로필)
+ * 사용자 100k, 레스토랑 20k, 메뉴 500k, 주문 10M 과 주문별 결제/리뷰를 JDBC 배치로 직접 넣는다. 규모는 seed.scale 로 한 번에 줄인다.
+ * - 인기는 한쪽으로 치우친다: 레스토랑/고객/메뉴는 Zipf 분포로, 주문 시각은 점심/저녁 피크 가중치로 뽑는다.
+ * - @TimeOrderedId 테이블의 ID 는 애플리케이션과 같은 IdGenerator 로 발급해 이후 서비스가 만드는 행과 겹치지 않는다.
+ *   IDENTITY 테이블(users, restaurants)은 현재 최댓값 다음 번호부터 직접 쓴다.
+ * - 주문은 seed.threads 개의 커넥션이 구간을 나눠 넣고, 주문/주문 항목/결제/리뷰를 batch-size 주문마다 한 트랜잭션으로 커밋한다.
+ *   MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 배치가 다중 행 INSERT 로 합쳐진다.
+ * ApplicationRunner 라서 ApplicationReadyEvent 에서 도는 캐시/장부 워밍업보다 먼저 끝난다.
+ * 로그인: customer{n}@seed.local / owner{n}@seed.local / rider{n}@seed.local, 비밀번호는 seed.password
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SeedDataGenerator implements ApplicationRunner {
+
+    static final String EMAIL_DOMAIN = "@seed.local";
+
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password, name, phone_number, "
+            + "city, district, street, detail, zip_code, role, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESTAURANT = "INSERT INTO restaurants (id, owner_id, name, description, phone_number, "
+            + "city, district, street, detail, zip_code, latitude, longitude, category, open_time, close_time, "
+            + "minimum_order_amount, delivery_fee, rating, review_count, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?, ?)";
+    private static final String INSERT_MENU = "INSERT INTO menus (id, restaurant_id, name, description, price, image_url, "
+            + "status, display_order, created_at, updated_at) VALUES (?, ?, ?, ?, ?, NULL, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER = "INSERT INTO orders (id, user_id, restaurant_id, rider_id, "
+            + "city, district, street, detail, zip_code, phone_number, total_amount, delivery_fee, discount_amount, status, "
+            + "ordered_at, confirmed_at, preparing_at, ready_at, picked_up_at, delivered_at, completed_at, cancel_reason, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM = "INSERT INTO order_items (id, order_id, menu_id, quantity, price) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PAYMENT = "INSERT INTO payments (id, order_id, user_id, amount, method, status, "
+            + "transaction_id, card_number, paid_at, cancelled_at, cancel_reason, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REVIEW = "INSERT INTO reviews (id, user_id, restaurant_id, order_id, rating, content, "
+            + "is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+    private static final String UPDATE_RATING = "UPDATE restaurants SET rating = ?, review_count = ? WHERE id = ?";
+
+    // 시간대별 주문 가중치 (0시 ~ 23시) - 점심과 18~20시 저녁 피크
+    private static final double[] HOUR_WEIGHTS = {2, 1, 1, 0.5, 0.5, 0.5, 1, 2, 3, 4, 6, 12, 14, 8, 5, 5, 7, 14, 20, 18, 12, 8, 5, 3};
+    private static final PaymentMethod[] PAYMENT_METHODS = {PaymentMethod.CREDIT_CARD, PaymentMethod.KAKAO_PAY,
+            PaymentMethod.NAVER_PAY, PaymentMethod.TOSS, PaymentMethod.DEBIT_CARD, PaymentMethod.BANK_TRANSFER};
+    private static final double[] PAYMENT_METHOD_WEIGHTS = {45, 20, 10, 10, 10, 5};
+    private static final double[] RATING_WEIGHTS = {4, 4, 10, 27, 55};  // 1점 ~ 5점
+    private static final double CANCEL_RATIO = 0.05;
+    private static final int MAX_ITEMS_PER_ORDER = 3;
+
+    private final DataSource dataSource;
+    private final IdGenerator idGenerator;
+    private final PasswordEncoder passwordEncoder;
+    private final String password;
+    private final int userCount;
+    private final int restaurantCount;
+    private final int menuCount;
+    private final long orderCount;
+    private final int days;
+    private final double reviewRatio;
+    private final double restaurantSkew;
+    private final double customerSkew;
+    private final double menuSkew;
+    private final int threads;
+    private final int batchSize;
+    private final long randomSeed;
+
+    public SeedDataGenerator(DataSource dataSource,
+                             IdGenerator idGenerator,
+                             PasswordEncoder passwordEncoder,
+                             @Value("${seed.password:password123!}") String password,
+                             @Value("${seed.scale:1.0}") double scale,
+                             @Value("${seed.users:100000}") int users,
+                             @Value("${seed.restaurants:20000}") int restaurants,
+                             @Value("${seed.menus:500000}") int menus,
+                             @Value("${seed.orders:10000000}") long orders,
+                             @Value("${seed.days:90}") int days,
+                             @Value("${seed.review-ratio:0.3}") double reviewRatio,
+                             @Value("${seed.skew.restaurant:1.0}") double restaurantSkew,
+                             @Value("${seed.skew.customer:0.6}") double customerSkew,
+                             @Value("${seed.skew.menu:1.2}") double menuSkew,
+                             @Value("${seed.threads:4}") int threads,
+                             @Value("${seed.batch-size:1000}") int batchSize,
+                             @Value("${seed.random-seed:42}") long randomSeed) {
+        this.dataSource = dataSource;
+        this.idGenerator = idGenerator;
+        this.passwordEncoder = passwordEncoder;
+        this.password = password;
+        this.userCount = Math.max(100, (int) (users * scale));
+        this.restaurantCount = Math.max(10, (int) (restaurants * scale));
+        this.menuCount = Math.max(restaurantCount, (int) (menus * scale));
+        this.orderCount = Math.max(0, (long) (orders * scale));
+        this.days = days;
+        this.reviewRatio = reviewRatio;
+        this.restaurantSkew = restaurantSkew;
+        this.customerSkew = customerSkew;
+        this.menuSkew = menuSkew;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (alreadySeeded()) {
+            log.info("합성 데이터가 이미 있어 생성을 건너뜁니다.");
+            return;
+        }
+
+        long started = System.nanoTime();
+        log.info("합성 데이터 생성 시작 - 사용자 {}, 레스토랑 {}, 메뉴 {}, 주문 {}, 스레드 {}",
+                userCount, restaurantCount, menuCount, orderCount, threads);
+        warnIfBatchRewriteDisabled();
+
+        Dataset dataset = new Dataset(new SplittableRandom(randomSeed));
+        insertUsers(dataset);
+        insertRestaurants(dataset);
+        insertMenus(dataset);
+        long[][] ratings = insertOrders(dataset);
+        updateRatings(dataset, ratings);
+
+        log.info("합성 데이터 생성 완료 - {}초", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    /**
+     * 생성 중 공유하는 값 (ID 구간, 레스토랑별 메뉴 위치, 인기 분포)
+     * 사용자 ID 는 [고객 | 사장 | 배달 파트너] 순서로 연속이다.
+     */
+    private final class Dataset {
+
+        final SplittableRandom random;
+        final int customers;
+        final int owners;
+        final int riders;
+        long userBase;
+        long restaurantBase;
+
+        final RestaurantCategory[] categories = new RestaurantCategory[restaurantCount];
+        final int[] deliveryFees = new int[restaurantCount];
+        final int[] menuStart = new int[restaurantCount + 1];  // 레스토랑 r 의 메뉴는 menuIds[menuStart[r] .. menuStart[r+1])
+        final long[] menuIds = new long[menuCount];
+        final int[] menuPrices = new int[menuCount];
+        final int[] popularity;                                 // 인기 순위 -> 레스토랑 인덱스
+
+        Dataset(SplittableRandom random) {
+            this.random = random;
+            this.owners = Math.max(1, restaurantCount / 4);
+            this.riders = Math.max(1, userCount / 50);
+            this.customers = userCount - owners - riders;
+            if (customers <= 0) {
+                throw new IllegalStateException("사용자 수가 레스토랑 사장/배달 파트너 수보다 적습니다.");
+            }
+            this.popularity = shuffledIndexes(restaurantCount, random);
+        }
+
+        long customerId(int index) {
+            return userBase + 1 + index;
+        }
+
+        long ownerId(int index) {
+            return userBase + 1 + customers + index;
+        }
+
+        long riderId(int index) {
+            return userBase + 1 + customers + owners + index;
+        }
+
+        long restaurantId(int index) {
+            return restaurantBase + 1 + index;
+        }
+    }
+
+    private boolean alreadySeeded() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM users WHERE email = ?")) {
+            statement.setString(1, "customer1" + EMAIL_DOMAIN);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    private void warnIfBatchRewriteDisabled() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            if (url.startsWith("jdbc:mysql") && !url.contains("rewriteBatchedStatements=true")) {
+                log.warn("JDBC URL 에 rewriteBatchedStatements=true 가 없어 INSERT 가 행마다 전송됩니다: {}", url);
+            }
+        }
+    }
+
+    private void insertUsers(Dataset dataset) throws SQLException {
+        String encodedPassword = passwordEncoder.encode(password);  // BCrypt 는 느리므로 한 번만
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusDays(days + 30L));
+
+        try (Connection connection = dataSource.getConnection()) {
+            dataset.userBase = maxId(connection, "users");
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_USER)) {
+                for (int i = 0; i < userCount; i++) {
+                    UserRole role;
+                    String email;
+                    if (i < dataset.customers) {
+                        role = UserRole.CUSTOMER;
+                        email = "customer" + (i + 1) + EMAIL_DOMAIN;
+                    } else if (i < dataset.customers + dataset.owners) {
+                        role = UserRole.RESTAURANT_OWNER;
+                        email = "owner" + (i - dataset.customers + 1) + EMAIL_DOMAIN;
+                    } else {
+                        role = UserRole.DELIVERY_PARTNER;
+                        email = "rider" + (i - dataset.customers - dataset.owners + 1) + EMAIL_DOMAIN;
+                    }
+
+                    statement.setLong(1, dataset.userBase + 1 + i);
+                    statement.setString(2, email);
+                    statement.setString(3, encodedPassword);
+                    statement.setString(4, SeedNames.SURNAMES[i % SeedNames.SURNAMES.length]
+                            + SeedNames.GIVEN_NAMES[(i / SeedNames.SURNAMES.length) % SeedNames.GIVEN_NAMES.length]);
+                    statement.setString(5, phoneNumber("010", i));
+                    setAddress(statement, 6, i);
+                    statement.setString(11, role.name());
+                    statement.setTimestamp(12, createdAt);
+                    statement.setTimestamp(13, createdAt);
+                    statement.addBatch();
+
+                    if ((i + 1) % batchSize == 0) {
+                        statement.executeBatch();
+                        connection.commit();
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            }
+            restartIdentity(connection, "users", dataset.userBase + userCount + 1);
+        }
+        log.info("사용자 {}명 생성 (고객 {}, 사장 {}, 배달 파트너 {})", userCount, dataset.customers, dataset.owners, dataset.riders);
+    }
+
+    private void insertRestaurants(Dataset dataset) throws SQLException {
+        RestaurantCategory[] allCategories = RestaurantCategory.values();
+        SplittableRandom random = dataset.random;
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusDays(days + 7L));
+
+        try (Connection connection = dataSource.getConnection()) {
+            dataset.restaurantBase = maxId(connection, "restaurants");
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_RESTAURANT)) {
+                for (int r = 0; r < restaurantCount; r++) {
+                    RestaurantCategory category = allCategories[random.nextInt(allCategories.length)];
+                    List<String> dishes = SeedNames.DISHES.get(category);
+                    String district = SeedNames.DISTRICTS[r % SeedNames.DISTRICTS.length][0];
+                    int deliveryFee = random.nextInt(9) * 500;                 // 0 ~ 4,000원
+                    boolean midnight = category == RestaurantCategory.MIDNIGHT;
+                    dataset.categories[r] = category;
+                    dataset.deliveryFees[r] = deliveryFee;
+
+                    statement.setLong(1, dataset.restaurantId(r));
+                    statement.setLong(2, dataset.ownerId(r % dataset.owners));
+                    statement.setString(3, SeedNames.RESTAURANT_PREFIXES[random.nextInt(SeedNames.RESTAURANT_PREFIXES.length)]
+                            + dishes.get(random.nextInt(dishes.size())) + " " + district.replace("구", "") + (r + 1) + "호점");
+                    statement.setString(4, category.getDescription() + " 전문점");
+                    statement.setString(5, phoneNumber("02", r));
+                    setAddress(statement, 6, r);
+                    statement.setDouble(11, 37.45 + random.nextDouble() * 0.2);   // 서울 위도/경도 범위
+                    statement.setDouble(12, 126.85 + random.nextDouble() * 0.3);
+                    statement.setString(13, category.name());
+                    statement.setTime(14, Time.valueOf(midnight ? LocalTime.of(17, 0) : LocalTime.of(10, 0)));
+                    statement.setTime(15, Time.valueOf(midnight ? LocalTime.of(4, 0) : LocalTime.of(23, 0)));
+                    statement.setInt(16, 12000 + random.nextInt(7) * 1000);      // 12,000 ~ 18,000원
+                    statement.setInt(17, deliveryFee);
+                    statement.setString(18, random.nextDouble() < 0.95 ? RestaurantStatus.OPEN.name() : RestaurantStatus.CLOSED.name());
+                    statement.setTimestamp(19, createdAt);
+                    statement.setTimestamp(20, createdAt);
+                    statement.addBatch();
+
+                    if ((r + 1) % batchSize == 0) {
+                        statement.executeBatch();
+                        connection.commit();
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            }
+            restartIdentity(connection, "restaurants", dataset.restaurantBase + restaurantCount + 1);
+        }
+        log.info("레스토랑 {}개 생성", restaurantCount);
+    }
+
+    private void insertMenus(Dataset dataset) throws SQLException {
+        SplittableRandom random = dataset.random;
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusDays(days + 7L));
+
+        // 레스토랑마다 평균의 0.4 ~ 1.6 배, 합계는 menuCount
+        double average = (double) menuCount / restaurantCount;
+        int assigned = 0;
+        for (int r = 0; r < restaurantCount; r++) {
+            int remaining = restaurantCount - r - 1;
+            int count = (int) Math.max(1, Math.round(average * (0.4 + random.nextDouble() * 1.2)));
+            count = Math.max(1, Math.min(count, menuCount - assigned - remaining));
+            dataset.menuStart[r] = assigned;
+            assigned += count;
+        }
+        dataset.menuStart[restaurantCount] = menuCount;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_MENU)) {
+                for (int r = 0; r < restaurantCount; r++) {
+                    List<String> dishes = SeedNames.DISHES.get(dataset.categories[r]);
+                    for (int m = dataset.menuStart[r]; m < dataset.menuStart[r + 1]; m++) {
+                        int displayOrder = m - dataset.menuStart[r] + 1;
+                        String dish = dishes.get(random.nextInt(dishes.size()));
+                        int price = 6000 + random.nextInt(49) * 500;             // 6,000 ~ 30,000원
+                        long id = idGenerator.nextId();
+                        dataset.menuIds[m] = id;
+                        dataset.menuPrices[m] = price;
+
+                        statement.setLong(1, id);
+                        statement.setLong(2, dataset.restaurantId(r));
+                        statement.setString(3, SeedNames.MENU_MODIFIERS[random.nextInt(SeedNames.MENU_MODIFIERS.length)] + dish);
+                        statement.setString(4, dish + " 1인분");
+                        statement.setInt(5, price);
+                        statement.setString(6, random.nextDouble() < 0.03 ? MenuStatus.SOLD_OUT.name() : MenuStatus.AVAILABLE.name());
+                        statement.setInt(7, displayOrder);
+                        statement.setTimestamp(8, createdAt);
+                        statement.setTimestamp(9, createdAt);
+                        statement.addBatch();
+
+                        if ((m + 1) % batchSize == 0) {
+                            statement.executeBatch();
+                            connection.commit();
+                        }
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            }
+        }
+        log.info("메뉴 {}개 생성", menuCount);
+    }
+
+    /**
+     * 주문/주문 항목/결제/리뷰를 스레드별 구간으로 나눠 넣는다.
+     * @return 레스토랑별 [평점 합계, 리뷰 수]
+     */
+    private long[][] insertOrders(Dataset dataset) throws Exception {
+        ZipfSampler restaurantSampler = new ZipfSampler(restaurantCount, restaurantSkew);
+        ZipfSampler customerSampler = new ZipfSampler(dataset.customers, customerSkew);
+        int maxMenus = 1;
+        for (int r = 0; r < restaurantCount; r++) {
+            maxMenus = Math.max(maxMenus, dataset.menuStart[r + 1] - dataset.menuStart[r]);
+        }
+        ZipfSampler[] menuSamplers = new ZipfSampler[maxMenus + 1];
+        for (int k = 1; k <= maxMenus; k++) {
+            menuSamplers[k] = new ZipfSampler(k, menuSkew);
+        }
+
+        AtomicLong inserted = new AtomicLong();
+        long reportEvery = Math.max(batchSize, orderCount / 20);
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[][]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long from = orderCount * t / threads;
+                long to = orderCount * (t + 1) / threads;
+                SplittableRandom random = new SplittableRandom(randomSeed + 1 + t);
+                futures.add(executor.submit(() -> {
+                    OrderWriter writer = new OrderWriter(dataset, random, restaurantSampler, customerSampler, menuSamplers);
+                    return writer.write(from, to, inserted, reportEvery, started);
+                }));
+            }
+
+            long[][] ratings = new long[2][restaurantCount];
+            for (Future<long[][]> future : futures) {
+                long[][] partial = getOrThrow(future);
+                for (int r = 0; r < restaurantCount; r++) {
+                    ratings[0][r] += partial[0][r];
+                    ratings[1][r] += partial[1][r];
+                }
+            }
+            return ratings;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private final class OrderWriter {
+
+        private final Dataset dataset;
+        private final SplittableRandom random;
+        private final ZipfSampler restaurantSampler;
+        private final ZipfSampler customerSampler;
+        private final ZipfSampler[] menuSamplers;
+        private final LocalDate today = LocalDate.now();
+        private final LocalDateTime latest = LocalDateTime.now().minusHours(2);
+        private final long[] ratingSums;
+        private final long[] reviewCounts;
+        private final int[] chosen = new int[MAX_ITEMS_PER_ORDER];
+
+        OrderWriter(Dataset dataset, SplittableRandom random, ZipfSampler restaurantSampler,
+                    ZipfSampler customerSampler, ZipfSampler[] menuSamplers) {
+            this.dataset = dataset;
+            this.random = random;
+            this.restaurantSampler = restaurantSampler;
+            this.customerSampler = customerSampler;
+            this.menuSamplers = menuSamplers;
+            this.ratingSums = new long[restaurantCount];
+            this.reviewCounts = new long[restaurantCount];
+        }
+
+        long[][] write(long from, long to, AtomicLong inserted, long reportEvery, long started) throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement orders = connection.prepareStatement(INSERT_ORDER);
+                     PreparedStatement items = connection.prepareStatement(INSERT_ORDER_ITEM);
+                     PreparedStatement payments = connection.prepareStatement(INSERT_PAYMENT);
+                     PreparedStatement reviews = connection.prepareStatement(INSERT_REVIEW)) {
+                    int pending = 0;
+                    for (long n = from; n < to; n++) {
+                        addOrder(orders, items, payments, reviews);
+                        if (++pending == batchSize || n == to - 1) {
+                            // 외래 키 순서대로 실행하고 한 트랜잭션으로 커밋
+                            orders.executeBatch();
+                            items.executeBatch();
+                            payments.executeBatch();
+                            reviews.executeBatch();
+                            connection.commit();
+
+                            long total = inserted.addAndGet(pending);
+                            if (total / reportEvery != (total - pending) / reportEvery) {
+                                double seconds = Math.max(1e-3, (System.nanoTime() - started) / 1e9);
+                                log.info("주문 {} / {} 생성 ({}건/초)", total, orderCount, (long) (total / seconds));
+                            }
+                            pending = 0;
+                        }
+                    }
+                }
+            }
+            return new long[][]{ratingSums, reviewCounts};
+        }
+
+        private void addOrder(PreparedStatement orders, PreparedStatement items,
+                              PreparedStatement payments, PreparedStatement reviews) throws SQLException {
+            int r = dataset.popularity[restaurantSampler.sample(random)];
+            int customer = customerSampler.sample(random);
+            long orderId = idGenerator.nextId();
+            long userId = dataset.customerId(customer);
+            long restaurantId = dataset.restaurantId(r);
+
+            // 주문 항목 - 같은 레스토랑에서 인기 메뉴 위주로 1~3개
+            int menuOffset = dataset.menuStart[r];
+            int available = dataset.menuStart[r + 1] - menuOffset;
+            int itemCount = Math.min(available, 1 + random.nextInt(MAX_ITEMS_PER_ORDER));
+            int chosenCount = 0;
+            int totalAmount = 0;
+            for (int attempt = 0; chosenCount < itemCount && attempt < itemCount * 4; attempt++) {
+                int m = menuOffset + menuSamplers[available].sample(random);
+                if (contains(chosen, chosenCount, m)) {
+                    continue;
+                }
+                chosen[chosenCount++] = m;
+                int quantity = random.nextDouble() < 0.8 ? 1 : 2;
+                totalAmount += dataset.menuPrices[m] * quantity;
+
+                items.setLong(1, idGenerator.nextId());
+                items.setLong(2, orderId);
+                items.setLong(3, dataset.menuIds[m]);
+                items.setInt(4, quantity);
+                items.setInt(5, dataset.menuPrices[m]);
+                items.addBatch();
+            }
+
+            LocalDateTime orderedAt = orderedAt();
+            boolean cancelled = random.nextDouble() < CANCEL_RATIO;
+            LocalDateTime confirmedAt = orderedAt.plusMinutes(1 + random.nextInt(3));
+            LocalDateTime preparingAt = confirmedAt.plusMinutes(1);
+            LocalDateTime readyAt = preparingAt.plusMinutes(10 + random.nextInt(20));
+            LocalDateTime pickedUpAt = readyAt.plusMinutes(2 + random.nextInt(8));
+            LocalDateTime deliveredAt = pickedUpAt.plusMinutes(8 + random.nextInt(25));
+            int deliveryFee = dataset.deliveryFees[r];
+
+            orders.setLong(1, orderId);
+            orders.setLong(2, userId);
+            orders.setLong(3, restaurantId);
+            if (cancelled) {
+                orders.setNull(4, Types.BIGINT);
+            } else {
+                orders.setLong(4, dataset.riderId(random.nextInt(dataset.riders)));
+            }
+            setAddress(orders, 5, customer);
+            orders.setString(10, phoneNumber("010", customer));
+            orders.setInt(11, totalAmount);
+            orders.setInt(12, deliveryFee);
+            orders.setString(13, cancelled ? OrderStatus.CANCELLED.name() : OrderStatus.DELIVERED.name());
+            orders.setTimestamp(14, Timestamp.valueOf(orderedAt));
+            orders.setTimestamp(15, cancelled ? null : Timestamp.valueOf(confirmedAt));
+            orders.setTimestamp(16, cancelled ? null : Timestamp.valueOf(preparingAt));
+            orders.setTimestamp(17, cancelled ? null : Timestamp.valueOf(readyAt));
+            orders.setTimestamp(18, cancelled ? null : Timestamp.valueOf(pickedUpAt));
+            orders.setTimestamp(19, cancelled ? null : Timestamp.valueOf(deliveredAt));
+            orders.setTimestamp(20, cancelled ? null : Timestamp.valueOf(deliveredAt));
+            orders.setString(21, cancelled ? "고객 요청으로 취소" : null);
+            orders.setTimestamp(22, Timestamp.valueOf(orderedAt));
+            orders.setTimestamp(23, Timestamp.valueOf(cancelled ? confirmedAt : deliveredAt));
+            orders.addBatch();
+
+            // 결제 - 배달 완료는 성공, 취소 주문은 결제 후 취소
+            PaymentMethod method = PAYMENT_METHODS[weighted(PAYMENT_METHOD_WEIGHTS)];
+            boolean card = method == PaymentMethod.CREDIT_CARD || method == PaymentMethod.DEBIT_CARD;
+            LocalDateTime paidAt = orderedAt.plusSeconds(5 + random.nextInt(30));
+            payments.setLong(1, idGenerator.nextId());
+            payments.setLong(2, orderId);
+            payments.setLong(3, userId);
+            payments.setInt(4, totalAmount + deliveryFee);
+            payments.setString(5, method.name());
+            payments.setString(6, cancelled ? PaymentStatus.CANCELLED.name() : PaymentStatus.SUCCESS.name());
+            payments.setString(7, "SEED_" + Long.toHexString(orderId).toUpperCase());
+            payments.setString(8, card ? String.format("**** **** **** %04d", random.nextInt(10000)) : null);
+            payments.setTimestamp(9, Timestamp.valueOf(paidAt));
+            payments.setTimestamp(10, cancelled ? Timestamp.valueOf(confirmedAt) : null);
+            payments.setString(11, cancelled ? "고객 요청으로 취소" : null);
+            payments.setTimestamp(12, Timestamp.valueOf(orderedAt));
+            payments.setTimestamp(13, Timestamp.valueOf(cancelled ? confirmedAt : paidAt));
+            payments.addBatch();
+
+            // 리뷰 - 배달 완료 주문의 일부
+            if (!cancelled && random.nextDouble() < reviewRatio) {
+                int rating = weighted(RATING_WEIGHTS) + 1;
+                String[] contents = rating <= 2 ? SeedNames.BAD_REVIEWS : SeedNames.GOOD_REVIEWS;
+                LocalDateTime reviewedAt = deliveredAt.plusMinutes(30 + random.nextInt(24 * 60));
+                reviews.setLong(1, idGenerator.nextId());
+                reviews.setLong(2, userId);
+                reviews.setLong(3, restaurantId);
+                reviews.setLong(4, orderId);
+                reviews.setInt(5, rating);
+                reviews.setString(6, contents[random.nextInt(contents.length)]);
+                reviews.setTimestamp(7, Timestamp.valueOf(reviewedAt));
+                reviews.setTimestamp(8, Timestamp.valueOf(reviewedAt));
+                reviews.addBatch();
+
+                ratingSums[r] += rating;
+                reviewCounts[r]++;
+            }
+        }
+
+        // 최근 days 일 중 하루, 시간대는 피크 가중치로
+        private LocalDateTime orderedAt() {
+            LocalDateTime orderedAt = today.minusDays(random.nextInt(days))
+                    .atTime(weighted(HOUR_WEIGHTS), random.nextInt(60), random.nextInt(60));
+            return orderedAt.isAfter(latest) ? orderedAt.minusDays(1) : orderedAt;
+        }
+
+        private int weighted(double[] weights) {
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            double point = random.nextDouble() * total;
+            for (int i = 0; i < weights.length; i++) {
+                point -= weights[i];
+                if (point < 0) {
+                    return i;
+                }
+            }
+            return weights.length - 1;
+        }
+    }
+
+    // 리뷰에서 모은 평점으로 레스토랑 평점/리뷰 수를 맞춘다
+    private void updateRatings(Dataset dataset, long[][] ratings) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_RATING)) {
+                int pending = 0;
+                for (int r = 0; r < restaurantCount; r++) {
+                    long count = ratings[1][r];
+                    if (count == 0) {
+                        continue;
+                    }
+                    statement.setDouble(1, Math.round(ratings[0][r] * 10.0 / count) / 10.0);
+                    statement.setInt(2, (int) count);
+                    statement.setLong(3, dataset.restaurantId(r));
+                    statement.addBatch();
+                    if (++pending % batchSize == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            }
+        }
+        log.info("레스토랑 평점 반영");
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // H2 의 IDENTITY 는 직접 넣은 ID 를 건너뛰지 않으므로 다음 번호를 옮겨 둔다 (MySQL AUTO_INCREMENT 는 자동으로 따라온다)
+    private static void restartIdentity(Connection connection, String table, long next) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+        connection.commit();
+    }
+
+    // city, district, street, detail, zip_code 다섯 칸
+    private static void setAddress(PreparedStatement statement, int index, int seed) throws SQLException {
+        String[] district = SeedNames.DISTRICTS[seed % SeedNames.DISTRICTS.length];
+        statement.setString(index, "서울시");
+        statement.setString(index + 1, district[0]);
+        statement.setString(index + 2, SeedNames.STREETS[(seed / SeedNames.DISTRICTS.length) % SeedNames.STREETS.length]);
+        statement.setString(index + 3, String.valueOf(1 + seed % 300));
+        statement.setString(index + 4, district[1] + String.format("%03d", seed % 1000));
+    }
+
+    private static String phoneNumber(String prefix, int seed) {
+        return String.format("%s-%04d-%04d", prefix, (seed / 10000) % 10000, seed % 10000);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] shuffledIndexes(int n, SplittableRandom random) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = tmp;
+        }
+        return indexes;
+    }
+
+    private static <T> T getOrThrow(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.portfolio.food_delivery.loadtest.seed;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 합성 데이터에 쓰는 이름/주소/문구 목록
+ * 메뉴명은 "수식어 + 음식" 조합이라 검색/자동완성에서 같은 접두어를 가진 메뉴가 여럿 나온다.
+ */
+final class SeedNames {
+
+    static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+
+    static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하윤", "시우", "지우", "주원", "서윤", "하준", "지민",
+            "예준", "수아", "지호", "채원", "건우", "다은", "우진", "은서", "현우", "유진"};
+
+    // 서울 구 - 우편번호 앞자리
+    static final String[][] DISTRICTS = {
+            {"강남구", "06"}, {"서초구", "06"}, {"송파구", "05"}, {"강동구", "05"}, {"마포구", "04"},
+            {"용산구", "04"}, {"성동구", "04"}, {"광진구", "05"}, {"영등포구", "07"}, {"동작구", "06"},
+            {"관악구", "08"}, {"종로구", "03"}, {"중구", "04"}, {"서대문구", "03"}, {"은평구", "03"},
+            {"노원구", "01"}, {"강서구", "07"}, {"양천구", "07"}, {"구로구", "08"}, {"성북구", "02"}
+    };
+
+    static final String[] STREETS = {"테헤란로", "강남대로", "올림픽로", "한강대로", "세종대로", "도산대로", "양재대로",
+            "마포대로", "월드컵로", "왕십리로", "동일로", "시흥대로", "남부순환로", "영동대로", "선릉로"};
+
+    static final String[] RESTAURANT_PREFIXES = {"황금", "원조", "행복한", "우리동네", "옛날", "바삭", "할매", "명품",
+            "수제", "정직한", "골목", "큰집", "24시", "본가", "신선"};
+
+    static final Map<RestaurantCategory, List<String>> DISHES = new EnumMap<>(RestaurantCategory.class);
+
+    static {
+        DISHES.put(RestaurantCategory.KOREAN, List.of("김치찌개", "된장찌개", "제육볶음", "불고기", "비빔밥", "갈비탕", "순두부찌개", "보쌈"));
+        DISHES.put(RestaurantCategory.JAPANESE, List.of("초밥", "돈카츠", "라멘", "우동", "규동", "사시미", "텐동", "소바"));
+        DISHES.put(RestaurantCategory.CHINESE, List.of("짜장면", "짬뽕", "탕수육", "볶음밥", "마파두부", "깐풍기", "유산슬", "군만두"));
+        DISHES.put(RestaurantCategory.WESTERN, List.of("까르보나라", "알리오올리오", "스테이크", "리조또", "라자냐", "샐러드", "필라프", "뇨끼"));
+        DISHES.put(RestaurantCategory.CHICKEN, List.of("후라이드치킨", "양념치킨", "간장치킨", "파닭", "닭강정", "치킨텐더", "윙봉", "반반치킨"));
+        DISHES.put(RestaurantCategory.PIZZA, List.of("페퍼로니피자", "불고기피자", "포테이토피자", "고구마피자", "콤비네이션피자", "하와이안피자", "치즈피자", "마르게리따"));
+        DISHES.put(RestaurantCategory.BURGER, List.of("치즈버거", "불고기버거", "새우버거", "치킨버거", "베이컨버거", "감자튀김", "어니언링", "너겟"));
+        DISHES.put(RestaurantCategory.CAFE, List.of("아메리카노", "카페라떼", "바닐라라떼", "크로플", "치즈케이크", "마카롱", "빙수", "스콘"));
+        DISHES.put(RestaurantCategory.ASIAN, List.of("쌀국수", "팟타이", "분짜", "나시고렝", "반미", "똠얌꿍", "커리", "월남쌈"));
+        DISHES.put(RestaurantCategory.SNACK, List.of("떡볶이", "순대", "튀김", "김밥", "라볶이", "어묵", "쫄면", "주먹밥"));
+        DISHES.put(RestaurantCategory.MIDNIGHT, List.of("족발", "곱창", "막창", "닭발", "오돌뼈", "순대국", "해장국", "마라탕"));
+        DISHES.put(RestaurantCategory.OTHER, List.of("도시락", "샌드위치", "포케", "죽", "토스트", "핫도그", "덮밥", "국밥"));
+    }
+
+    static final String[] MENU_MODIFIERS = {"", "", "", "매운 ", "순살 ", "치즈 ", "특 ", "곱빼기 ", "세트 ", "반반 ", "크림 ", "마늘 "};
+
+    static final String[] GOOD_REVIEWS = {"정말 맛있어요! 또 시킬게요.", "배달이 빨라서 좋았어요.", "양이 푸짐해요.",
+            "늘 먹던 맛 그대로예요.", "포장이 꼼꼼해서 식지 않았어요.", "가성비 최고입니다."};
+
+    static final String[] BAD_REVIEWS = {"배달이 너무 늦었어요.", "음식이 식어서 왔어요.", "양이 줄어든 것 같아요.",
+            "주문한 메뉴가 빠져 있었어요."};
+
+    private SeedNames() {
+    }
+}
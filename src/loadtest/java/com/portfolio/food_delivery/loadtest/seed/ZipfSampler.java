@@ -0,0 +1,40 @@
+package com.portfolio.food_delivery.loadtest.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 0 ~ n-1 중 하나를 Zipf 분포로 뽑는다 (0 이 가장 인기).
+ * 누적 확률을 미리 계산해 두고 이진 탐색하므로 한 번 뽑는 데 O(log n) 이다.
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    /**
+     * @param exponent 클수록 상위 몇 개에 몰린다 (0 이면 균등)
+     */
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n 은 1 이상이어야 합니다: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
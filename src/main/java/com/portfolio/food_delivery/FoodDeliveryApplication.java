@@ -2,12 +2,16 @@ package com.portfolio.food_delivery;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class FoodDeliveryApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(FoodDeliveryApplication.class, args);
+		SpringApplication application = new SpringApplication(FoodDeliveryApplication.class);
+		// 기동 단계별 소요 시간을 /actuator/startup 으로 확인
+		application.setApplicationStartup(new BufferingApplicationStartup(2048));
+		application.run(args);
 	}
 
 }
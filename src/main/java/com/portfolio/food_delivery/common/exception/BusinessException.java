@@ -2,18 +2,22 @@ package com.portfolio.food_delivery.common.exception;
 
 import lombok.Getter;
 
+/**
+ * 비즈니스 규칙 위반 예외
+ * 품절, 최소 주문 금액 미달 같은 4xx 예외는 정상적인 요청 흐름이므로 스택 트레이스를 만들지 않는다
+ * (예외 생성 비용의 대부분이 스택 수집이다). 5xx 에 해당하는 예외만 원인 추적을 위해 스택을 남긴다.
+ */
 @Getter
 public abstract class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     protected BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage());
     }
 
     protected BusinessException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, false, errorCode.getStatus().is5xxServerError());
         this.errorCode = errorCode;
     }
-}
\ No newline at end of file
+}
@@ -31,17 +31,32 @@ public enum ErrorCode {
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "O001", "주문을 찾을 수 없습니다."),
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "O002", "잘못된 주문 상태입니다."),
     MINIMUM_ORDER_AMOUNT(HttpStatus.BAD_REQUEST, "O003", "최소 주문 금액을 충족하지 않습니다."),
+    KITCHEN_BUSY(HttpStatus.TOO_MANY_REQUESTS, "O004", "주문이 밀려 있어 잠시 후 다시 주문해 주세요."),
 
     // Menu
     MENU_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "메뉴를 찾을 수 없습니다."),
     MENU_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "M002", "현재 주문할 수 없는 메뉴입니다."),
+    INVALID_MENU_IMPORT(HttpStatus.BAD_REQUEST, "M003", "메뉴 일괄 등록 파일에 잘못된 행이 있습니다."),
+    INVALID_MENU_ORDER(HttpStatus.BAD_REQUEST, "M004", "메뉴 순서에는 레스토랑의 모든 메뉴가 한 번씩 들어 있어야 합니다."),
 
     // Payment
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "결제 정보를 찾을 수 없습니다."),
     PAYMENT_ALREADY_PROCESSED(HttpStatus.BAD_REQUEST, "P002", "이미 처리된 결제입니다."),
     INVALID_PAYMENT_AMOUNT(HttpStatus.BAD_REQUEST, "P003", "잘못된 결제 금액입니다."),
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "P004", "결제 처리에 실패했습니다."),
-    PAYMENT_CANCEL_FAILED(HttpStatus.BAD_REQUEST, "P005", "결제 취소에 실패했습니다.");
+    PAYMENT_CANCEL_FAILED(HttpStatus.BAD_REQUEST, "P005", "결제 취소에 실패했습니다."),
+    INVALID_PAYMENT_CURSOR(HttpStatus.BAD_REQUEST, "P006", "유효하지 않은 결제 내역 커서입니다."),
+
+    // Coupon
+    COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "CP001", "쿠폰을 찾을 수 없습니다."),
+    INVALID_COUPON(HttpStatus.BAD_REQUEST, "CP002", "사용할 수 없는 쿠폰입니다."),
+    COUPON_SOLD_OUT(HttpStatus.CONFLICT, "CP003", "쿠폰이 모두 소진되었습니다."),
+    COUPON_ALREADY_USED(HttpStatus.CONFLICT, "CP004", "이미 사용한 쿠폰입니다."),
+    COUPON_CODE_DUPLICATION(HttpStatus.BAD_REQUEST, "CP005", "이미 사용 중인 쿠폰 코드입니다."),
+
+    // Dispatch
+    NOT_DELIVERY_PARTNER(HttpStatus.FORBIDDEN, "D001", "배달 파트너만 이용할 수 있습니다."),
+    RIDER_NOT_ONLINE(HttpStatus.CONFLICT, "D002", "운행 중인 배달 파트너가 아닙니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,10 @@
+package com.portfolio.food_delivery.common.id;
+
+/**
+ * 엔티티 ID 발급기
+ * DB 왕복 없이 애플리케이션에서 ID를 만들어 INSERT 를 JDBC 배치로 묶을 수 있게 한다.
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,23 @@
+package com.portfolio.food_delivery.common.id;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @TimeOrderedId 로 발급한 ID를 JSON 에 문자열로 내보낸다.
+ * snowflake ID(약 3.7e17)는 JavaScript Number 가 정확히 표현하는 범위(2^53 - 1)를 넘어 브라우저/Swagger UI 에서 반올림된다.
+ * 응답 DTO 의 주문, 주문 항목, 결제, 리뷰, 장바구니 항목, 메뉴 ID 필드에 붙인다.
+ * 요청 본문의 ID 는 Jackson 이 숫자와 문자열을 모두 받으므로 그대로 둔다.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = ToStringSerializer.class)
+public @interface JsonStringId {
+}
@@ -0,0 +1,18 @@
+package com.portfolio.food_delivery.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 발급하는 시간순 ID
+ * IDENTITY 와 달리 INSERT 전에 ID가 정해지므로 Hibernate 가 INSERT 를 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,23 @@
+package com.portfolio.food_delivery.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * @TimeOrderedId 가 붙은 엔티티의 ID를 발급하는 Hibernate 생성기
+ * Hibernate 가 직접 생성하는 객체라 빈을 주입받을 수 없으므로, 설정에서 등록한 IdGenerator 에 위임한다.
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    private static volatile IdGenerator delegate = new SnowflakeIdGenerator(0);
+
+    // EntityManagerFactory 생성 전에 IdGeneratorConfig 에서 호출
+    public static void install(IdGenerator idGenerator) {
+        delegate = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return delegate.nextId();
+    }
+}
@@ -0,0 +1,113 @@
+package com.portfolio.food_delivery.domain.analytics.controller;
+
+import com.portfolio.food_delivery.domain.analytics.dto.RevenueReportResponse;
+import com.portfolio.food_delivery.domain.analytics.dto.RollupRebuildResponse;
+import com.portfolio.food_delivery.domain.analytics.entity.RollupGranularity;
+import com.portfolio.food_delivery.domain.analytics.service.RevenueRollupService;
+import com.portfolio.food_delivery.domain.user.service.UserService;
+import com.portfolio.food_delivery.infrastructure.security.SecurityUtil;
+import com.portfolio.food_delivery.presentation.advice.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Analytics", description = "매출 분석 관련 API")
+@RestController
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final RevenueRollupService revenueRollupService;
+    private final UserService userService;
+
+    @Operation(summary = "레스토랑 매출 조회",
+            description = "레스토랑의 시간별/일별 매출을 조회합니다. 레스토랑 소유자만 조회 가능합니다. " +
+                    "시간별은 최대 31일, 일별은 최대 366일까지 조회할 수 있습니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RevenueReportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 기간",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (레스토랑 소유자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "레스토랑을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/api/analytics/restaurants/{restaurantId}/revenue")
+    public ResponseEntity<RevenueReportResponse> getRestaurantRevenue(
+            @Parameter(description = "레스토랑 ID", required = true, example = "1")
+            @PathVariable Long restaurantId,
+            @Parameter(description = "집계 단위", example = "DAILY")
+            @RequestParam(defaultValue = "DAILY") RollupGranularity granularity,
+            @Parameter(description = "시작일시", required = true, example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "종료일시 (미포함)", required = true, example = "2025-02-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long userId = userService.getUserIdByEmail(email);
+
+        RevenueReportResponse response = revenueRollupService.getRestaurantRevenue(
+                restaurantId, userId, granularity, startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "전체 매출 조회", description = "플랫폼 전체의 시간별/일별 매출을 조회합니다. 관리자만 조회 가능합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RevenueReportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 기간",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/api/admin/analytics/revenue")
+    public ResponseEntity<RevenueReportResponse> getPlatformRevenue(
+            @Parameter(description = "집계 단위", example = "DAILY")
+            @RequestParam(defaultValue = "DAILY") RollupGranularity granularity,
+            @Parameter(description = "시작일시", required = true, example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "종료일시 (미포함)", required = true, example = "2025-02-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        RevenueReportResponse response = revenueRollupService.getPlatformRevenue(granularity, startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "매출 집계 재생성",
+            description = "결제 내역을 스트리밍으로 다시 읽어 기간 내 매출 집계를 재생성합니다. 기간은 일 단위로 확장됩니다. 관리자만 실행 가능합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재생성 완료",
+                    content = @Content(schema = @Schema(implementation = RollupRebuildResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/api/admin/analytics/revenue/rebuild")
+    public ResponseEntity<RollupRebuildResponse> rebuildRevenueRollups(
+            @Parameter(description = "시작일시", required = true, example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "종료일시 (미포함)", required = true, example = "2025-02-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        RollupRebuildResponse response = revenueRollupService.rebuild(startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.food_delivery.domain.analytics.dto;
+
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "구간별 매출")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueBucketResponse {
+
+    @Schema(description = "구간 시작일시", example = "2025-01-15T12:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "결제 성공 금액", example = "230000")
+    private Long grossAmount;
+
+    @Schema(description = "취소 금액", example = "23000")
+    private Long cancelledAmount;
+
+    @Schema(description = "순매출 (결제 - 취소)", example = "207000")
+    private Long netAmount;
+
+    @Schema(description = "결제 성공 건수", example = "10")
+    private Long paymentCount;
+
+    @Schema(description = "취소 건수", example = "1")
+    private Long cancelledCount;
+
+    @Schema(description = "결제 수단별 결제 성공 금액")
+    private Map<PaymentMethod, Long> grossAmountByMethod;
+}
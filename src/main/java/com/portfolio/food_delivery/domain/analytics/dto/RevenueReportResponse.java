@@ -0,0 +1,49 @@
+package com.portfolio.food_delivery.domain.analytics.dto;
+
+import com.portfolio.food_delivery.domain.analytics.entity.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "매출 리포트 응답")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueReportResponse {
+
+    @Schema(description = "레스토랑 ID (전체 집계 시 null)", example = "1")
+    private Long restaurantId;
+
+    @Schema(description = "집계 단위", example = "DAILY")
+    private RollupGranularity granularity;
+
+    @Schema(description = "조회 시작일시", example = "2025-01-01T00:00:00")
+    private LocalDateTime startDate;
+
+    @Schema(description = "조회 종료일시 (미포함)", example = "2025-02-01T00:00:00")
+    private LocalDateTime endDate;
+
+    @Schema(description = "기간 결제 성공 금액", example = "2300000")
+    private Long grossAmount;
+
+    @Schema(description = "기간 취소 금액", example = "46000")
+    private Long cancelledAmount;
+
+    @Schema(description = "기간 순매출", example = "2254000")
+    private Long netAmount;
+
+    @Schema(description = "기간 결제 성공 건수", example = "100")
+    private Long paymentCount;
+
+    @Schema(description = "기간 취소 건수", example = "2")
+    private Long cancelledCount;
+
+    @Schema(description = "구간별 매출 목록")
+    private List<RevenueBucketResponse> buckets;
+}
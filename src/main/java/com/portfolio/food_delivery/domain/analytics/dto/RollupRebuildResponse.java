@@ -0,0 +1,29 @@
+package com.portfolio.food_delivery.domain.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "매출 집계 재생성 결과")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupRebuildResponse {
+
+    @Schema(description = "재집계 시작일시", example = "2025-01-01T00:00:00")
+    private LocalDateTime startDate;
+
+    @Schema(description = "재집계 종료일시 (미포함)", example = "2025-02-01T00:00:00")
+    private LocalDateTime endDate;
+
+    @Schema(description = "스캔한 결제 건수", example = "120000")
+    private Long scannedPayments;
+
+    @Schema(description = "생성된 집계 행 수", example = "5400")
+    private Integer rollupRows;
+}
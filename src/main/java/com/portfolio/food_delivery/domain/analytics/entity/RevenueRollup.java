@@ -0,0 +1,62 @@
+package com.portfolio.food_delivery.domain.analytics.entity;
+
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레스토랑별 매출 집계 (시간/일 단위, 결제 수단별 1행)
+ * 결제 상태 전이 시 증분 반영되며, payments 테이블로부터 재집계할 수 있다.
+ */
+@Entity
+@Table(name = "revenue_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_revenue_rollups_bucket",
+                columnNames = {"restaurant_id", "granularity", "bucket_start", "method"}),
+        indexes = @Index(name = "idx_revenue_rollups_granularity_bucket", columnList = "granularity, bucket_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RevenueRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod method;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long grossAmount = 0L; // 결제 성공 금액
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long cancelledAmount = 0L; // 취소 금액
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long paymentCount = 0L; // 결제 성공 건수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long cancelledCount = 0L; // 취소 건수
+
+    public Long getNetAmount() {
+        return grossAmount - cancelledAmount;
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.food_delivery.domain.analytics.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@RequiredArgsConstructor
+public enum RollupGranularity {
+    HOURLY("시간별", ChronoUnit.HOURS),
+    DAILY("일별", ChronoUnit.DAYS);
+
+    private final String description;
+    private final ChronoUnit unit;
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+}
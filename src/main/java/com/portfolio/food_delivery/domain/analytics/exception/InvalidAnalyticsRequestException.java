@@ -0,0 +1,10 @@
+package com.portfolio.food_delivery.domain.analytics.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class InvalidAnalyticsRequestException extends BusinessException {
+    public InvalidAnalyticsRequestException(String message) {
+        super(ErrorCode.INVALID_INPUT_VALUE, message);
+    }
+}
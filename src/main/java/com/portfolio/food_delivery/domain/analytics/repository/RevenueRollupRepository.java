@@ -0,0 +1,71 @@
+package com.portfolio.food_delivery.domain.analytics.repository;
+
+import com.portfolio.food_delivery.domain.analytics.entity.RevenueRollup;
+import com.portfolio.food_delivery.domain.analytics.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, Long> {
+
+    // 집계 행 증분 반영 (없으면 생성, 있으면 누적) - 단일 문장이라 동시 결제에도 안전
+    @Modifying
+    @Query(value = "INSERT INTO revenue_rollups " +
+            "(restaurant_id, granularity, bucket_start, method, " +
+            "gross_amount, cancelled_amount, payment_count, cancelled_count) " +
+            "VALUES (:restaurantId, :granularity, :bucketStart, :method, " +
+            ":grossAmount, :cancelledAmount, :paymentCount, :cancelledCount) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "gross_amount = gross_amount + VALUES(gross_amount), " +
+            "cancelled_amount = cancelled_amount + VALUES(cancelled_amount), " +
+            "payment_count = payment_count + VALUES(payment_count), " +
+            "cancelled_count = cancelled_count + VALUES(cancelled_count)",
+            nativeQuery = true)
+    int upsert(@Param("restaurantId") Long restaurantId,
+               @Param("granularity") String granularity,
+               @Param("bucketStart") LocalDateTime bucketStart,
+               @Param("method") String method,
+               @Param("grossAmount") long grossAmount,
+               @Param("cancelledAmount") long cancelledAmount,
+               @Param("paymentCount") long paymentCount,
+               @Param("cancelledCount") long cancelledCount);
+
+    // 레스토랑 기간별 집계 조회
+    @Query("SELECT r FROM RevenueRollup r " +
+            "WHERE r.restaurantId = :restaurantId " +
+            "AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :startDate AND r.bucketStart < :endDate " +
+            "ORDER BY r.bucketStart")
+    List<RevenueRollup> findByRestaurantAndRange(
+            @Param("restaurantId") Long restaurantId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    // 전체 레스토랑 기간별 집계 (bucketStart, method, gross, cancelled, paymentCount, cancelledCount)
+    @Query("SELECT r.bucketStart, r.method, SUM(r.grossAmount), SUM(r.cancelledAmount), " +
+            "SUM(r.paymentCount), SUM(r.cancelledCount) FROM RevenueRollup r " +
+            "WHERE r.granularity = :granularity " +
+            "AND r.bucketStart >= :startDate AND r.bucketStart < :endDate " +
+            "GROUP BY r.bucketStart, r.method " +
+            "ORDER BY r.bucketStart")
+    List<Object[]> sumByRange(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    // 재집계 전 기간 내 집계 행 삭제
+    @Modifying
+    @Query("DELETE FROM RevenueRollup r " +
+            "WHERE r.bucketStart >= :startDate AND r.bucketStart < :endDate")
+    int deleteByRange(@Param("startDate") LocalDateTime startDate,
+                      @Param("endDate") LocalDateTime endDate);
+}
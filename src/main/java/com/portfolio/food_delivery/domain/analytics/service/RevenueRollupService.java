@@ -0,0 +1,252 @@
+package com.portfolio.food_delivery.domain.analytics.service;
+
+import com.portfolio.food_delivery.domain.analytics.dto.RevenueBucketResponse;
+import com.portfolio.food_delivery.domain.analytics.dto.RevenueReportResponse;
+import com.portfolio.food_delivery.domain.analytics.dto.RollupRebuildResponse;
+import com.portfolio.food_delivery.domain.analytics.entity.RevenueRollup;
+import com.portfolio.food_delivery.domain.analytics.entity.RollupGranularity;
+import com.portfolio.food_delivery.domain.analytics.exception.InvalidAnalyticsRequestException;
+import com.portfolio.food_delivery.domain.analytics.repository.RevenueRollupRepository;
+import com.portfolio.food_delivery.domain.payment.dto.PaymentRollupRow;
+import com.portfolio.food_delivery.domain.payment.entity.Payment;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+import com.portfolio.food_delivery.domain.payment.repository.PaymentRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
+import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RevenueRollupService {
+
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(366);
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final PaymentRepository paymentRepository;
+    private final RestaurantRepository restaurantRepository;
+
+    // 결제 성공 반영 (호출한 결제 트랜잭션과 함께 커밋된다)
+    @Transactional
+    public void recordPaymentSucceeded(Payment payment) {
+        Long restaurantId = payment.getOrder().getRestaurant().getId();
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            revenueRollupRepository.upsert(
+                    restaurantId,
+                    granularity.name(),
+                    granularity.truncate(payment.getPaidAt()),
+                    payment.getMethod().name(),
+                    payment.getAmount(), 0L, 1L, 0L);
+        }
+    }
+
+    // 결제 취소 반영 (취소 시각 기준 구간에 누적)
+    @Transactional
+    public void recordPaymentCancelled(Payment payment) {
+        Long restaurantId = payment.getOrder().getRestaurant().getId();
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            revenueRollupRepository.upsert(
+                    restaurantId,
+                    granularity.name(),
+                    granularity.truncate(payment.getCancelledAt()),
+                    payment.getMethod().name(),
+                    0L, payment.getAmount(), 0L, 1L);
+        }
+    }
+
+    public RevenueReportResponse getRestaurantRevenue(Long restaurantId, Long userId,
+                                                      RollupGranularity granularity,
+                                                      LocalDateTime startDate, LocalDateTime endDate) {
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다."));
+
+        // 권한 확인 (레스토랑 오너만 조회 가능)
+        if (!restaurant.isOwnedBy(userId)) {
+            throw new UnauthorizedException("매출 조회 권한이 없습니다.");
+        }
+
+        validateRange(granularity, startDate, endDate);
+
+        ReportAccumulator accumulator = new ReportAccumulator();
+        for (RevenueRollup rollup : revenueRollupRepository.findByRestaurantAndRange(
+                restaurantId, granularity, startDate, endDate)) {
+            accumulator.add(rollup.getBucketStart(), rollup.getMethod(),
+                    rollup.getGrossAmount(), rollup.getCancelledAmount(),
+                    rollup.getPaymentCount(), rollup.getCancelledCount());
+        }
+
+        return accumulator.toResponse(restaurantId, granularity, startDate, endDate);
+    }
+
+    public RevenueReportResponse getPlatformRevenue(RollupGranularity granularity,
+                                                    LocalDateTime startDate, LocalDateTime endDate) {
+        validateRange(granularity, startDate, endDate);
+
+        ReportAccumulator accumulator = new ReportAccumulator();
+        for (Object[] row : revenueRollupRepository.sumByRange(granularity, startDate, endDate)) {
+            accumulator.add((LocalDateTime) row[0], (PaymentMethod) row[1],
+                    (Long) row[2], (Long) row[3], (Long) row[4], (Long) row[5]);
+        }
+
+        return accumulator.toResponse(null, granularity, startDate, endDate);
+    }
+
+    /**
+     * payments 테이블을 스트리밍으로 읽어 기간 내 집계를 다시 만든다.
+     * 기간은 일 단위로 확장되며, 메모리는 결제 건수가 아닌 집계 구간 수에 비례한다.
+     */
+    @Transactional
+    public RollupRebuildResponse rebuild(LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime start = RollupGranularity.DAILY.truncate(startDate);
+        LocalDateTime end = RollupGranularity.DAILY.truncate(endDate);
+        if (end.isBefore(endDate)) {
+            end = end.plusDays(1);
+        }
+
+        if (!start.isBefore(end)) {
+            throw new InvalidAnalyticsRequestException("재집계 시작일시는 종료일시보다 이전이어야 합니다.");
+        }
+
+        revenueRollupRepository.deleteByRange(start, end);
+
+        Map<RollupKey, long[]> totals = new HashMap<>();
+        long scanned = 0;
+
+        try (Stream<PaymentRollupRow> rows = paymentRepository.streamRollupRows(start, end)) {
+            Iterator<PaymentRollupRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PaymentRollupRow row = iterator.next();
+                scanned++;
+
+                if (isWithin(row.paidAt(), start, end)) {
+                    accumulate(totals, row, row.paidAt(), 0);
+                }
+                if (isWithin(row.cancelledAt(), start, end)) {
+                    accumulate(totals, row, row.cancelledAt(), 1);
+                }
+            }
+        }
+
+        totals.forEach((key, values) -> revenueRollupRepository.upsert(
+                key.restaurantId(),
+                key.granularity().name(),
+                key.bucketStart(),
+                key.method().name(),
+                values[0], values[1], values[2], values[3]));
+
+        log.info("매출 집계 재생성 완료 - 기간: {} ~ {}, 결제 {}건, 집계 {}행", start, end, scanned, totals.size());
+
+        return RollupRebuildResponse.builder()
+                .startDate(start)
+                .endDate(end)
+                .scannedPayments(scanned)
+                .rollupRows(totals.size())
+                .build();
+    }
+
+    private void validateRange(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) {
+        if (!startDate.isBefore(endDate)) {
+            throw new InvalidAnalyticsRequestException("조회 시작일시는 종료일시보다 이전이어야 합니다.");
+        }
+
+        Duration maxRange = granularity == RollupGranularity.HOURLY ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (Duration.between(startDate, endDate).compareTo(maxRange) > 0) {
+            throw new InvalidAnalyticsRequestException(
+                    granularity.getDescription() + " 매출은 최대 " + maxRange.toDays() + "일까지 조회할 수 있습니다.");
+        }
+    }
+
+    private boolean isWithin(LocalDateTime dateTime, LocalDateTime start, LocalDateTime end) {
+        return dateTime != null && !dateTime.isBefore(start) && dateTime.isBefore(end);
+    }
+
+    // offset 0: 결제 성공 (gross, paymentCount), offset 1: 취소 (cancelled, cancelledCount)
+    private void accumulate(Map<RollupKey, long[]> totals, PaymentRollupRow row,
+                            LocalDateTime occurredAt, int offset) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            RollupKey key = new RollupKey(row.restaurantId(), granularity,
+                    granularity.truncate(occurredAt), row.method());
+            long[] values = totals.computeIfAbsent(key, k -> new long[4]);
+            values[offset] += row.amount();
+            values[offset + 2] += 1;
+        }
+    }
+
+    private record RollupKey(Long restaurantId, RollupGranularity granularity,
+                             LocalDateTime bucketStart, PaymentMethod method) {}
+
+    // 결제 수단별 집계 행을 구간 단위로 합친다 (행은 bucketStart 순으로 들어온다)
+    private static class ReportAccumulator {
+
+        private final Map<LocalDateTime, BucketTotals> buckets = new LinkedHashMap<>();
+
+        void add(LocalDateTime bucketStart, PaymentMethod method, long gross, long cancelled,
+                 long paymentCount, long cancelledCount) {
+            BucketTotals bucket = buckets.computeIfAbsent(bucketStart, k -> new BucketTotals());
+            bucket.gross += gross;
+            bucket.cancelled += cancelled;
+            bucket.paymentCount += paymentCount;
+            bucket.cancelledCount += cancelledCount;
+            bucket.grossByMethod.merge(method, gross, Long::sum);
+        }
+
+        RevenueReportResponse toResponse(Long restaurantId, RollupGranularity granularity,
+                                         LocalDateTime startDate, LocalDateTime endDate) {
+            List<RevenueBucketResponse> responses = new ArrayList<>(buckets.size());
+            long gross = 0, cancelled = 0, paymentCount = 0, cancelledCount = 0;
+
+            for (Map.Entry<LocalDateTime, BucketTotals> entry : buckets.entrySet()) {
+                BucketTotals bucket = entry.getValue();
+                responses.add(RevenueBucketResponse.builder()
+                        .bucketStart(entry.getKey())
+                        .grossAmount(bucket.gross)
+                        .cancelledAmount(bucket.cancelled)
+                        .netAmount(bucket.gross - bucket.cancelled)
+                        .paymentCount(bucket.paymentCount)
+                        .cancelledCount(bucket.cancelledCount)
+                        .grossAmountByMethod(bucket.grossByMethod)
+                        .build());
+
+                gross += bucket.gross;
+                cancelled += bucket.cancelled;
+                paymentCount += bucket.paymentCount;
+                cancelledCount += bucket.cancelledCount;
+            }
+
+            return RevenueReportResponse.builder()
+                    .restaurantId(restaurantId)
+                    .granularity(granularity)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .grossAmount(gross)
+                    .cancelledAmount(cancelled)
+                    .netAmount(gross - cancelled)
+                    .paymentCount(paymentCount)
+                    .cancelledCount(cancelledCount)
+                    .buckets(responses)
+                    .build();
+        }
+    }
+
+    private static class BucketTotals {
+        private long gross;
+        private long cancelled;
+        private long paymentCount;
+        private long cancelledCount;
+        private final Map<PaymentMethod, Long> grossByMethod = new EnumMap<>(PaymentMethod.class);
+    }
+}
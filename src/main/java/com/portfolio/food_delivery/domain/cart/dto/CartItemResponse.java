@@ -1,7 +1,9 @@
 // CartItemResponse.java
 package com.portfolio.food_delivery.domain.cart.dto;
 
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.cart.entity.CartItem;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +14,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class CartItemResponse {
+    @JsonStringId
     private Long id;
+    @JsonStringId
     private Long menuId;
     private String menuName;
     private Integer menuPrice;
@@ -31,4 +35,16 @@ public class CartItemResponse {
                 .subtotal(cartItem.getSubtotal())
                 .build();
     }
+
+    // 메모리 장바구니 항목은 DB 행 ID가 없으므로 id는 비워둔다
+    public static CartItemResponse from(CartSnapshot.Item item) {
+        return CartItemResponse.builder()
+                .menuId(item.menu().menuId())
+                .menuName(item.menu().name())
+                .menuPrice(item.menu().price())
+                .menuImageUrl(item.menu().imageUrl())
+                .quantity(item.quantity())
+                .subtotal(item.getSubtotal())
+                .build();
+    }
 }
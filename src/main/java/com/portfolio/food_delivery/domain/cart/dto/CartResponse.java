@@ -2,6 +2,8 @@
 package com.portfolio.food_delivery.domain.cart.dto;
 
 import com.portfolio.food_delivery.domain.cart.entity.Cart;
+import com.portfolio.food_delivery.domain.cart.store.CartRestaurantSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -50,14 +52,7 @@ public class CartResponse {
 
     public static CartResponse from(Cart cart) {
         if (cart.isEmpty()) {
-            return CartResponse.builder()
-                    .id(cart.getId())
-                    .items(List.of())
-                    .totalAmount(0)
-                    .totalQuantity(0)
-                    .canOrder(false)
-                    .cannotOrderReason("장바구니가 비어있습니다.")
-                    .build();
+            return emptyOf(cart.getId());
         }
 
         Integer totalAmount = cart.getTotalAmount();
@@ -85,4 +80,53 @@ public class CartResponse {
                 .cannotOrderReason(cannotOrderReason)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 메모리 장바구니 기준 응답 (장바구니 ID는 DB 반영 전이면 null)
+    public static CartResponse from(CartSnapshot cart) {
+        if (cart.isEmpty()) {
+            return emptyOf(cart.cartId());
+        }
+
+        CartRestaurantSnapshot restaurant = cart.restaurant();
+        int totalAmount = cart.getTotalAmount();
+        Integer minimumOrderAmount = restaurant.minimumOrderAmount();
+        Boolean canOrder = totalAmount >= minimumOrderAmount;
+        String cannotOrderReason = null;
+
+        if (!canOrder) {
+            cannotOrderReason = String.format("최소 주문 금액(%,d원)을 충족하지 않습니다. 현재 금액: %,d원",
+                    minimumOrderAmount, totalAmount);
+        }
+
+        return CartResponse.builder()
+                .id(cart.cartId())
+                .restaurantId(restaurant.restaurantId())
+                .restaurantName(restaurant.name())
+                .deliveryFee(restaurant.deliveryFee())
+                .minimumOrderAmount(minimumOrderAmount)
+                .items(cart.items().stream()
+                        .map(CartItemResponse::from)
+                        .collect(Collectors.toList()))
+                .totalAmount(totalAmount)
+                .totalQuantity(cart.getTotalQuantity())
+                .canOrder(canOrder)
+                .cannotOrderReason(cannotOrderReason)
+                .build();
+    }
+
+    // 장바구니가 없는 사용자용 빈 응답
+    public static CartResponse empty() {
+        return emptyOf(0L);
+    }
+
+    private static CartResponse emptyOf(Long id) {
+        return CartResponse.builder()
+                .id(id)
+                .items(List.of())
+                .totalAmount(0)
+                .totalQuantity(0)
+                .canOrder(false)
+                .cannotOrderReason("장바구니가 비어있습니다.")
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.portfolio.food_delivery.domain.cart.entity;
 
 import com.portfolio.food_delivery.common.entity.BaseEntity;
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -8,6 +9,8 @@ import lombok.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Entity
 @Table(name = "carts")
@@ -33,6 +36,11 @@ public class Cart extends BaseEntity {
     @Builder.Default
     private List<CartItem> cartItems = new ArrayList<>();
 
+    // menuId 인덱스와 합계 (DB 컬럼 아님)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final CartItemIndex itemIndex = new CartItemIndex();
+
     public void addItem(CartItem item) {
         // 다른 레스토랑의 메뉴를 추가하려는 경우 기존 장바구니 비우기
         if (this.restaurant != null && !this.restaurant.equals(item.getMenu().getRestaurant())) {
@@ -45,15 +53,18 @@ public class Cart extends BaseEntity {
         // 동일한 메뉴가 있는지 확인
         CartItem existingItem = findCartItemByMenuId(item.getMenu().getId());
         if (existingItem != null) {
-            existingItem.updateQuantity(existingItem.getQuantity() + item.getQuantity());
+            changeQuantity(existingItem, existingItem.getQuantity() + item.getQuantity());
         } else {
-            cartItems.add(item);
-            item.setCart(this);
+            appendItem(item);
         }
     }
 
     public void removeItem(Long menuId) {
-        cartItems.removeIf(item -> item.getMenu().getId().equals(menuId));
+        CartItem item = findCartItemByMenuId(menuId);
+        if (item != null) {
+            cartItems.remove(item);
+            itemIndex.remove(item);
+        }
 
         // 장바구니가 비어있으면 레스토랑 정보도 제거
         if (cartItems.isEmpty()) {
@@ -67,26 +78,49 @@ public class Cart extends BaseEntity {
             if (quantity <= 0) {
                 removeItem(menuId);
             } else {
-                item.updateQuantity(quantity);
+                changeQuantity(item, quantity);
             }
         }
     }
 
     public void clear() {
         cartItems.clear();
+        index().clear();
         this.restaurant = null;
     }
 
+    // 메모리 장바구니 상태를 그대로 반영 (write-behind 저장용, 바뀐 항목만 dirty checking 대상이 됨)
+    public void syncItems(Restaurant restaurant, Map<Long, Integer> quantities, Function<Long, Menu> menuResolver) {
+        this.restaurant = quantities.isEmpty() ? null : restaurant;
+
+        CartItemIndex index = index();
+        cartItems.removeIf(item -> {
+            if (quantities.containsKey(item.getMenu().getId())) {
+                return false;
+            }
+            index.remove(item);
+            return true;
+        });
+
+        quantities.forEach((menuId, quantity) -> {
+            CartItem existingItem = findCartItemByMenuId(menuId);
+            if (existingItem == null) {
+                appendItem(CartItem.builder()
+                        .menu(menuResolver.apply(menuId))
+                        .quantity(quantity)
+                        .build());
+            } else if (!existingItem.getQuantity().equals(quantity)) {
+                changeQuantity(existingItem, quantity);
+            }
+        });
+    }
+
     public Integer getTotalAmount() {
-        return cartItems.stream()
-                .mapToInt(CartItem::getSubtotal)
-                .sum();
+        return index().getTotalAmount();
     }
 
     public Integer getTotalQuantity() {
-        return cartItems.stream()
-                .mapToInt(CartItem::getQuantity)
-                .sum();
+        return index().getTotalQuantity();
     }
 
     public boolean isEmpty() {
@@ -98,13 +132,31 @@ public class Cart extends BaseEntity {
     }
 
     public CartItem findCartItemByMenuId(Long menuId) {
-        return cartItems.stream()
-                .filter(item -> item.getMenu().getId().equals(menuId))
-                .findFirst()
-                .orElse(null);
+        return index().get(menuId);
     }
 
     public boolean isOwnedBy(Long userId) {
         return this.user.getId().equals(userId);
     }
-}
\ No newline at end of file
+
+    private void appendItem(CartItem item) {
+        CartItemIndex index = index();
+        cartItems.add(item);
+        item.setCart(this);
+        index.add(item);
+    }
+
+    private void changeQuantity(CartItem item, int quantity) {
+        int previousQuantity = item.getQuantity();
+        item.updateQuantity(quantity);
+        index().quantityChanged(item, previousQuantity);
+    }
+
+    // JPA가 컬렉션을 채운 뒤 처음 접근할 때 인덱스 생성
+    private CartItemIndex index() {
+        if (!itemIndex.isBuilt()) {
+            itemIndex.rebuild(cartItems);
+        }
+        return itemIndex;
+    }
+}
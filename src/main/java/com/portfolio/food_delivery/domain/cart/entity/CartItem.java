@@ -1,6 +1,7 @@
 // CartItem.java
 package com.portfolio.food_delivery.domain.cart.entity;
 
+import com.portfolio.food_delivery.common.id.TimeOrderedId;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,7 @@ import lombok.*;
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,7 +30,8 @@ public class CartItem {
     @Column(nullable = false)
     private Integer quantity;
 
-    public void updateQuantity(Integer quantity) {
+    // 합계 인덱스 갱신을 위해 Cart 를 통해서만 변경한다
+    void updateQuantity(Integer quantity) {
         this.quantity = quantity;
     }
 
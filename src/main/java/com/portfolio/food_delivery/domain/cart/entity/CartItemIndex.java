@@ -0,0 +1,78 @@
+package com.portfolio.food_delivery.domain.cart.entity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cart 내부용 menuId → CartItem 인덱스와 합계
+ * JPA가 컬렉션을 채운 뒤 처음 접근할 때 한 번 만들고, 이후에는 Cart 의 변경 메서드에서 함께 갱신한다.
+ * 인덱스는 같은 CartItem 인스턴스를 가리키므로 변경 감지는 그대로 동작한다.
+ * 금액 합계는 메뉴 가격이 필요해 처음 요청될 때 계산한다 (write-behind 저장처럼 금액이 필요 없는 경로에서 메뉴를 로딩하지 않도록).
+ */
+class CartItemIndex {
+
+    private Map<Long, CartItem> itemsByMenuId;
+    private Integer totalAmount; // null 이면 아직 계산 전
+    private int totalQuantity;
+
+    boolean isBuilt() {
+        return itemsByMenuId != null;
+    }
+
+    void rebuild(List<CartItem> items) {
+        itemsByMenuId = new HashMap<>(Math.max(16, items.size() * 2));
+        totalAmount = null;
+        totalQuantity = 0;
+        items.forEach(this::add);
+    }
+
+    CartItem get(Long menuId) {
+        return itemsByMenuId.get(menuId);
+    }
+
+    void add(CartItem item) {
+        itemsByMenuId.put(item.getMenu().getId(), item);
+        if (totalAmount != null) {
+            totalAmount += item.getSubtotal();
+        }
+        totalQuantity += item.getQuantity();
+    }
+
+    void remove(CartItem item) {
+        itemsByMenuId.remove(item.getMenu().getId());
+        if (totalAmount != null) {
+            totalAmount -= item.getSubtotal();
+        }
+        totalQuantity -= item.getQuantity();
+    }
+
+    void quantityChanged(CartItem item, int previousQuantity) {
+        int delta = item.getQuantity() - previousQuantity;
+        if (totalAmount != null) {
+            totalAmount += item.getMenu().getPrice() * delta;
+        }
+        totalQuantity += delta;
+    }
+
+    void clear() {
+        itemsByMenuId.clear();
+        totalAmount = 0;
+        totalQuantity = 0;
+    }
+
+    int getTotalAmount() {
+        if (totalAmount == null) {
+            int sum = 0;
+            for (CartItem item : itemsByMenuId.values()) {
+                sum += item.getSubtotal();
+            }
+            totalAmount = sum;
+        }
+        return totalAmount;
+    }
+
+    int getTotalQuantity() {
+        return totalQuantity;
+    }
+}
@@ -2,16 +2,22 @@ package com.portfolio.food_delivery.domain.cart.repository;
 
 import com.portfolio.food_delivery.domain.cart.entity.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
-    Optional<Cart> findByUserId(Long userId);
+    // 파생 쿼리(findByUserId)는 users 를 LEFT JOIN 해 조건을 걸므로 FK 컬럼을 직접 비교한다 (user_id 인덱스 사용)
+    @Query("SELECT c FROM Cart c WHERE c.user.id = :userId")
+    Optional<Cart> findByUserId(@Param("userId") Long userId);
 
     @Query("SELECT c FROM Cart c " +
             "LEFT JOIN FETCH c.cartItems ci " +
@@ -20,6 +26,25 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
             "WHERE c.user.id = :userId")
     Optional<Cart> findByUserIdWithItems(@Param("userId") Long userId);
 
+    // write-behind 저장 시 여러 사용자의 장바구니를 한 번에 로딩
+    @Query("SELECT c FROM Cart c " +
+            "LEFT JOIN FETCH c.cartItems ci " +
+            "WHERE c.user.id IN :userIds")
+    List<Cart> findAllByUserIdInWithItems(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT c FROM Cart c WHERE c.user.id IN :userIds")
+    List<Cart> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 비워진 장바구니의 항목을 한 번의 DELETE 로 삭제
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN " +
+            "(SELECT c.id FROM Cart c WHERE c.user.id IN :userIds)")
+    int deleteItemsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE Cart c SET c.restaurant = null, c.updatedAt = :now WHERE c.user.id IN :userIds")
+    int clearRestaurantByUserIdIn(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+
     boolean existsByUserId(Long userId);
 
     @Query("SELECT COUNT(ci) FROM CartItem ci WHERE ci.cart.user.id = :userId")
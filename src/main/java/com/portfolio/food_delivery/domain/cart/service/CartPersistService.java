@@ -0,0 +1,98 @@
+package com.portfolio.food_delivery.domain.cart.service;
+
+import com.portfolio.food_delivery.domain.cart.entity.Cart;
+import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 장바구니 상태를 carts / cart_items 테이블에 반영
+ * 여러 사용자의 장바구니를 한 트랜잭션에서 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CartPersistService {
+
+    private final CartRepository cartRepository;
+    private final UserRepository userRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuRepository menuRepository;
+
+    /**
+     * @return 사용자 ID → 장바구니 ID
+     */
+    @Transactional
+    public Map<Long, Long> persist(List<CartSnapshot> snapshots) {
+        Map<Long, Long> cartIds = new HashMap<>();
+
+        List<CartSnapshot> emptied = snapshots.stream().filter(CartSnapshot::isEmpty).toList();
+        List<CartSnapshot> filled = snapshots.stream().filter(snapshot -> !snapshot.isEmpty()).toList();
+
+        if (!emptied.isEmpty()) {
+            clearCarts(emptied, cartIds);
+        }
+        if (!filled.isEmpty()) {
+            syncCarts(filled, cartIds);
+        }
+        return cartIds;
+    }
+
+    // 비워진 장바구니 (주문 완료, 비우기 등) - 항목을 로딩하지 않고 벌크 DELETE 로 정리
+    private void clearCarts(List<CartSnapshot> snapshots, Map<Long, Long> cartIds) {
+        List<Long> userIds = snapshots.stream().map(CartSnapshot::userId).toList();
+        cartRepository.deleteItemsByUserIdIn(userIds);
+        cartRepository.clearRestaurantByUserIdIn(userIds, LocalDateTime.now());
+
+        cartRepository.findAllByUserIdIn(userIds)
+                .forEach(cart -> cartIds.put(cart.getUser().getId(), cart.getId()));
+
+        for (Long userId : userIds) {
+            if (!cartIds.containsKey(userId)) {
+                Cart cart = cartRepository.save(Cart.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .build());
+                cartIds.put(userId, cart.getId());
+            }
+        }
+    }
+
+    private void syncCarts(List<CartSnapshot> snapshots, Map<Long, Long> cartIds) {
+        List<Long> userIds = snapshots.stream().map(CartSnapshot::userId).toList();
+        Map<Long, Cart> carts = cartRepository.findAllByUserIdInWithItems(userIds).stream()
+                .collect(Collectors.toMap(cart -> cart.getUser().getId(), Function.identity()));
+
+        for (CartSnapshot snapshot : snapshots) {
+            Cart cart = carts.get(snapshot.userId());
+            if (cart == null) {
+                cart = cartRepository.save(Cart.builder()
+                        .user(userRepository.getReferenceById(snapshot.userId()))
+                        .build());
+            }
+
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            snapshot.items().forEach(item -> quantities.put(item.menu().menuId(), item.quantity()));
+
+            cart.syncItems(
+                    snapshot.restaurant() != null
+                            ? restaurantRepository.getReferenceById(snapshot.restaurant().restaurantId())
+                            : null,
+                    quantities,
+                    menuRepository::getReferenceById);
+
+            cartIds.put(snapshot.userId(), cart.getId());
+        }
+    }
+}
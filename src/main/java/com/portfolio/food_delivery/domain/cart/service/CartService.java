@@ -1,10 +1,11 @@
 package com.portfolio.food_delivery.domain.cart.service;
 
 import com.portfolio.food_delivery.domain.cart.dto.*;
-import com.portfolio.food_delivery.domain.cart.entity.Cart;
-import com.portfolio.food_delivery.domain.cart.entity.CartItem;
 import com.portfolio.food_delivery.domain.cart.exception.*;
-import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.cart.store.CartMenuSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartRestaurantSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartStore;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
 import com.portfolio.food_delivery.domain.menu.exception.MenuNotFoundException;
@@ -17,27 +18,29 @@ import com.portfolio.food_delivery.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 장바구니 서비스
+ * 장바구니 상태는 CartStore(메모리)에서 읽고 쓰며, DB 반영은 CartWriteBehindFlusher 가 모아서 한다.
+ * 메모리만 다루는 요청이 DB 커넥션을 잡지 않도록 클래스 단위 트랜잭션을 두지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CartService {
 
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final UserRepository userRepository;
     private final MenuRepository menuRepository;
 
-    @Transactional
     public CartResponse addToCart(Long userId, CartItemRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-
-        Menu menu = menuRepository.findById(request.getMenuId())
+        // 품절 여부와 최신 가격 확인을 위해 메뉴는 매번 조회 (레스토랑 포함 한 번의 쿼리)
+        Menu menu = menuRepository.findByIdWithRestaurant(request.getMenuId())
                 .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다."));
 
         // 메뉴 상태 확인
@@ -45,87 +48,86 @@ public class CartService {
             throw new InvalidCartException("품절된 메뉴는 장바구니에 담을 수 없습니다.");
         }
 
-        // 기존 장바구니 조회 또는 생성
-        Cart cart = cartRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    Cart newCart = Cart.builder()
-                            .user(user)
-                            .build();
-                    return cartRepository.save(newCart);
-                });
-
-        // 장바구니에 아이템 추가
-        CartItem cartItem = CartItem.builder()
-                .menu(menu)
-                .quantity(request.getQuantity())
-                .build();
-
-        cart.addItem(cartItem);
+        CartSnapshot cart = cartStore.addItem(userId,
+                CartRestaurantSnapshot.from(menu.getRestaurant()),
+                CartMenuSnapshot.from(menu),
+                request.getQuantity());
 
         return CartResponse.from(cart);
     }
 
-    @Transactional
     public CartResponse updateCartItem(Long userId, Long menuId, CartUpdateRequest request) {
-        Cart cart = cartRepository.findByUserIdWithItems(userId)
-                .orElseThrow(() -> new CartNotFoundException("장바구니를 찾을 수 없습니다."));
-
-        // 권한 확인
-        if (!cart.isOwnedBy(userId)) {
-            throw new InvalidCartException("자신의 장바구니만 수정할 수 있습니다.");
-        }
-
-        // 메뉴가 장바구니에 있는지 확인
-        if (cart.findCartItemByMenuId(menuId) == null) {
-            throw new CartItemNotFoundException("장바구니에 해당 메뉴가 없습니다.");
-        }
-
-        cart.updateItemQuantity(menuId, request.getQuantity());
-
+        // 장바구니가 없으면 CartNotFoundException, 메뉴가 없으면 CartItemNotFoundException
+        CartSnapshot cart = cartStore.updateItemQuantity(userId, menuId, request.getQuantity());
         return CartResponse.from(cart);
     }
 
-    @Transactional
     public CartResponse removeFromCart(Long userId, Long menuId) {
-        Cart cart = cartRepository.findByUserIdWithItems(userId)
-                .orElseThrow(() -> new CartNotFoundException("장바구니를 찾을 수 없습니다."));
-
-        // 권한 확인
-        if (!cart.isOwnedBy(userId)) {
-            throw new InvalidCartException("자신의 장바구니만 수정할 수 있습니다.");
-        }
-
-        cart.removeItem(menuId);
-
+        CartSnapshot cart = cartStore.removeItem(userId, menuId);
         return CartResponse.from(cart);
     }
 
     public CartResponse getCart(Long userId) {
-        Cart cart = cartRepository.findByUserIdWithItems(userId)
-                .orElseGet(() -> {
-                    // 장바구니가 없으면 빈 장바구니 생성
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-                    return Cart.builder()
-                            .id(0L)
-                            .user(user)
-                            .build();
-                });
-
-        return CartResponse.from(cart);
+        // 장바구니가 없으면 빈 장바구니 반환
+        return cartStore.find(userId)
+                .map(CartResponse::from)
+                .orElseGet(CartResponse::empty);
     }
 
-    @Transactional
     public void clearCart(Long userId) {
-        Cart cart = cartRepository.findByUserId(userId)
+        cartStore.clear(userId);
+        log.info("사용자 {}의 장바구니를 비웠습니다.", userId);
+    }
+
+    // 주문용 장바구니 조회 (메모리에서 읽으므로 쿼리 없음)
+    public CartSnapshot getCartForCheckout(Long userId) {
+        CartSnapshot cart = cartStore.find(userId)
                 .orElseThrow(() -> new CartNotFoundException("장바구니를 찾을 수 없습니다."));
 
-        cart.clear();
-        log.info("사용자 {}의 장바구니를 비웠습니다.", userId);
+        if (cart.isEmpty()) {
+            throw new InvalidCartException("장바구니가 비어있습니다.");
+        }
+        return cart;
+    }
+
+    // 주문 불가 메뉴도 주문 트랜잭션이 커밋된 뒤에 뺀다 (쿠폰/결제 등에서 롤백되면 장바구니 유지)
+    public void removeUnavailableItemsAfterCommit(Long userId, Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeUnavailableItems(userId, menuIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeUnavailableItems(userId, menuIds);
+            }
+        });
+    }
+
+    private void removeUnavailableItems(Long userId, Collection<Long> menuIds) {
+        cartStore.removeItems(userId, menuIds);
+        log.warn("주문 불가 메뉴 {}를 장바구니에서 제거했습니다.", menuIds);
+    }
+
+    // 주문 트랜잭션이 커밋된 뒤에 장바구니를 비운다 (롤백되면 장바구니 유지)
+    public void clearCartAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clearCart(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clearCart(userId);
+            }
+        });
     }
 
     public OrderCreateRequest convertToOrderRequest(Long userId) {
-        Cart cart = cartRepository.findByUserIdWithItems(userId)
+        CartSnapshot cart = cartStore.find(userId)
                 .orElseThrow(() -> new CartNotFoundException("장바구니를 찾을 수 없습니다."));
 
         if (cart.isEmpty()) {
@@ -133,17 +135,18 @@ public class CartService {
         }
 
         // 장바구니 아이템을 주문 아이템으로 변환
-        List<OrderItemRequest> orderItems = cart.getCartItems().stream()
-                .map(cartItem -> OrderItemRequest.builder()
-                        .menuId(cartItem.getMenu().getId())
-                        .quantity(cartItem.getQuantity())
+        List<OrderItemRequest> orderItems = cart.items().stream()
+                .map(item -> OrderItemRequest.builder()
+                        .menuId(item.menu().menuId())
+                        .quantity(item.quantity())
                         .build())
                 .collect(Collectors.toList());
 
-        User user = cart.getUser();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
         return OrderCreateRequest.builder()
-                .restaurantId(cart.getRestaurant().getId())
+                .restaurantId(cart.restaurant().restaurantId())
                 .orderItems(orderItems)
                 .deliveryAddress(user.getAddress())
                 .phoneNumber(user.getPhoneNumber())
@@ -151,21 +154,38 @@ public class CartService {
     }
 
     public Integer getCartItemCount(Long userId) {
-        return cartRepository.countItemsByUserId(userId);
+        return cartStore.countItems(userId);
     }
 
-    @Transactional
     public void validateCartItems(Long userId) {
-        Cart cart = cartRepository.findByUserIdWithItems(userId)
+        CartSnapshot cart = cartStore.find(userId)
                 .orElseThrow(() -> new CartNotFoundException("장바구니를 찾을 수 없습니다."));
 
-        // 모든 메뉴의 상태 재확인
-        cart.getCartItems().forEach(item -> {
-            Menu menu = item.getMenu();
-            if (menu.getStatus() != MenuStatus.AVAILABLE) {
-                cart.removeItem(menu.getId());
-                log.warn("품절된 메뉴 {}를 장바구니에서 제거했습니다.", menu.getName());
+        if (cart.isEmpty()) {
+            return;
+        }
+
+        // 모든 메뉴의 상태 재확인 (한 번의 IN 쿼리)
+        List<Long> menuIds = cart.items().stream().map(item -> item.menu().menuId()).toList();
+        Map<Long, Menu> menus = menuRepository.findAllById(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, menu -> menu));
+
+        List<Long> unavailable = new ArrayList<>();
+        List<CartMenuSnapshot> refreshed = new ArrayList<>();
+        for (Long menuId : menuIds) {
+            Menu menu = menus.get(menuId);
+            if (menu == null || menu.getStatus() != MenuStatus.AVAILABLE) {
+                unavailable.add(menuId);
+                log.warn("품절된 메뉴 {}를 장바구니에서 제거했습니다.", menu != null ? menu.getName() : menuId);
+            } else {
+                refreshed.add(CartMenuSnapshot.from(menu));
             }
-        });
+        }
+
+        // 가격 등 변경된 메뉴 정보 반영
+        cartStore.refreshMenus(userId, refreshed);
+        if (!unavailable.isEmpty()) {
+            cartStore.removeItems(userId, unavailable);
+        }
     }
-}
\ No newline at end of file
+}
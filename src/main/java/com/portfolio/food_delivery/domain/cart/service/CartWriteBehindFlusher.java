@@ -0,0 +1,194 @@
+package com.portfolio.food_delivery.domain.cart.service;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.domain.cart.store.*;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 write-behind 저장
+ * 주기적으로 변경된 장바구니를 모아 DB에 반영하고, 반영이 끝난 redo 로그 세그먼트를 정리한다.
+ * 기동 시에는 남아 있는 redo 로그를 재실행해 마지막 상태를 복구한다.
+ *
+ * 복구는 모든 싱글톤 생성 직후(스케줄러와 웹 서버가 시작되기 전)에 한다. 그보다 늦으면 첫 주기 저장이 아직 읽지 않은
+ * 세그먼트를 반영 완료로 보고 지우거나, 먼저 들어온 요청이 읽어 둔 장바구니를 더 오래된 로그 상태로 덮어쓴다.
+ */
+@Slf4j
+@Component
+public class CartWriteBehindFlusher implements SmartInitializingSingleton {
+
+    private final CartStore cartStore;
+    private final CartRedoLog redoLog;
+    private final CartPersistService cartPersistService;
+    private final MenuRepository menuRepository;
+    private final RestaurantRepository restaurantRepository;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration idleTimeout;
+
+    private volatile boolean recovered;
+
+    public CartWriteBehindFlusher(
+            CartStore cartStore,
+            CartRedoLog redoLog,
+            CartPersistService cartPersistService,
+            MenuRepository menuRepository,
+            RestaurantRepository restaurantRepository,
+            @Value("${cart.store.write-behind.enabled:true}") boolean enabled,
+            @Value("${cart.store.write-behind.batch-size:100}") int batchSize,
+            @Value("${cart.store.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.cartStore = cartStore;
+        this.redoLog = redoLog;
+        this.cartPersistService = cartPersistService;
+        this.menuRepository = menuRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${cart.store.write-behind.interval-ms:200}")
+    public void scheduledFlush() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+
+        int evicted = cartStore.evictIdle(idleTimeout);
+        if (evicted > 0) {
+            log.debug("유휴 장바구니 {}개를 메모리에서 내렸습니다. (남은 장바구니: {}개)", evicted, cartStore.size());
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 DB에 반영한다.
+     * @return 모든 장바구니가 반영(또는 저장 불가로 폐기)되었으면 true
+     */
+    public synchronized boolean flush() {
+        // 세그먼트를 먼저 닫고 drain 해야 닫힌 세그먼트의 모든 변경이 이번 저장에 포함된다
+        long sealedBefore = redoLog.rotate();
+        List<CartSnapshot> snapshots = cartStore.drainDirty();
+
+        boolean success = true;
+        for (int from = 0; from < snapshots.size(); from += batchSize) {
+            List<CartSnapshot> batch = snapshots.subList(from, Math.min(from + batchSize, snapshots.size()));
+            success &= persistBatch(batch);
+        }
+
+        redoLog.sync();
+        // 복구가 끝나기 전에는 이전 프로세스가 남긴 세그먼트도 "이전 번호"에 들어가므로 지우지 않는다
+        if (success && recovered) {
+            redoLog.deleteSegmentsBefore(sealedBefore);
+        }
+        if (!snapshots.isEmpty()) {
+            log.debug("장바구니 {}개를 DB에 반영했습니다. (성공 여부: {})", snapshots.size(), success);
+        }
+        return success;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        recover();
+    }
+
+    private void recover() {
+        if (!redoLog.isEnabled()) {
+            recovered = true;
+            return;
+        }
+
+        Map<Long, CartRedoLog.Entry> entries = redoLog.readSegmentsBefore(redoLog.currentSequence());
+        if (entries.isEmpty()) {
+            recovered = true;
+            return;
+        }
+
+        Set<Long> menuIds = new HashSet<>();
+        Set<Long> restaurantIds = new HashSet<>();
+        entries.values().forEach(entry -> {
+            menuIds.addAll(entry.quantities().keySet());
+            if (entry.restaurantId() != null) {
+                restaurantIds.add(entry.restaurantId());
+            }
+        });
+
+        Map<Long, CartMenuSnapshot> menus = menuRepository.findAllById(menuIds).stream()
+                .map(CartMenuSnapshot::from)
+                .collect(Collectors.toMap(CartMenuSnapshot::menuId, Function.identity()));
+        Map<Long, CartRestaurantSnapshot> restaurants = restaurantRepository.findAllById(restaurantIds).stream()
+                .map(CartRestaurantSnapshot::from)
+                .collect(Collectors.toMap(CartRestaurantSnapshot::restaurantId, Function.identity()));
+
+        int restored = 0;
+        for (CartRedoLog.Entry entry : entries.values()) {
+            List<CartSnapshot.Item> items = new ArrayList<>();
+            entry.quantities().forEach((menuId, quantity) -> {
+                CartMenuSnapshot menu = menus.get(menuId);
+                if (menu != null) {
+                    items.add(new CartSnapshot.Item(menu, quantity));
+                }
+            });
+
+            try {
+                cartStore.restore(entry.userId(),
+                        entry.restaurantId() != null ? restaurants.get(entry.restaurantId()) : null, items);
+                restored++;
+            } catch (BusinessException e) {
+                log.warn("장바구니 복구 건너뜀 - 사용자ID: {}, 사유: {}", entry.userId(), e.getMessage());
+            }
+        }
+
+        recovered = true;
+        log.info("장바구니 redo 로그 복구 완료 - {}건 중 {}건", entries.size(), restored);
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    private boolean persistBatch(List<CartSnapshot> batch) {
+        try {
+            cartPersistService.persist(batch).forEach(cartStore::markPersisted);
+            return true;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                return handleFailure(batch.get(0), e);
+            }
+            // 한 건 때문에 묶음 전체가 롤백된 경우 - 한 건씩 다시 시도
+            boolean success = true;
+            for (CartSnapshot snapshot : batch) {
+                success &= persistBatch(List.of(snapshot));
+            }
+            return success;
+        }
+    }
+
+    private boolean handleFailure(CartSnapshot snapshot, RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            // 재시도해도 저장할 수 없는 상태 (사용자/메뉴 삭제 등) - DB 기준으로 되돌린다
+            log.error("장바구니를 저장할 수 없어 메모리 상태를 폐기합니다 - 사용자ID: {}", snapshot.userId(), e);
+            cartStore.discard(snapshot.userId());
+            return true;
+        }
+        log.warn("장바구니 저장 실패, 다음 주기에 재시도합니다 - 사용자ID: {}", snapshot.userId(), e);
+        cartStore.markFailed(snapshot.userId());
+        return false;
+    }
+}
@@ -0,0 +1,130 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import java.util.Arrays;
+
+/**
+ * 사용자ID → 장바구니 항목 수 맵 (헤더 뱃지용)
+ * 사용자 수만큼 쌓이므로 박싱 없이 long/int 배열에 선형 탐사 방식으로 보관한다.
+ * 동기화하지 않으므로 CartStore 가 샤드별 인스턴스의 모니터를 잡고 사용한다.
+ */
+final class CartItemCounter {
+
+    static final int MISSING = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final int maxEntries;
+
+    private long[] keys;
+    private int[] values;     // MISSING 이면 빈 칸
+    private int size;
+
+    CartItemCounter(int maxEntries) {
+        this.maxEntries = maxEntries;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    int get(long userId) {
+        int index = indexOf(userId);
+        return index >= 0 ? values[index] : MISSING;
+    }
+
+    void put(long userId, int count) {
+        int slot = slotOf(userId);
+        if (values[slot] == MISSING) {
+            if (size >= maxEntries) {
+                // 상한에 도달하면 통째로 비운다 - 다음 조회 때 DB에서 다시 채워진다
+                clear();
+                slot = slotOf(userId);
+            } else if (size + 1 > keys.length * LOAD_FACTOR) {
+                resize(keys.length << 1);
+                slot = slotOf(userId);
+            }
+            keys[slot] = userId;
+            size++;
+        }
+        values[slot] = count;
+    }
+
+    // 이미 값이 있으면 그대로 두고 현재 값을 돌려준다 (DB 조회 결과가 그 사이의 변경을 덮어쓰지 않도록)
+    int putIfAbsent(long userId, int count) {
+        int current = get(userId);
+        if (current != MISSING) {
+            return current;
+        }
+        put(userId, count);
+        return count;
+    }
+
+    void remove(long userId) {
+        int index = indexOf(userId);
+        if (index < 0) {
+            return;
+        }
+        // 탐사 체인이 끊기지 않도록 뒤따르는 원소를 당겨온다
+        int mask = keys.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (values[next] != MISSING) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = MISSING;
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private int indexOf(long userId) {
+        int slot = slotOf(userId);
+        return values[slot] != MISSING ? slot : -1;
+    }
+
+    // userId 가 있는 칸, 없으면 들어갈 빈 칸
+    private int slotOf(long userId) {
+        int mask = keys.length - 1;
+        int slot = hash(userId) & mask;
+        while (values[slot] != MISSING && keys[slot] != userId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != MISSING) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        size = 0;
+    }
+
+    private static int hash(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
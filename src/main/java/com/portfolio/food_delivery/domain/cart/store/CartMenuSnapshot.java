@@ -0,0 +1,17 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+
+/**
+ * 장바구니 응답 구성에 필요한 메뉴 정보 (담을 때 DB에서 읽은 값을 보관)
+ */
+public record CartMenuSnapshot(
+        Long menuId,
+        String name,
+        Integer price,
+        String imageUrl
+) {
+    public static CartMenuSnapshot from(Menu menu) {
+        return new CartMenuSnapshot(menu.getId(), menu.getName(), menu.getPrice(), menu.getImageUrl());
+    }
+}
@@ -0,0 +1,349 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 장바구니 redo 로그
+ * 변경이 일어날 때마다 변경 후 장바구니 전체 상태를 한 줄로 기록한다 (재실행해도 결과가 같음).
+ * DB 반영이 끝난 세그먼트는 삭제하고, 비정상 종료 후 기동 시 남은 세그먼트를 재실행해 복구한다.
+ *
+ * 기록은 write 시스템 콜까지만 즉시 수행하므로 프로세스가 죽어도 유실되지 않고,
+ * 디스크 동기화(force)는 write-behind 주기마다 묶어서 한다.
+ *
+ * 장바구니 잠금을 잡은 채 기록하므로, 사용자 ID로 나눈 stripe 마다 파일과 잠금을 따로 둬 샤드끼리 서로 기다리지 않게 한다.
+ * 한 사용자는 항상 같은 stripe 에 기록되므로 세그먼트 번호 순으로만 읽으면 사용자별 순서가 유지된다.
+ * 세그먼트 번호는 모든 stripe 가 공유하며, 전환 때만 전체 stripe 를 잠근다.
+ */
+@Slf4j
+@Component
+public class CartRedoLog {
+
+    private static final String SEGMENT_PREFIX = "cart-redo-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String EMPTY_RESTAURANT = "-";
+
+    public record Entry(Long userId, Long restaurantId, Map<Long, Integer> quantities) {}
+
+    private record Segment(long sequence, Path path) {}
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    private volatile long activeSequence;
+
+    public CartRedoLog(
+            @Value("${cart.store.redo-log.enabled:false}") boolean enabled,
+            @Value("${cart.store.redo-log.directory:./data/cart-redo}") String directory,
+            @Value("${cart.store.redo-log.stripes:8}") int stripeCount) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+
+        // 비트 마스크로 stripe 를 고르기 위해 2의 거듭제곱으로 맞춘다
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(i);
+        }
+        this.stripeMask = size - 1;
+
+        if (enabled) {
+            try {
+                Files.createDirectories(this.directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("장바구니 redo 로그를 열 수 없습니다: " + directory, e);
+            }
+            this.activeSequence = listSegments().stream().mapToLong(Segment::sequence).max().orElse(0L) + 1;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void append(CartSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        Stripe stripe = stripeOf(snapshot.userId());
+        stripe.lock.lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(format(snapshot).getBytes(StandardCharsets.UTF_8));
+            FileChannel channel = stripe.channel();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            stripe.hasRecords = true;
+        } catch (IOException e) {
+            // 메모리 상태는 이미 바뀌었으므로 요청은 실패시키지 않는다 (DB 반영 전 장애 시 유실 가능)
+            log.error("장바구니 redo 로그 기록 실패 - 사용자ID: {}", snapshot.userId(), e);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 현재 세그먼트를 디스크에 동기화
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                if (stripe.hasRecords) {
+                    stripe.active.force(false);
+                }
+            } catch (IOException e) {
+                log.error("장바구니 redo 로그 동기화 실패 - stripe: {}", stripe.index, e);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트로 전환한다.
+     * 반환값보다 작은 번호의 세그먼트는 더 이상 기록되지 않는다.
+     */
+    public long rotate() {
+        if (!enabled) {
+            return activeSequence;
+        }
+        lockAll();
+        try {
+            boolean hasRecords = false;
+            for (Stripe stripe : stripes) {
+                hasRecords |= stripe.hasRecords;
+            }
+            if (!hasRecords) {
+                return activeSequence;
+            }
+            for (Stripe stripe : stripes) {
+                try {
+                    stripe.closeActive();
+                } catch (IOException e) {
+                    log.error("장바구니 redo 로그 세그먼트 전환 실패 - stripe: {}", stripe.index, e);
+                }
+            }
+            // 새 세그먼트 파일은 stripe 마다 첫 기록 때 연다
+            activeSequence++;
+            return activeSequence;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // DB 반영이 끝난 세그먼트 삭제
+    public void deleteSegmentsBefore(long sequence) {
+        if (!enabled) {
+            return;
+        }
+        for (Segment segment : listSegments()) {
+            if (segment.sequence() < sequence) {
+                try {
+                    Files.deleteIfExists(segment.path());
+                } catch (IOException e) {
+                    log.warn("장바구니 redo 로그 세그먼트 삭제 실패 - {}", segment.path().getFileName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 지정한 번호 이전 세그먼트를 순서대로 읽어 사용자별 마지막 상태를 돌려준다.
+     * 줄바꿈으로 끝난 줄만 완전히 기록된 것으로 본다. 비정상 종료로 잘린 마지막 줄은 "42\t7\t10:3" 처럼
+     * 형식상 올바를 수 있으므로(수량이나 항목 일부만 남음) 내용과 관계없이 건너뛴다.
+     */
+    public Map<Long, Entry> readSegmentsBefore(long sequence) {
+        Map<Long, Entry> latest = new LinkedHashMap<>();
+        if (!enabled) {
+            return latest;
+        }
+
+        List<Segment> segments = listSegments().stream().filter(s -> s.sequence() < sequence).toList();
+        for (Segment segment : segments) {
+            String content;
+            try {
+                content = Files.readString(segment.path(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("장바구니 redo 로그를 읽을 수 없습니다: " + segment.path(), e);
+            }
+            int start = 0;
+            int end;
+            while ((end = content.indexOf('\n', start)) >= 0) {
+                Entry entry = parse(content.substring(start, end));
+                start = end + 1;
+                if (entry == null) {
+                    log.warn("장바구니 redo 로그의 손상된 줄을 건너뜁니다 - 세그먼트: {}", segment.path().getFileName());
+                    continue;
+                }
+                latest.put(entry.userId(), entry);
+            }
+            if (start < content.length()) {
+                log.warn("장바구니 redo 로그의 잘린 마지막 줄을 건너뜁니다 - 세그먼트: {}, {}바이트",
+                        segment.path().getFileName(), content.substring(start).getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+        return latest;
+    }
+
+    public long currentSequence() {
+        return activeSequence;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        lockAll();
+        try {
+            for (Stripe stripe : stripes) {
+                try {
+                    stripe.closeActive();
+                } catch (IOException e) {
+                    log.warn("장바구니 redo 로그 종료 실패 - stripe: {}", stripe.index, e);
+                }
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // 형식: userId \t restaurantId \t menuId:quantity,menuId:quantity
+    static String format(CartSnapshot snapshot) {
+        StringBuilder sb = new StringBuilder(32 + snapshot.items().size() * 16);
+        sb.append(snapshot.userId()).append('\t');
+        sb.append(snapshot.restaurant() != null ? snapshot.restaurant().restaurantId().toString() : EMPTY_RESTAURANT);
+        sb.append('\t');
+        for (int i = 0; i < snapshot.items().size(); i++) {
+            CartSnapshot.Item item = snapshot.items().get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(item.menu().menuId()).append(':').append(item.quantity());
+        }
+        return sb.append('\n').toString();
+    }
+
+    static Entry parse(String line) {
+        String[] parts = line.split("\t", -1);
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            Long userId = Long.valueOf(parts[0]);
+            Long restaurantId = EMPTY_RESTAURANT.equals(parts[1]) ? null : Long.valueOf(parts[1]);
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            if (!parts[2].isEmpty()) {
+                for (String item : parts[2].split(",")) {
+                    int separator = item.indexOf(':');
+                    if (separator < 0) {
+                        return null;
+                    }
+                    quantities.put(Long.valueOf(item.substring(0, separator)),
+                            Integer.valueOf(item.substring(separator + 1)));
+                }
+            }
+            return new Entry(userId, restaurantId, quantities);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Stripe stripeOf(Long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L; // CartStore 의 샤드 선택과 같은 방식으로 섞는다
+        return stripes[(int) (h >>> 32) & stripeMask];
+    }
+
+    // 전환/종료 때만 쓰며, 항상 같은 순서로 잠가 교착을 피한다
+    private void lockAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].lock.unlock();
+        }
+    }
+
+    // 파일명: cart-redo-{세그먼트 번호}-{stripe}.log
+    private Path segmentPath(long sequence, int stripe) {
+        return directory.resolve(String.format("%s%020d-%03d%s", SEGMENT_PREFIX, sequence, stripe, SEGMENT_SUFFIX));
+    }
+
+    // 세그먼트 번호 순 (같은 번호는 stripe 순)
+    private List<Segment> listSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .map(path -> {
+                        String name = path.getFileName().toString();
+                        int end = name.indexOf('-', SEGMENT_PREFIX.length());
+                        return new Segment(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                                end >= 0 ? end : name.length() - SEGMENT_SUFFIX.length())), path);
+                    })
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("장바구니 redo 로그 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private final class Stripe {
+
+        private final int index;
+        private final ReentrantLock lock = new ReentrantLock();
+        private FileChannel active;         // 현재 세그먼트에 첫 기록이 생길 때 연다
+        private boolean hasRecords;
+
+        Stripe(int index) {
+            this.index = index;
+        }
+
+        FileChannel channel() throws IOException {
+            if (active == null) {
+                active = FileChannel.open(segmentPath(activeSequence, index),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            return active;
+        }
+
+        void closeActive() throws IOException {
+            if (active == null) {
+                return;
+            }
+            try {
+                active.force(false);
+                active.close();
+            } finally {
+                active = null;
+                hasRecords = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+
+/**
+ * 장바구니 응답 구성에 필요한 레스토랑 정보
+ */
+public record CartRestaurantSnapshot(
+        Long restaurantId,
+        String name,
+        Integer minimumOrderAmount,
+        Integer deliveryFee
+) {
+    public static CartRestaurantSnapshot from(Restaurant restaurant) {
+        return new CartRestaurantSnapshot(
+                restaurant.getId(),
+                restaurant.getName(),
+                restaurant.getMinimumOrderAmount(),
+                restaurant.getDeliveryFee());
+    }
+}
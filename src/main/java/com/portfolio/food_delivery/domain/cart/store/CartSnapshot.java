@@ -0,0 +1,41 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import java.util.List;
+
+/**
+ * 특정 시점의 장바구니 상태 (불변)
+ * 응답 생성과 write-behind 저장에 사용한다.
+ */
+public record CartSnapshot(
+        Long userId,
+        Long cartId,
+        CartRestaurantSnapshot restaurant,
+        List<Item> items
+) {
+
+    public record Item(CartMenuSnapshot menu, int quantity) {
+        public int getSubtotal() {
+            return menu.price() * quantity;
+        }
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public int getTotalAmount() {
+        int total = 0;
+        for (Item item : items) {
+            total += item.getSubtotal();
+        }
+        return total;
+    }
+
+    public int getTotalQuantity() {
+        int total = 0;
+        for (Item item : items) {
+            total += item.quantity();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,333 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import com.portfolio.food_delivery.domain.cart.entity.Cart;
+import com.portfolio.food_delivery.domain.cart.exception.CartItemNotFoundException;
+import com.portfolio.food_delivery.domain.cart.exception.CartNotFoundException;
+import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.user.exception.UserNotFoundException;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 사용자별 장바구니를 메모리에 보관하는 저장소
+ *
+ * - userId 기준으로 샤드를 나누고, 샤드마다 DB 반영 대상(dirty) 사용자 집합을 따로 관리한다.
+ * - 처음 접근할 때만 DB에서 읽어오고, 이후 변경은 메모리에만 반영한 뒤 redo 로그에 기록한다.
+ * - DB 반영은 CartWriteBehindFlusher 가 주기적으로 모아서 한다.
+ * - 헤더 뱃지용 항목 수는 메모리에서 내린 장바구니까지 샤드별 카운터에 남겨 DB를 다시 읽지 않는다.
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final int COUNTER_MAX_ENTRIES_PER_SHARD = 1 << 16;
+
+    private final CartRepository cartRepository;
+    private final UserRepository userRepository;
+    private final CartRedoLog redoLog;
+
+    private final ConcurrentHashMap<Long, LiveCart>[] shards;
+    private final Set<Long>[] dirtyUsers;
+    private final CartItemCounter[] counters;
+    private final int shardMask;
+
+    @SuppressWarnings("unchecked")
+    public CartStore(CartRepository cartRepository,
+                     UserRepository userRepository,
+                     CartRedoLog redoLog,
+                     @Value("${cart.store.shards:64}") int shardCount) {
+        this.cartRepository = cartRepository;
+        this.userRepository = userRepository;
+        this.redoLog = redoLog;
+
+        // 비트 마스크로 샤드를 고르기 위해 2의 거듭제곱으로 맞춘다
+        int size = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1;
+        this.shards = new ConcurrentHashMap[size];
+        this.dirtyUsers = new Set[size];
+        this.counters = new CartItemCounter[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+            dirtyUsers[i] = ConcurrentHashMap.newKeySet();
+            counters[i] = new CartItemCounter(COUNTER_MAX_ENTRIES_PER_SHARD);
+        }
+        this.shardMask = size - 1;
+    }
+
+    // ===== 조회 =====
+
+    public Optional<CartSnapshot> find(Long userId) {
+        return withCart(userId, cart -> cart.exists() ? Optional.of(cart.snapshot()) : Optional.empty());
+    }
+
+    /**
+     * 장바구니 항목 수
+     * 메모리의 장바구니 → 카운터 → DB COUNT 순으로 확인하며, 장바구니 전체를 읽어오지는 않는다.
+     */
+    public int countItems(Long userId) {
+        LiveCart cart = shardOf(userId).get(userId);
+        if (cart != null) {
+            synchronized (cart) {
+                if (!cart.isEvicted()) {
+                    cart.touch();
+                    return cart.exists() ? cart.size() : 0;
+                }
+            }
+        }
+
+        CartItemCounter counter = counterOf(userId);
+        synchronized (counter) {
+            int count = counter.get(userId);
+            if (count != CartItemCounter.MISSING) {
+                return count;
+            }
+        }
+
+        // 메모리에 없는 장바구니는 DB 반영이 끝난 상태이므로 DB 값이 최신이다
+        Integer saved = cartRepository.countItemsByUserId(userId);
+        synchronized (counter) {
+            return counter.putIfAbsent(userId, saved != null ? saved : 0);
+        }
+    }
+
+    // ===== 변경 =====
+
+    public CartSnapshot addItem(Long userId, CartRestaurantSnapshot restaurant, CartMenuSnapshot menu, int quantity) {
+        return mutate(userId, true, cart -> cart.add(restaurant, menu, quantity));
+    }
+
+    public CartSnapshot updateItemQuantity(Long userId, Long menuId, int quantity) {
+        return mutate(userId, false, cart -> {
+            if (!cart.contains(menuId)) {
+                throw new CartItemNotFoundException("장바구니에 해당 메뉴가 없습니다.");
+            }
+            cart.setQuantity(menuId, quantity);
+        });
+    }
+
+    public CartSnapshot removeItem(Long userId, Long menuId) {
+        return mutate(userId, false, cart -> cart.remove(menuId));
+    }
+
+    public CartSnapshot removeItems(Long userId, Collection<Long> menuIds) {
+        return mutate(userId, false, cart -> menuIds.forEach(cart::remove));
+    }
+
+    public void clear(Long userId) {
+        mutate(userId, false, LiveCart::clear);
+    }
+
+    // 최신 메뉴 정보 반영 (수량 변화가 없으므로 DB 반영 대상이 아님)
+    public void refreshMenus(Long userId, Collection<CartMenuSnapshot> menus) {
+        withCart(userId, cart -> {
+            menus.forEach(cart::refreshMenu);
+            return null;
+        });
+    }
+
+    // redo 로그 재실행 시 장바구니 상태를 통째로 복원
+    public void restore(Long userId, CartRestaurantSnapshot restaurant, List<CartSnapshot.Item> items) {
+        withCart(userId, cart -> {
+            cart.replace(restaurant, items);
+            cart.markExists();
+            markDirty(cart);
+            updateCount(cart);
+            return null;
+        });
+    }
+
+    // ===== write-behind 연동 =====
+
+    /**
+     * DB 반영 대상 장바구니를 꺼낸다.
+     * 꺼낸 장바구니는 저장이 끝날 때까지 메모리에서 제거되지 않는다.
+     */
+    public List<CartSnapshot> drainDirty() {
+        List<CartSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < shards.length; i++) {
+            Iterator<Long> iterator = dirtyUsers[i].iterator();
+            while (iterator.hasNext()) {
+                Long userId = iterator.next();
+                iterator.remove();
+
+                LiveCart cart = shards[i].get(userId);
+                if (cart == null) {
+                    continue;
+                }
+                synchronized (cart) {
+                    if (cart.isEvicted() || !cart.isDirty()) {
+                        continue;
+                    }
+                    cart.setDirty(false);
+                    cart.setFlushing(true);
+                    snapshots.add(cart.snapshot());
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    public void markPersisted(Long userId, Long cartId) {
+        LiveCart cart = shardOf(userId).get(userId);
+        if (cart == null) {
+            return;
+        }
+        synchronized (cart) {
+            cart.setCartId(cartId);
+            cart.setFlushing(false);
+        }
+    }
+
+    // 일시적인 저장 실패 - 다음 주기에 다시 시도
+    public void markFailed(Long userId) {
+        LiveCart cart = shardOf(userId).get(userId);
+        if (cart == null) {
+            return;
+        }
+        synchronized (cart) {
+            cart.setFlushing(false);
+            markDirty(cart);
+        }
+    }
+
+    // 저장할 수 없는 장바구니 (예: 사용자 삭제) - 메모리 상태를 버리고 DB를 기준으로 다시 읽게 한다
+    public void discard(Long userId) {
+        LiveCart cart = shardOf(userId).remove(userId);
+        if (cart != null) {
+            synchronized (cart) {
+                cart.markEvicted();
+            }
+        }
+        CartItemCounter counter = counterOf(userId);
+        synchronized (counter) {
+            counter.remove(userId);
+        }
+    }
+
+    // 오래 접근하지 않은 장바구니 중 DB에 반영이 끝난 것만 메모리에서 내린다
+    public int evictIdle(Duration idleTimeout) {
+        long threshold = System.nanoTime() - idleTimeout.toNanos();
+        int evicted = 0;
+        for (ConcurrentHashMap<Long, LiveCart> shard : shards) {
+            for (LiveCart cart : shard.values()) {
+                synchronized (cart) {
+                    if (cart.isDirty() || cart.isFlushing() || cart.getLastAccessNanos() - threshold > 0) {
+                        continue;
+                    }
+                    // 뱃지 조회가 DB로 가지 않도록 항목 수는 남겨둔다
+                    updateCount(cart);
+                    cart.markEvicted();
+                    shard.remove(cart.getUserId(), cart);
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<Long, LiveCart> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    // ===== 내부 =====
+
+    private CartSnapshot mutate(Long userId, boolean createIfAbsent, Consumer<LiveCart> mutation) {
+        return withCart(userId, cart -> {
+            if (!cart.exists()) {
+                if (!createIfAbsent) {
+                    throw new CartNotFoundException("장바구니를 찾을 수 없습니다.");
+                }
+                cart.markExists();
+            }
+
+            mutation.accept(cart);
+
+            // dirty 표시 후 로그 기록 (세그먼트 전환 이후 drain 이 이 변경을 놓치지 않도록)
+            CartSnapshot snapshot = cart.snapshot();
+            markDirty(cart);
+            updateCount(cart);
+            redoLog.append(snapshot);
+            return snapshot;
+        });
+    }
+
+    private <T> T withCart(Long userId, Function<LiveCart, T> action) {
+        while (true) {
+            LiveCart cart = load(userId);
+            synchronized (cart) {
+                if (cart.isEvicted()) {
+                    continue; // 잡기 직전에 제거됨 - 다시 조회
+                }
+                cart.touch();
+                return action.apply(cart);
+            }
+        }
+    }
+
+    private LiveCart load(Long userId) {
+        ConcurrentHashMap<Long, LiveCart> shard = shardOf(userId);
+        LiveCart cart = shard.get(userId);
+        if (cart != null) {
+            return cart;
+        }
+
+        // DB 조회는 맵 잠금 밖에서 하고, 동시에 로딩된 경우 먼저 들어간 것을 쓴다
+        LiveCart loaded = hydrate(userId);
+        LiveCart existing = shard.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private LiveCart hydrate(Long userId) {
+        LiveCart cart = new LiveCart(userId);
+        Optional<Cart> entity = cartRepository.findByUserIdWithItems(userId);
+
+        if (entity.isPresent()) {
+            Cart saved = entity.get();
+            List<CartSnapshot.Item> items = saved.getCartItems().stream()
+                    .map(item -> new CartSnapshot.Item(CartMenuSnapshot.from(item.getMenu()), item.getQuantity()))
+                    .toList();
+            cart.replace(saved.getRestaurant() != null ? CartRestaurantSnapshot.from(saved.getRestaurant()) : null,
+                    items);
+            cart.setCartId(saved.getId());
+        } else if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return cart;
+    }
+
+    private void markDirty(LiveCart cart) {
+        cart.setDirty(true);
+        dirtyUsers[shardIndex(cart.getUserId())].add(cart.getUserId());
+    }
+
+    private void updateCount(LiveCart cart) {
+        CartItemCounter counter = counterOf(cart.getUserId());
+        synchronized (counter) {
+            counter.put(cart.getUserId(), cart.exists() ? cart.size() : 0);
+        }
+    }
+
+    private CartItemCounter counterOf(Long userId) {
+        return counters[shardIndex(userId)];
+    }
+
+    private ConcurrentHashMap<Long, LiveCart> shardOf(Long userId) {
+        return shards[shardIndex(userId)];
+    }
+
+    private int shardIndex(Long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L; // 연속된 ID가 고르게 퍼지도록 섞는다
+        return (int) (h >>> 32) & shardMask;
+    }
+}
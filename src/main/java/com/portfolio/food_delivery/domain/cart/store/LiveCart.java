@@ -0,0 +1,205 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 메모리에 올라와 있는 한 사용자의 장바구니
+ * menuId → 수량을 박싱 없는 배열로 보관한다. 장바구니는 보통 수십 개 이하라 선형 탐색이 해시보다 빠르다.
+ * 모든 접근은 CartStore 가 이 객체의 모니터를 잡은 상태에서만 한다.
+ */
+class LiveCart {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final Long userId;
+    private Long cartId;          // DB 행 ID (아직 저장 전이면 null)
+    private boolean exists;       // DB에 행이 있거나 이번 실행 중에 생성된 장바구니인지
+    private CartRestaurantSnapshot restaurant;
+
+    private long[] menuIds = new long[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private CartMenuSnapshot[] menus = new CartMenuSnapshot[INITIAL_CAPACITY];
+    private int size;
+
+    private boolean dirty;        // DB에 반영되지 않은 변경이 있는지
+    private boolean flushing;     // write-behind 저장이 진행 중인지
+    private boolean evicted;      // 스토어에서 제거되었는지 (제거된 객체를 잡은 요청은 다시 조회해야 함)
+    private long lastAccessNanos;
+
+    LiveCart(Long userId) {
+        this.userId = userId;
+        touch();
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    Long getCartId() {
+        return cartId;
+    }
+
+    void setCartId(Long cartId) {
+        this.cartId = cartId;
+        this.exists = true;
+    }
+
+    boolean exists() {
+        return exists;
+    }
+
+    void markExists() {
+        this.exists = true;
+    }
+
+    CartRestaurantSnapshot getRestaurant() {
+        return restaurant;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
+    boolean isFlushing() {
+        return flushing;
+    }
+
+    void setFlushing(boolean flushing) {
+        this.flushing = flushing;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void markEvicted() {
+        this.evicted = true;
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    // 메뉴 추가 (같은 메뉴면 수량 합산, 다른 레스토랑 메뉴면 기존 장바구니 비우기)
+    void add(CartRestaurantSnapshot restaurant, CartMenuSnapshot menu, int quantity) {
+        if (this.restaurant != null && !this.restaurant.restaurantId().equals(restaurant.restaurantId())) {
+            clear();
+        }
+        this.restaurant = restaurant;
+
+        int index = indexOf(menu.menuId());
+        if (index >= 0) {
+            quantities[index] += quantity;
+            menus[index] = menu;
+        } else {
+            append(menu, quantity);
+        }
+    }
+
+    boolean contains(long menuId) {
+        return indexOf(menuId) >= 0;
+    }
+
+    // 수량 변경 (0 이하이면 삭제)
+    void setQuantity(long menuId, int quantity) {
+        int index = indexOf(menuId);
+        if (index < 0) {
+            return;
+        }
+        if (quantity <= 0) {
+            removeAt(index);
+        } else {
+            quantities[index] = quantity;
+        }
+    }
+
+    void remove(long menuId) {
+        int index = indexOf(menuId);
+        if (index >= 0) {
+            removeAt(index);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(menus, 0, size, null);
+        size = 0;
+        restaurant = null;
+    }
+
+    // 메뉴 정보 갱신 (가격 변경 등 반영)
+    void refreshMenu(CartMenuSnapshot menu) {
+        int index = indexOf(menu.menuId());
+        if (index >= 0) {
+            menus[index] = menu;
+        }
+    }
+
+    // 복구 또는 DB 로딩 시 상태를 통째로 교체
+    void replace(CartRestaurantSnapshot restaurant, List<CartSnapshot.Item> items) {
+        clear();
+        for (CartSnapshot.Item item : items) {
+            append(item.menu(), item.quantity());
+        }
+        this.restaurant = size == 0 ? null : restaurant;
+    }
+
+    CartSnapshot snapshot() {
+        List<CartSnapshot.Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new CartSnapshot.Item(menus[i], quantities[i]));
+        }
+        return new CartSnapshot(userId, cartId, restaurant, List.copyOf(items));
+    }
+
+    private int indexOf(long menuId) {
+        for (int i = 0; i < size; i++) {
+            if (menuIds[i] == menuId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void append(CartMenuSnapshot menu, int quantity) {
+        if (size == menuIds.length) {
+            int newCapacity = size * 2;
+            menuIds = Arrays.copyOf(menuIds, newCapacity);
+            quantities = Arrays.copyOf(quantities, newCapacity);
+            menus = Arrays.copyOf(menus, newCapacity);
+        }
+        menuIds[size] = menu.menuId();
+        quantities[size] = quantity;
+        menus[size] = menu;
+        size++;
+    }
+
+    // 담은 순서를 유지하기 위해 뒤쪽 원소를 앞으로 당긴다
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(menuIds, index + 1, menuIds, index, moved);
+            System.arraycopy(quantities, index + 1, quantities, index, moved);
+            System.arraycopy(menus, index + 1, menus, index, moved);
+        }
+        size--;
+        menus[size] = null;
+
+        if (size == 0) {
+            restaurant = null;
+        }
+    }
+}
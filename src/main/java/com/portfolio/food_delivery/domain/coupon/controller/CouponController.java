@@ -0,0 +1,63 @@
+package com.portfolio.food_delivery.domain.coupon.controller;
+
+import com.portfolio.food_delivery.domain.coupon.dto.CouponCreateRequest;
+import com.portfolio.food_delivery.domain.coupon.dto.CouponResponse;
+import com.portfolio.food_delivery.domain.coupon.service.CouponService;
+import com.portfolio.food_delivery.presentation.advice.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Coupons", description = "쿠폰 관련 API")
+@RestController
+@RequiredArgsConstructor
+public class CouponController {
+
+    private final CouponService couponService;
+
+    @Operation(summary = "쿠폰 등록",
+            description = "정액/정률 할인 쿠폰을 등록합니다. 레스토랑 전용, 첫 주문 전용, 발급 한도를 지정할 수 있습니다. 관리자만 등록 가능합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "쿠폰 등록 성공",
+                    content = @Content(schema = @Schema(implementation = CouponResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 중복된 쿠폰 코드",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "레스토랑을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/api/admin/coupons")
+    public ResponseEntity<CouponResponse> createCoupon(
+            @Parameter(description = "쿠폰 등록 정보", required = true)
+            @Valid @RequestBody CouponCreateRequest request) {
+        CouponResponse response = couponService.createCoupon(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "쿠폰 조회", description = "쿠폰 코드로 할인 조건과 남은 수량을 조회합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CouponResponse.class))),
+            @ApiResponse(responseCode = "404", description = "쿠폰을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/api/coupons/{code}")
+    public ResponseEntity<CouponResponse> getCoupon(
+            @Parameter(description = "쿠폰 코드", required = true, example = "WELCOME3000")
+            @PathVariable String code) {
+        return ResponseEntity.ok(couponService.getCoupon(code));
+    }
+}
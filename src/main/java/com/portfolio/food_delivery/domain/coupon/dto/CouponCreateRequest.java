@@ -0,0 +1,61 @@
+package com.portfolio.food_delivery.domain.coupon.dto;
+
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "쿠폰 등록 요청")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponCreateRequest {
+
+    @Schema(description = "쿠폰 코드", example = "WELCOME3000", required = true)
+    @NotBlank(message = "쿠폰 코드는 필수입니다.")
+    @Pattern(regexp = "^[A-Z0-9_-]{4,30}$", message = "쿠폰 코드는 영문 대문자, 숫자, -, _ 로 4자 이상 30자 이하여야 합니다.")
+    private String code;
+
+    @Schema(description = "쿠폰 이름", example = "첫 주문 3,000원 할인", required = true)
+    @NotBlank(message = "쿠폰 이름은 필수입니다.")
+    @Size(max = 100, message = "쿠폰 이름은 100자 이하여야 합니다.")
+    private String name;
+
+    @Schema(description = "할인 방식", example = "FIXED", required = true)
+    @NotNull(message = "할인 방식은 필수입니다.")
+    private DiscountType discountType;
+
+    @Schema(description = "할인 값 (정액은 원, 정률은 %)", example = "3000", required = true)
+    @NotNull(message = "할인 값은 필수입니다.")
+    @Min(value = 1, message = "할인 값은 1 이상이어야 합니다.")
+    private Integer discountValue;
+
+    @Schema(description = "최대 할인 금액 (정률 할인)", example = "5000")
+    @Min(value = 1, message = "최대 할인 금액은 1원 이상이어야 합니다.")
+    private Integer maxDiscountAmount;
+
+    @Schema(description = "최소 주문 금액", example = "15000")
+    @Min(value = 0, message = "최소 주문 금액은 0원 이상이어야 합니다.")
+    private Integer minimumOrderAmount;
+
+    @Schema(description = "사용 가능한 레스토랑 ID (비우면 전체)", example = "1")
+    private Long restaurantId;
+
+    @Schema(description = "첫 주문 전용 여부", example = "true")
+    private boolean firstOrderOnly;
+
+    @Schema(description = "발급 한도 (비우면 무제한)", example = "1000")
+    @Min(value = 1, message = "발급 한도는 1 이상이어야 합니다.")
+    private Integer totalQuantity;
+
+    @Schema(description = "사용 시작일시", example = "2025-01-15T00:00:00", required = true)
+    @NotNull(message = "사용 시작일시는 필수입니다.")
+    private LocalDateTime validFrom;
+
+    @Schema(description = "사용 종료일시 (미포함)", example = "2025-02-15T00:00:00", required = true)
+    @NotNull(message = "사용 종료일시는 필수입니다.")
+    private LocalDateTime validUntil;
+}
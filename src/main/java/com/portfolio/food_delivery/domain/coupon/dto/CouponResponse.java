@@ -0,0 +1,76 @@
+package com.portfolio.food_delivery.domain.coupon.dto;
+
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+import com.portfolio.food_delivery.domain.coupon.store.CouponRule;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "쿠폰 응답")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponResponse {
+
+    @Schema(description = "쿠폰 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "쿠폰 코드", example = "WELCOME3000")
+    private String code;
+
+    @Schema(description = "쿠폰 이름", example = "첫 주문 3,000원 할인")
+    private String name;
+
+    @Schema(description = "할인 방식", example = "FIXED")
+    private DiscountType discountType;
+
+    @Schema(description = "할인 값 (정액은 원, 정률은 %)", example = "3000")
+    private Integer discountValue;
+
+    @Schema(description = "최대 할인 금액 (정률 할인)", example = "5000")
+    private Integer maxDiscountAmount;
+
+    @Schema(description = "최소 주문 금액", example = "15000")
+    private Integer minimumOrderAmount;
+
+    @Schema(description = "사용 가능한 레스토랑 ID (전체면 null)", example = "1")
+    private Long restaurantId;
+
+    @Schema(description = "첫 주문 전용 여부", example = "true")
+    private boolean firstOrderOnly;
+
+    @Schema(description = "발급 한도 (무제한이면 null)", example = "1000")
+    private Integer totalQuantity;
+
+    @Schema(description = "남은 수량 (무제한이면 null)", example = "742")
+    private Long remainingQuantity;
+
+    @Schema(description = "사용 시작일시", example = "2025-01-15T00:00:00")
+    private LocalDateTime validFrom;
+
+    @Schema(description = "사용 종료일시", example = "2025-02-15T00:00:00")
+    private LocalDateTime validUntil;
+
+    public static CouponResponse from(CouponRule rule, Long remainingQuantity) {
+        return CouponResponse.builder()
+                .id(rule.couponId())
+                .code(rule.code())
+                .name(rule.name())
+                .discountType(rule.discountType())
+                .discountValue(rule.discountValue())
+                .maxDiscountAmount(rule.maxDiscountAmount())
+                .minimumOrderAmount(rule.minimumOrderAmount())
+                .restaurantId(rule.restaurantId())
+                .firstOrderOnly(rule.firstOrderOnly())
+                .totalQuantity(rule.totalQuantity())
+                .remainingQuantity(remainingQuantity)
+                .validFrom(rule.validFrom())
+                .validUntil(rule.validUntil())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.portfolio.food_delivery.domain.coupon.entity;
+
+import com.portfolio.food_delivery.common.entity.BaseEntity;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "coupons", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupons_code", columnNames = "code")
+}, indexes = {
+        @Index(name = "idx_coupons_valid_until", columnList = "valid_until")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Coupon extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String code;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DiscountType discountType;
+
+    // 정액이면 원, 정률이면 %
+    @Column(nullable = false)
+    private Integer discountValue;
+
+    // 정률 할인의 최대 할인 금액 (null 이면 제한 없음)
+    private Integer maxDiscountAmount;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer minimumOrderAmount = 0;
+
+    // 특정 레스토랑 전용 쿠폰 (null 이면 전체 레스토랑)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id")
+    private Restaurant restaurant;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean firstOrderOnly = false;
+
+    // 발급 한도 (null 이면 무제한)
+    private Integer totalQuantity;
+
+    // 결제 완료된 사용 수 - 메모리의 카운터를 주기적으로 묶어서 반영한다
+    @Column(nullable = false)
+    @Builder.Default
+    private Long redeemedCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(nullable = false)
+    private LocalDateTime validUntil;
+}
@@ -0,0 +1,13 @@
+package com.portfolio.food_delivery.domain.coupon.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DiscountType {
+    FIXED("정액 할인"),
+    PERCENT("정률 할인");
+
+    private final String description;
+}
@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.coupon.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class CouponAlreadyUsedException extends BusinessException {
+
+    public CouponAlreadyUsedException(String message) {
+        super(ErrorCode.COUPON_ALREADY_USED, message);
+    }
+}
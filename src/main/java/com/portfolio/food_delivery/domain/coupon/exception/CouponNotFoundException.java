@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.coupon.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class CouponNotFoundException extends BusinessException {
+
+    public CouponNotFoundException(String message) {
+        super(ErrorCode.COUPON_NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.coupon.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class CouponSoldOutException extends BusinessException {
+
+    public CouponSoldOutException(String message) {
+        super(ErrorCode.COUPON_SOLD_OUT, message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.coupon.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class InvalidCouponException extends BusinessException {
+
+    public InvalidCouponException(String message) {
+        super(ErrorCode.INVALID_COUPON, message);
+    }
+}
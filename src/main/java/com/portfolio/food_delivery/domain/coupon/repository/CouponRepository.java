@@ -0,0 +1,27 @@
+package com.portfolio.food_delivery.domain.coupon.repository;
+
+import com.portfolio.food_delivery.domain.coupon.entity.Coupon;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CouponRepository extends JpaRepository<Coupon, Long> {
+
+    Optional<Coupon> findByCode(String code);
+
+    boolean existsByCode(String code);
+
+    List<Coupon> findAllByValidUntilAfter(LocalDateTime dateTime);
+
+    // 메모리에서 센 사용 수를 차이만큼 반영 (행을 읽지 않고 UPDATE 한 번)
+    @Modifying
+    @Query("UPDATE Coupon c SET c.redeemedCount = c.redeemedCount + :delta WHERE c.id = :id")
+    int addRedeemedCount(@Param("id") Long id, @Param("delta") long delta);
+}
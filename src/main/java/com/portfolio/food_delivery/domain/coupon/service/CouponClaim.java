@@ -0,0 +1,14 @@
+package com.portfolio.food_delivery.domain.coupon.service;
+
+import com.portfolio.food_delivery.domain.coupon.entity.Coupon;
+
+/**
+ * 주문에 적용된 쿠폰 (수량을 하나 확보한 상태)
+ * @param coupon 주문에 연결할 엔티티 참조 (프록시라 SELECT 가 나가지 않는다)
+ */
+public record CouponClaim(Coupon coupon, Long userId, int discountAmount) {
+
+    public Long couponId() {
+        return coupon.getId();
+    }
+}
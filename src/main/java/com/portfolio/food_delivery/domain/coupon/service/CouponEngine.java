@@ -0,0 +1,89 @@
+package com.portfolio.food_delivery.domain.coupon.service;
+
+import com.portfolio.food_delivery.domain.coupon.store.CouponLedger;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 쿠폰 장부 유지
+ *
+ * - 커밋된 주문 상태 변경으로 사용을 확정(결제 PENDING -> CONFIRMED)하거나 되돌린다(취소).
+ * - 결제하지 않고 예약 시간이 지난 수량을 주기적으로 반납한다.
+ * - 사용 확정 수를 coupons.redeemed_count 에 묶어서 반영한다. 결제마다 같은 행을 UPDATE 하지 않으므로
+ *   선착순 쿠폰에 결제가 몰려도 행 잠금 경합이 생기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponEngine {
+
+    private final CouponLedger couponLedger;
+    private final CouponService couponService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = couponService.loadActiveCoupons();
+        log.info("쿠폰 장부 초기화 - 쿠폰 {}개, 결제 대기 예약 {}건", loaded, couponLedger.holdCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.couponId() == null) {
+            return;
+        }
+        if (event.previousStatus() == OrderStatus.PENDING && event.status() == OrderStatus.CONFIRMED) {
+            couponLedger.confirm(event.orderId(), event.couponId());
+        } else if (event.status() == OrderStatus.CANCELLED) {
+            couponLedger.cancel(event.orderId(), event.couponId(), event.previousStatus() != OrderStatus.PENDING);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.reservation.sweep-interval-ms:30000}")
+    public void releaseExpiredHolds() {
+        int released = couponLedger.releaseExpired(LocalDateTime.now());
+        if (released > 0) {
+            log.info("결제되지 않은 쿠폰 예약 {}건을 반납했습니다.", released);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 사용 확정 수의 변화를 DB 에 반영한다. 실패하면 차이가 그대로 남아 다음 주기에 다시 반영된다.
+     * @return 반영할 것이 없거나 반영에 성공했으면 true
+     */
+    public synchronized boolean flush() {
+        Map<Long, Long> deltas = couponLedger.unpersistedRedemptions();
+        if (deltas.isEmpty()) {
+            return true;
+        }
+        try {
+            couponService.applyRedeemedDeltas(deltas);
+            couponLedger.markPersisted(deltas);
+            log.debug("쿠폰 {}개의 사용 수를 DB에 반영했습니다.", deltas.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 사용 수 반영 실패, 다음 주기에 재시도합니다 - 쿠폰 {}개", deltas.size(), e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
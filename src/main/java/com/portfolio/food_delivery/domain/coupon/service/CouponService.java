@@ -0,0 +1,198 @@
+package com.portfolio.food_delivery.domain.coupon.service;
+
+import com.portfolio.food_delivery.domain.coupon.dto.CouponCreateRequest;
+import com.portfolio.food_delivery.domain.coupon.dto.CouponResponse;
+import com.portfolio.food_delivery.domain.coupon.entity.Coupon;
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+import com.portfolio.food_delivery.domain.coupon.exception.*;
+import com.portfolio.food_delivery.domain.coupon.repository.CouponRepository;
+import com.portfolio.food_delivery.domain.coupon.store.CouponLedger;
+import com.portfolio.food_delivery.domain.coupon.store.CouponRule;
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponService {
+
+    // 결제까지 끝나지 않은 주문 상태 - 이 상태의 주문은 사용 수에 넣지 않는다
+    private static final Set<OrderStatus> UNREDEEMED_STATUSES = EnumSet.of(OrderStatus.PENDING, OrderStatus.CANCELLED);
+
+    private final CouponRepository couponRepository;
+    private final OrderRepository orderRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final CouponLedger couponLedger;
+
+    @Transactional
+    public CouponResponse createCoupon(CouponCreateRequest request) {
+        if (couponRepository.existsByCode(request.getCode())) {
+            throw new CouponCodeDuplicationException("이미 사용 중인 쿠폰 코드입니다.");
+        }
+        if (request.getDiscountType() == DiscountType.PERCENT && request.getDiscountValue() > 100) {
+            throw new InvalidCouponException("정률 할인은 100% 를 넘을 수 없습니다.");
+        }
+        if (!request.getValidFrom().isBefore(request.getValidUntil())) {
+            throw new InvalidCouponException("사용 시작일시는 종료일시보다 이전이어야 합니다.");
+        }
+
+        Restaurant restaurant = null;
+        if (request.getRestaurantId() != null) {
+            restaurant = restaurantRepository.findById(request.getRestaurantId())
+                    .orElseThrow(() -> new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다."));
+        }
+
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .code(request.getCode())
+                .name(request.getName())
+                .discountType(request.getDiscountType())
+                .discountValue(request.getDiscountValue())
+                .maxDiscountAmount(request.getMaxDiscountAmount())
+                .minimumOrderAmount(request.getMinimumOrderAmount() != null ? request.getMinimumOrderAmount() : 0)
+                .restaurant(restaurant)
+                .firstOrderOnly(request.isFirstOrderOnly())
+                .totalQuantity(request.getTotalQuantity())
+                .validFrom(request.getValidFrom())
+                .validUntil(request.getValidUntil())
+                .build());
+
+        // 장부에는 처음 사용될 때 올라간다
+        return CouponResponse.from(CouponRule.from(coupon),
+                coupon.getTotalQuantity() != null ? coupon.getTotalQuantity().longValue() : null);
+    }
+
+    public CouponResponse getCoupon(String code) {
+        CouponRule rule = loadRule(code);
+        OptionalLong remaining = couponLedger.remaining(rule.couponId());
+        return CouponResponse.from(rule, remaining.isPresent() ? remaining.getAsLong() : null);
+    }
+
+    /**
+     * 주문에 쿠폰을 적용하고 수량 하나를 확보한다. 주문 트랜잭션이 롤백되면 확보한 수량을 돌려준다.
+     * 조건 검사는 메모리의 CouponRule 로 하고, DB 는 사용자 본인의 사용 이력만 확인한다.
+     */
+    public CouponClaim claim(Long userId, String code, Long restaurantId, int orderAmount) {
+        CouponRule rule = loadRule(code);
+
+        if (!rule.isValidAt(LocalDateTime.now())) {
+            throw new InvalidCouponException("사용 기간이 아닌 쿠폰입니다.");
+        }
+        if (rule.restaurantId() != null && !rule.restaurantId().equals(restaurantId)) {
+            throw new InvalidCouponException("이 레스토랑에서는 사용할 수 없는 쿠폰입니다.");
+        }
+        if (orderAmount < rule.minimumOrderAmount()) {
+            throw new InvalidCouponException(
+                    "쿠폰 최소 주문 금액을 충족하지 않습니다. 최소 주문 금액: " + rule.minimumOrderAmount() + "원");
+        }
+
+        // 같은 사용자의 동시 주문을 먼저 막은 뒤 DB 이력을 확인한다 (순서가 바뀌면 동시 주문이 둘 다 통과할 수 있다)
+        switch (couponLedger.claim(rule.couponId(), userId)) {
+            case IN_PROGRESS -> throw new CouponAlreadyUsedException("이미 다른 주문에 사용 중인 쿠폰입니다.");
+            case SOLD_OUT -> throw new CouponSoldOutException("쿠폰이 모두 소진되었습니다.");
+            default -> {
+            }
+        }
+        afterCompletion(committed -> couponLedger.finishClaim(rule.couponId(), userId, committed));
+
+        if (orderRepository.existsByUserIdAndCouponIdAndStatusNot(userId, rule.couponId(), OrderStatus.CANCELLED)) {
+            throw new CouponAlreadyUsedException("이미 사용한 쿠폰입니다.");
+        }
+        if (rule.firstOrderOnly() && orderRepository.existsByUserIdAndStatusNot(userId, OrderStatus.CANCELLED)) {
+            throw new InvalidCouponException("첫 주문에만 사용할 수 있는 쿠폰입니다.");
+        }
+
+        return new CouponClaim(couponRepository.getReferenceById(rule.couponId()), userId,
+                rule.discountFor(orderAmount));
+    }
+
+    // 저장된 주문에 확보한 수량을 묶는다 (결제 전까지 ttl 동안 유지)
+    public void hold(Long orderId, CouponClaim claim) {
+        couponLedger.hold(orderId, claim.couponId(), claim.userId(), LocalDateTime.now());
+        afterCompletion(committed -> {
+            if (!committed) {
+                couponLedger.dropHold(orderId);
+            }
+        });
+    }
+
+    /**
+     * 결제 직전 - 쿠폰 예약을 결제 중으로 고정한다. 결제가 커밋되면 주문 상태 변경 이벤트로 사용이 확정되고,
+     * 롤백되면 다시 결제 대기 예약으로 돌아간다.
+     */
+    public void beginPayment(Order order) {
+        if (order.getCoupon() == null) {
+            return;
+        }
+        Long orderId = order.getId();
+        Long couponId = loadRule(order.getCoupon().getId()).couponId();
+
+        if (!couponLedger.pinForPayment(orderId, couponId, order.getUser().getId())) {
+            throw new CouponSoldOutException("쿠폰 예약 시간이 지나 그 사이 쿠폰이 모두 소진되었습니다. 주문을 취소하고 다시 주문해 주세요.");
+        }
+        afterCompletion(committed -> {
+            if (!committed) {
+                couponLedger.unpin(orderId, LocalDateTime.now());
+            }
+        });
+    }
+
+    // 기동 시 사용 기간이 남은 쿠폰을 장부에 올린다
+    public int loadActiveCoupons() {
+        List<Coupon> coupons = couponRepository.findAllByValidUntilAfter(LocalDateTime.now());
+        coupons.forEach(this::register);
+        return coupons.size();
+    }
+
+    // 메모리에서 센 사용 수를 한 트랜잭션으로 묶어 반영
+    @Transactional
+    public void applyRedeemedDeltas(Map<Long, Long> deltas) {
+        deltas.forEach(couponRepository::addRedeemedCount);
+    }
+
+    private CouponRule loadRule(String code) {
+        return couponLedger.find(code).orElseGet(() -> register(couponRepository.findByCode(code)
+                .orElseThrow(() -> new CouponNotFoundException("쿠폰을 찾을 수 없습니다."))));
+    }
+
+    private CouponRule loadRule(Long couponId) {
+        return couponLedger.find(couponId).orElseGet(() -> register(couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponNotFoundException("쿠폰을 찾을 수 없습니다."))));
+    }
+
+    // 주문 행이 원본 - 결제가 끝난 주문 수와 결제 대기 주문으로 장부를 채운다
+    private CouponRule register(Coupon coupon) {
+        long redeemed = orderRepository.countByCouponIdAndStatusNotIn(coupon.getId(), UNREDEEMED_STATUSES);
+        return couponLedger.register(CouponRule.from(coupon), redeemed, coupon.getRedeemedCount(),
+                orderRepository.findCouponHolds(coupon.getId(), OrderStatus.PENDING));
+    }
+
+    private void afterCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
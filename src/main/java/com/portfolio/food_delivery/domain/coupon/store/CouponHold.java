@@ -0,0 +1,19 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import java.time.LocalDateTime;
+
+// 주문 하나가 잡고 있는 쿠폰 수량 (결제 중이면 만료되지 않는다)
+record CouponHold(Long couponId, Long userId, LocalDateTime expiresAt, boolean paying) {
+
+    CouponHold pinned() {
+        return new CouponHold(couponId, userId, expiresAt, true);
+    }
+
+    CouponHold unpinned(LocalDateTime expiresAt) {
+        return new CouponHold(couponId, userId, expiresAt, false);
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        return !paying && expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,220 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import com.portfolio.food_delivery.domain.order.dto.CouponHoldRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 수량 장부 (메모리)
+ *
+ * 한정 수량은 StripedQuota 로 관리하고 주문 생성 시 하나를 확보한다. 확보한 수량은 주문 ID에 묶여(hold)
+ * 결제가 커밋되면 사용 확정(redeemed), 주문 취소나 ttl 만료 시 반납된다. 결제 중인 수량은 만료되지 않는다.
+ * 사용 확정 수는 LongAdder 로 세고, DB 에는 CouponEngine 이 차이만큼 묶어서 반영한다.
+ *
+ * 주문 행(coupon_id, status)이 원본이므로 재기동 시 DB 에서 다시 계산해 채운다.
+ * 수량은 인스턴스 메모리에서 세므로 단일 인스턴스 배포를 전제로 한다 (장바구니 저장소, 배차 엔진과 같다).
+ */
+@Slf4j
+@Component
+public class CouponLedger {
+
+    public enum ClaimResult {
+        CLAIMED, IN_PROGRESS, SOLD_OUT
+    }
+
+    private final ConcurrentHashMap<String, CouponState> byCode = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CouponState> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CouponHold> holds = new ConcurrentHashMap<>();
+
+    private final Duration holdTtl;
+    private final int stripes;
+
+    public CouponLedger(@Value("${coupon.reservation.ttl-minutes:15}") long holdTtlMinutes,
+                        @Value("${coupon.quota.stripes:0}") int stripes) {
+        this.holdTtl = Duration.ofMinutes(holdTtlMinutes);
+        // 0 이면 코어 수의 두 배 이상인 가장 작은 2의 거듭제곱
+        int target = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2;
+        this.stripes = target <= 1 ? 1 : Integer.highestOneBit(target - 1) << 1;
+    }
+
+    /**
+     * DB 에서 계산한 사용 현황으로 쿠폰을 등록한다. 이미 등록된 쿠폰이면 기존 상태를 그대로 둔다.
+     * @param redeemed 결제까지 끝난 주문 수
+     * @param persistedRedeemed coupons.redeemed_count 에 기록된 값 (다르면 다음 flush 에서 맞춘다)
+     * @param pendingHolds 결제 대기 중인 주문 (수량을 잡고 있는 것으로 본다)
+     */
+    public CouponRule register(CouponRule rule, long redeemed, long persistedRedeemed, List<CouponHoldRow> pendingHolds) {
+        StripedQuota quota = null;
+        if (rule.isLimited()) {
+            long available = Math.max(0, rule.totalQuantity() - redeemed - pendingHolds.size());
+            quota = new StripedQuota(available, stripes);
+        }
+        CouponState state = new CouponState(rule, quota, redeemed, persistedRedeemed);
+
+        CouponState existing = byId.putIfAbsent(rule.couponId(), state);
+        if (existing != null) {
+            return existing.rule;
+        }
+        byCode.put(rule.code(), state);
+        for (CouponHoldRow row : pendingHolds) {
+            holds.putIfAbsent(row.orderId(),
+                    new CouponHold(rule.couponId(), row.userId(), row.orderedAt().plus(holdTtl), false));
+        }
+        return rule;
+    }
+
+    public Optional<CouponRule> find(String code) {
+        return Optional.ofNullable(byCode.get(code)).map(state -> state.rule);
+    }
+
+    public Optional<CouponRule> find(Long couponId) {
+        return Optional.ofNullable(byId.get(couponId)).map(state -> state.rule);
+    }
+
+    // 남은 수량 (무제한 쿠폰이거나 등록되지 않은 쿠폰이면 없음)
+    public OptionalLong remaining(Long couponId) {
+        CouponState state = byId.get(couponId);
+        return state == null || state.quota == null ? OptionalLong.empty() : OptionalLong.of(state.quota.available());
+    }
+
+    /**
+     * 주문 생성 - 사용자 중복을 막고 수량 하나를 확보한다.
+     * 성공하면 주문 트랜잭션이 끝날 때 반드시 finishClaim 을 불러야 한다.
+     */
+    public ClaimResult claim(Long couponId, Long userId) {
+        CouponState state = byId.get(couponId);
+        if (!state.claiming.add(userId)) {
+            return ClaimResult.IN_PROGRESS;
+        }
+        if (!state.tryAcquire()) {
+            state.claiming.remove(userId);
+            return ClaimResult.SOLD_OUT;
+        }
+        return ClaimResult.CLAIMED;
+    }
+
+    // 주문 트랜잭션 종료 - 롤백이면 확보한 수량을 돌려준다
+    public void finishClaim(Long couponId, Long userId, boolean committed) {
+        CouponState state = byId.get(couponId);
+        state.claiming.remove(userId);
+        if (!committed) {
+            state.release();
+        }
+    }
+
+    // 저장된 주문에 확보한 수량을 묶는다
+    public void hold(Long orderId, Long couponId, Long userId, LocalDateTime now) {
+        holds.put(orderId, new CouponHold(couponId, userId, now.plus(holdTtl), false));
+    }
+
+    // 주문이 롤백된 경우 - 수량은 finishClaim 에서 돌려준다
+    public void dropHold(Long orderId) {
+        holds.remove(orderId);
+    }
+
+    /**
+     * 결제 직전 - 예약을 결제 중으로 고정한다. 만료로 반납된 예약이면 수량을 다시 확보한다.
+     * @return 수량을 확보하지 못했으면 false
+     */
+    public boolean pinForPayment(Long orderId, Long couponId, Long userId) {
+        CouponState state = byId.get(couponId);
+        boolean[] pinned = {true};
+        holds.compute(orderId, (id, hold) -> {
+            if (hold != null) {
+                return hold.pinned();
+            }
+            if (!state.tryAcquire()) {
+                pinned[0] = false;
+                return null;
+            }
+            return new CouponHold(couponId, userId, null, true);
+        });
+        return pinned[0];
+    }
+
+    // 결제 실패(롤백) - 다시 ttl 동안 유지
+    public void unpin(Long orderId, LocalDateTime now) {
+        holds.computeIfPresent(orderId, (id, hold) -> hold.unpinned(now.plus(holdTtl)));
+    }
+
+    // 결제 커밋 - 사용 확정
+    public void confirm(Long orderId, Long couponId) {
+        CouponHold hold = holds.remove(orderId);
+        CouponState state = byId.get(couponId);
+        if (state == null) {
+            // 아직 불러오지 않은 쿠폰 - 처음 불러올 때 DB 기준으로 센다
+            return;
+        }
+        if (hold == null && !state.tryAcquire()) {
+            log.warn("쿠폰 수량을 확보하지 못한 주문의 결제가 확정되었습니다 - 쿠폰ID: {}, 주문ID: {}", couponId, orderId);
+        }
+        state.redeemed.increment();
+    }
+
+    // 주문 취소 - 결제 전이면 예약을, 결제 후면 사용 확정을 되돌린다
+    public void cancel(Long orderId, Long couponId, boolean redeemed) {
+        CouponHold hold = holds.remove(orderId);
+        CouponState state = byId.get(couponId);
+        if (state == null) {
+            return;
+        }
+        if (redeemed) {
+            state.redeemed.decrement();
+            state.release();
+        } else if (hold != null) {
+            state.release();
+        }
+    }
+
+    // 결제하지 않고 ttl 이 지난 예약을 반납한다
+    public int releaseExpired(LocalDateTime now) {
+        int released = 0;
+        for (Map.Entry<Long, CouponHold> entry : holds.entrySet()) {
+            CouponHold hold = entry.getValue();
+            // 그 사이 결제가 시작되었으면 값이 바뀌어 제거되지 않는다
+            if (hold.isExpired(now) && holds.remove(entry.getKey(), hold)) {
+                CouponState state = byId.get(hold.couponId());
+                if (state != null) {
+                    state.release();
+                }
+                released++;
+            }
+        }
+        return released;
+    }
+
+    // DB 에 아직 반영하지 않은 사용 수 (쿠폰ID -> 차이)
+    public Map<Long, Long> unpersistedRedemptions() {
+        Map<Long, Long> deltas = new HashMap<>();
+        byId.forEach((couponId, state) -> {
+            long delta = state.redeemed.sum() - state.persistedRedeemed;
+            if (delta != 0) {
+                deltas.put(couponId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    public void markPersisted(Map<Long, Long> deltas) {
+        deltas.forEach((couponId, delta) -> {
+            CouponState state = byId.get(couponId);
+            if (state != null) {
+                state.persistedRedeemed += delta;
+            }
+        });
+    }
+
+    public int holdCount() {
+        return holds.size();
+    }
+}
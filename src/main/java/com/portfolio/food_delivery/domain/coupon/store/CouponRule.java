@@ -0,0 +1,59 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import com.portfolio.food_delivery.domain.coupon.entity.Coupon;
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 적용 조건 (주문마다 엔티티를 읽지 않도록 메모리에 두는 불변 사본)
+ */
+public record CouponRule(
+        Long couponId,
+        String code,
+        String name,
+        DiscountType discountType,
+        int discountValue,
+        Integer maxDiscountAmount,
+        int minimumOrderAmount,
+        Long restaurantId,
+        boolean firstOrderOnly,
+        Integer totalQuantity,
+        LocalDateTime validFrom,
+        LocalDateTime validUntil) {
+
+    public static CouponRule from(Coupon coupon) {
+        return new CouponRule(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getName(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getMaxDiscountAmount(),
+                coupon.getMinimumOrderAmount(),
+                coupon.getRestaurant() != null ? coupon.getRestaurant().getId() : null,
+                coupon.isFirstOrderOnly(),
+                coupon.getTotalQuantity(),
+                coupon.getValidFrom(),
+                coupon.getValidUntil());
+    }
+
+    // 할인 금액 (주문 금액을 넘지 않는다)
+    public int discountFor(int orderAmount) {
+        int discount = discountType == DiscountType.FIXED
+                ? discountValue
+                : (int) ((long) orderAmount * discountValue / 100);
+        if (maxDiscountAmount != null) {
+            discount = Math.min(discount, maxDiscountAmount);
+        }
+        return Math.min(discount, orderAmount);
+    }
+
+    public boolean isValidAt(LocalDateTime now) {
+        return !now.isBefore(validFrom) && now.isBefore(validUntil);
+    }
+
+    public boolean isLimited() {
+        return totalQuantity != null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 쿠폰 하나의 메모리 상태
+final class CouponState {
+
+    final CouponRule rule;
+    // 남은 수량 (무제한 쿠폰은 null)
+    final StripedQuota quota;
+    // 결제까지 끝난 사용 수 - 결제 확정마다 더하고 flush 때만 합계를 읽는다
+    final LongAdder redeemed = new LongAdder();
+    // 주문 트랜잭션이 진행 중인 사용자 (같은 사용자의 동시 주문 방지)
+    final Set<Long> claiming = ConcurrentHashMap.newKeySet();
+    // DB(coupons.redeemed_count)에 반영된 값 - CouponLedger 의 flush 경로에서만 읽고 쓴다
+    volatile long persistedRedeemed;
+
+    CouponState(CouponRule rule, StripedQuota quota, long redeemed, long persistedRedeemed) {
+        this.rule = rule;
+        this.quota = quota;
+        this.redeemed.add(redeemed);
+        this.persistedRedeemed = persistedRedeemed;
+    }
+
+    boolean tryAcquire() {
+        return quota == null || quota.tryAcquire();
+    }
+
+    void release() {
+        if (quota != null) {
+            quota.release();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 칸으로 나눈 한정 수량
+ *
+ * 남은 수량을 stripes 개의 칸에 나눠 두고, 스레드마다 정해진 칸에서 CAS 로 하나씩 뺀다.
+ * 한 카운터에 수천 스레드가 몰리는 선착순 쿠폰에서도 CAS 경합이 칸 수만큼 흩어진다.
+ * 자기 칸이 비면 다른 칸을 차례로 살펴보고, 모든 칸이 0 이면 소진이다.
+ *
+ * 각 칸은 0 아래로 내려가지 않으므로 확보된 수량은 전체 수량을 넘지 않는다 (초과 발급 없음).
+ * 다만 마지막 몇 개가 남았을 때 이미 지나친 칸에 반납된 수량은 그 순간 보지 못할 수 있다 (보수적으로 실패).
+ */
+public final class StripedQuota {
+
+    // 칸 사이를 long 16개(128바이트) 띄워 서로 다른 캐시 라인에 두어 거짓 공유를 피한다
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    public StripedQuota(long permits, int stripes) {
+        if (permits < 0 || stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("수량은 0 이상, 칸 수는 2의 거듭제곱이어야 합니다.");
+        }
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        this.mask = stripes - 1;
+
+        long share = permits / stripes;
+        long extra = permits % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * PADDING, share + (i < extra ? 1 : 0));
+        }
+    }
+
+    public boolean tryAcquire() {
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int index = ((start + i) & mask) * PADDING;
+            long current;
+            while ((current = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void release() {
+        cells.incrementAndGet((probe() & mask) * PADDING);
+    }
+
+    // 동시에 바뀌는 중이면 근사값
+    public long available() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    public int stripes() {
+        return mask + 1;
+    }
+
+    // 스레드마다 고정된 칸 (해시를 섞어 연속된 스레드가 이웃 칸에 고르게 퍼지게 한다)
+    private static int probe() {
+        int hash = System.identityHashCode(Thread.currentThread()) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,122 @@
+package com.portfolio.food_delivery.domain.dispatch.controller;
+
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderLocationRequest;
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderStatusResponse;
+import com.portfolio.food_delivery.domain.dispatch.service.DispatchService;
+import com.portfolio.food_delivery.domain.order.dto.OrderResponse;
+import com.portfolio.food_delivery.domain.user.service.UserService;
+import com.portfolio.food_delivery.infrastructure.security.SecurityUtil;
+import com.portfolio.food_delivery.presentation.advice.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Dispatch", description = "배달 파트너 배차 관련 API")
+@RestController
+@RequestMapping("/api/dispatch")
+@RequiredArgsConstructor
+public class DispatchController {
+
+    private final DispatchService dispatchService;
+    private final UserService userService;
+
+    @Operation(summary = "운행 시작", description = "현재 위치와 함께 운행을 시작합니다. 이후 READY 주문이 자동으로 배차됩니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "운행 시작",
+                    content = @Content(schema = @Schema(implementation = RiderStatusResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 위치",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "배달 파트너가 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/riders/me/online")
+    public ResponseEntity<RiderStatusResponse> goOnline(
+            @Parameter(description = "현재 위치", required = true)
+            @Valid @RequestBody RiderLocationRequest request) {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long riderId = userService.getUserIdByEmail(email);
+
+        return ResponseEntity.ok(dispatchService.goOnline(riderId, request));
+    }
+
+    @Operation(summary = "운행 종료", description = "운행을 종료합니다. 더 이상 새 주문이 배차되지 않습니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "운행 종료")
+    })
+    @PostMapping("/riders/me/offline")
+    public ResponseEntity<Void> goOffline() {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long riderId = userService.getUserIdByEmail(email);
+
+        dispatchService.goOffline(riderId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "운행 상태 조회", description = "배차 상태와 마지막으로 보고된 위치를 조회합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RiderStatusResponse.class))),
+            @ApiResponse(responseCode = "409", description = "운행 중이 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/riders/me")
+    public ResponseEntity<RiderStatusResponse> getRiderStatus() {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long riderId = userService.getUserIdByEmail(email);
+
+        return ResponseEntity.ok(dispatchService.getRiderStatus(riderId));
+    }
+
+    @Operation(summary = "위치 갱신",
+            description = "현재 위치를 보고합니다. 수 초마다 호출되는 API로 DB에 접근하지 않고 메모리의 위치만 갱신합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "갱신 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 위치",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "운행 중이 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/riders/me/location")
+    public ResponseEntity<Void> updateLocation(
+            @Parameter(description = "현재 위치", required = true)
+            @Valid @RequestBody RiderLocationRequest request) {
+        // 사용자 ID 조회 없이 JWT 의 이메일로 바로 찾는다
+        dispatchService.updateLocation(SecurityUtil.getCurrentUserEmailOrThrow(), request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "배달 완료", description = "배정된 주문의 배달을 완료합니다. 배정된 배달 파트너만 처리할 수 있습니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "배달 완료",
+                    content = @Content(schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "400", description = "배달 중인 주문이 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "배정된 배달 파트너가 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/orders/{orderId}/delivered")
+    public ResponseEntity<OrderResponse> completeDelivery(
+            @Parameter(description = "주문 ID", required = true, example = "1")
+            @PathVariable Long orderId) {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long riderId = userService.getUserIdByEmail(email);
+
+        return ResponseEntity.ok(dispatchService.completeDelivery(orderId, riderId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.portfolio.food_delivery.domain.dispatch.dto;
+
+import com.portfolio.food_delivery.common.id.JsonStringId;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderSnapshot;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "배달 파트너 운행 상태")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RiderStatusResponse {
+
+    @Schema(description = "배달 파트너 ID", example = "7")
+    private Long riderId;
+
+    @Schema(description = "배차 상태", example = "AVAILABLE")
+    private RiderStatus status;
+
+    @Schema(description = "마지막으로 보고된 위도", example = "37.4979")
+    private double latitude;
+
+    @Schema(description = "마지막으로 보고된 경도", example = "127.0276")
+    private double longitude;
+
+    @Schema(description = "배달 중인 주문 ID (배차 대기 중이면 null)", type = "string", example = "371239482906181632")
+    @JsonStringId
+    private Long assignedOrderId;
+
+    public static RiderStatusResponse from(RiderSnapshot snapshot) {
+        return RiderStatusResponse.builder()
+                .riderId(snapshot.riderId())
+                .status(snapshot.status())
+                .latitude(snapshot.latitude())
+                .longitude(snapshot.longitude())
+                .assignedOrderId(snapshot.assignedOrderId())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.dispatch.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class NotDeliveryPartnerException extends BusinessException {
+
+    public NotDeliveryPartnerException(String message) {
+        super(ErrorCode.NOT_DELIVERY_PARTNER, message);
+    }
+}
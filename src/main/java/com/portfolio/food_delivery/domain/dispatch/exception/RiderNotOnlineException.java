@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.dispatch.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class RiderNotOnlineException extends BusinessException {
+
+    public RiderNotOnlineException(String message) {
+        super(ErrorCode.RIDER_NOT_ONLINE, message);
+    }
+}
@@ -0,0 +1,5 @@
+package com.portfolio.food_delivery.domain.dispatch.matcher;
+
+// 배차 결과 (픽업 지점까지의 직선 거리 포함)
+public record Assignment(Long orderId, Long riderId, double distanceKm) {
+}
@@ -0,0 +1,7 @@
+package com.portfolio.food_delivery.domain.dispatch.matcher;
+
+import java.time.LocalDateTime;
+
+// 배차 대기 주문 (픽업 위치와 조리 완료 시각)
+public record PendingOrder(Long orderId, double latitude, double longitude, LocalDateTime readyAt) {
+}
@@ -0,0 +1,153 @@
+package com.portfolio.food_delivery.domain.dispatch.matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배차 매칭 (한 묶음 단위)
+ *
+ * 배달 파트너를 격자(cellSizeKm 크기의 정사각형 칸)에 넣고, 오래 기다린 주문부터 가까운 칸을 고리 모양으로
+ * 넓혀가며 반경 안에서 가장 가까운 파트너를 고른다 (탐욕 매칭).
+ * 격자는 묶음마다 새로 만들며 파트너 수에 비례하는 비용만 든다.
+ *
+ * 위경도는 묶음의 기준 위도에서 평면(km)으로 근사한다. 도시 규모(수십 km)에서는 오차가 무시할 만하다.
+ * 상태가 없으므로 여러 스레드에서 함께 써도 된다.
+ */
+public final class RiderMatcher {
+
+    private static final double KM_PER_DEGREE_LATITUDE = 110.574;
+    private static final double KM_PER_DEGREE_LONGITUDE_AT_EQUATOR = 111.320;
+
+    private final double maxRadiusKm;
+    private final double cellSizeKm;
+    private final int maxRing;
+
+    public RiderMatcher(double maxRadiusKm, double cellSizeKm) {
+        if (maxRadiusKm <= 0 || cellSizeKm <= 0) {
+            throw new IllegalArgumentException("배차 반경과 격자 크기는 0보다 커야 합니다.");
+        }
+        this.maxRadiusKm = maxRadiusKm;
+        this.cellSizeKm = cellSizeKm;
+        this.maxRing = (int) Math.ceil(maxRadiusKm / cellSizeKm);
+    }
+
+    /**
+     * @param orders 우선순위 순서(오래 기다린 순)로 정렬된 주문
+     * @param riders 배차 가능한 파트너 (한 파트너는 최대 한 주문에만 배정된다)
+     */
+    public List<Assignment> match(List<PendingOrder> orders, List<RiderPosition> riders) {
+        if (orders.isEmpty() || riders.isEmpty()) {
+            return List.of();
+        }
+
+        double kmPerDegreeLongitude = KM_PER_DEGREE_LONGITUDE_AT_EQUATOR
+                * Math.cos(Math.toRadians(referenceLatitude(riders)));
+
+        int riderCount = riders.size();
+        double[] xs = new double[riderCount];
+        double[] ys = new double[riderCount];
+        Map<Long, Cell> grid = new HashMap<>(Math.max(16, riderCount / 2));
+        for (int i = 0; i < riderCount; i++) {
+            RiderPosition rider = riders.get(i);
+            xs[i] = rider.longitude() * kmPerDegreeLongitude;
+            ys[i] = rider.latitude() * KM_PER_DEGREE_LATITUDE;
+            grid.computeIfAbsent(cellKey(cellOf(xs[i]), cellOf(ys[i])), key -> new Cell()).add(i);
+        }
+
+        List<Assignment> assignments = new ArrayList<>(Math.min(orders.size(), riderCount));
+        double maxDistanceSquared = maxRadiusKm * maxRadiusKm;
+
+        for (PendingOrder order : orders) {
+            double ox = order.longitude() * kmPerDegreeLongitude;
+            double oy = order.latitude() * KM_PER_DEGREE_LATITUDE;
+            int cx = cellOf(ox);
+            int cy = cellOf(oy);
+
+            Cell bestCell = null;
+            int bestSlot = -1;
+            double bestDistanceSquared = maxDistanceSquared;
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // 고리 r 의 칸은 주문 위치에서 최소 (r - 1) 칸 너비만큼 떨어져 있다
+                if (bestCell != null) {
+                    double lowerBound = (ring - 1) * cellSizeKm;
+                    if (lowerBound > 0 && lowerBound * lowerBound > bestDistanceSquared) {
+                        break;
+                    }
+                }
+                for (int dx = -ring; dx <= ring; dx++) {
+                    boolean edgeColumn = dx == -ring || dx == ring;
+                    int step = edgeColumn ? 1 : Math.max(1, 2 * ring);
+                    for (int dy = -ring; dy <= ring; dy += step) {
+                        Cell cell = grid.get(cellKey(cx + dx, cy + dy));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int slot = 0; slot < cell.size; slot++) {
+                            int rider = cell.riders[slot];
+                            double ddx = xs[rider] - ox;
+                            double ddy = ys[rider] - oy;
+                            double distanceSquared = ddx * ddx + ddy * ddy;
+                            // 반경 경계의 파트너도 포함하되, 같은 거리면 먼저 찾은 파트너를 유지한다
+                            if (distanceSquared < bestDistanceSquared
+                                    || (bestCell == null && distanceSquared <= bestDistanceSquared)) {
+                                bestDistanceSquared = distanceSquared;
+                                bestCell = cell;
+                                bestSlot = slot;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (bestCell != null) {
+                int rider = bestCell.removeAt(bestSlot);
+                assignments.add(new Assignment(order.orderId(), riders.get(rider).riderId(),
+                        Math.sqrt(bestDistanceSquared)));
+                if (assignments.size() == riderCount) {
+                    break;
+                }
+            }
+        }
+        return assignments;
+    }
+
+    private int cellOf(double km) {
+        return (int) Math.floor(km / cellSizeKm);
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static double referenceLatitude(List<RiderPosition> riders) {
+        double sum = 0;
+        for (RiderPosition rider : riders) {
+            sum += rider.latitude();
+        }
+        return sum / riders.size();
+    }
+
+    // 한 칸에 들어 있는 파트너 인덱스 (배정되면 마지막 원소와 자리를 바꿔 제거)
+    private static final class Cell {
+
+        private int[] riders = new int[4];
+        private int size;
+
+        void add(int rider) {
+            if (size == riders.length) {
+                riders = Arrays.copyOf(riders, size * 2);
+            }
+            riders[size++] = rider;
+        }
+
+        int removeAt(int slot) {
+            int rider = riders[slot];
+            riders[slot] = riders[--size];
+            return rider;
+        }
+    }
+}
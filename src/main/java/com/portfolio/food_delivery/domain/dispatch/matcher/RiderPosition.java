@@ -0,0 +1,5 @@
+package com.portfolio.food_delivery.domain.dispatch.matcher;
+
+// 배차 가능한 배달 파트너의 현재 위치
+public record RiderPosition(Long riderId, double latitude, double longitude) {
+}
@@ -0,0 +1,161 @@
+package com.portfolio.food_delivery.domain.dispatch.service;
+
+import com.portfolio.food_delivery.domain.dispatch.matcher.Assignment;
+import com.portfolio.food_delivery.domain.dispatch.matcher.PendingOrder;
+import com.portfolio.food_delivery.domain.dispatch.matcher.RiderMatcher;
+import com.portfolio.food_delivery.domain.dispatch.matcher.RiderPosition;
+import com.portfolio.food_delivery.domain.dispatch.store.PendingOrderPool;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderRegistry;
+import com.portfolio.food_delivery.domain.order.dto.OrderPickupRow;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배차 엔진
+ *
+ * READY 주문은 커밋 후 이벤트로 대기열에 들어오고, 몇 초마다 한 묶음씩 RiderMatcher 로 배달 파트너를 고른다.
+ * 고른 파트너를 메모리에서 먼저 배달 중으로 바꾼 뒤 DB에 한 트랜잭션으로 반영하고,
+ * 반영에 실패하면 파트너를 되돌려 다음 주기에 다시 시도한다.
+ * 배차 결과는 다른 상태 변경과 같은 OrderStatusChangedEvent 로 전파된다.
+ */
+@Slf4j
+@Component
+public class DispatchEngine {
+
+    private final RiderRegistry riderRegistry;
+    private final PendingOrderPool pendingOrders;
+    private final DispatchService dispatchService;
+    private final OrderRepository orderRepository;
+    private final RiderMatcher matcher;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration maxLocationAge;
+
+    private final Timer batchTimer;
+    private final Counter assignmentCounter;
+
+    public DispatchEngine(RiderRegistry riderRegistry,
+                          PendingOrderPool pendingOrders,
+                          DispatchService dispatchService,
+                          OrderRepository orderRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${dispatch.enabled:true}") boolean enabled,
+                          @Value("${dispatch.batch-size:5000}") int batchSize,
+                          @Value("${dispatch.max-radius-km:5}") double maxRadiusKm,
+                          @Value("${dispatch.cell-size-km:1}") double cellSizeKm,
+                          @Value("${dispatch.location-max-age-seconds:120}") long locationMaxAgeSeconds) {
+        this.riderRegistry = riderRegistry;
+        this.pendingOrders = pendingOrders;
+        this.dispatchService = dispatchService;
+        this.orderRepository = orderRepository;
+        this.matcher = new RiderMatcher(maxRadiusKm, cellSizeKm);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxLocationAge = Duration.ofSeconds(locationMaxAgeSeconds);
+
+        this.batchTimer = Timer.builder("dispatch.batch").register(meterRegistry);
+        this.assignmentCounter = Counter.builder("dispatch.assignments").register(meterRegistry);
+        Gauge.builder("dispatch.pending.orders", pendingOrders, PendingOrderPool::size).register(meterRegistry);
+        Gauge.builder("dispatch.riders.online", riderRegistry, RiderRegistry::size).register(meterRegistry);
+        Gauge.builder("dispatch.riders.available", riderRegistry, RiderRegistry::availableCount)
+                .register(meterRegistry);
+    }
+
+    // 커밋된 상태 변경만 대기열에 반영한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        switch (event.status()) {
+            case READY -> {
+                if (event.riderId() == null && event.pickupLatitude() != null && event.pickupLongitude() != null) {
+                    pendingOrders.add(new PendingOrder(event.orderId(),
+                            event.pickupLatitude(), event.pickupLongitude(), event.readyAt()));
+                }
+            }
+            case DELIVERED -> {
+                pendingOrders.remove(event.orderId());
+                if (event.riderId() != null) {
+                    riderRegistry.release(event.riderId(), event.orderId());
+                }
+            }
+            default -> pendingOrders.remove(event.orderId());
+        }
+    }
+
+    // 기동 시 배차되지 않은 READY 주문으로 대기열을 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<OrderPickupRow> rows = orderRepository.findPickupsWithoutRider(OrderStatus.READY);
+        for (OrderPickupRow row : rows) {
+            pendingOrders.add(new PendingOrder(row.orderId(), row.latitude(), row.longitude(), row.readyAt()));
+        }
+        log.info("배차 엔진 초기화 - 배차 대기 주문 {}건", rows.size());
+    }
+
+    @Scheduled(fixedDelayString = "${dispatch.interval-ms:3000}")
+    public void scheduledDispatch() {
+        if (enabled) {
+            dispatch();
+        }
+    }
+
+    /**
+     * 대기 주문 한 묶음을 배차한다.
+     * @return DB에 반영된 배차 수
+     */
+    public synchronized int dispatch() {
+        return batchTimer.record(() -> {
+            List<PendingOrder> orders = pendingOrders.oldest(batchSize);
+            if (orders.isEmpty()) {
+                return 0;
+            }
+            List<RiderPosition> riders = riderRegistry.availableRiders(maxLocationAge);
+
+            // 매칭 이후 운행 종료/다른 경로 배차된 파트너는 제외
+            List<Assignment> reserved = new ArrayList<>();
+            for (Assignment assignment : matcher.match(orders, riders)) {
+                if (riderRegistry.assign(assignment.riderId(), assignment.orderId())) {
+                    reserved.add(assignment);
+                }
+            }
+            if (reserved.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                Set<Long> assigned = dispatchService.applyAssignments(reserved);
+                for (Assignment assignment : reserved) {
+                    // 반영되지 않은 주문은 이미 READY 가 아니므로 대기열에서도 뺀다
+                    pendingOrders.remove(assignment.orderId());
+                    if (!assigned.contains(assignment.orderId())) {
+                        riderRegistry.release(assignment.riderId(), assignment.orderId());
+                    }
+                }
+                assignmentCounter.increment(assigned.size());
+                log.debug("배차 완료 - 대기 {}건, 파트너 {}명, 배차 {}건", orders.size(), riders.size(), assigned.size());
+                return assigned.size();
+            } catch (RuntimeException e) {
+                reserved.forEach(assignment -> riderRegistry.release(assignment.riderId(), assignment.orderId()));
+                log.error("배차 반영 실패 - {}건은 다음 주기에 다시 시도합니다.", reserved.size(), e);
+                return 0;
+            }
+        });
+    }
+}
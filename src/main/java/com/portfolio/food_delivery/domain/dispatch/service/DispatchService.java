@@ -0,0 +1,115 @@
+package com.portfolio.food_delivery.domain.dispatch.service;
+
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderLocationRequest;
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderStatusResponse;
+import com.portfolio.food_delivery.domain.dispatch.exception.NotDeliveryPartnerException;
+import com.portfolio.food_delivery.domain.dispatch.exception.RiderNotOnlineException;
+import com.portfolio.food_delivery.domain.dispatch.matcher.Assignment;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderRegistry;
+import com.portfolio.food_delivery.domain.order.dto.OrderResponse;
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.exception.InvalidOrderException;
+import com.portfolio.food_delivery.domain.order.exception.OrderNotFoundException;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import com.portfolio.food_delivery.domain.user.exception.UserNotFoundException;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DispatchService {
+
+    private final RiderRegistry riderRegistry;
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 운행 시작 - 권한 확인과 배달 중인 주문 복원은 여기서 한 번만 DB를 읽는다
+    public RiderStatusResponse goOnline(Long riderId, RiderLocationRequest request) {
+        User rider = userRepository.findById(riderId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        if (rider.getRole() != UserRole.DELIVERY_PARTNER) {
+            throw new NotDeliveryPartnerException("배달 파트너만 운행을 시작할 수 있습니다.");
+        }
+
+        Long activeOrderId = orderRepository.findFirstByRiderIdAndStatus(riderId, OrderStatus.DELIVERING)
+                .map(Order::getId)
+                .orElse(null);
+        return RiderStatusResponse.from(riderRegistry.online(
+                riderId, rider.getEmail(), request.getLatitude(), request.getLongitude(), activeOrderId));
+    }
+
+    public void goOffline(Long riderId) {
+        riderRegistry.offline(riderId);
+    }
+
+    public RiderStatusResponse getRiderStatus(Long riderId) {
+        return riderRegistry.find(riderId)
+                .map(RiderStatusResponse::from)
+                .orElseThrow(() -> new RiderNotOnlineException("운행 중인 배달 파트너가 아닙니다."));
+    }
+
+    // 위치 갱신 - 초당 여러 번 호출되므로 DB에 접근하지 않는다
+    public void updateLocation(String email, RiderLocationRequest request) {
+        if (!riderRegistry.updateLocation(email, request.getLatitude(), request.getLongitude())) {
+            throw new RiderNotOnlineException("운행을 시작한 뒤에 위치를 보낼 수 있습니다.");
+        }
+    }
+
+    /**
+     * 배차 결과를 한 트랜잭션으로 반영한다.
+     * 그 사이 상태가 바뀐 주문(수동 배달 시작, 이미 배차됨 등)은 건너뛰며, 반영된 주문 ID만 돌려준다.
+     */
+    @Transactional
+    public Set<Long> applyAssignments(List<Assignment> assignments) {
+        List<Long> orderIds = assignments.stream().map(Assignment::orderId).toList();
+        Map<Long, Order> orders = orderRepository.findAllByIdInWithRestaurant(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        Set<Long> assigned = new HashSet<>();
+        for (Assignment assignment : assignments) {
+            Order order = orders.get(assignment.orderId());
+            if (order == null || order.getStatus() != OrderStatus.READY || order.getRider() != null) {
+                continue;
+            }
+            order.assignRider(userRepository.getReferenceById(assignment.riderId()));
+            eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, OrderStatus.READY));
+            assigned.add(order.getId());
+        }
+        return assigned;
+    }
+
+    // 배달 완료 - 배정된 배달 파트너만 처리할 수 있다
+    @Transactional
+    public OrderResponse completeDelivery(Long orderId, Long riderId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다."));
+
+        if (!order.isDeliveredBy(riderId)) {
+            throw new UnauthorizedException("배정된 배달 파트너만 배달을 완료할 수 있습니다.");
+        }
+        if (order.getStatus() != OrderStatus.DELIVERING) {
+            throw new InvalidOrderException("배달 중인 주문이 아닙니다.");
+        }
+
+        order.updateStatus(OrderStatus.DELIVERED);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, OrderStatus.DELIVERING));
+        return OrderResponse.from(order);
+    }
+}
@@ -0,0 +1,44 @@
+package com.portfolio.food_delivery.domain.dispatch.store;
+
+import com.portfolio.food_delivery.domain.dispatch.matcher.PendingOrder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배차 대기 주문 (READY 이면서 배달 파트너가 없는 주문)
+ * 주문 상태 변경 이벤트로 채우고 비우며, 배차 엔진은 매 주기 오래 기다린 순서로 한 묶음을 꺼내 본다.
+ */
+@Component
+public class PendingOrderPool {
+
+    // 조리 완료 시각이 없는 이전 주문(V2 이전 데이터)은 가장 오래된 것으로 본다
+    private static final Comparator<PendingOrder> OLDEST_FIRST = Comparator
+            .comparing(PendingOrder::readyAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(PendingOrder::orderId);
+
+    private final ConcurrentHashMap<Long, PendingOrder> orders = new ConcurrentHashMap<>();
+
+    public void add(PendingOrder order) {
+        orders.put(order.orderId(), order);
+    }
+
+    public void remove(Long orderId) {
+        orders.remove(orderId);
+    }
+
+    // 꺼내지 않고 사본만 돌려준다 - 배차가 DB에 반영된 주문만 이벤트로 빠진다
+    public List<PendingOrder> oldest(int limit) {
+        return orders.values().stream()
+                .sorted(OLDEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        return orders.size();
+    }
+}
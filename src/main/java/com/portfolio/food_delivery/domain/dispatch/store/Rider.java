@@ -0,0 +1,66 @@
+package com.portfolio.food_delivery.domain.dispatch.store;
+
+/**
+ * 운행 중인 배달 파트너 한 명
+ * 위치는 초당 여러 번 갱신되므로 잠금 없이 불변 객체를 통째로 바꿔 끼우고,
+ * 배차 상태 변경만 이 객체의 모니터를 잡고 한다.
+ */
+final class Rider {
+
+    record Position(double latitude, double longitude, long updatedNanos) {}
+
+    private final Long riderId;
+    private final String email;
+
+    private volatile Position position;
+    private RiderStatus status = RiderStatus.AVAILABLE;
+    private Long assignedOrderId;
+
+    Rider(Long riderId, String email, double latitude, double longitude) {
+        this.riderId = riderId;
+        this.email = email;
+        moveTo(latitude, longitude);
+    }
+
+    Long getRiderId() {
+        return riderId;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    Position getPosition() {
+        return position;
+    }
+
+    void moveTo(double latitude, double longitude) {
+        this.position = new Position(latitude, longitude, System.nanoTime());
+    }
+
+    synchronized boolean isAvailable() {
+        return status == RiderStatus.AVAILABLE;
+    }
+
+    synchronized boolean assign(Long orderId) {
+        if (status != RiderStatus.AVAILABLE) {
+            return false;
+        }
+        status = RiderStatus.ASSIGNED;
+        assignedOrderId = orderId;
+        return true;
+    }
+
+    // 해당 주문에 묶여 있을 때만 배차 대기로 되돌린다 (늦게 도착한 이벤트가 새 배차를 풀지 않도록)
+    synchronized void release(Long orderId) {
+        if (status == RiderStatus.ASSIGNED && orderId.equals(assignedOrderId)) {
+            status = RiderStatus.AVAILABLE;
+            assignedOrderId = null;
+        }
+    }
+
+    synchronized RiderSnapshot snapshot() {
+        Position current = position;
+        return new RiderSnapshot(riderId, status, current.latitude(), current.longitude(), assignedOrderId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.food_delivery.domain.dispatch.store;
+
+import com.portfolio.food_delivery.domain.dispatch.matcher.RiderPosition;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운행 중인 배달 파트너의 위치와 배차 상태를 메모리에 보관한다.
+ *
+ * - 운행 시작 시에만 DB로 권한을 확인하고, 이후 위치 갱신은 이메일(JWT subject) → 파트너 조회만 한다.
+ * - 배차 상태는 DB의 주문(rider_id, status)이 기준이며, 이 저장소는 배차 엔진이 쓰는 사본이다.
+ *   재기동 후 운행을 다시 시작하면 배달 중인 주문을 DB에서 읽어 상태를 복원한다.
+ */
+@Component
+public class RiderRegistry {
+
+    private final ConcurrentHashMap<Long, Rider> riders = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Rider> ridersByEmail = new ConcurrentHashMap<>();
+
+    public RiderSnapshot online(Long riderId, String email, double latitude, double longitude, Long activeOrderId) {
+        Rider rider = riders.compute(riderId, (id, existing) -> {
+            if (existing != null) {
+                existing.moveTo(latitude, longitude);
+                return existing;
+            }
+            return new Rider(id, email, latitude, longitude);
+        });
+        if (activeOrderId != null) {
+            rider.assign(activeOrderId);
+        }
+        ridersByEmail.put(email, rider);
+        return rider.snapshot();
+    }
+
+    public void offline(Long riderId) {
+        Rider rider = riders.remove(riderId);
+        if (rider != null) {
+            ridersByEmail.remove(rider.getEmail(), rider);
+        }
+    }
+
+    // 운행 중이 아니면 false
+    public boolean updateLocation(String email, double latitude, double longitude) {
+        Rider rider = ridersByEmail.get(email);
+        if (rider == null) {
+            return false;
+        }
+        rider.moveTo(latitude, longitude);
+        return true;
+    }
+
+    public Optional<RiderSnapshot> find(Long riderId) {
+        Rider rider = riders.get(riderId);
+        return rider != null ? Optional.of(rider.snapshot()) : Optional.empty();
+    }
+
+    // 배차 대기 중이면서 위치가 maxLocationAge 안에 갱신된 파트너
+    public List<RiderPosition> availableRiders(Duration maxLocationAge) {
+        long threshold = System.nanoTime() - maxLocationAge.toNanos();
+        List<RiderPosition> available = new ArrayList<>(riders.size());
+        for (Rider rider : riders.values()) {
+            Rider.Position position = rider.getPosition();
+            if (position.updatedNanos() - threshold >= 0 && rider.isAvailable()) {
+                available.add(new RiderPosition(rider.getRiderId(), position.latitude(), position.longitude()));
+            }
+        }
+        return available;
+    }
+
+    // 배차 대기 → 배달 중 (다른 경로로 이미 상태가 바뀌었으면 false)
+    public boolean assign(Long riderId, Long orderId) {
+        Rider rider = riders.get(riderId);
+        return rider != null && rider.assign(orderId);
+    }
+
+    public void release(Long riderId, Long orderId) {
+        Rider rider = riders.get(riderId);
+        if (rider != null) {
+            rider.release(orderId);
+        }
+    }
+
+    public int size() {
+        return riders.size();
+    }
+
+    public int availableCount() {
+        int count = 0;
+        for (Rider rider : riders.values()) {
+            if (rider.isAvailable()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,5 @@
+package com.portfolio.food_delivery.domain.dispatch.store;
+
+// 배달 파트너 상태의 한 시점 사본
+public record RiderSnapshot(Long riderId, RiderStatus status, double latitude, double longitude, Long assignedOrderId) {
+}
@@ -0,0 +1,13 @@
+package com.portfolio.food_delivery.domain.dispatch.store;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RiderStatus {
+    AVAILABLE("배차 대기"),
+    ASSIGNED("배달 중");
+
+    private final String description;
+}
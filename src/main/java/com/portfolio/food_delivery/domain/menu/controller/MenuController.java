@@ -1,12 +1,18 @@
 package com.portfolio.food_delivery.domain.menu.controller;
 
 import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.dto.MenuImportFormat;
+import com.portfolio.food_delivery.domain.menu.dto.MenuImportResponse;
+import com.portfolio.food_delivery.domain.menu.dto.MenuReorderRequest;
 import com.portfolio.food_delivery.domain.menu.dto.MenuResponse;
 import com.portfolio.food_delivery.domain.menu.dto.MenuUpdateRequest;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.service.MenuImportService;
 import com.portfolio.food_delivery.domain.menu.service.MenuService;
+import com.portfolio.food_delivery.domain.order.popularity.RankingType;
 import com.portfolio.food_delivery.domain.user.service.UserService;
 import com.portfolio.food_delivery.infrastructure.security.SecurityUtil;
+import com.portfolio.food_delivery.infrastructure.sql.SqlBudget;
 import com.portfolio.food_delivery.presentation.advice.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,12 +23,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Menus", description = "메뉴 관련 API")
@@ -31,6 +39,7 @@ import java.util.List;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuImportService menuImportService;
     private final UserService userService;
 
     @Operation(summary = "메뉴 등록", description = "레스토랑에 새로운 메뉴를 등록합니다. 레스토랑 소유자만 등록 가능합니다.")
@@ -60,7 +69,67 @@ public class MenuController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @Operation(summary = "레스토랑 메뉴 목록 조회", description = "특정 레스토랑의 판매 중인 메뉴 목록을 조회합니다.")
+    @Operation(summary = "메뉴 일괄 등록",
+            description = "CSV(헤더: name,price,description,imageUrl) 또는 JSON 배열 본문의 메뉴를 한 번에 등록합니다. "
+                    + "새 메뉴는 기존 메뉴 뒤에 본문 순서대로 붙으며, 잘못된 행이 하나라도 있으면 아무것도 등록되지 않습니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "일괄 등록 성공",
+                    content = @Content(schema = @Schema(implementation = MenuImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 행 (errors 에 행 번호와 필드)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (레스토랑 소유자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "레스토랑을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SqlBudget(maxStatements = 100)  // INSERT 는 50행 단위 배치로 묶여 나간다
+    @PostMapping("/api/restaurants/{restaurantId}/menus/import")
+    public ResponseEntity<MenuImportResponse> importMenus(
+            @Parameter(description = "레스토랑 ID", required = true, example = "1")
+            @PathVariable Long restaurantId,
+            @Parameter(description = "본문 형식 (CSV, JSON)", example = "CSV")
+            @RequestParam(defaultValue = "CSV") MenuImportFormat format,
+            HttpServletRequest request) throws IOException {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long userId = userService.getUserIdByEmail(email);
+
+        MenuImportResponse response = menuImportService.importMenus(restaurantId, userId, format, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "메뉴 순서 변경", description = "레스토랑의 모든 메뉴 ID 를 원하는 표시 순서대로 보내면 1부터 순서를 다시 매깁니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = MenuResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "빠지거나 중복되거나 다른 레스토랑의 메뉴 ID",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (레스토랑 소유자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "레스토랑을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/api/restaurants/{restaurantId}/menus/display-order")
+    public ResponseEntity<List<MenuResponse>> reorderMenus(
+            @Parameter(description = "레스토랑 ID", required = true, example = "1")
+            @PathVariable Long restaurantId,
+            @Parameter(description = "표시 순서대로 나열한 메뉴 ID", required = true)
+            @Valid @RequestBody MenuReorderRequest request) {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long userId = userService.getUserIdByEmail(email);
+
+        List<MenuResponse> responses = menuService.reorderMenus(restaurantId, userId, request.getMenuIds());
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(summary = "레스토랑 메뉴 목록 조회",
+            description = "특정 레스토랑의 판매 중인 메뉴 목록을 조회합니다. sort=popular(최근 주문 수 순), "
+                    + "sort=trending(평소보다 주문이 급증한 순) 이면 순위에 든 메뉴를 앞에 두고 나머지는 진열 순서대로 둡니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = MenuResponse.class)))),
@@ -70,8 +139,12 @@ public class MenuController {
     @GetMapping("/api/restaurants/{restaurantId}/menus")
     public ResponseEntity<List<MenuResponse>> getMenusByRestaurant(
             @Parameter(description = "레스토랑 ID", required = true, example = "1")
-            @PathVariable Long restaurantId) {
-        List<MenuResponse> responses = menuService.getMenusByRestaurant(restaurantId);
+            @PathVariable Long restaurantId,
+            @Parameter(description = "정렬 (popular, trending), 없으면 진열 순서", example = "popular")
+            @RequestParam(required = false) String sort) {
+        List<MenuResponse> responses = RankingType.from(sort)
+                .map(type -> menuService.getRankedMenus(restaurantId, type))
+                .orElseGet(() -> menuService.getMenusByRestaurant(restaurantId));
         return ResponseEntity.ok(responses);
     }
 
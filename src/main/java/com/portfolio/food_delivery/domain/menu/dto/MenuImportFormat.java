@@ -0,0 +1,8 @@
+package com.portfolio.food_delivery.domain.menu.dto;
+
+public enum MenuImportFormat {
+    // 헤더 행(name,description,price,imageUrl) + 메뉴 한 행씩
+    CSV,
+    // MenuCreateRequest 객체 배열
+    JSON
+}
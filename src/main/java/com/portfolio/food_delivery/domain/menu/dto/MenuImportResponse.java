@@ -0,0 +1,24 @@
+package com.portfolio.food_delivery.domain.menu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Schema(description = "메뉴 일괄 등록 결과")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MenuImportResponse {
+
+    @Schema(description = "레스토랑 ID", example = "1")
+    private Long restaurantId;
+
+    @Schema(description = "등록된 메뉴 수", example = "300")
+    private long importedCount;
+
+    @Schema(description = "등록된 메뉴의 첫 표시 순서", example = "11")
+    private Integer firstDisplayOrder;
+
+    @Schema(description = "등록된 메뉴의 마지막 표시 순서", example = "310")
+    private Integer lastDisplayOrder;
+}
@@ -0,0 +1,20 @@
+package com.portfolio.food_delivery.domain.menu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Schema(description = "메뉴 순서 변경 요청")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MenuReorderRequest {
+
+    @Schema(description = "표시할 순서대로 나열한 메뉴 ID (삭제되지 않은 메뉴 전부)", example = "[3, 1, 2]", required = true)
+    @NotEmpty(message = "메뉴 ID 목록은 필수입니다.")
+    private List<@NotNull(message = "메뉴 ID는 필수입니다.") Long> menuIds;
+}
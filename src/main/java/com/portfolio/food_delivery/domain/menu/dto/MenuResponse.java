@@ -1,5 +1,6 @@
 package com.portfolio.food_delivery.domain.menu.dto;
 
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
 import lombok.AllArgsConstructor;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class MenuResponse {
+    @JsonStringId
     private Long id;
     private Long restaurantId;
     private String name;
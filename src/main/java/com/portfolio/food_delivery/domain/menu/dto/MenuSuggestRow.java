@@ -0,0 +1,10 @@
+package com.portfolio.food_delivery.domain.menu.dto;
+
+/**
+ * 자동완성 색인 초기화용 메뉴 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record MenuSuggestRow(
+        Long id,
+        Long restaurantId,
+        String name
+) {}
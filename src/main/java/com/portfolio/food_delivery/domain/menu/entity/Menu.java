@@ -1,20 +1,28 @@
 package com.portfolio.food_delivery.domain.menu.entity;
 
 import com.portfolio.food_delivery.common.entity.BaseEntity;
+import com.portfolio.food_delivery.common.id.TimeOrderedId;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "menus")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
+@Table(name = "menus", indexes = {
+        @Index(name = "idx_menus_restaurant_status_order", columnList = "restaurant_id, status, display_order")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Menu extends BaseEntity {
 
+    // 일괄 등록 INSERT 를 배치로 묶기 위해 애플리케이션에서 ID 발급
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,23 @@
+package com.portfolio.food_delivery.domain.menu.event;
+
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+
+/**
+ * 메뉴 등록/변경/삭제 이벤트 (자동완성 색인 갱신용)
+ * 리스너는 커밋 이후에 실행되므로 엔티티 대신 필요한 값만 복사해서 담는다.
+ */
+public record MenuChangedEvent(
+        Long menuId,
+        Long restaurantId,
+        String name,
+        MenuStatus status) {
+
+    public static MenuChangedEvent from(Menu menu) {
+        return new MenuChangedEvent(
+                menu.getId(),
+                menu.getRestaurant().getId(),
+                menu.getName(),
+                menu.getStatus());
+    }
+}
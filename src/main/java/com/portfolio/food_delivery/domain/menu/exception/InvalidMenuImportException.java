@@ -0,0 +1,21 @@
+package com.portfolio.food_delivery.domain.menu.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class InvalidMenuImportException extends BusinessException {
+
+    // 잘못된 행 번호(1부터, 헤더 제외)와 항목 - 응답의 필드 에러로 내려간다
+    private final long row;
+    private final String field;
+    private final String value;
+
+    public InvalidMenuImportException(long row, String field, String value, String message) {
+        super(ErrorCode.INVALID_MENU_IMPORT, message);
+        this.row = row;
+        this.field = field;
+        this.value = value;
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.menu.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class InvalidMenuOrderException extends BusinessException {
+
+    public InvalidMenuOrderException(String message) {
+        super(ErrorCode.INVALID_MENU_ORDER, message);
+    }
+}
@@ -0,0 +1,165 @@
+package com.portfolio.food_delivery.domain.menu.importer;
+
+import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuImportException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV (RFC 4180) 를 한 행씩 읽는다.
+ * 첫 행은 헤더이며 name, price 는 필수, description, imageUrl 은 선택 열이다 (순서 무관, 그 밖의 열은 무시).
+ * 큰따옴표로 감싼 값 안의 쉼표/줄바꿈과 "" 이스케이프를 지원하고, 엑셀이 붙이는 BOM 은 건너뛴다.
+ */
+class CsvMenuImportReader implements MenuImportReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int nameColumn = -1;
+    private int descriptionColumn = -1;
+    private int priceColumn = -1;
+    private int imageUrlColumn = -1;
+    private long row;
+    private boolean headerRead;
+
+    CsvMenuImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public MenuCreateRequest next() throws IOException {
+        if (!headerRead) {
+            readHeader();
+        }
+
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank()); // 빈 줄은 건너뛴다
+
+        row++;
+        String price = column(values, priceColumn);
+        Integer parsedPrice = null;
+        if (price != null) {
+            try {
+                parsedPrice = Integer.valueOf(price.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidMenuImportException(row, "price", price, "가격은 숫자여야 합니다.");
+            }
+        }
+
+        return MenuCreateRequest.builder()
+                .name(column(values, nameColumn))
+                .description(column(values, descriptionColumn))
+                .price(parsedPrice)
+                .imageUrl(column(values, imageUrlColumn))
+                .build();
+    }
+
+    @Override
+    public long row() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        headerRead = true;
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new InvalidMenuImportException(0, "header", "", "CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> nameColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "price" -> priceColumn = i;
+                case "imageurl" -> imageUrlColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (nameColumn < 0 || priceColumn < 0) {
+            throw new InvalidMenuImportException(0, "header", String.join(",", header),
+                    "CSV 헤더에 name, price 열이 필요합니다.");
+        }
+    }
+
+    // 빈 값은 null (선택 항목을 비워둔 것으로 본다)
+    private static String column(List<String> values, int index) {
+        if (index < 0 || index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    /**
+     * 레코드 하나를 읽는다.
+     * @return 입력 끝이면 null
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidMenuImportException(row + 1, "body", "", "닫히지 않은 큰따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        values.add(field.toString());
+        return values;
+    }
+}
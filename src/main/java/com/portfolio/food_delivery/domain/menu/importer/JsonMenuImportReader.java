@@ -0,0 +1,66 @@
+package com.portfolio.food_delivery.domain.menu.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuImportException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JSON 배열 ([{"name": ..., "price": ...}, ...]) 을 스트리밍 파서로 원소 하나씩 읽는다.
+ */
+class JsonMenuImportReader implements MenuImportReader {
+
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private long row;
+    private boolean started;
+    private boolean finished;
+
+    JsonMenuImportReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(in);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public MenuCreateRequest next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        try {
+            if (!started) {
+                started = true;
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new InvalidMenuImportException(0, "body", "", "메뉴 목록은 JSON 배열이어야 합니다.");
+                }
+            }
+
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            row++;
+            if (token != JsonToken.START_OBJECT) {
+                throw new InvalidMenuImportException(row, "body", String.valueOf(token), "메뉴는 JSON 객체여야 합니다.");
+            }
+            return objectMapper.readValue(parser, MenuCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidMenuImportException(row, "body", "", "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long row() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,32 @@
+package com.portfolio.food_delivery.domain.menu.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.dto.MenuImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 메뉴 일괄 등록 입력을 한 행씩 읽는다 (요청 본문 전체를 메모리에 올리지 않는다).
+ * 형식이 잘못된 행은 InvalidMenuImportException 으로 알린다. 값 검증은 호출하는 쪽에서 한다.
+ */
+public interface MenuImportReader extends Closeable {
+
+    /**
+     * @return 다음 메뉴, 더 없으면 null
+     */
+    MenuCreateRequest next() throws IOException;
+
+    // 마지막으로 읽은 행 번호 (1부터, CSV 헤더 제외)
+    long row();
+
+    static MenuImportReader open(MenuImportFormat format, InputStream in, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvMenuImportReader(in);
+            case JSON -> new JsonMenuImportReader(in, objectMapper);
+        };
+    }
+}
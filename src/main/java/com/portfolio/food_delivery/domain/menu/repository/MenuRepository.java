@@ -1,24 +1,51 @@
 package com.portfolio.food_delivery.domain.menu.repository;
 
+import com.portfolio.food_delivery.domain.menu.dto.MenuSuggestRow;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MenuRepository extends JpaRepository<Menu, Long> {
 
-    List<Menu> findByRestaurantIdAndStatusOrderByDisplayOrder(Long restaurantId, MenuStatus status);
+    // 메뉴판 조회 - 결과(메뉴 ID 목록)는 쿼리 캐시, 메뉴 자체는 menu 리전에서 가져온다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "menu-by-restaurant")
+    })
+    @Query("SELECT m FROM Menu m WHERE m.restaurant.id = :restaurantId AND m.status = :status ORDER BY m.displayOrder")
+    List<Menu> findByRestaurantIdAndStatusOrderByDisplayOrder(@Param("restaurantId") Long restaurantId,
+                                                              @Param("status") MenuStatus status);
 
-    List<Menu> findByRestaurantIdOrderByDisplayOrder(Long restaurantId);
+    @Query("SELECT m FROM Menu m WHERE m.restaurant.id = :restaurantId ORDER BY m.displayOrder")
+    List<Menu> findByRestaurantIdOrderByDisplayOrder(@Param("restaurantId") Long restaurantId);
 
     @Query("SELECT m FROM Menu m JOIN FETCH m.restaurant WHERE m.id = :id")
     Optional<Menu> findByIdWithRestaurant(@Param("id") Long id);
 
-    Integer countByRestaurantId(Long restaurantId);
-}
\ No newline at end of file
+    // 주문/장바구니 검증용 - 여러 메뉴를 레스토랑과 함께 한 번에 조회
+    @Query("SELECT m FROM Menu m JOIN FETCH m.restaurant WHERE m.id IN :ids")
+    List<Menu> findAllByIdInWithRestaurant(@Param("ids") Collection<Long> ids);
+
+    // 새 메뉴의 표시 순서 기준 (삭제된 메뉴 포함)
+    @Query("SELECT COALESCE(MAX(m.displayOrder), 0) FROM Menu m WHERE m.restaurant.id = :restaurantId")
+    int findMaxDisplayOrder(@Param("restaurantId") Long restaurantId);
+
+    // 자동완성 색인 초기화용 - 판매 중인 메뉴 전체 (레스토랑 조인 없이 FK 만)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.menu.dto.MenuSuggestRow(" +
+            "m.id, m.restaurant.id, m.name) " +
+            "FROM Menu m WHERE m.status = :status")
+    Stream<MenuSuggestRow> streamSuggestRows(@Param("status") MenuStatus status);
+}
@@ -0,0 +1,132 @@
+package com.portfolio.food_delivery.domain.menu.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.dto.MenuImportFormat;
+import com.portfolio.food_delivery.domain.menu.dto.MenuImportResponse;
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.menu.event.MenuChangedEvent;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuImportException;
+import com.portfolio.food_delivery.domain.menu.importer.MenuImportReader;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
+import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+
+/**
+ * 메뉴 일괄 등록 (CSV/JSON)
+ * 요청 본문을 한 행씩 읽어 검증하고 바로 저장한다. 메뉴 ID 는 애플리케이션에서 발급하므로
+ * INSERT 는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 나가고, chunk-size 마다 영속성 컨텍스트를 비워 메모리를 일정하게 유지한다.
+ * 한 트랜잭션이므로 잘못된 행이 하나라도 있으면 전부 롤백되며, 메뉴판 쿼리 캐시는 커밋 시 한 번 무효화된다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MenuImportService {
+
+    private final MenuRepository menuRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRows;
+    private final int chunkSize;
+
+    public MenuImportService(MenuRepository menuRepository,
+                             RestaurantRepository restaurantRepository,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             EntityManager entityManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${menu.import.max-rows:2000}") int maxRows,
+                             @Value("${menu.import.chunk-size:500}") int chunkSize) {
+        this.menuRepository = menuRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.maxRows = maxRows;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public MenuImportResponse importMenus(Long restaurantId, Long userId, MenuImportFormat format, InputStream in) {
+        // 레스토랑을 잠가 같은 레스토랑의 메뉴 등록/순서 변경과 표시 순서가 겹치지 않게 한다
+        Restaurant restaurant = restaurantRepository.findByIdForUpdate(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다."));
+
+        if (!restaurant.isOwnedBy(userId)) {
+            throw new UnauthorizedException("메뉴 등록 권한이 없습니다.");
+        }
+
+        int firstDisplayOrder = menuRepository.findMaxDisplayOrder(restaurantId) + 1;
+        int displayOrder = firstDisplayOrder;
+
+        try (MenuImportReader reader = MenuImportReader.open(format, in, objectMapper)) {
+            MenuCreateRequest request;
+            while ((request = reader.next()) != null) {
+                if (reader.row() > maxRows) {
+                    throw new InvalidMenuImportException(reader.row(), "body", "",
+                            "한 번에 최대 " + maxRows + "개까지 등록할 수 있습니다.");
+                }
+                validate(reader.row(), request);
+
+                Menu menu = menuRepository.save(Menu.builder()
+                        .restaurant(restaurant)
+                        .name(request.getName())
+                        .description(request.getDescription())
+                        .price(request.getPrice())
+                        .imageUrl(request.getImageUrl())
+                        .displayOrder(displayOrder++)
+                        .build());
+                eventPublisher.publishEvent(MenuChangedEvent.from(menu));
+
+                if ((displayOrder - firstDisplayOrder) % chunkSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    restaurant = restaurantRepository.getReferenceById(restaurantId);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("메뉴 일괄 등록 중 오류가 발생했습니다.", e);
+        }
+
+        int imported = displayOrder - firstDisplayOrder;
+        if (imported == 0) {
+            throw new InvalidMenuImportException(0, "body", "", "등록할 메뉴가 없습니다.");
+        }
+
+        log.info("메뉴 일괄 등록 - 레스토랑ID: {}, 형식: {}, {}건", restaurantId, format, imported);
+        return MenuImportResponse.builder()
+                .restaurantId(restaurantId)
+                .importedCount(imported)
+                .firstDisplayOrder(firstDisplayOrder)
+                .lastDisplayOrder(displayOrder - 1)
+                .build();
+    }
+
+    // @Valid 와 같은 제약으로 검증하고, 첫 번째 위반을 행 번호와 함께 알린다
+    private void validate(long row, MenuCreateRequest request) {
+        validator.validate(request).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .ifPresent(violation -> {
+                    throw new InvalidMenuImportException(row, violation.getPropertyPath().toString(),
+                            String.valueOf(violation.getInvalidValue()), violation.getMessage());
+                });
+    }
+}
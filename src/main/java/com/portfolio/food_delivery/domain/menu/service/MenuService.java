@@ -5,17 +5,29 @@ import com.portfolio.food_delivery.domain.menu.dto.MenuResponse;
 import com.portfolio.food_delivery.domain.menu.dto.MenuUpdateRequest;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.event.MenuChangedEvent;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuOrderException;
 import com.portfolio.food_delivery.domain.menu.exception.MenuNotFoundException;
 import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.popularity.PopularityTracker;
+import com.portfolio.food_delivery.domain.order.popularity.RankingType;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
 import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
 import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,10 +37,13 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final RestaurantRepository restaurantRepository;
+    private final PopularityTracker popularityTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MenuResponse createMenu(Long restaurantId, Long userId, MenuCreateRequest request) {
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        // 레스토랑을 잠가 동시에 등록된 메뉴가 같은 표시 순서를 받지 않게 한다
+        Restaurant restaurant = restaurantRepository.findByIdForUpdate(restaurantId)
                 .orElseThrow(() -> new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다."));
 
         // 권한 확인
@@ -36,8 +51,8 @@ public class MenuService {
             throw new UnauthorizedException("메뉴 등록 권한이 없습니다.");
         }
 
-        // 표시 순서 계산
-        Integer displayOrder = menuRepository.countByRestaurantId(restaurantId) + 1;
+        // 표시 순서 계산 (맨 뒤)
+        int displayOrder = menuRepository.findMaxDisplayOrder(restaurantId) + 1;
 
         Menu menu = Menu.builder()
                 .restaurant(restaurant)
@@ -49,6 +64,7 @@ public class MenuService {
                 .build();
 
         Menu savedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(MenuChangedEvent.from(savedMenu));
         return MenuResponse.from(savedMenu);
     }
 
@@ -65,6 +81,23 @@ public class MenuService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 인기/급상승 순 메뉴판 - 순위에 든 메뉴를 앞에, 나머지는 진열 순서대로 뒤에 둔다.
+     * 메뉴는 진열 순서 조회(쿼리 캐시)를 그대로 쓰고 순위만 메모리의 추적기에서 받는다.
+     */
+    public List<MenuResponse> getRankedMenus(Long restaurantId, RankingType type) {
+        List<MenuResponse> menus = getMenusByRestaurant(restaurantId);
+        List<Long> rankedIds = popularityTracker.rankMenus(restaurantId, type, LocalDateTime.now());
+
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            ranks.put(rankedIds.get(i), i);
+        }
+        // 안정 정렬이라 순위 밖 메뉴끼리는 진열 순서가 유지된다
+        menus.sort(Comparator.comparingInt(menu -> ranks.getOrDefault(menu.getId(), Integer.MAX_VALUE)));
+        return menus;
+    }
+
     @Transactional
     public MenuResponse updateMenu(Long menuId, Long userId, MenuUpdateRequest request) {
         Menu menu = menuRepository.findById(menuId)
@@ -82,9 +115,45 @@ public class MenuService {
                 request.getImageUrl()
         );
 
+        eventPublisher.publishEvent(MenuChangedEvent.from(menu));
         return MenuResponse.from(menu);
     }
 
+    /**
+     * 메뉴 순서 변경
+     * 삭제되지 않은 메뉴 전체를 요청한 순서대로 1부터 번호를 다시 매긴다.
+     * 한 번 조회한 뒤 바뀐 메뉴만 UPDATE 되며, 같은 형태의 UPDATE 라 JDBC 배치 하나로 묶여 나간다.
+     */
+    @Transactional
+    public List<MenuResponse> reorderMenus(Long restaurantId, Long userId, List<Long> menuIds) {
+        Restaurant restaurant = restaurantRepository.findByIdForUpdate(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다."));
+
+        // 권한 확인
+        if (!restaurant.isOwnedBy(userId)) {
+            throw new UnauthorizedException("메뉴 순서 변경 권한이 없습니다.");
+        }
+
+        Map<Long, Menu> menus = menuRepository.findByRestaurantIdOrderByDisplayOrder(restaurantId).stream()
+                .filter(menu -> menu.getStatus() != MenuStatus.DELETED)
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
+        // 빠지거나 중복되거나 다른 레스토랑의 메뉴가 섞이면 순서가 애매해지므로 거절
+        if (menuIds.size() != menus.size() || new HashSet<>(menuIds).size() != menuIds.size()
+                || !menus.keySet().containsAll(menuIds)) {
+            throw new InvalidMenuOrderException("메뉴 순서에는 레스토랑의 모든 메뉴가 한 번씩 들어 있어야 합니다.");
+        }
+
+        List<MenuResponse> responses = new ArrayList<>(menuIds.size());
+        int displayOrder = 1;
+        for (Long menuId : menuIds) {
+            Menu menu = menus.get(menuId);
+            menu.updateDisplayOrder(displayOrder++);
+            responses.add(MenuResponse.from(menu));
+        }
+        return responses;
+    }
+
     @Transactional
     public MenuResponse updateMenuStatus(Long menuId, Long userId, MenuStatus status) {
         Menu menu = menuRepository.findById(menuId)
@@ -96,6 +165,7 @@ public class MenuService {
         }
 
         menu.updateStatus(status);
+        eventPublisher.publishEvent(MenuChangedEvent.from(menu));
         return MenuResponse.from(menu);
     }
 
@@ -111,5 +181,6 @@ public class MenuService {
 
         // 소프트 삭제
         menu.delete();
+        eventPublisher.publishEvent(MenuChangedEvent.from(menu));
     }
 }
\ No newline at end of file
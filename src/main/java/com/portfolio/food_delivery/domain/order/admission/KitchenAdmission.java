@@ -0,0 +1,159 @@
+package com.portfolio.food_delivery.domain.order.admission;
+
+import com.portfolio.food_delivery.domain.order.dto.RestaurantLoadRow;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.exception.KitchenBusyException;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주방 수용량 기반 주문 접수 제어
+ *
+ * 레스토랑마다 조리가 끝나지 않은 주문 수와 최근 처리량(KitchenLoad)을 메모리에 두고,
+ * 받아도 max-wait-minutes 안에 조리를 시작하지 못할 주문은 받지 않는다. 판단에 DB 조회가 없다.
+ *
+ * 수용량은 처리량 × 최대 대기 시간이며 min/max-capacity 사이로 제한한다. 처리량 표본이 모자라면 default-capacity 를 쓴다.
+ * 접수 시 자리를 잡고 트랜잭션이 롤백되면 돌려주며, 조리 완료/취소는 커밋된 상태 변경 이벤트로 반영한다.
+ */
+@Slf4j
+@Component
+public class KitchenAdmission {
+
+    private static final Set<OrderStatus> KITCHEN_STATUSES =
+            EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING);
+
+    private final OrderRepository orderRepository;
+    private final boolean enabled;
+    private final int defaultCapacity;
+    private final int minCapacity;
+    private final int maxCapacity;
+    private final int minSamples;
+    private final Duration maxWait;
+
+    private final ConcurrentHashMap<Long, KitchenLoad> loads = new ConcurrentHashMap<>();
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public KitchenAdmission(OrderRepository orderRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${kitchen.admission.enabled:true}") boolean enabled,
+                            @Value("${kitchen.admission.default-capacity:30}") int defaultCapacity,
+                            @Value("${kitchen.admission.min-capacity:5}") int minCapacity,
+                            @Value("${kitchen.admission.max-capacity:200}") int maxCapacity,
+                            @Value("${kitchen.admission.min-samples:10}") int minSamples,
+                            @Value("${kitchen.admission.max-wait-minutes:40}") long maxWaitMinutes) {
+        this.orderRepository = orderRepository;
+        this.enabled = enabled;
+        this.defaultCapacity = defaultCapacity;
+        this.minCapacity = minCapacity;
+        this.maxCapacity = maxCapacity;
+        this.minSamples = minSamples;
+        this.maxWait = Duration.ofMinutes(maxWaitMinutes);
+
+        this.admittedCounter = Counter.builder("kitchen.admission").tag("result", "admitted").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("kitchen.admission").tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("kitchen.orders.active", loads,
+                        map -> map.values().stream().mapToInt(KitchenLoad::active).sum())
+                .register(meterRegistry);
+    }
+
+    // 기동 시 조리가 끝나지 않은 주문 수로 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<RestaurantLoadRow> rows = orderRepository.countByRestaurantAndStatusIn(KITCHEN_STATUSES);
+        for (RestaurantLoadRow row : rows) {
+            load(row.restaurantId()).add((int) row.activeOrders());
+        }
+        log.info("주방 수용량 초기화 - 조리 대기 주문이 있는 레스토랑 {}곳", rows.size());
+    }
+
+    /**
+     * 주문 한 건을 받을 자리를 잡는다. 현재 트랜잭션이 롤백되면 자리를 돌려준다.
+     * @throws KitchenBusyException 주방이 수용량만큼 밀려 있을 때 (예상 대기 시간 포함)
+     */
+    public void admit(Long restaurantId) {
+        if (!enabled) {
+            return;
+        }
+        KitchenLoad load = load(restaurantId);
+        int capacity = capacity(load);
+        if (!load.tryReserve(capacity)) {
+            rejectedCounter.increment();
+            Duration wait = expectedWait(load, capacity);
+            throw new KitchenBusyException(
+                    "주문이 밀려 있습니다. 약 " + Math.max(1, wait.toMinutes()) + "분 뒤에 다시 주문해 주세요.", wait);
+        }
+        admittedCounter.increment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        load.release();
+                    }
+                }
+            });
+        }
+    }
+
+    // 커밋된 상태 전환 중 주방을 벗어나는 것(조리 완료/취소)만 반영한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        recordTransition(event, System.nanoTime());
+    }
+
+    void recordTransition(OrderStatusChangedEvent event, long nowNanos) {
+        boolean leavesKitchen = KITCHEN_STATUSES.contains(event.previousStatus())
+                && !KITCHEN_STATUSES.contains(event.status());
+        if (!enabled || !leavesKitchen) {
+            return;
+        }
+        KitchenLoad load = load(event.restaurantId());
+        if (event.status() == OrderStatus.CANCELLED) {
+            load.release();
+        } else {
+            load.complete(nowNanos);
+        }
+    }
+
+    int capacity(KitchenLoad load) {
+        if (load.samples() < minSamples) {
+            return defaultCapacity;
+        }
+        long capacity = (long) (maxWait.toNanos() / load.serviceIntervalNanos());
+        return (int) Math.max(minCapacity, Math.min(maxCapacity, capacity));
+    }
+
+    // 밀린 주문이 빠져서 한 자리가 날 때까지의 시간
+    Duration expectedWait(KitchenLoad load, int capacity) {
+        double intervalNanos = load.samples() < minSamples
+                ? (double) maxWait.toNanos() / defaultCapacity
+                : load.serviceIntervalNanos();
+        int ahead = Math.max(1, load.active() - capacity + 1);
+        return Duration.ofNanos((long) (intervalNanos * ahead));
+    }
+
+    KitchenLoad load(Long restaurantId) {
+        return loads.computeIfAbsent(restaurantId, id -> new KitchenLoad());
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.food_delivery.domain.order.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레스토랑 하나의 주방 부하
+ *
+ * - active: 조리가 끝나지 않은(PENDING/CONFIRMED/PREPARING) 주문 수. 접수 시 CAS 로 자리를 잡는다.
+ * - serviceInterval: 주방이 밀려 있는 동안 조리 완료 사이 간격의 지수 이동 평균 (= 1 / 처리량).
+ *   한가할 때의 간격은 주문이 뜸해서 벌어진 것이므로 표본으로 쓰지 않는다.
+ *
+ * 모든 갱신은 원자 변수의 CAS 로만 이뤄지며 락을 잡지 않는다.
+ */
+final class KitchenLoad {
+
+    private static final long NOT_BUSY = Long.MIN_VALUE;
+    private static final double SMOOTHING = 0.2;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong lastBusyCompletionNanos = new AtomicLong(NOT_BUSY);
+    private final AtomicLong serviceIntervalBits = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+    private final AtomicInteger samples = new AtomicInteger();
+
+    // 수용량 안이면 자리를 하나 잡는다
+    boolean tryReserve(int capacity) {
+        while (true) {
+            int current = active.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void add(int orders) {
+        active.addAndGet(orders);
+    }
+
+    // 초기화 이전에 접수된 주문 등으로 어긋나도 음수로 내려가지 않게 한다
+    int release() {
+        return active.updateAndGet(current -> current > 0 ? current - 1 : 0);
+    }
+
+    // 조리 완료 - 직전 완료 이후 주방이 계속 일하고 있었다면 그 간격을 처리량 표본으로 쓴다
+    void complete(long nowNanos) {
+        int remaining = release();
+        long previous = lastBusyCompletionNanos.getAndSet(remaining > 0 ? nowNanos : NOT_BUSY);
+        if (previous != NOT_BUSY && nowNanos > previous) {
+            double sample = nowNanos - previous;
+            serviceIntervalBits.accumulateAndGet(Double.doubleToRawLongBits(sample), (currentBits, sampleBits) -> {
+                double current = Double.longBitsToDouble(currentBits);
+                double next = Double.longBitsToDouble(sampleBits);
+                return Double.doubleToRawLongBits(Double.isNaN(current) ? next : current + SMOOTHING * (next - current));
+            });
+            samples.incrementAndGet();
+        }
+    }
+
+    int active() {
+        return active.get();
+    }
+
+    int samples() {
+        return samples.get();
+    }
+
+    // 표본이 없으면 NaN
+    double serviceIntervalNanos() {
+        return Double.longBitsToDouble(serviceIntervalBits.get());
+    }
+}
@@ -71,11 +71,13 @@ public class OrderController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/from-cart")
-    public ResponseEntity<OrderResponse> createOrderFromCart() {
+    public ResponseEntity<OrderResponse> createOrderFromCart(
+            @Parameter(description = "쿠폰 코드", example = "WELCOME3000")
+            @RequestParam(required = false) String couponCode) {
         String email = SecurityUtil.getCurrentUserEmailOrThrow();
         Long userId = userService.getUserIdByEmail(email);
 
-        OrderResponse response = orderService.createOrderFromCart(userId);
+        OrderResponse response = orderService.createOrderFromCart(userId, couponCode);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
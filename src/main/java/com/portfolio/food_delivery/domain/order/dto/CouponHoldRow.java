@@ -0,0 +1,9 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 수량 복원용 결제 대기 주문 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record CouponHoldRow(Long orderId, Long userId, LocalDateTime orderedAt) {
+}
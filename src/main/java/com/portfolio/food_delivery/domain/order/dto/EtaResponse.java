@@ -0,0 +1,35 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+import com.portfolio.food_delivery.domain.order.eta.EtaEstimate;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "배달 예상 시각")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EtaResponse {
+
+    @Schema(description = "도착 예상 시각 (중앙값)", example = "2025-01-15T13:05:00")
+    private LocalDateTime expectedAt;
+
+    @Schema(description = "늦어도 도착하는 시각 (90분위)", example = "2025-01-15T13:20:00")
+    private LocalDateTime latestAt;
+
+    @Schema(description = "추정 근거 (RESTAURANT_HOUR, RESTAURANT, HOUR, GLOBAL, DEFAULT)", example = "RESTAURANT_HOUR")
+    private EtaEstimate.Basis basis;
+
+    public static EtaResponse from(EtaEstimate estimate) {
+        return EtaResponse.builder()
+                .expectedAt(estimate.expectedAt())
+                .latestAt(estimate.latestAt())
+                .basis(estimate.basis())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.util.List;
@@ -36,4 +37,8 @@ public class OrderCreateRequest {
 
     @Schema(description = "요청사항", example = "문 앞에 놔주세요", required = false)
     private String request;
+
+    @Schema(description = "쿠폰 코드", example = "WELCOME3000", required = false)
+    @Size(max = 30, message = "쿠폰 코드는 30자 이하여야 합니다.")
+    private String couponCode;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.portfolio.food_delivery.domain.order.dto;
 
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.order.entity.OrderItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class OrderItemResponse {
+    @JsonStringId
     private Long id;
+    @JsonStringId
     private Long menuId;
     private String menuName;
     private Integer quantity;
@@ -0,0 +1,9 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배차 엔진 초기화용 배차 대기 주문의 픽업 위치 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record OrderPickupRow(Long orderId, LocalDateTime readyAt, Double latitude, Double longitude) {
+}
@@ -0,0 +1,14 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 레스토랑 추적기 초기화용 주문 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record OrderPlacementRow(
+        Long restaurantId,
+        RestaurantCategory category,
+        LocalDateTime orderedAt
+) {}
@@ -1,8 +1,10 @@
 package com.portfolio.food_delivery.domain.order.dto;
 
 import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.eta.EtaEstimate;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +22,8 @@ import java.util.stream.Collectors;
 @Builder
 public class OrderResponse {
 
-    @Schema(description = "주문 ID", example = "1")
+    @Schema(description = "주문 ID", type = "string", example = "371239482906181632")
+    @JsonStringId
     private Long id;
 
     @Schema(description = "사용자 ID", example = "1")
@@ -32,6 +35,9 @@ public class OrderResponse {
     @Schema(description = "레스토랑명", example = "맛있는 치킨")
     private String restaurantName;
 
+    @Schema(description = "배달 파트너 ID (배차 전에는 null)", example = "7")
+    private Long riderId;
+
     @Schema(description = "주문 항목 목록")
     private List<OrderItemResponse> orderItems;
 
@@ -50,12 +56,33 @@ public class OrderResponse {
     @Schema(description = "배달료", example = "3000")
     private Integer deliveryFee;
 
+    @Schema(description = "적용된 쿠폰 ID", example = "1")
+    private Long couponId;
+
+    @Schema(description = "쿠폰 할인 금액", example = "3000")
+    private Integer discountAmount;
+
+    @Schema(description = "결제 금액 (총 금액 + 배달료 - 할인)", example = "25000")
+    private Integer paymentAmount;
+
     @Schema(description = "주문 상태", example = "PENDING")
     private OrderStatus status;
 
     @Schema(description = "주문일시", example = "2025-01-15T12:30:00")
     private LocalDateTime orderedAt;
 
+    @Schema(description = "주문 확인일시", example = "2025-01-15T12:32:00")
+    private LocalDateTime confirmedAt;
+
+    @Schema(description = "조리 완료일시", example = "2025-01-15T12:55:00")
+    private LocalDateTime readyAt;
+
+    @Schema(description = "배달 출발일시", example = "2025-01-15T13:00:00")
+    private LocalDateTime pickedUpAt;
+
+    @Schema(description = "배달 완료일시", example = "2025-01-15T13:25:00")
+    private LocalDateTime deliveredAt;
+
     @Schema(description = "완료일시", example = "2025-01-15T13:30:00")
     private LocalDateTime completedAt;
 
@@ -65,11 +92,19 @@ public class OrderResponse {
     @Schema(description = "리뷰 작성 여부", example = "false")
     private boolean hasReview;
 
+    @Schema(description = "배달 예상 시각 (진행 중인 주문만)")
+    private EtaResponse eta;
+
     public static OrderResponse from(Order order) {
+        return from(order, null);
+    }
+
+    public static OrderResponse from(Order order, EtaEstimate eta) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .userId(order.getUser().getId())
                 .restaurantId(order.getRestaurant().getId())
+                .riderId(order.getRider() != null ? order.getRider().getId() : null)
                 .restaurantName(order.getRestaurant().getName())
                 .orderItems(order.getOrderItems().stream()
                         .map(OrderItemResponse::from)
@@ -79,11 +114,19 @@ public class OrderResponse {
                 .request(order.getRequest())
                 .totalAmount(order.getTotalAmount())
                 .deliveryFee(order.getDeliveryFee())
+                .couponId(order.getCoupon() != null ? order.getCoupon().getId() : null)
+                .discountAmount(order.getDiscountAmount())
+                .paymentAmount(order.getPaymentAmount())
                 .status(order.getStatus())
                 .orderedAt(order.getOrderedAt())
+                .confirmedAt(order.getConfirmedAt())
+                .readyAt(order.getReadyAt())
+                .pickedUpAt(order.getPickedUpAt())
+                .deliveredAt(order.getDeliveredAt())
                 .completedAt(order.getCompletedAt())
                 .cancelReason(order.getCancelReason())
                 .hasReview(order.hasReview())
+                .eta(eta != null ? EtaResponse.from(eta) : null)
                 .build();
     }
 }
\ No newline at end of file
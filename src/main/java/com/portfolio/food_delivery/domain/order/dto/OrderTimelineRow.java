@@ -0,0 +1,13 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 예상 시간 추정기 초기화용 완료 주문의 단계별 시각 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record OrderTimelineRow(
+        Long restaurantId,
+        LocalDateTime orderedAt,
+        LocalDateTime readyAt,
+        LocalDateTime deliveredAt
+) {}
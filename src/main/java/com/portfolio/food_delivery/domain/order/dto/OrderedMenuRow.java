@@ -0,0 +1,13 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 메뉴 추적기 초기화용 주문 항목 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record OrderedMenuRow(
+        Long restaurantId,
+        Long menuId,
+        Integer quantity,
+        LocalDateTime orderedAt
+) {}
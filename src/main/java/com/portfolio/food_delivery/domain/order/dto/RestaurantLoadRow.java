@@ -0,0 +1,7 @@
+package com.portfolio.food_delivery.domain.order.dto;
+
+/**
+ * 주방 수용량 초기화용 레스토랑별 진행 중 주문 수
+ */
+public record RestaurantLoadRow(Long restaurantId, long activeOrders) {
+}
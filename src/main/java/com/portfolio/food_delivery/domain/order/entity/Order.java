@@ -2,6 +2,8 @@ package com.portfolio.food_delivery.domain.order.entity;
 
 import com.portfolio.food_delivery.common.entity.Address;
 import com.portfolio.food_delivery.common.entity.BaseEntity;
+import com.portfolio.food_delivery.common.id.TimeOrderedId;
+import com.portfolio.food_delivery.domain.coupon.entity.Coupon;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.review.entity.Review;
 import com.portfolio.food_delivery.domain.user.entity.User;
@@ -13,7 +15,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_ordered_at", columnList = "user_id, ordered_at"),
+        @Index(name = "idx_orders_restaurant_ordered_at", columnList = "restaurant_id, ordered_at"),
+        @Index(name = "idx_orders_status_ordered_at", columnList = "status, ordered_at"),
+        @Index(name = "idx_orders_rider_status", columnList = "rider_id, status"),
+        @Index(name = "idx_orders_coupon_status", columnList = "coupon_id, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -21,7 +29,7 @@ import java.util.List;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +40,11 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 
+    // 배차된 배달 파트너 (배차 전에는 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rider_id")
+    private User rider;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
@@ -53,6 +66,15 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private Integer deliveryFee;
 
+    // 적용된 쿠폰 (없으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "coupon_id")
+    private Coupon coupon;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer discountAmount = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -61,6 +83,17 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime orderedAt;
 
+    // 상태별 전환 시각 (배달 예상 시간 추정에 사용)
+    private LocalDateTime confirmedAt;
+
+    private LocalDateTime preparingAt;
+
+    private LocalDateTime readyAt;
+
+    private LocalDateTime pickedUpAt;
+
+    private LocalDateTime deliveredAt;
+
     private LocalDateTime completedAt;
 
     private String cancelReason;
@@ -71,12 +104,36 @@ public class Order extends BaseEntity {
     }
 
     public void updateStatus(OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
         this.status = status;
-        if (status == OrderStatus.DELIVERED || status == OrderStatus.CANCELLED) {
-            this.completedAt = LocalDateTime.now();
+        switch (status) {
+            case CONFIRMED -> this.confirmedAt = now;
+            case PREPARING -> this.preparingAt = now;
+            case READY -> this.readyAt = now;
+            case DELIVERING -> this.pickedUpAt = now;
+            case DELIVERED -> {
+                this.deliveredAt = now;
+                this.completedAt = now;
+            }
+            case CANCELLED -> this.completedAt = now;
+            default -> {
+            }
         }
     }
 
+    // 조리 완료된 주문에 배달 파트너를 배정하고 배달을 시작한다
+    public void assignRider(User rider) {
+        if (status != OrderStatus.READY || this.rider != null) {
+            throw new IllegalStateException("배차할 수 없는 주문 상태입니다: " + status);
+        }
+        this.rider = rider;
+        updateStatus(OrderStatus.DELIVERING);
+    }
+
+    public boolean isDeliveredBy(Long riderId) {
+        return this.rider != null && this.rider.getId().equals(riderId);
+    }
+
     public void cancel(String reason) {
         if (!canCancel()) {
             throw new IllegalStateException("이미 조리가 시작되어 취소할 수 없습니다.");
@@ -86,6 +143,15 @@ public class Order extends BaseEntity {
         this.completedAt = LocalDateTime.now();
     }
 
+    // 결제할 금액 (메뉴 금액 + 배달료 - 쿠폰 할인)
+    public int getPaymentAmount() {
+        return totalAmount + deliveryFee - discountAmount;
+    }
+
+    public boolean isFinished() {
+        return status == OrderStatus.DELIVERED || status == OrderStatus.CANCELLED;
+    }
+
     public boolean canCancel() {
         return status == OrderStatus.PENDING || status == OrderStatus.CONFIRMED;
     }
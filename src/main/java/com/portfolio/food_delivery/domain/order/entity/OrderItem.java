@@ -1,5 +1,6 @@
 package com.portfolio.food_delivery.domain.order.entity;
 
+import com.portfolio.food_delivery.common.id.TimeOrderedId;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import jakarta.persistence.*;
 import lombok.*;
@@ -13,7 +14,7 @@ import lombok.*;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,207 @@
+package com.portfolio.food_delivery.domain.order.eta;
+
+import com.portfolio.food_delivery.domain.order.dto.OrderTimelineRow;
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 배달 예상 시간 추정기
+ *
+ * 조리(주문 → 조리 완료)와 배달(조리 완료 → 배달 완료) 소요 시간을 단계별로 나눠
+ * 레스토랑 × 요일/시간대(주 168칸)마다 LatencySketch 에 쌓는다.
+ * 주문이 READY / DELIVERED 로 바뀌는 이벤트마다 한 건씩 반영하고, 기동 시에는 최근 완료 주문으로 채운다.
+ *
+ * 조회는 표본이 충분한 가장 좁은 범위(레스토랑+시간대 → 레스토랑 → 시간대 → 전체)를 쓰며 DB에 접근하지 않는다.
+ */
+@Slf4j
+@Component
+public class DeliveryEtaEstimator {
+
+    private static final int HOURS_PER_WEEK = 7 * 24;
+    private static final double EXPECTED_QUANTILE = 0.5;
+    private static final double LATEST_QUANTILE = 0.9;
+
+    private final OrderRepository orderRepository;
+    private final int minSamples;
+    private final int warmupDays;
+    private final Duration defaultPreparation;
+    private final Duration defaultDelivery;
+
+    private final Stage preparation = new Stage();
+    private final Stage delivery = new Stage();
+
+    public DeliveryEtaEstimator(OrderRepository orderRepository,
+                                @Value("${eta.min-samples:20}") int minSamples,
+                                @Value("${eta.warmup-days:28}") int warmupDays,
+                                @Value("${eta.default-preparation-minutes:20}") long defaultPreparationMinutes,
+                                @Value("${eta.default-delivery-minutes:25}") long defaultDeliveryMinutes) {
+        this.orderRepository = orderRepository;
+        this.minSamples = minSamples;
+        this.warmupDays = warmupDays;
+        this.defaultPreparation = Duration.ofMinutes(defaultPreparationMinutes);
+        this.defaultDelivery = Duration.ofMinutes(defaultDeliveryMinutes);
+    }
+
+    // 기동 시 최근 완료 주문으로 분포를 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long loaded = 0;
+        try (Stream<OrderTimelineRow> rows = orderRepository.streamTimelinesByStatus(
+                OrderStatus.DELIVERED, LocalDateTime.now().minusDays(warmupDays))) {
+            Iterator<OrderTimelineRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                OrderTimelineRow row = iterator.next();
+                record(row.restaurantId(), row.orderedAt(), row.readyAt(), row.deliveredAt());
+                loaded++;
+            }
+        }
+        log.info("배달 예상 시간 추정기 초기화 - 최근 {}일 완료 주문 {}건", warmupDays, loaded);
+    }
+
+    // 커밋된 상태 전환만 반영 - 방금 끝난 단계의 표본만 더한다 (조리 표본이 두 번 들어가지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        if (event.readyAt() == null) {
+            return;
+        }
+        int hour = hourOfWeek(event.orderedAt());
+        if (event.status() == OrderStatus.READY) {
+            preparation.record(event.restaurantId(), hour, Duration.between(event.orderedAt(), event.readyAt()));
+        } else if (event.status() == OrderStatus.DELIVERED && event.deliveredAt() != null) {
+            delivery.record(event.restaurantId(), hour, Duration.between(event.readyAt(), event.deliveredAt()));
+        }
+    }
+
+    // 진행 중인 주문의 배달 예상 시각 (완료/취소된 주문은 없음)
+    public Optional<EtaEstimate> estimate(Order order, LocalDateTime now) {
+        if (order.isFinished()) {
+            return Optional.empty();
+        }
+        Long restaurantId = order.getRestaurant().getId();
+        int hour = hourOfWeek(order.getOrderedAt());
+        Quantiles delivering = delivery.quantiles(restaurantId, hour);
+
+        LocalDateTime readyExpected;
+        LocalDateTime readyLatest;
+        EtaEstimate.Basis basis;
+        if (order.getReadyAt() != null) {
+            readyExpected = order.getReadyAt();
+            readyLatest = order.getReadyAt();
+            basis = delivering.basis();
+        } else {
+            Quantiles preparing = preparation.quantiles(restaurantId, hour);
+            readyExpected = latest(order.getOrderedAt().plus(preparing.expected()), now);
+            readyLatest = latest(order.getOrderedAt().plus(preparing.latest()), now);
+            basis = preparing.basis().ordinal() > delivering.basis().ordinal() ? preparing.basis() : delivering.basis();
+        }
+
+        return Optional.of(new EtaEstimate(
+                latest(readyExpected.plus(delivering.expected()), now),
+                latest(readyLatest.plus(delivering.latest()), now),
+                basis));
+    }
+
+    // 지금 주문하면 언제 도착하는지
+    public EtaEstimate estimateNewOrder(Long restaurantId, LocalDateTime now) {
+        int hour = hourOfWeek(now);
+        Quantiles preparing = preparation.quantiles(restaurantId, hour);
+        Quantiles delivering = delivery.quantiles(restaurantId, hour);
+        return new EtaEstimate(
+                now.plus(preparing.expected()).plus(delivering.expected()),
+                now.plus(preparing.latest()).plus(delivering.latest()),
+                preparing.basis().ordinal() > delivering.basis().ordinal() ? preparing.basis() : delivering.basis());
+    }
+
+    void record(Long restaurantId, LocalDateTime orderedAt, LocalDateTime readyAt, LocalDateTime deliveredAt) {
+        int hour = hourOfWeek(orderedAt);
+        if (readyAt != null) {
+            preparation.record(restaurantId, hour, Duration.between(orderedAt, readyAt));
+            if (deliveredAt != null) {
+                delivery.record(restaurantId, hour, Duration.between(readyAt, deliveredAt));
+            }
+        }
+    }
+
+    static int hourOfWeek(LocalDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Quantiles(Duration expected, Duration latest, EtaEstimate.Basis basis) {}
+
+    // 한 단계(조리 또는 배달)의 소요 시간 분포
+    private final class Stage {
+
+        private final ConcurrentHashMap<Long, LatencySketch> restaurantHourly = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, LatencySketch> restaurantOverall = new ConcurrentHashMap<>();
+        private final LatencySketch[] hourly = new LatencySketch[HOURS_PER_WEEK];
+        private final LatencySketch overall = new LatencySketch();
+
+        private Stage() {
+            for (int i = 0; i < HOURS_PER_WEEK; i++) {
+                hourly[i] = new LatencySketch();
+            }
+        }
+
+        void record(Long restaurantId, int hour, Duration elapsed) {
+            if (elapsed.isNegative()) {
+                return;
+            }
+            long seconds = elapsed.toSeconds();
+            restaurantHourly.computeIfAbsent(restaurantId * HOURS_PER_WEEK + hour, key -> new LatencySketch()).record(seconds);
+            restaurantOverall.computeIfAbsent(restaurantId, key -> new LatencySketch()).record(seconds);
+            hourly[hour].record(seconds);
+            overall.record(seconds);
+        }
+
+        Quantiles quantiles(Long restaurantId, int hour) {
+            LatencySketch sketch = restaurantHourly.get(restaurantId * HOURS_PER_WEEK + hour);
+            if (hasEnough(sketch)) {
+                return quantilesOf(sketch, EtaEstimate.Basis.RESTAURANT_HOUR);
+            }
+            sketch = restaurantOverall.get(restaurantId);
+            if (hasEnough(sketch)) {
+                return quantilesOf(sketch, EtaEstimate.Basis.RESTAURANT);
+            }
+            if (hasEnough(hourly[hour])) {
+                return quantilesOf(hourly[hour], EtaEstimate.Basis.HOUR);
+            }
+            if (hasEnough(overall)) {
+                return quantilesOf(overall, EtaEstimate.Basis.GLOBAL);
+            }
+            Duration fallback = this == preparation ? defaultPreparation : defaultDelivery;
+            return new Quantiles(fallback, fallback.multipliedBy(3).dividedBy(2), EtaEstimate.Basis.DEFAULT);
+        }
+
+        private boolean hasEnough(LatencySketch sketch) {
+            return sketch != null && sketch.count() >= minSamples;
+        }
+
+        private Quantiles quantilesOf(LatencySketch sketch, EtaEstimate.Basis basis) {
+            return new Quantiles(
+                    Duration.ofSeconds(sketch.quantile(EXPECTED_QUANTILE)),
+                    Duration.ofSeconds(sketch.quantile(LATEST_QUANTILE)),
+                    basis);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.portfolio.food_delivery.domain.order.eta;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 예상 시각
+ *
+ * @param expectedAt 배달 완료 예상 시각 (중앙값 기준)
+ * @param latestAt   늦어도 이 시각 안에는 도착 (90분위 기준)
+ * @param basis      추정에 쓴 표본 범위
+ */
+public record EtaEstimate(
+        LocalDateTime expectedAt,
+        LocalDateTime latestAt,
+        Basis basis
+) {
+
+    public enum Basis {
+        RESTAURANT_HOUR,    // 레스토랑 + 같은 요일/시간대
+        RESTAURANT,         // 레스토랑 전체
+        HOUR,               // 전체 레스토랑 + 같은 요일/시간대
+        GLOBAL,             // 전체
+        DEFAULT             // 표본 부족 - 기본값
+    }
+}
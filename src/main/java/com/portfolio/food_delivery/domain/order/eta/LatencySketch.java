@@ -0,0 +1,73 @@
+package com.portfolio.food_delivery.domain.order.eta;
+
+/**
+ * 소요 시간(초) 분포를 보관하는 로그 스케일 히스토그램 (HDR 히스토그램과 같은 방식)
+ *
+ * 1초 ~ 약 4.5시간을 2배 구간(옥타브)마다 8칸으로 나누므로 분위수 오차는 칸 너비의 절반(약 6%) 이내다.
+ * 칸이 112개라 인스턴스 하나가 0.5KB 정도이고, 기록과 조회 모두 배열 연산만 한다.
+ * 표본이 DECAY_THRESHOLD 를 넘으면 모든 칸을 절반으로 줄여 최근 표본의 비중을 높인다.
+ */
+final class LatencySketch {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int OCTAVES = 14;                   // 2^14초 ≈ 4.5시간
+    private static final long MAX_SECONDS = (1L << OCTAVES) - 1;
+    private static final int DECAY_THRESHOLD = 4096;
+
+    private final int[] counts = new int[OCTAVES * SUB_BUCKETS];
+    private int total;
+
+    synchronized void record(long seconds) {
+        counts[indexOf(Math.min(Math.max(seconds, 1), MAX_SECONDS))]++;
+        total++;
+        if (total >= DECAY_THRESHOLD) {
+            decay();
+        }
+    }
+
+    synchronized int count() {
+        return total;
+    }
+
+    // q 분위수(0~1)에 해당하는 칸의 중앙값 (표본이 없으면 -1)
+    synchronized long quantile(double q) {
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return midpointOf(i);
+            }
+        }
+        return midpointOf(counts.length - 1);
+    }
+
+    private void decay() {
+        total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] >>= 1;
+            total += counts[i];
+        }
+    }
+
+    // 옥타브(최상위 비트 위치) + 그 아래 SUB_BUCKET_BITS 비트로 칸을 고른다
+    static int indexOf(long seconds) {
+        int octave = 63 - Long.numberOfLeadingZeros(seconds);
+        int sub = octave >= SUB_BUCKET_BITS
+                ? (int) (seconds >>> (octave - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1)
+                : (int) (seconds << (SUB_BUCKET_BITS - octave)) & (SUB_BUCKETS - 1);
+        return octave * SUB_BUCKETS + sub;
+    }
+
+    static long midpointOf(int index) {
+        int octave = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        double width = (double) (1L << octave) / SUB_BUCKETS;
+        double lower = (1L << octave) + sub * width;
+        return Math.round(lower + width / 2);
+    }
+}
@@ -0,0 +1,33 @@
+package com.portfolio.food_delivery.domain.order.event;
+
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트
+ * 리스너는 커밋 이후에 실행되므로 엔티티 대신 필요한 값만 복사해서 담는다.
+ */
+public record OrderPlacedEvent(
+        Long orderId,
+        Long restaurantId,
+        RestaurantCategory category,
+        LocalDateTime orderedAt,
+        List<Item> items) {
+
+    public record Item(Long menuId, int quantity) {}
+
+    public static OrderPlacedEvent from(Order order) {
+        List<Item> items = order.getOrderItems().stream()
+                .map(orderItem -> new Item(orderItem.getMenu().getId(), orderItem.getQuantity()))
+                .toList();
+        return new OrderPlacedEvent(
+                order.getId(),
+                order.getRestaurant().getId(),
+                order.getRestaurant().getCategory(),
+                order.getOrderedAt(),
+                items);
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.food_delivery.domain.order.event;
+
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트
+ * 리스너는 커밋 이후에 실행되므로 엔티티 대신 필요한 값만 복사해서 담는다.
+ * 어떤 단계를 벗어났는지 알 수 있도록 변경 전 상태도 함께 담는다.
+ */
+public record OrderStatusChangedEvent(
+        Long orderId,
+        Long restaurantId,
+        Long riderId,
+        OrderStatus previousStatus,
+        OrderStatus status,
+        LocalDateTime orderedAt,
+        LocalDateTime readyAt,
+        LocalDateTime deliveredAt,
+        Double pickupLatitude,
+        Double pickupLongitude,
+        Long couponId) {
+
+    public static OrderStatusChangedEvent from(Order order, OrderStatus previousStatus) {
+        Restaurant restaurant = order.getRestaurant();
+        return new OrderStatusChangedEvent(
+                order.getId(),
+                restaurant.getId(),
+                order.getRider() != null ? order.getRider().getId() : null,
+                previousStatus,
+                order.getStatus(),
+                order.getOrderedAt(),
+                order.getReadyAt(),
+                order.getDeliveredAt(),
+                restaurant.getLatitude(),
+                restaurant.getLongitude(),
+                order.getCoupon() != null ? order.getCoupon().getId() : null);
+    }
+}
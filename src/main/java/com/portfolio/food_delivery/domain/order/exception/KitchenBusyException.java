@@ -0,0 +1,19 @@
+package com.portfolio.food_delivery.domain.order.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class KitchenBusyException extends BusinessException {
+
+    // 주문 한 건을 더 받을 수 있을 때까지의 예상 대기 시간 (Retry-After 헤더로 내려간다)
+    private final Duration expectedWait;
+
+    public KitchenBusyException(String message, Duration expectedWait) {
+        super(ErrorCode.KITCHEN_BUSY, message);
+        this.expectedWait = expectedWait;
+    }
+}
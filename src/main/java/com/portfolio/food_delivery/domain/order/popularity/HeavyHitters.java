@@ -0,0 +1,257 @@
+package com.portfolio.food_delivery.domain.order.popularity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 슬라이딩 윈도우 heavy-hitter 추적 (Count-Min Sketch + 범위별 상위 후보)
+ *
+ * 시간을 bucket 단위 칸으로 나누고 칸마다 depth × width 카운터(Count-Min Sketch)를 둔다. 칸은 링 버퍼라 윈도우를 벗어난 칸은
+ * 다음에 그 자리를 쓸 때 지워지며, 메모리는 칸 수 × depth × width × 4B 로 항목 수와 관계없이 고정이다.
+ * 항목 ID 는 모든 범위에서 유일해야 한다 (메뉴 ID, 레스토랑 ID). 범위(레스토랑, 카테고리)마다 윈도우 전체 기준과
+ * 최근 칸 기준으로 각각 추정 횟수 상위 capacity 개만 후보로 두고, 새 항목은 후보 중 최솟값보다 클 때 그 자리를 차지한다.
+ *
+ * 조회는 후보만 다시 추정해 정렬하므로 전체 항목 수와 관계없이 O(capacity × 칸 수 × depth) 다.
+ */
+final class HeavyHitters {
+
+    private final long bucketSeconds;
+    private final int buckets;
+    private final int recentBuckets;
+    private final int depth;
+    private final int mask;
+    private final int capacity;
+
+    private final int[][] counts;          // [칸][depth × width]
+    private final long[] bucketEpochs;     // 칸이 담고 있는 시간 구간 번호 (-1: 비어 있음)
+    private final Map<Long, Scope> scopes = new HashMap<>();
+    private long latestEpoch = Long.MIN_VALUE;
+
+    /**
+     * @param width 2의 거듭제곱으로 올림한다
+     */
+    HeavyHitters(Duration bucket, int buckets, int recentBuckets, int depth, int width, int capacity) {
+        if (buckets < 2 || recentBuckets < 1 || recentBuckets >= buckets) {
+            throw new IllegalArgumentException("최근 칸 수는 1 이상, 전체 칸 수보다 작아야 합니다.");
+        }
+        this.bucketSeconds = bucket.toSeconds();
+        this.buckets = buckets;
+        this.recentBuckets = recentBuckets;
+        this.depth = depth;
+        int roundedWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.mask = roundedWidth - 1;
+        this.capacity = capacity;
+        this.counts = new int[buckets][depth * roundedWidth];
+        this.bucketEpochs = new long[buckets];
+        Arrays.fill(bucketEpochs, -1);
+    }
+
+    /**
+     * 항목을 count 만큼 한 번 기록하고 scopes 각각의 후보로 올린다. 윈도우보다 오래된 시각은 버린다 (기동 시 초기화에서 경계에 걸친 주문).
+     */
+    synchronized void add(long item, int count, LocalDateTime time, long... scopes) {
+        long epoch = epochOf(time);
+        int slot = slotOf(epoch);
+        if (bucketEpochs[slot] > epoch || (latestEpoch != Long.MIN_VALUE && epoch <= latestEpoch - buckets)) {
+            return;
+        }
+        latestEpoch = Math.max(latestEpoch, epoch);
+        if (bucketEpochs[slot] < epoch) {
+            Arrays.fill(counts[slot], 0);
+            bucketEpochs[slot] = epoch;
+        }
+
+        // conservative update - 최솟값 행만 올려 다른 항목과 겹친 칸의 과대 추정을 줄인다
+        int[] row = counts[slot];
+        int[] cells = cellsOf(item);
+        int updated = minOf(row, cells) + count;
+        for (int cell : cells) {
+            if (row[cell] < updated) {
+                row[cell] = updated;
+            }
+        }
+
+        // 후보끼리 같은 기준으로 비교하도록 범위가 마지막으로 본 구간 기준으로 추정한다 (시각 순서가 섞인 초기화 대비)
+        for (long scope : scopes) {
+            Scope target = this.scopes.computeIfAbsent(scope, key -> new Scope());
+            long current = target.refresh(epoch);
+            target.popular.offer(item, estimate(item, current - buckets + 1, current));
+            target.recent.offer(item, estimate(item, current - recentBuckets + 1, current));
+        }
+    }
+
+    /**
+     * 윈도우 전체 추정 횟수 내림차순
+     */
+    synchronized List<Ranked> popular(long scope, LocalDateTime now) {
+        Scope target = refreshed(scope, epochOf(now));
+        if (target == null) {
+            return List.of();
+        }
+        long epoch = target.refreshedEpoch;
+        List<Ranked> ranked = new ArrayList<>(target.popular.size());
+        for (long item : target.popular.items()) {
+            long total = estimate(item, epoch - buckets + 1, epoch);
+            ranked.add(new Ranked(item, total, estimate(item, epoch - recentBuckets + 1, epoch), total));
+        }
+        ranked.sort(Comparator.comparingDouble(Ranked::score).reversed().thenComparingLong(Ranked::item));
+        return ranked;
+    }
+
+    /**
+     * 최근 칸의 횟수를 이전 칸들의 칸당 평균으로 기대되는 횟수와 비교한 배율 내림차순
+     * 이전 기록이 없는 항목은 기대치 1 로 보므로 최근 횟수가 그대로 배율이 된다.
+     */
+    synchronized List<Ranked> trending(long scope, LocalDateTime now) {
+        Scope target = refreshed(scope, epochOf(now));
+        if (target == null) {
+            return List.of();
+        }
+        long epoch = target.refreshedEpoch;
+        List<Ranked> ranked = new ArrayList<>(target.recent.size());
+        for (long item : target.recent.items()) {
+            long recent = estimate(item, epoch - recentBuckets + 1, epoch);
+            long total = estimate(item, epoch - buckets + 1, epoch);
+            double expected = (double) (total - recent) / (buckets - recentBuckets) * recentBuckets;
+            ranked.add(new Ranked(item, total, recent, recent / (expected + 1.0)));
+        }
+        ranked.sort(Comparator.comparingDouble(Ranked::score).reversed().thenComparingLong(Ranked::item));
+        return ranked;
+    }
+
+    // 후보가 모두 윈도우를 벗어난 범위는 지워 범위 수가 최근에 주문이 있었던 곳으로 제한되게 한다
+    private Scope refreshed(long scope, long epoch) {
+        Scope target = scopes.get(scope);
+        if (target == null) {
+            return null;
+        }
+        target.refresh(epoch);
+        if (target.popular.size() == 0 && target.recent.size() == 0) {
+            scopes.remove(scope);
+            return null;
+        }
+        return target;
+    }
+
+    // [fromEpoch, toEpoch] 칸마다 행 최솟값을 더한다 (칸별 최솟값의 합이 합계의 최솟값보다 오차가 작다)
+    private long estimate(long item, long fromEpoch, long toEpoch) {
+        int[] cells = cellsOf(item);
+        long sum = 0;
+        for (long epoch = Math.max(fromEpoch, toEpoch - buckets + 1); epoch <= toEpoch; epoch++) {
+            int slot = slotOf(epoch);
+            if (bucketEpochs[slot] == epoch) {
+                sum += minOf(counts[slot], cells);
+            }
+        }
+        return sum;
+    }
+
+    private int[] cellsOf(long item) {
+        int[] cells = new int[depth];
+        long hash = mix(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int width = mask + 1;
+        for (int row = 0; row < depth; row++) {
+            // Kirsch-Mitzenmacher 이중 해싱으로 행마다 독립적인 해시를 흉내낸다
+            cells[row] = row * width + ((h1 + row * h2) & mask);
+        }
+        return cells;
+    }
+
+    private static int minOf(int[] row, int[] cells) {
+        int min = Integer.MAX_VALUE;
+        for (int cell : cells) {
+            min = Math.min(min, row[cell]);
+        }
+        return min;
+    }
+
+    // SplitMix64 finalizer - 연속된 ID 가 같은 칸에 몰리지 않도록 비트를 섞는다
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 벽시계 기준 구간 번호 - 기록과 조회 모두 같은 LocalDateTime 기준이므로 시간대 변환은 필요 없다
+    private long epochOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+    }
+
+    private int slotOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets);
+    }
+
+    record Ranked(long item, long count, long recentCount, double score) {}
+
+    // 범위 하나의 후보 - 칸이 바뀌면 저장된 추정치가 낡으므로 다시 추정하고, 윈도우를 벗어난 후보는 뺀다
+    private final class Scope {
+
+        private final Candidates popular = new Candidates();
+        private final Candidates recent = new Candidates();
+        private long refreshedEpoch = Long.MIN_VALUE;
+
+        long refresh(long epoch) {
+            if (epoch > refreshedEpoch) {
+                refreshedEpoch = epoch;
+                popular.reestimate(epoch - buckets + 1, epoch);
+                recent.reestimate(epoch - recentBuckets + 1, epoch);
+            }
+            return refreshedEpoch;
+        }
+    }
+
+    // 추정 횟수 상위 capacity 개 - capacity 가 작아 최솟값은 매번 선형 탐색한다
+    private final class Candidates {
+
+        private final Map<Long, Long> estimates = new HashMap<>();
+
+        void offer(long item, long estimate) {
+            if (estimates.containsKey(item) || estimates.size() < capacity) {
+                estimates.put(item, estimate);
+                return;
+            }
+            Map.Entry<Long, Long> min = null;
+            for (Map.Entry<Long, Long> entry : estimates.entrySet()) {
+                if (min == null || entry.getValue() < min.getValue()) {
+                    min = entry;
+                }
+            }
+            if (min != null && estimate > min.getValue()) {
+                estimates.remove(min.getKey());
+                estimates.put(item, estimate);
+            }
+        }
+
+        void reestimate(long fromEpoch, long toEpoch) {
+            Iterator<Map.Entry<Long, Long>> iterator = estimates.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Long> entry = iterator.next();
+                long estimate = estimate(entry.getKey(), fromEpoch, toEpoch);
+                if (estimate == 0) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(estimate);
+                }
+            }
+        }
+
+        int size() {
+            return estimates.size();
+        }
+
+        List<Long> items() {
+            return List.copyOf(estimates.keySet());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.portfolio.food_delivery.domain.order.popularity;
+
+import com.portfolio.food_delivery.domain.order.dto.OrderPlacementRow;
+import com.portfolio.food_delivery.domain.order.dto.OrderedMenuRow;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderPlacedEvent;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 인기/급상승 메뉴·레스토랑 추적기
+ *
+ * 주문이 커밋될 때마다 메뉴(레스토랑 범위)와 레스토랑(카테고리 범위, 전체 범위) 주문 수를 HeavyHitters 에 더한다.
+ * 목록 API 의 sort=popular/trending 은 여기서 순위만 받아 가므로 orders/order_items 를 GROUP BY 하지 않는다.
+ * 취소된 주문은 빼지 않는다 (주문 시점의 관심도를 보는 지표). 기동 시에는 윈도우 안의 최근 주문으로 채운다.
+ */
+@Slf4j
+@Component
+public class PopularityTracker {
+
+    private static final long ALL_CATEGORIES = -1;
+    private static final Set<OrderStatus> COUNTED_STATUSES = EnumSet.complementOf(EnumSet.of(OrderStatus.CANCELLED));
+
+    private final OrderRepository orderRepository;
+    private final Duration window;
+    private final int trendingMinOrders;
+
+    private final HeavyHitters menus;
+    private final HeavyHitters restaurants;
+
+    public PopularityTracker(OrderRepository orderRepository,
+                             @Value("${popularity.bucket-minutes:60}") long bucketMinutes,
+                             @Value("${popularity.window-buckets:24}") int windowBuckets,
+                             @Value("${popularity.trending-buckets:2}") int trendingBuckets,
+                             @Value("${popularity.sketch-depth:4}") int sketchDepth,
+                             @Value("${popularity.menu-sketch-width:32768}") int menuSketchWidth,
+                             @Value("${popularity.restaurant-sketch-width:8192}") int restaurantSketchWidth,
+                             @Value("${popularity.candidates:50}") int candidates,
+                             @Value("${popularity.trending-min-orders:5}") int trendingMinOrders) {
+        this.orderRepository = orderRepository;
+        Duration bucket = Duration.ofMinutes(bucketMinutes);
+        this.window = bucket.multipliedBy(windowBuckets);
+        this.trendingMinOrders = trendingMinOrders;
+        this.menus = new HeavyHitters(bucket, windowBuckets, trendingBuckets, sketchDepth, menuSketchWidth, candidates);
+        this.restaurants = new HeavyHitters(bucket, windowBuckets, trendingBuckets, sketchDepth, restaurantSketchWidth, candidates);
+    }
+
+    // 기동 시 윈도우 안의 주문으로 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        long orders = 0;
+        try (Stream<OrderPlacementRow> rows = orderRepository.streamPlacementsSince(COUNTED_STATUSES, since)) {
+            Iterator<OrderPlacementRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                OrderPlacementRow row = iterator.next();
+                recordRestaurant(row.restaurantId(), row.category(), row.orderedAt());
+                orders++;
+            }
+        }
+        long items = 0;
+        try (Stream<OrderedMenuRow> rows = orderRepository.streamOrderedMenusSince(COUNTED_STATUSES, since)) {
+            Iterator<OrderedMenuRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                OrderedMenuRow row = iterator.next();
+                menus.add(row.menuId(), row.quantity(), row.orderedAt(), row.restaurantId());
+                items++;
+            }
+        }
+        log.info("인기 메뉴/레스토랑 추적기 초기화 - 최근 {}시간 주문 {}건, 주문 항목 {}건", window.toHours(), orders, items);
+    }
+
+    // 커밋된 주문만 반영 (롤백된 주문이 순위를 올리지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        recordRestaurant(event.restaurantId(), event.category(), event.orderedAt());
+        for (OrderPlacedEvent.Item item : event.items()) {
+            menus.add(item.menuId(), item.quantity(), event.orderedAt(), event.restaurantId());
+        }
+    }
+
+    /**
+     * 레스토랑 메뉴 ID 순위 (최근 주문이 있었던 상위 후보만)
+     */
+    public List<Long> rankMenus(Long restaurantId, RankingType type, LocalDateTime now) {
+        return rank(menus, restaurantId, type, now);
+    }
+
+    /**
+     * 카테고리(null 이면 전체) 레스토랑 ID 순위 (최근 주문이 있었던 상위 후보만)
+     */
+    public List<Long> rankRestaurants(RestaurantCategory category, RankingType type, LocalDateTime now) {
+        return rank(restaurants, category != null ? category.ordinal() : ALL_CATEGORIES, type, now);
+    }
+
+    private void recordRestaurant(Long restaurantId, RestaurantCategory category, LocalDateTime orderedAt) {
+        restaurants.add(restaurantId, 1, orderedAt, category.ordinal(), ALL_CATEGORIES);
+    }
+
+    // 급상승은 최근 주문이 너무 적으면 배율이 튀므로 최소 주문 수 미만은 뺀다
+    private List<Long> rank(HeavyHitters hitters, long scope, RankingType type, LocalDateTime now) {
+        List<HeavyHitters.Ranked> ranked = type == RankingType.TRENDING
+                ? hitters.trending(scope, now).stream()
+                        .filter(entry -> entry.recentCount() >= trendingMinOrders)
+                        .toList()
+                : hitters.popular(scope, now);
+        return ranked.stream().map(HeavyHitters.Ranked::item).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.portfolio.food_delivery.domain.order.popularity;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 주문 기반 정렬 - 목록 API 의 sort 값(popular, trending)으로 고른다
+ */
+public enum RankingType {
+    POPULAR,    // 윈도우 전체 주문 수
+    TRENDING;   // 최근 주문 수가 평소보다 늘어난 배율
+
+    public static Optional<RankingType> from(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(value.trim()))
+                .findFirst();
+    }
+
+    // 페이징 sort 파라미터 중 첫 번째로 나온 popular/trending
+    public static Optional<RankingType> from(Sort sort) {
+        return sort.stream()
+                .map(order -> from(order.getProperty()))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+}
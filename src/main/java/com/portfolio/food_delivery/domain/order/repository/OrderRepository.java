@@ -1,27 +1,114 @@
 package com.portfolio.food_delivery.domain.order.repository;
 
+import com.portfolio.food_delivery.domain.order.dto.CouponHoldRow;
+import com.portfolio.food_delivery.domain.order.dto.OrderedMenuRow;
+import com.portfolio.food_delivery.domain.order.dto.OrderPickupRow;
+import com.portfolio.food_delivery.domain.order.dto.OrderPlacementRow;
+import com.portfolio.food_delivery.domain.order.dto.OrderTimelineRow;
+import com.portfolio.food_delivery.domain.order.dto.RestaurantLoadRow;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    Page<Order> findByUserIdOrderByOrderedAtDesc(Long userId, Pageable pageable);
+    // 주문 목록 - 레스토랑과 리뷰 여부는 조인으로 함께 읽고,
+    // 주문 항목(컬렉션)은 페이징이 깨지지 않도록 batch fetch(IN 쿼리 한 번)로 읽는다
+    // 조건은 FK 컬럼을 직접 비교한다 (파생 쿼리는 users/restaurants 를 LEFT JOIN 해 걸러 인덱스를 못 탄다)
+    @EntityGraph(attributePaths = {"restaurant", "review"})
+    @Query(value = "SELECT o FROM Order o WHERE o.user.id = :userId ORDER BY o.orderedAt DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId")
+    Page<Order> findByUserIdOrderByOrderedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
-    Page<Order> findByRestaurantIdOrderByOrderedAtDesc(Long restaurantId, Pageable pageable);
+    @EntityGraph(attributePaths = {"restaurant", "review"})
+    @Query(value = "SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId ORDER BY o.orderedAt DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.restaurant.id = :restaurantId")
+    Page<Order> findByRestaurantIdOrderByOrderedAtDesc(@Param("restaurantId") Long restaurantId, Pageable pageable);
 
-    @Query("SELECT o FROM Order o JOIN FETCH o.orderItems oi JOIN FETCH oi.menu WHERE o.id = :id")
+    // 주문 상세 - 응답에 필요한 연관 엔티티를 한 번에 조회
+    @Query("SELECT o FROM Order o " +
+            "JOIN FETCH o.restaurant " +
+            "LEFT JOIN FETCH o.review " +
+            "JOIN FETCH o.orderItems oi " +
+            "JOIN FETCH oi.menu " +
+            "WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") Long id);
 
     List<Order> findByStatusAndOrderedAtBefore(OrderStatus status, LocalDateTime dateTime);
+
+    // 배달 예상 시간 추정기 초기화용 단계별 시각 (status, ordered_at 인덱스 범위 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.order.dto.OrderTimelineRow(" +
+            "o.restaurant.id, o.orderedAt, o.readyAt, o.deliveredAt) " +
+            "FROM Order o WHERE o.status = :status AND o.orderedAt >= :since")
+    Stream<OrderTimelineRow> streamTimelinesByStatus(@Param("status") OrderStatus status,
+                                                    @Param("since") LocalDateTime since);
+
+    // 인기 레스토랑/메뉴 추적기 초기화용 - 최근 주문과 주문 항목 (status, ordered_at 인덱스 범위 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.order.dto.OrderPlacementRow(" +
+            "r.id, r.category, o.orderedAt) " +
+            "FROM Order o JOIN o.restaurant r WHERE o.status IN :statuses AND o.orderedAt >= :since")
+    Stream<OrderPlacementRow> streamPlacementsSince(@Param("statuses") Collection<OrderStatus> statuses,
+                                                    @Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.order.dto.OrderedMenuRow(" +
+            "o.restaurant.id, oi.menu.id, oi.quantity, o.orderedAt) " +
+            "FROM OrderItem oi JOIN oi.order o WHERE o.status IN :statuses AND o.orderedAt >= :since")
+    Stream<OrderedMenuRow> streamOrderedMenusSince(@Param("statuses") Collection<OrderStatus> statuses,
+                                                   @Param("since") LocalDateTime since);
+
+    // 배차 - 한 묶음의 주문을 레스토랑과 함께 IN 쿼리 한 번으로 읽는다
+    @Query("SELECT o FROM Order o JOIN FETCH o.restaurant WHERE o.id IN :ids")
+    List<Order> findAllByIdInWithRestaurant(@Param("ids") Collection<Long> ids);
+
+    // 배차 엔진 초기화용 - 위치가 등록된 레스토랑의 배차 대기 주문
+    @Query("SELECT new com.portfolio.food_delivery.domain.order.dto.OrderPickupRow(" +
+            "o.id, o.readyAt, r.latitude, r.longitude) " +
+            "FROM Order o JOIN o.restaurant r " +
+            "WHERE o.status = :status AND o.rider IS NULL " +
+            "AND r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+    List<OrderPickupRow> findPickupsWithoutRider(@Param("status") OrderStatus status);
+
+    Optional<Order> findFirstByRiderIdAndStatus(Long riderId, OrderStatus status);
+
+    // 쿠폰 사용 이력 (user_id 인덱스 범위 조회 - 파생 쿼리는 users 를 LEFT JOIN 해 조건이 조인 쪽에 걸리므로 FK 를 직접 비교)
+    @Query("SELECT COUNT(o) > 0 FROM Order o " +
+            "WHERE o.user.id = :userId AND o.coupon.id = :couponId AND o.status <> :status")
+    boolean existsByUserIdAndCouponIdAndStatusNot(@Param("userId") Long userId,
+                                                  @Param("couponId") Long couponId,
+                                                  @Param("status") OrderStatus status);
+
+    // 첫 주문 여부
+    @Query("SELECT COUNT(o) > 0 FROM Order o WHERE o.user.id = :userId AND o.status <> :status")
+    boolean existsByUserIdAndStatusNot(@Param("userId") Long userId, @Param("status") OrderStatus status);
+
+    // 쿠폰 장부 초기화용 - 결제까지 끝난 주문 수와 결제 대기 주문 (coupon_id, status 인덱스)
+    long countByCouponIdAndStatusNotIn(Long couponId, Collection<OrderStatus> statuses);
+
+    @Query("SELECT new com.portfolio.food_delivery.domain.order.dto.CouponHoldRow(o.id, o.user.id, o.orderedAt) " +
+            "FROM Order o WHERE o.coupon.id = :couponId AND o.status = :status")
+    List<CouponHoldRow> findCouponHolds(@Param("couponId") Long couponId, @Param("status") OrderStatus status);
+
+    // 주방 수용량 초기화용 - 조리가 끝나지 않은 주문 수 (status 인덱스 범위 조회)
+    @Query("SELECT new com.portfolio.food_delivery.domain.order.dto.RestaurantLoadRow(o.restaurant.id, COUNT(o)) " +
+            "FROM Order o WHERE o.status IN :statuses GROUP BY o.restaurant.id")
+    List<RestaurantLoadRow> countByRestaurantAndStatusIn(@Param("statuses") Collection<OrderStatus> statuses);
 }
\ No newline at end of file
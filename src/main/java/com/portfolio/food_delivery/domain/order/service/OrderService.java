@@ -1,16 +1,25 @@
 package com.portfolio.food_delivery.domain.order.service;
 
+import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.cart.exception.InvalidCartException;
 import com.portfolio.food_delivery.domain.cart.service.CartService;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
+import com.portfolio.food_delivery.domain.coupon.service.CouponClaim;
+import com.portfolio.food_delivery.domain.coupon.service.CouponService;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
 import com.portfolio.food_delivery.domain.menu.exception.MenuNotFoundException;
 import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.admission.KitchenAdmission;
 import com.portfolio.food_delivery.domain.order.dto.OrderCreateRequest;
 import com.portfolio.food_delivery.domain.order.dto.OrderItemRequest;
 import com.portfolio.food_delivery.domain.order.dto.OrderResponse;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.order.entity.OrderItem;
 import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.eta.DeliveryEtaEstimator;
+import com.portfolio.food_delivery.domain.order.event.OrderPlacedEvent;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
 import com.portfolio.food_delivery.domain.order.exception.InvalidOrderException;
 import com.portfolio.food_delivery.domain.order.exception.OrderNotFoundException;
 import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
@@ -20,6 +29,7 @@ import com.portfolio.food_delivery.domain.user.entity.User;
 import com.portfolio.food_delivery.domain.user.exception.UserNotFoundException;
 import com.portfolio.food_delivery.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,6 +38,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -38,20 +51,34 @@ public class OrderService {
     private final UserRepository userRepository;
     private final MenuRepository menuRepository;
     private final CartService cartService;
+    private final DeliveryEtaEstimator etaEstimator;
+    private final KitchenAdmission kitchenAdmission;
+    private final CouponService couponService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public OrderResponse createOrder(Long userId, OrderCreateRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
+        // 메뉴+레스토랑은 항목 수와 관계없이 IN 쿼리 한 번으로 읽는다
+        List<Long> menuIds = request.getOrderItems().stream()
+                .map(OrderItemRequest::getMenuId)
+                .distinct()
+                .toList();
+        Map<Long, Menu> menus = menuRepository.findAllByIdInWithRestaurant(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
         // 주문 항목 생성 및 검증
         List<OrderItem> orderItems = new ArrayList<>();
         Restaurant restaurant = null;
         int totalAmount = 0;
 
         for (OrderItemRequest itemRequest : request.getOrderItems()) {
-            Menu menu = menuRepository.findById(itemRequest.getMenuId())
-                    .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다."));
+            Menu menu = menus.get(itemRequest.getMenuId());
+            if (menu == null) {
+                throw new MenuNotFoundException("메뉴를 찾을 수 없습니다.");
+            }
 
             // 레스토랑 일치 확인
             if (restaurant == null) {
@@ -75,48 +102,71 @@ public class OrderService {
             totalAmount += orderItem.getSubtotal();
         }
 
-        // 최소 주문 금액 확인
-        if (totalAmount < restaurant.getMinimumOrderAmount()) {
-            throw new InvalidOrderException(
-                    "최소 주문 금액을 충족하지 않습니다. 최소 주문 금액: " + restaurant.getMinimumOrderAmount() + "원");
-        }
+        return placeOrder(user, restaurant, orderItems, totalAmount,
+                request.getDeliveryAddress(), request.getPhoneNumber(), request.getRequest(), request.getCouponCode());
+    }
 
-        // 주문 생성
-        Order order = Order.builder()
-                .user(user)
-                .restaurant(restaurant)
-                .deliveryAddress(request.getDeliveryAddress())
-                .phoneNumber(request.getPhoneNumber())
-                .request(request.getRequest())
-                .totalAmount(totalAmount)
-                .deliveryFee(restaurant.getDeliveryFee())
-                .orderedAt(LocalDateTime.now())
-                .build();
+    /**
+     * 장바구니 주문
+     * 장바구니(메모리), 메뉴+레스토랑(IN 쿼리 1회), 사용자(1회)를 한 번씩만 읽고 나머지 검증은 메모리에서 한다.
+     * 장바구니는 주문이 커밋된 뒤 비우며, DB의 장바구니 항목은 write-behind 에서 벌크 DELETE 로 정리된다.
+     */
+    @Transactional
+    public OrderResponse createOrderFromCart(Long userId, String couponCode) {
+        CartSnapshot cart = cartService.getCartForCheckout(userId);
 
-        // 주문 항목 추가
-        for (OrderItem orderItem : orderItems) {
-            order.addOrderItem(orderItem);
+        List<Long> menuIds = cart.items().stream().map(item -> item.menu().menuId()).toList();
+        Map<Long, Menu> menus = menuRepository.findAllByIdInWithRestaurant(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+
+        // 품절/삭제된 메뉴는 빼고 나머지로 주문 (장바구니에서는 주문이 커밋된 뒤 제거)
+        List<Long> unavailable = menuIds.stream()
+                .filter(menuId -> !menus.containsKey(menuId)
+                        || menus.get(menuId).getStatus() != MenuStatus.AVAILABLE)
+                .toList();
+        cartService.removeUnavailableItemsAfterCommit(userId, unavailable);
+        if (unavailable.size() == menuIds.size()) {
+            throw new InvalidCartException("장바구니가 비어있습니다.");
         }
 
-        Order savedOrder = orderRepository.save(order);
-        return OrderResponse.from(savedOrder);
-    }
+        Restaurant restaurant = null;
+        List<OrderItem> orderItems = new ArrayList<>(menuIds.size());
+        int totalAmount = 0;
 
-    @Transactional
-    public OrderResponse createOrderFromCart(Long userId) {
-        // 장바구니 검증
-        cartService.validateCartItems(userId);
+        for (CartSnapshot.Item item : cart.items()) {
+            Menu menu = menus.get(item.menu().menuId());
+            if (menu == null || menu.getStatus() != MenuStatus.AVAILABLE) {
+                continue;
+            }
 
-        // 장바구니를 주문 요청으로 변환
-        OrderCreateRequest request = cartService.convertToOrderRequest(userId);
+            // 레스토랑 일치 확인
+            if (restaurant == null) {
+                restaurant = menu.getRestaurant();
+            } else if (!restaurant.getId().equals(menu.getRestaurant().getId())) {
+                throw new InvalidOrderException("다른 레스토랑의 메뉴를 함께 주문할 수 없습니다.");
+            }
 
-        // 주문 생성
-        OrderResponse orderResponse = createOrder(userId, request);
+            // 가격은 장바구니에 담을 때가 아닌 현재 메뉴 가격 기준
+            OrderItem orderItem = OrderItem.builder()
+                    .menu(menu)
+                    .quantity(item.quantity())
+                    .price(menu.getPrice())
+                    .build();
+
+            orderItems.add(orderItem);
+            totalAmount += orderItem.getSubtotal();
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+
+        OrderResponse response = placeOrder(user, restaurant, orderItems, totalAmount,
+                user.getAddress(), user.getPhoneNumber(), null, couponCode);
 
         // 주문 성공 시 장바구니 비우기
-        cartService.clearCart(userId);
+        cartService.clearCartAfterCommit(userId);
 
-        return orderResponse;
+        return response;
     }
 
     public OrderResponse getOrder(Long orderId, Long userId) {
@@ -128,12 +178,13 @@ public class OrderService {
             throw new UnauthorizedException("주문 조회 권한이 없습니다.");
         }
 
-        return OrderResponse.from(order);
+        return withEta(order, LocalDateTime.now());
     }
 
     public Page<OrderResponse> getMyOrders(Long userId, Pageable pageable) {
         Page<Order> orders = orderRepository.findByUserIdOrderByOrderedAtDesc(userId, pageable);
-        return orders.map(OrderResponse::from);
+        LocalDateTime now = LocalDateTime.now();
+        return orders.map(order -> withEta(order, now));
     }
 
     @Transactional
@@ -146,8 +197,10 @@ public class OrderService {
             throw new UnauthorizedException("주문 상태 변경 권한이 없습니다.");
         }
 
+        OrderStatus previousStatus = order.getStatus();
         order.updateStatus(newStatus);
-        return OrderResponse.from(order);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, previousStatus));
+        return withEta(order, LocalDateTime.now());
     }
 
     @Transactional
@@ -165,7 +218,56 @@ public class OrderService {
             throw new InvalidOrderException("이미 조리가 시작되어 취소할 수 없습니다.");
         }
 
+        OrderStatus previousStatus = order.getStatus();
         order.cancel("사용자 요청");
+        eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, previousStatus));
         return OrderResponse.from(order);
     }
-}
\ No newline at end of file
+
+    private OrderResponse withEta(Order order, LocalDateTime now) {
+        return OrderResponse.from(order, etaEstimator.estimate(order, now).orElse(null));
+    }
+
+    private OrderResponse placeOrder(User user, Restaurant restaurant, List<OrderItem> orderItems, int totalAmount,
+                                     Address deliveryAddress, String phoneNumber, String request, String couponCode) {
+        // 최소 주문 금액 확인
+        if (totalAmount < restaurant.getMinimumOrderAmount()) {
+            throw new InvalidOrderException(
+                    "최소 주문 금액을 충족하지 않습니다. 최소 주문 금액: " + restaurant.getMinimumOrderAmount() + "원");
+        }
+
+        // 주방이 밀려 있으면 받지 않는다 (메모리 카운터만 확인, 롤백 시 자리 반환)
+        kitchenAdmission.admit(restaurant.getId());
+
+        // 쿠폰 수량은 주문 저장 전에 메모리에서 확보한다 (롤백 시 반환)
+        CouponClaim couponClaim = couponCode != null && !couponCode.isBlank()
+                ? couponService.claim(user.getId(), couponCode, restaurant.getId(), totalAmount)
+                : null;
+
+        // 주문 생성
+        Order order = Order.builder()
+                .user(user)
+                .restaurant(restaurant)
+                .deliveryAddress(deliveryAddress)
+                .phoneNumber(phoneNumber)
+                .request(request)
+                .totalAmount(totalAmount)
+                .deliveryFee(restaurant.getDeliveryFee())
+                .coupon(couponClaim != null ? couponClaim.coupon() : null)
+                .discountAmount(couponClaim != null ? couponClaim.discountAmount() : 0)
+                .orderedAt(LocalDateTime.now())
+                .build();
+
+        // 주문 항목 추가
+        for (OrderItem orderItem : orderItems) {
+            order.addOrderItem(orderItem);
+        }
+
+        Order savedOrder = orderRepository.save(order);
+        if (couponClaim != null) {
+            couponService.hold(savedOrder.getId(), couponClaim);
+        }
+        eventPublisher.publishEvent(OrderPlacedEvent.from(savedOrder));
+        return OrderResponse.from(savedOrder);
+    }
+}
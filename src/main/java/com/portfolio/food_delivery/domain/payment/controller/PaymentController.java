@@ -1,6 +1,7 @@
 package com.portfolio.food_delivery.domain.payment.controller;
 
 import com.portfolio.food_delivery.domain.payment.dto.*;
+import com.portfolio.food_delivery.domain.payment.service.PaymentExportService;
 import com.portfolio.food_delivery.domain.payment.service.PaymentService;
 import com.portfolio.food_delivery.domain.user.service.UserService;
 import com.portfolio.food_delivery.infrastructure.security.SecurityUtil;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,10 +23,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -35,6 +39,7 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentExportService paymentExportService;
     private final UserService userService;
 
     @Operation(summary = "결제 처리",
@@ -140,6 +145,31 @@ public class PaymentController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "결제 내역 커서 조회",
+            description = "현재 사용자의 결제 내역을 최신순으로 커서 기반 페이징하여 조회합니다. " +
+                    "첫 요청은 cursor 없이 호출하고, 이후에는 응답의 nextCursor 값을 그대로 전달합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PaymentHistorySliceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/history/cursor")
+    public ResponseEntity<PaymentHistorySliceResponse> getPaymentHistoryByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long userId = userService.getUserIdByEmail(email);
+
+        PaymentHistorySliceResponse response = paymentService.getPaymentHistoryByCursor(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "기간별 결제 내역 조회",
             description = "지정한 기간 내의 결제 내역을 조회합니다. 날짜 형식: yyyy-MM-dd'T'HH:mm:ss")
     @SecurityRequirement(name = "bearerAuth")
@@ -164,6 +194,64 @@ public class PaymentController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "결제 내역 내보내기",
+            description = "지정한 기간의 결제 내역을 CSV 또는 NDJSON으로 스트리밍 다운로드합니다. 기간 제한이 없으며 메모리 사용량이 일정합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 날짜 형식",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/history/export")
+    public void exportPaymentHistory(
+            @Parameter(description = "시작일시", required = true, example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "종료일시", required = true, example = "2025-12-31T23:59:59")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "파일 형식", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long userId = userService.getUserIdByEmail(email);
+
+        prepareExportResponse(response, format, "payments");
+        paymentExportService.exportUserPayments(userId, startDate, endDate, format, response.getOutputStream());
+    }
+
+    @Operation(summary = "레스토랑 결제 내역 내보내기",
+            description = "레스토랑의 기간별 결제 내역을 CSV 또는 NDJSON으로 스트리밍 다운로드합니다. 레스토랑 소유자만 가능합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (레스토랑 소유자 아님)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "레스토랑을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/restaurants/{restaurantId}/export")
+    public void exportRestaurantPayments(
+            @Parameter(description = "레스토랑 ID", required = true, example = "1")
+            @PathVariable Long restaurantId,
+            @Parameter(description = "시작일시", required = true, example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "종료일시", required = true, example = "2025-12-31T23:59:59")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "파일 형식", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        String email = SecurityUtil.getCurrentUserEmailOrThrow();
+        Long userId = userService.getUserIdByEmail(email);
+
+        paymentExportService.validateRestaurantExport(restaurantId, userId);
+
+        prepareExportResponse(response, format, "restaurant-" + restaurantId + "-payments");
+        paymentExportService.exportRestaurantPayments(restaurantId, startDate, endDate, format, response.getOutputStream());
+    }
+
     @Operation(summary = "결제 상태 확인",
             description = "PG사에 결제 상태를 조회하여 업데이트합니다. 주로 PROCESSING 상태의 결제를 확인할 때 사용합니다.")
     @SecurityRequirement(name = "bearerAuth")
@@ -181,4 +269,10 @@ public class PaymentController {
         paymentService.checkAndUpdatePaymentStatus(paymentId);
         return ResponseEntity.ok().build();
     }
+
+    private void prepareExportResponse(HttpServletResponse response, ExportFormat format, String fileName) {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.portfolio.food_delivery.domain.payment.dto;
+
+import com.portfolio.food_delivery.domain.payment.exception.InvalidPaymentCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 결제 내역 키셋 페이징 커서
+ * 마지막으로 내려준 행의 (createdAt, paymentId)를 URL-safe Base64 문자열로 인코딩한다.
+ */
+public record PaymentHistoryCursor(LocalDateTime createdAt, Long paymentId) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PaymentHistoryCursor of(PaymentHistoryRow row) {
+        return new PaymentHistoryCursor(row.createdAt(), row.paymentId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + paymentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PaymentHistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidPaymentCursorException();
+            }
+            return new PaymentHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPaymentCursorException();
+        }
+    }
+}
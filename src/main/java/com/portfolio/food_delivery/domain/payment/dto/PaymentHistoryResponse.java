@@ -1,5 +1,6 @@
 package com.portfolio.food_delivery.domain.payment.dto;
 
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.payment.entity.Payment;
 import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
 import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
@@ -15,7 +16,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class PaymentHistoryResponse {
+    @JsonStringId
     private Long paymentId;
+    @JsonStringId
     private Long orderId;
     private String restaurantName;
     private Integer amount;
@@ -0,0 +1,24 @@
+package com.portfolio.food_delivery.domain.payment.dto;
+
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 내역 키셋 페이징용 프로젝션 (다음 커서 계산을 위해 createdAt 포함)
+ */
+public record PaymentHistoryRow(
+        Long paymentId,
+        Long orderId,
+        String restaurantName,
+        Integer amount,
+        PaymentMethod method,
+        PaymentStatus status,
+        LocalDateTime paidAt,
+        LocalDateTime createdAt
+) {
+    public PaymentHistoryResponse toResponse() {
+        return new PaymentHistoryResponse(paymentId, orderId, restaurantName, amount, method, status, paidAt);
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.food_delivery.domain.payment.dto;
 
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.payment.entity.Payment;
 import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
 import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
@@ -18,10 +19,12 @@ import java.time.LocalDateTime;
 @Builder
 public class PaymentResponse {
 
-    @Schema(description = "결제 ID", example = "1")
+    @Schema(description = "결제 ID", type = "string", example = "371239482906181632")
+    @JsonStringId
     private Long id;
 
-    @Schema(description = "주문 ID", example = "1")
+    @Schema(description = "주문 ID", type = "string", example = "371239482906181632")
+    @JsonStringId
     private Long orderId;
 
     @Schema(description = "결제 금액", example = "28000")
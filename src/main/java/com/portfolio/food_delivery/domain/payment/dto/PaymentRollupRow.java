@@ -0,0 +1,16 @@
+package com.portfolio.food_delivery.domain.payment.dto;
+
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매출 재집계용 결제 행 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record PaymentRollupRow(
+        Long restaurantId,
+        PaymentMethod method,
+        Integer amount,
+        LocalDateTime paidAt,
+        LocalDateTime cancelledAt
+) {}
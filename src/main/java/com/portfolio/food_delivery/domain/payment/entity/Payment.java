@@ -1,6 +1,7 @@
 package com.portfolio.food_delivery.domain.payment.entity;
 
 import com.portfolio.food_delivery.common.entity.BaseEntity;
+import com.portfolio.food_delivery.common.id.TimeOrderedId;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,7 +9,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // 결제 내역 키셋 페이징용 (user_id 필터 + created_at, id 정렬을 인덱스만으로 처리)
+        @Index(name = "idx_payments_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_payments_status_paid_at", columnList = "status, paid_at"),
+        @Index(name = "idx_payments_paid_at", columnList = "paid_at"),
+        @Index(name = "idx_payments_cancelled_at", columnList = "cancelled_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,13 +23,17 @@ import java.time.LocalDateTime;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false, unique = true)
     private Order order;
 
+    // 결제 내역 조회 시 orders 조인 없이 사용자로 필터링하기 위한 비정규화 컬럼
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
     @Column(nullable = false)
     private Integer amount; // 결제 금액
 
@@ -48,6 +59,13 @@ public class Payment extends BaseEntity {
 
     private String failureReason; // 실패 사유
 
+    @PrePersist
+    protected void assignUserId() {
+        if (this.userId == null && this.order != null) {
+            this.userId = this.order.getUser().getId();
+        }
+    }
+
     // 결제 처리 시작
     public void startProcessing() {
         if (this.status != PaymentStatus.PENDING) {
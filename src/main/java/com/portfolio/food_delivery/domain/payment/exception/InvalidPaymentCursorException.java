@@ -0,0 +1,14 @@
+package com.portfolio.food_delivery.domain.payment.exception;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+
+public class InvalidPaymentCursorException extends BusinessException {
+    public InvalidPaymentCursorException() {
+        super(ErrorCode.INVALID_PAYMENT_CURSOR);
+    }
+
+    public InvalidPaymentCursorException(String message) {
+        super(ErrorCode.INVALID_PAYMENT_CURSOR, message);
+    }
+}
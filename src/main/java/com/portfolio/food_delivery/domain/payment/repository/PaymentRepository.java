@@ -1,36 +1,70 @@
 package com.portfolio.food_delivery.domain.payment.repository;
 
+import com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryResponse;
+import com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryRow;
+import com.portfolio.food_delivery.domain.payment.dto.PaymentRollupRow;
 import com.portfolio.food_delivery.domain.payment.entity.Payment;
 import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     // 주문별 결제 정보 조회
-    Optional<Payment> findByOrderId(Long orderId);
+    @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId")
+    Optional<Payment> findByOrderId(@Param("orderId") Long orderId);
 
     // 거래 ID로 결제 조회
     Optional<Payment> findByTransactionId(String transactionId);
 
-    // 사용자의 결제 내역 조회
-    @Query("SELECT p FROM Payment p JOIN p.order o WHERE o.user.id = :userId ORDER BY p.createdAt DESC")
+    // 사용자의 결제 내역 조회 (응답에 쓰는 주문/레스토랑까지 함께 조회)
+    @Query(value = "SELECT p FROM Payment p JOIN FETCH p.order o JOIN FETCH o.restaurant " +
+            "WHERE o.user.id = :userId ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Payment p JOIN p.order o WHERE o.user.id = :userId")
     Page<Payment> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 사용자의 결제 내역 키셋 페이징 - 첫 페이지
+    // (user_id, created_at, id) 인덱스를 역순으로 읽고 limit 만큼만 조인한다
+    @Query("SELECT new com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryRow(" +
+            "p.id, o.id, r.name, p.amount, p.method, p.status, p.paidAt, p.createdAt) " +
+            "FROM Payment p JOIN p.order o JOIN o.restaurant r " +
+            "WHERE p.userId = :userId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentHistoryRow> findHistoryFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자의 결제 내역 키셋 페이징 - 커서 이후 페이지 (OFFSET 없이 커서 위치부터 탐색)
+    @Query("SELECT new com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryRow(" +
+            "p.id, o.id, r.name, p.amount, p.method, p.status, p.paidAt, p.createdAt) " +
+            "FROM Payment p JOIN p.order o JOIN o.restaurant r " +
+            "WHERE p.userId = :userId " +
+            "AND (p.createdAt < :cursorCreatedAt " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentHistoryRow> findHistoryAfterCursor(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
     // 특정 상태의 결제 조회
     List<Payment> findByStatus(PaymentStatus status);
 
-    // 기간별 결제 내역 조회
-    @Query("SELECT p FROM Payment p JOIN p.order o " +
+    // 기간별 결제 내역 조회 (응답에 쓰는 주문/레스토랑까지 함께 조회)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order o JOIN FETCH o.restaurant " +
             "WHERE o.user.id = :userId " +
             "AND p.createdAt BETWEEN :startDate AND :endDate " +
             "ORDER BY p.createdAt DESC")
@@ -40,6 +74,34 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
+    // 기간별 결제 내역 내보내기용 스트리밍 조회 (DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryResponse(" +
+            "p.id, o.id, r.name, p.amount, p.method, p.status, p.paidAt) " +
+            "FROM Payment p JOIN p.order o JOIN o.restaurant r " +
+            "WHERE o.user.id = :userId " +
+            "AND p.createdAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY p.createdAt DESC")
+    Stream<PaymentHistoryResponse> streamHistoryByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    // 레스토랑 기간별 결제 내역 내보내기용 스트리밍 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryResponse(" +
+            "p.id, o.id, r.name, p.amount, p.method, p.status, p.paidAt) " +
+            "FROM Payment p JOIN p.order o JOIN o.restaurant r " +
+            "WHERE r.id = :restaurantId " +
+            "AND p.createdAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY p.createdAt DESC")
+    Stream<PaymentHistoryResponse> streamHistoryByRestaurantIdAndDateRange(
+            @Param("restaurantId") Long restaurantId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     // 결제 금액 합계
     @Query("SELECT SUM(p.amount) FROM Payment p " +
             "WHERE p.status = :status " +
@@ -50,6 +112,19 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
+    // 매출 재집계용 스트리밍 조회 (결제 또는 취소 시각이 기간 내인 결제)
+    // MySQL 에서는 useCursorFetch=true 여야 fetch size 단위로 끊어 읽는다 (application-prod.yml 의 hikari.data-source-properties)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.payment.dto.PaymentRollupRow(" +
+            "o.restaurant.id, p.method, p.amount, p.paidAt, p.cancelledAt) " +
+            "FROM Payment p JOIN p.order o " +
+            "WHERE (p.paidAt >= :startDate AND p.paidAt < :endDate) " +
+            "OR (p.cancelledAt >= :startDate AND p.cancelledAt < :endDate)")
+    Stream<PaymentRollupRow> streamRollupRows(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     // 주문에 대한 결제 존재 여부 확인
     boolean existsByOrderId(Long orderId);
 }
\ No newline at end of file
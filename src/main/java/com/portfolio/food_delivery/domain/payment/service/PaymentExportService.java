@@ -0,0 +1,124 @@
+package com.portfolio.food_delivery.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.food_delivery.domain.payment.dto.ExportFormat;
+import com.portfolio.food_delivery.domain.payment.dto.PaymentHistoryResponse;
+import com.portfolio.food_delivery.domain.payment.repository.PaymentRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
+import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 결제 내역 CSV/NDJSON 내보내기
+ * 결과를 리스트로 모으지 않고 커서에서 한 행씩 읽어 바로 응답 스트림에 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentExportService {
+
+    private static final String CSV_HEADER = "paymentId,orderId,restaurantName,amount,method,status,paidAt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PaymentRepository paymentRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final ObjectMapper objectMapper;
+
+    public long exportUserPayments(Long userId, LocalDateTime startDate, LocalDateTime endDate,
+                                   ExportFormat format, OutputStream out) {
+        try (Stream<PaymentHistoryResponse> rows =
+                     paymentRepository.streamHistoryByUserIdAndDateRange(userId, startDate, endDate)) {
+            long count = write(rows, format, out);
+            log.info("결제 내역 내보내기 - 사용자ID: {}, 형식: {}, {}건", userId, format, count);
+            return count;
+        }
+    }
+
+    // 응답 헤더를 쓰기 전에 호출하여 권한 오류가 일반 에러 응답으로 나가도록 한다
+    public void validateRestaurantExport(Long restaurantId, Long userId) {
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다."));
+
+        if (!restaurant.isOwnedBy(userId)) {
+            throw new UnauthorizedException("결제 내역 내보내기 권한이 없습니다.");
+        }
+    }
+
+    public long exportRestaurantPayments(Long restaurantId, LocalDateTime startDate, LocalDateTime endDate,
+                                         ExportFormat format, OutputStream out) {
+        try (Stream<PaymentHistoryResponse> rows =
+                     paymentRepository.streamHistoryByRestaurantIdAndDateRange(restaurantId, startDate, endDate)) {
+            long count = write(rows, format, out);
+            log.info("레스토랑 결제 내역 내보내기 - 레스토랑ID: {}, 형식: {}, {}건", restaurantId, format, count);
+            return count;
+        }
+    }
+
+    private long write(Stream<PaymentHistoryResponse> rows, ExportFormat format, OutputStream out) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            long count = 0;
+
+            if (format == ExportFormat.CSV) {
+                writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<PaymentHistoryResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PaymentHistoryResponse row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+                writer.write('\n');
+                count++;
+            }
+
+            writer.flush();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("결제 내역 내보내기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void writeCsvRow(Writer writer, PaymentHistoryResponse row) throws IOException {
+        writer.write(String.valueOf(row.getPaymentId()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getOrderId()));
+        writer.write(',');
+        writer.write(escapeCsv(row.getRestaurantName()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getAmount()));
+        writer.write(',');
+        writer.write(row.getMethod().name());
+        writer.write(',');
+        writer.write(row.getStatus().name());
+        writer.write(',');
+        writer.write(row.getPaidAt() != null ? row.getPaidAt().toString() : "");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
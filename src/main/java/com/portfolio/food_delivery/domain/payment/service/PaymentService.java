@@ -1,7 +1,10 @@
 package com.portfolio.food_delivery.domain.payment.service;
 
+import com.portfolio.food_delivery.domain.analytics.service.RevenueRollupService;
+import com.portfolio.food_delivery.domain.coupon.service.CouponService;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
 import com.portfolio.food_delivery.domain.order.exception.OrderNotFoundException;
 import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
 import com.portfolio.food_delivery.domain.payment.dto.*;
@@ -11,7 +14,9 @@ import com.portfolio.food_delivery.domain.payment.exception.*;
 import com.portfolio.food_delivery.domain.payment.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,9 +31,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PaymentService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final PaymentGatewayService paymentGatewayService;
+    private final RevenueRollupService revenueRollupService;
+    private final CouponService couponService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PaymentResponse processPayment(PaymentRequest request) {
@@ -46,34 +56,39 @@ public class PaymentService {
             throw new PaymentAlreadyProcessedException("이미 결제가 완료된 주문입니다.");
         }
 
-        // 4. 결제 정보 생성
+        // 4. 쿠폰 예약 확인 (결제가 커밋되면 상태 변경 이벤트로 사용 확정)
+        couponService.beginPayment(order);
+
+        // 5. 결제 정보 생성
         Payment payment = Payment.builder()
                 .order(order)
-                .amount(order.getTotalAmount() + order.getDeliveryFee())
+                .amount(order.getPaymentAmount())
                 .method(request.getPaymentMethod())
                 .build();
 
         payment = paymentRepository.save(payment);
 
         try {
-            // 5. 결제 처리 시작
+            // 6. 결제 처리 시작
             payment.startProcessing();
 
-            // 6. PG사 결제 요청
+            // 7. PG사 결제 요청
             PaymentGatewayService.PaymentGatewayResponse pgResponse =
                     paymentGatewayService.processPayment(request, payment.getAmount());
 
             if (pgResponse.success()) {
-                // 7. 결제 성공 처리
+                // 8. 결제 성공 처리
                 payment.completePayment(pgResponse.transactionId(), pgResponse.maskedCardNumber());
 
-                // 8. 주문 상태 업데이트
+                // 9. 주문 상태 업데이트
                 order.updateStatus(OrderStatus.CONFIRMED);
+                revenueRollupService.recordPaymentSucceeded(payment);
+                eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, OrderStatus.PENDING));
 
                 log.info("결제 성공 - 주문ID: {}, 결제ID: {}, 금액: {}원",
                         order.getId(), payment.getId(), payment.getAmount());
             } else {
-                // 9. 결제 실패 처리
+                // 10. 결제 실패 처리
                 payment.failPayment(pgResponse.failureReason());
 
                 log.error("결제 실패 - 주문ID: {}, 사유: {}",
@@ -85,7 +100,7 @@ public class PaymentService {
             return PaymentResponse.from(payment);
 
         } catch (Exception e) {
-            // 10. 예외 발생 시 결제 실패 처리
+            // 11. 예외 발생 시 결제 실패 처리
             if (payment.getStatus() == PaymentStatus.PROCESSING) {
                 payment.failPayment(e.getMessage());
             }
@@ -119,10 +134,13 @@ public class PaymentService {
 
         // 4. 결제 취소 처리
         payment.cancelPayment(cancelReason);
+        revenueRollupService.recordPaymentCancelled(payment);
 
         // 5. 주문 상태 업데이트
         Order order = payment.getOrder();
+        OrderStatus previousStatus = order.getStatus();
         order.cancel(cancelReason);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, previousStatus));
 
         log.info("결제 취소 완료 - 결제ID: {}, 주문ID: {}, 사유: {}",
                 payment.getId(), order.getId(), cancelReason);
@@ -150,6 +168,31 @@ public class PaymentService {
         return payments.map(PaymentHistoryResponse::from);
     }
 
+    public PaymentHistorySliceResponse getPaymentHistoryByCursor(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단한다
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PaymentHistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = paymentRepository.findHistoryFirstPage(userId, limit);
+        } else {
+            PaymentHistoryCursor decoded = PaymentHistoryCursor.decode(cursor);
+            rows = paymentRepository.findHistoryAfterCursor(
+                    userId, decoded.createdAt(), decoded.paymentId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PaymentHistoryRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return PaymentHistorySliceResponse.builder()
+                .content(pageRows.stream().map(PaymentHistoryRow::toResponse).collect(Collectors.toList()))
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? PaymentHistoryCursor.of(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .build();
+    }
+
     public List<PaymentHistoryResponse> getPaymentHistoryByDateRange(
             Long userId, LocalDateTime startDate, LocalDateTime endDate) {
 
@@ -172,7 +215,11 @@ public class PaymentService {
 
             if (status != null && status.success()) {
                 payment.completePayment(status.transactionId(), status.maskedCardNumber());
-                payment.getOrder().updateStatus(OrderStatus.CONFIRMED);
+                Order order = payment.getOrder();
+                OrderStatus previousStatus = order.getStatus();
+                order.updateStatus(OrderStatus.CONFIRMED);
+                revenueRollupService.recordPaymentSucceeded(payment);
+                eventPublisher.publishEvent(OrderStatusChangedEvent.from(order, previousStatus));
             }
         }
     }
@@ -1,5 +1,7 @@
 package com.portfolio.food_delivery.domain.restaurant.controller;
 
+import com.portfolio.food_delivery.domain.order.dto.EtaResponse;
+import com.portfolio.food_delivery.domain.order.popularity.RankingType;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantCreateRequest;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantResponse;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantUpdateRequest;
@@ -21,6 +23,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -77,7 +80,24 @@ public class RestaurantController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "레스토랑 목록 조회", description = "레스토랑 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "배달 예상 시각 조회",
+            description = "지금 주문하면 도착하는 예상 시각을 조회합니다. 레스토랑·요일·시간대별 최근 배달 기록을 기준으로 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = EtaResponse.class))),
+            @ApiResponse(responseCode = "404", description = "레스토랑을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}/eta")
+    public ResponseEntity<EtaResponse> getDeliveryEta(
+            @Parameter(description = "레스토랑 ID", required = true, example = "1")
+            @PathVariable Long id) {
+        return ResponseEntity.ok(restaurantService.getDeliveryEta(id));
+    }
+
+    @Operation(summary = "레스토랑 목록 조회",
+            description = "레스토랑 목록을 페이징하여 조회합니다. sort=popular(최근 주문 수 순), sort=trending(평소보다 주문이 급증한 순) 으로 "
+                    + "주문 기반 순위를 조회할 수 있으며, 이때는 최근 주문이 있었던 상위 레스토랑만 나옵니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = Page.class)))
@@ -91,7 +111,11 @@ public class RestaurantController {
             @Parameter(description = "페이징 정보")
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable) {
-        Page<RestaurantResponse> response = restaurantService.getRestaurants(status, category, pageable);
+        // sort=popular/trending 은 엔티티 속성이 아니므로 정렬 없는 페이지로 바꿔 순위 조회로 보낸다
+        Page<RestaurantResponse> response = RankingType.from(pageable.getSort())
+                .map(type -> restaurantService.getRankedRestaurants(status, category, type,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())))
+                .orElseGet(() -> restaurantService.getRestaurants(status, category, pageable));
         return ResponseEntity.ok(response);
     }
 
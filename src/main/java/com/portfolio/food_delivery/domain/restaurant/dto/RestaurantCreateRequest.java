@@ -33,6 +33,16 @@ public class RestaurantCreateRequest {
     @NotNull(message = "주소는 필수입니다.")
     private Address address;
 
+    @Schema(description = "위도 (배차용 픽업 위치)", example = "37.5012")
+    @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다.")
+    private Double latitude;
+
+    @Schema(description = "경도 (배차용 픽업 위치)", example = "127.0396")
+    @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다.")
+    private Double longitude;
+
     @Schema(description = "레스토랑 카테고리", example = "CHICKEN", required = true,
             allowableValues = {"KOREAN", "JAPANESE", "CHINESE", "WESTERN", "CHICKEN", "PIZZA", "BURGER", "CAFE", "ASIAN", "SNACK", "MIDNIGHT", "OTHER"})
     @NotNull(message = "카테고리는 필수입니다.")
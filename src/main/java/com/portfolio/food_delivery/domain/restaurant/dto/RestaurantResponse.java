@@ -28,6 +28,8 @@ public class RestaurantResponse {
     private LocalTime closeTime;
     private Integer minimumOrderAmount;
     private Integer deliveryFee;
+    private Double latitude;
+    private Double longitude;
     private Double rating;
     private Integer reviewCount;
     private RestaurantStatus status;
@@ -46,6 +48,8 @@ public class RestaurantResponse {
                 .closeTime(restaurant.getCloseTime())
                 .minimumOrderAmount(restaurant.getMinimumOrderAmount())
                 .deliveryFee(restaurant.getDeliveryFee())
+                .latitude(restaurant.getLatitude())
+                .longitude(restaurant.getLongitude())
                 .rating(restaurant.getRating())
                 .reviewCount(restaurant.getReviewCount())
                 .status(restaurant.getStatus())
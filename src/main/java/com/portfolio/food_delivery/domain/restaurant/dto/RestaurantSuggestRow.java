@@ -0,0 +1,15 @@
+package com.portfolio.food_delivery.domain.restaurant.dto;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+
+/**
+ * 자동완성 색인 초기화용 레스토랑 (엔티티를 영속성 컨텍스트에 올리지 않기 위한 프로젝션)
+ */
+public record RestaurantSuggestRow(
+        Long id,
+        String name,
+        RestaurantCategory category,
+        RestaurantStatus status,
+        Integer reviewCount
+) {}
@@ -1,5 +1,7 @@
 package com.portfolio.food_delivery.domain.restaurant.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -27,4 +29,13 @@ public class RestaurantUpdateRequest {
 
     @Min(value = 0, message = "배달료는 0원 이상이어야 합니다.")
     private Integer deliveryFee;
+
+    // 위도/경도는 함께 보낸 경우에만 반영
+    @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다.")
+    private Double longitude;
 }
\ No newline at end of file
@@ -8,13 +8,19 @@ import com.portfolio.food_delivery.domain.review.entity.Review;
 import com.portfolio.food_delivery.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurant")
+@Table(name = "restaurants", indexes = {
+        @Index(name = "idx_restaurants_status_category", columnList = "status, category")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -53,6 +59,11 @@ public class Restaurant extends BaseEntity {
     @Embedded
     private Address address;
 
+    // 배차용 픽업 위치 (미등록 레스토랑은 자동 배차 대상이 아님)
+    private Double latitude;
+
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private RestaurantCategory category;
@@ -91,6 +102,17 @@ public class Restaurant extends BaseEntity {
         if (closeTime != null) this.closeTime = closeTime;
     }
 
+    public void updateLocation(Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
     public void updateStatus(RestaurantStatus status) {
         this.status = status;
     }
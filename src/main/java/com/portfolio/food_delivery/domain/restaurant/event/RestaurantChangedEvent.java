@@ -0,0 +1,26 @@
+package com.portfolio.food_delivery.domain.restaurant.event;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+
+/**
+ * 레스토랑 등록/변경 이벤트 (자동완성 색인 갱신용)
+ * 리스너는 커밋 이후에 실행되므로 엔티티 대신 필요한 값만 복사해서 담는다.
+ */
+public record RestaurantChangedEvent(
+        Long restaurantId,
+        String name,
+        RestaurantCategory category,
+        RestaurantStatus status,
+        Integer reviewCount) {
+
+    public static RestaurantChangedEvent from(Restaurant restaurant) {
+        return new RestaurantChangedEvent(
+                restaurant.getId(),
+                restaurant.getName(),
+                restaurant.getCategory(),
+                restaurant.getStatus(),
+                restaurant.getReviewCount());
+    }
+}
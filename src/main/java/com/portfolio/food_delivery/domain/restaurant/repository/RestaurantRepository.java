@@ -1,16 +1,24 @@
 package com.portfolio.food_delivery.domain.restaurant.repository;
 
+import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantSuggestRow;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
@@ -27,5 +35,18 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
                                      @Param("keyword") String keyword,
                                      Pageable pageable);
 
-    List<Restaurant> findByOwnerId(Long ownerId);
-}
\ No newline at end of file
+    @Query("SELECT r FROM Restaurant r WHERE r.owner.id = :ownerId")
+    List<Restaurant> findByOwnerId(@Param("ownerId") Long ownerId);
+
+    // 메뉴 등록/일괄 등록/순서 변경을 레스토랑 단위로 직렬화 (표시 순서 경합 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Restaurant r WHERE r.id = :id")
+    Optional<Restaurant> findByIdForUpdate(@Param("id") Long id);
+
+    // 자동완성 색인 초기화용 - 폐업하지 않은 레스토랑 전체
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.portfolio.food_delivery.domain.restaurant.dto.RestaurantSuggestRow(" +
+            "r.id, r.name, r.category, r.status, r.reviewCount) " +
+            "FROM Restaurant r WHERE r.status <> :excluded")
+    Stream<RestaurantSuggestRow> streamSuggestRows(@Param("excluded") RestaurantStatus excluded);
+}
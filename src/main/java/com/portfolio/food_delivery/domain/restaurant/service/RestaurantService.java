@@ -1,11 +1,16 @@
 package com.portfolio.food_delivery.domain.restaurant.service;
 
+import com.portfolio.food_delivery.domain.order.dto.EtaResponse;
+import com.portfolio.food_delivery.domain.order.eta.DeliveryEtaEstimator;
+import com.portfolio.food_delivery.domain.order.popularity.PopularityTracker;
+import com.portfolio.food_delivery.domain.order.popularity.RankingType;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantCreateRequest;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantResponse;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantUpdateRequest;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import com.portfolio.food_delivery.domain.restaurant.event.RestaurantChangedEvent;
 import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
 import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
 import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
@@ -14,11 +19,19 @@ import com.portfolio.food_delivery.domain.user.entity.UserRole;
 import com.portfolio.food_delivery.domain.user.exception.UserNotFoundException;
 import com.portfolio.food_delivery.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,6 +39,9 @@ public class RestaurantService {
 
     private final RestaurantRepository restaurantRepository;
     private final UserRepository userRepository;
+    private final DeliveryEtaEstimator etaEstimator;
+    private final PopularityTracker popularityTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RestaurantResponse createRestaurant(Long ownerId, RestaurantCreateRequest request) {
@@ -48,9 +64,12 @@ public class RestaurantService {
                 .closeTime(request.getCloseTime())
                 .minimumOrderAmount(request.getMinimumOrderAmount())
                 .deliveryFee(request.getDeliveryFee())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .build();
 
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.from(savedRestaurant));
         return RestaurantResponse.from(savedRestaurant);
     }
 
@@ -61,6 +80,14 @@ public class RestaurantService {
         return RestaurantResponse.from(restaurant);
     }
 
+    // 지금 주문하면 도착하는 예상 시각 (메모리의 분포만 사용)
+    public EtaResponse getDeliveryEta(Long restaurantId) {
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new RestaurantNotFoundException("레스토랑을 찾을 수 없습니다.");
+        }
+        return EtaResponse.from(etaEstimator.estimateNewOrder(restaurantId, LocalDateTime.now()));
+    }
+
     public Page<RestaurantResponse> getRestaurants(RestaurantStatus status,
                                                    RestaurantCategory category,
                                                    Pageable pageable) {
@@ -75,6 +102,29 @@ public class RestaurantService {
         return restaurants.map(RestaurantResponse::from);
     }
 
+    /**
+     * 인기/급상승 순 목록 - 순위는 메모리의 추적기에서 받고 순위에 든 레스토랑만 IN 쿼리 한 번으로 읽는다.
+     * 최근 주문이 있었던 상위 후보(popularity.candidates)까지만 나온다.
+     */
+    public Page<RestaurantResponse> getRankedRestaurants(RestaurantStatus status,
+                                                         RestaurantCategory category,
+                                                         RankingType type,
+                                                         Pageable pageable) {
+        List<Long> rankedIds = popularityTracker.rankRestaurants(category, type, LocalDateTime.now());
+        Map<Long, Restaurant> restaurants = restaurantRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+
+        List<RestaurantResponse> ranked = rankedIds.stream()
+                .map(restaurants::get)
+                .filter(restaurant -> restaurant != null && restaurant.getStatus() == status)
+                .map(RestaurantResponse::from)
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(ranked.subList(from, to), pageable, ranked.size());
+    }
+
     @Transactional
     public RestaurantResponse updateRestaurant(Long restaurantId, Long userId,
                                                RestaurantUpdateRequest request) {
@@ -93,6 +143,7 @@ public class RestaurantService {
                 request.getOpenTime(),
                 request.getCloseTime()
         );
+        restaurant.updateLocation(request.getLatitude(), request.getLongitude());
 
         return RestaurantResponse.from(restaurant);
     }
@@ -1,5 +1,6 @@
 package com.portfolio.food_delivery.domain.review.dto;
 
+import com.portfolio.food_delivery.common.id.JsonStringId;
 import com.portfolio.food_delivery.domain.review.entity.Review;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ReviewResponse {
 
-    @Schema(description = "리뷰 ID", example = "1")
+    @Schema(description = "리뷰 ID", type = "string", example = "371239482906181632")
+    @JsonStringId
     private Long id;
 
     @Schema(description = "사용자 ID", example = "1")
@@ -31,7 +33,8 @@ public class ReviewResponse {
     @Schema(description = "레스토랑명", example = "맛있는 치킨")
     private String restaurantName;
 
-    @Schema(description = "주문 ID", example = "1")
+    @Schema(description = "주문 ID", type = "string", example = "371239482906181632")
+    @JsonStringId
     private Long orderId;
 
     @Schema(description = "평점", example = "5", minimum = "1", maximum = "5")
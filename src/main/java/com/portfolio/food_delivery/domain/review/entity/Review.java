@@ -1,6 +1,7 @@
 package com.portfolio.food_delivery.domain.review.entity;
 
 import com.portfolio.food_delivery.common.entity.BaseEntity;
+import com.portfolio.food_delivery.common.id.TimeOrderedId;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.user.entity.User;
@@ -10,7 +11,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_restaurant_deleted_created", columnList = "restaurant_id, is_deleted, created_at"),
+        @Index(name = "idx_reviews_user_deleted_created", columnList = "user_id, is_deleted, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -18,7 +22,7 @@ import java.time.LocalDateTime;
 public class Review extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,7 @@ package com.portfolio.food_delivery.domain.review.repository;
 import com.portfolio.food_delivery.domain.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,14 +15,25 @@ import java.util.Optional;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    // 레스토랑의 리뷰 조회 (삭제되지 않은 것만)
-    Page<Review> findByRestaurantIdAndIsDeletedFalseOrderByCreatedAtDesc(Long restaurantId, Pageable pageable);
+    // 레스토랑의 리뷰 조회 (삭제되지 않은 것만, 작성자/레스토랑 이름까지 함께 조회)
+    // 조건은 FK 컬럼을 직접 비교한다 (파생 쿼리는 restaurants/users 를 LEFT JOIN 해 걸러 인덱스를 못 탄다)
+    @EntityGraph(attributePaths = {"user", "restaurant"})
+    @Query(value = "SELECT r FROM Review r WHERE r.restaurant.id = :restaurantId AND r.isDeleted = false " +
+            "ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.restaurant.id = :restaurantId AND r.isDeleted = false")
+    Page<Review> findByRestaurantIdAndIsDeletedFalseOrderByCreatedAtDesc(@Param("restaurantId") Long restaurantId,
+                                                                          Pageable pageable);
 
     // 사용자의 리뷰 조회
-    Page<Review> findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "restaurant"})
+    @Query(value = "SELECT r FROM Review r WHERE r.user.id = :userId AND r.isDeleted = false " +
+            "ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user.id = :userId AND r.isDeleted = false")
+    Page<Review> findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
     // 주문에 대한 리뷰 존재 여부 확인
-    boolean existsByOrderIdAndIsDeletedFalse(Long orderId);
+    @Query("SELECT COUNT(r) > 0 FROM Review r WHERE r.order.id = :orderId AND r.isDeleted = false")
+    boolean existsByOrderIdAndIsDeletedFalse(@Param("orderId") Long orderId);
 
     // 리뷰 상세 조회 (연관 엔티티 포함)
     @Query("SELECT r FROM Review r " +
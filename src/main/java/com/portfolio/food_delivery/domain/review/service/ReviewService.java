@@ -5,6 +5,7 @@ import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
 import com.portfolio.food_delivery.domain.order.exception.OrderNotFoundException;
 import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.event.RestaurantChangedEvent;
 import com.portfolio.food_delivery.domain.restaurant.exception.RestaurantNotFoundException;
 import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
 import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
@@ -14,6 +15,7 @@ import com.portfolio.food_delivery.domain.review.exception.*;
 import com.portfolio.food_delivery.domain.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,6 +34,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewResponse createReview(Long userId, ReviewCreateRequest request) {
@@ -208,6 +211,8 @@ public class ReviewService {
         );
 
         restaurantRepository.save(restaurant);
+        // 리뷰 수가 자동완성 가중치이므로 색인에 알린다
+        eventPublisher.publishEvent(RestaurantChangedEvent.from(restaurant));
 
         log.info("레스토랑 {} 평점 업데이트: {} (리뷰 {}개)",
                 restaurantId, averageRating, reviewCount);
@@ -0,0 +1,47 @@
+package com.portfolio.food_delivery.domain.search.controller;
+
+import com.portfolio.food_delivery.domain.search.dto.SuggestionResponse;
+import com.portfolio.food_delivery.domain.search.service.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Search", description = "검색 관련 API")
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SuggestService suggestService;
+
+    @Operation(summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 카테고리, 레스토랑, 메뉴 이름을 추천합니다. "
+                    + "이름 중간 단어로도 찾을 수 있고(\"콤보\" → \"교촌 허니콤보\"), 입력 중인 글자(\"칰\" → \"치킨\")와 "
+                    + "초성(\"ㄱㅊ\" → \"교촌치킨\")도 지원합니다. 카테고리가 먼저 나오고, 나머지는 리뷰가 많은 레스토랑 순입니다. "
+                    + "폐업한 레스토랑과 판매 중이 아닌 메뉴는 나오지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SuggestionResponse.class))))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @Parameter(description = "검색어 (공백 무시)", required = true, example = "치킨")
+            @RequestParam String q,
+            @Parameter(description = "최대 개수 (1~10)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestService.suggest(q, limit));
+    }
+}
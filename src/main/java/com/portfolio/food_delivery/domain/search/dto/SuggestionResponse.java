@@ -0,0 +1,45 @@
+package com.portfolio.food_delivery.domain.search.dto;
+
+import com.portfolio.food_delivery.common.id.JsonStringId;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.search.index.Suggestion;
+import com.portfolio.food_delivery.domain.search.index.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "자동완성 항목")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+
+    @Schema(description = "항목 종류 (CATEGORY, RESTAURANT, MENU)", example = "MENU")
+    private SuggestionType type;
+
+    @Schema(description = "레스토랑 ID 또는 메뉴 ID (카테고리는 null)", type = "string", example = "1")
+    @JsonStringId
+    private Long id;
+
+    @Schema(description = "레스토랑 ID (메뉴는 속한 레스토랑, 카테고리는 null)", example = "1")
+    private Long restaurantId;
+
+    @Schema(description = "표시 이름", example = "허니콤보")
+    private String name;
+
+    @Schema(description = "카테고리", example = "CHICKEN")
+    private RestaurantCategory category;
+
+    public static SuggestionResponse from(Suggestion suggestion) {
+        return SuggestionResponse.builder()
+                .type(suggestion.type())
+                .id(suggestion.id())
+                .restaurantId(suggestion.restaurantId())
+                .name(suggestion.name())
+                .category(suggestion.category())
+                .build();
+    }
+}
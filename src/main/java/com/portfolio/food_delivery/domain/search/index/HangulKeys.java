@@ -0,0 +1,105 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import java.util.Locale;
+
+/**
+ * 검색어/이름을 자동완성 키로 바꾼다.
+ *
+ * - 자모 키: 한글 음절을 초성·중성·종성 호환 자모로 풀고, 겹받침/이중 모음도 낱자로 푼다.
+ *   입력 중인 글자("칰", "달")도 완성된 이름("치킨", "닭")의 앞부분과 같은 키가 된다.
+ * - 초성 키: 한글 음절은 초성만 남긴다 ("교촌치킨" → "ㄱㅊㅊㅋ").
+ * 두 키 모두 소문자로 바꾸고 공백을 뺀 뒤 만든다.
+ */
+final class HangulKeys {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char JAMO_FIRST = 'ㄱ';
+    private static final char CONSONANT_LAST = 'ㅎ';
+    private static final char JAMO_LAST = 'ㅣ';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 검색어에 직접 입력된 겹자모 호환 자모(ㄺ, ㅘ 등)도 음절과 같은 낱자로 푼다
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    private HangulKeys() {
+    }
+
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    static String jamo(String normalized) {
+        StringBuilder key = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_FIRST;
+                key.append(CHOSEONG.charAt(index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)))
+                        .append(JUNGSEONG[index / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else if (c >= JAMO_FIRST && c <= JAMO_LAST && COMPOUND_JAMO.indexOf(c) >= 0) {
+                key.append(COMPOUND_JAMO_PARTS[COMPOUND_JAMO.indexOf(c)]);
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    static String chosung(String normalized) {
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                key.append(CHOSEONG.charAt((c - SYLLABLE_FIRST) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    static boolean hasSyllable(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 자음만으로 된 검색어("ㄱㅊ")는 초성 검색
+    static boolean isChosung(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < JAMO_FIRST || c > CONSONANT_LAST) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
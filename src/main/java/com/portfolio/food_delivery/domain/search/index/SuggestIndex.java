@@ -0,0 +1,242 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import com.portfolio.food_delivery.domain.menu.dto.MenuSuggestRow;
+import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.event.MenuChangedEvent;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantSuggestRow;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import com.portfolio.food_delivery.domain.restaurant.event.RestaurantChangedEvent;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 레스토랑 이름, 메뉴 이름, 카테고리 이름 자동완성 색인
+ *
+ * 이름의 각 단어 시작 위치부터의 나머지를 키로 자모 trie 와 초성 trie 에 넣는다 ("교촌 허니콤보" → "교촌허니콤보", "허니콤보").
+ * 가중치는 레스토랑 리뷰 수이고, 메뉴는 속한 레스토랑의 가중치를 따르며, 카테고리는 항상 맨 앞에 둔다.
+ * 영업 종료(폐업) 레스토랑과 판매 중이 아닌 메뉴는 넣지 않는다.
+ *
+ * 기동 시 전체를 한 번 읽고, 이후에는 레스토랑/메뉴 변경 이벤트(커밋 후)마다 해당 항목만 빼고 다시 넣는다.
+ * 조회는 읽기 잠금 안에서 trie 를 따라 내려가기만 하므로 DB 에 접근하지 않는다.
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+    private static final long CATEGORY_WEIGHT = Long.MAX_VALUE;
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuRepository menuRepository;
+    private final int maxWords;
+
+    private final SuggestTrie jamoTrie;
+    private final SuggestTrie chosungTrie;
+    private final Map<Long, Suggestion> restaurants = new HashMap<>();
+    private final Map<Long, Suggestion> menus = new HashMap<>();
+    private final Map<Long, Set<Long>> menusByRestaurant = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestIndex(RestaurantRepository restaurantRepository,
+                        MenuRepository menuRepository,
+                        @Value("${search.suggest.cache-size:10}") int cacheSize,
+                        @Value("${search.suggest.max-words:4}") int maxWords) {
+        this.restaurantRepository = restaurantRepository;
+        this.menuRepository = menuRepository;
+        this.maxWords = maxWords;
+        this.jamoTrie = new SuggestTrie(cacheSize);
+        this.chosungTrie = new SuggestTrie(cacheSize);
+
+        for (RestaurantCategory category : RestaurantCategory.values()) {
+            index(new Suggestion(SuggestionType.CATEGORY, null, null, category.getDescription(), category, CATEGORY_WEIGHT));
+        }
+    }
+
+    // 기동 시 전체 레스토랑/메뉴로 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        lock.writeLock().lock();
+        try {
+            // 메뉴는 레스토랑 가중치를 따르므로 레스토랑을 먼저 채운다
+            try (Stream<RestaurantSuggestRow> rows = restaurantRepository.streamSuggestRows(RestaurantStatus.PERMANENTLY_CLOSED)) {
+                Iterator<RestaurantSuggestRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    RestaurantSuggestRow row = iterator.next();
+                    putRestaurant(row.id(), row.name(), row.category(), row.reviewCount());
+                }
+            }
+            try (Stream<MenuSuggestRow> rows = menuRepository.streamSuggestRows(MenuStatus.AVAILABLE)) {
+                Iterator<MenuSuggestRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    MenuSuggestRow row = iterator.next();
+                    putMenu(row.id(), row.restaurantId(), row.name());
+                }
+            }
+            log.info("자동완성 색인 초기화 - 레스토랑 {}개, 메뉴 {}개, 키 {}개",
+                    restaurants.size(), menus.size(), jamoTrie.size() + chosungTrie.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.status() == RestaurantStatus.PERMANENTLY_CLOSED) {
+                removeRestaurant(event.restaurantId());
+            } else {
+                putRestaurant(event.restaurantId(), event.name(), event.category(), event.reviewCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.status() == MenuStatus.AVAILABLE) {
+                putMenu(event.menuId(), event.restaurantId(), event.name());
+            } else {
+                removeMenu(event.menuId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 자음만 입력하면 초성으로, 그 외에는 자모 단위 접두어로 찾는다.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String normalized = HangulKeys.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return HangulKeys.isChosung(normalized)
+                    ? chosungTrie.prefix(normalized, limit)
+                    : jamoTrie.prefix(HangulKeys.jamo(normalized), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putRestaurant(Long restaurantId, String name, RestaurantCategory category, Integer reviewCount) {
+        long weight = reviewCount != null ? reviewCount : 0;
+        Suggestion updated = new Suggestion(SuggestionType.RESTAURANT, restaurantId, restaurantId, name, category, weight);
+        Suggestion previous = restaurants.put(restaurantId, updated);
+        if (updated.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(updated);
+
+        // 가중치가 바뀌면 메뉴도 새 가중치로 다시 넣는다
+        if (previous != null && previous.weight() != weight) {
+            for (Long menuId : menusByRestaurant.getOrDefault(restaurantId, Set.of())) {
+                Suggestion menu = menus.get(menuId);
+                putMenu(menuId, restaurantId, menu.name());
+            }
+        }
+    }
+
+    private void removeRestaurant(Long restaurantId) {
+        Suggestion previous = restaurants.remove(restaurantId);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (Long menuId : new ArrayList<>(menusByRestaurant.getOrDefault(restaurantId, Set.of()))) {
+            removeMenu(menuId);
+        }
+    }
+
+    // 색인에 없는(폐업) 레스토랑의 메뉴는 넣지 않는다
+    private void putMenu(Long menuId, Long restaurantId, String name) {
+        Suggestion restaurant = restaurants.get(restaurantId);
+        if (restaurant == null) {
+            return;
+        }
+        Suggestion updated = new Suggestion(SuggestionType.MENU, menuId, restaurantId, name, restaurant.category(),
+                restaurant.weight());
+        Suggestion previous = menus.put(menuId, updated);
+        if (updated.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(updated);
+        menusByRestaurant.computeIfAbsent(restaurantId, key -> new HashSet<>()).add(menuId);
+    }
+
+    private void removeMenu(Long menuId) {
+        Suggestion previous = menus.remove(menuId);
+        if (previous == null) {
+            return;
+        }
+        unindex(previous);
+        Set<Long> siblings = menusByRestaurant.get(previous.restaurantId());
+        if (siblings != null) {
+            siblings.remove(menuId);
+            if (siblings.isEmpty()) {
+                menusByRestaurant.remove(previous.restaurantId());
+            }
+        }
+    }
+
+    private void index(Suggestion suggestion) {
+        for (String suffix : suffixesOf(suggestion.name())) {
+            jamoTrie.insert(HangulKeys.jamo(suffix), suggestion);
+            if (HangulKeys.hasSyllable(suffix)) {
+                chosungTrie.insert(HangulKeys.chosung(suffix), suggestion);
+            }
+        }
+    }
+
+    private void unindex(Suggestion suggestion) {
+        for (String suffix : suffixesOf(suggestion.name())) {
+            jamoTrie.remove(HangulKeys.jamo(suffix), suggestion);
+            if (HangulKeys.hasSyllable(suffix)) {
+                chosungTrie.remove(HangulKeys.chosung(suffix), suggestion);
+            }
+        }
+    }
+
+    // 앞에서 maxWords 개 단어의 시작 위치부터 이름 끝까지 (공백 제거, 중복 제거)
+    private Set<String> suffixesOf(String name) {
+        String[] words = name.trim().split("\\s+");
+        Set<String> suffixes = new HashSet<>();
+        for (int i = 0; i < Math.min(words.length, maxWords); i++) {
+            String suffix = HangulKeys.normalize(String.join("", List.of(words).subList(i, words.length)));
+            if (!suffix.isEmpty()) {
+                suffixes.add(suffix);
+            }
+        }
+        return suffixes;
+    }
+}
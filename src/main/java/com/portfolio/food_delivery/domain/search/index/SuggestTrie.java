@@ -0,0 +1,278 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 접두어 자동완성용 radix trie
+ *
+ * 간선에 문자열을 붙여 자식이 하나뿐인 경로는 노드 하나로 압축하고, 노드마다 그 아래 항목 중 가중치 상위 cacheSize 개를
+ * 미리 정렬해 둔다. 조회는 접두어를 따라 내려간 노드의 목록을 그대로 잘라 주므로 O(접두어 길이) 이고, 항목 수와 관계없다.
+ *
+ * 추가는 지나가는 노드의 상위 목록에 끼워 넣고, 삭제는 그 항목을 갖고 있던 노드만 아래에서부터 다시 계산한다.
+ * 한 항목이 여러 키(단어 시작 위치)로 들어가므로 상위 목록은 중복을 뺀다. 스레드 안전하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+final class SuggestTrie {
+
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private final int cacheSize;
+    private final Node root = new Node("");
+    private int size;
+
+    SuggestTrie(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    void insert(String key, Suggestion suggestion) {
+        Node node = root;
+        offer(node, suggestion);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.put(child);
+                i = key.length();
+            } else {
+                int common = commonPrefix(child.label, key, i);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                i += common;
+            }
+            node = child;
+            offer(node, suggestion);
+        }
+        if (node.terminals == null) {
+            node.terminals = new ArrayList<>(1);
+        }
+        node.terminals.add(suggestion);
+        size++;
+    }
+
+    void remove(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            i += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        if (node.terminals == null || !node.terminals.remove(suggestion)) {
+            return;
+        }
+        if (node.terminals.isEmpty()) {
+            node.terminals = null;
+        }
+        size--;
+
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && prune(path.get(depth - 1), current)) {
+                continue;
+            }
+            // 상위 목록에 없던 항목이면 위쪽 노드(더 큰 부분 트리)의 목록에도 없다
+            if (indexOf(current.top, suggestion) < 0) {
+                break;
+            }
+            recompute(current);
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 키를 가진 항목 중 가중치 상위 limit 개 (limit 은 cacheSize 이하)
+     */
+    List<Suggestion> prefix(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            int matched = commonPrefix(child.label, prefix, i);
+            if (matched < child.label.length() && i + matched < prefix.length()) {
+                return List.of();
+            }
+            i += matched;
+            node = child;
+        }
+        Suggestion[] top = node.top;
+        return List.of(top.length <= limit ? top : Arrays.copyOf(top, limit));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int nodeCount() {
+        return count(root);
+    }
+
+    private int count(Node node) {
+        int count = 1;
+        for (Node child : node.children) {
+            count += count(child);
+        }
+        return count;
+    }
+
+    // 간선 중간에 새 노드를 끼운다 - 아래 항목은 그대로이므로 상위 목록도 그대로 물려받는다
+    private Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        middle.top = child.top;
+        parent.put(middle);     // 첫 글자가 같으므로 child 자리를 대신한다 (child 의 간선을 자르기 전에)
+        child.label = child.label.substring(at);
+        middle.put(child);
+        return middle;
+    }
+
+    // 비거나 자식 하나만 남은 노드는 정리해 압축을 유지한다 (지웠으면 true)
+    private boolean prune(Node parent, Node node) {
+        if (node.terminals != null) {
+            return false;
+        }
+        if (node.children.length == 0) {
+            parent.removeChild(node.label.charAt(0));
+            return true;
+        }
+        if (node.children.length == 1) {
+            Node only = node.children[0];
+            only.label = node.label + only.label;
+            parent.put(only);
+            return true;
+        }
+        return false;
+    }
+
+    private void offer(Node node, Suggestion suggestion) {
+        Suggestion[] top = node.top;
+        // 가득 찬 목록의 마지막보다 뒤인 항목은 끼지 못한다 (대부분의 노드가 여기서 끝나므로 가중치부터 본다)
+        if (top.length >= cacheSize) {
+            Suggestion last = top[top.length - 1];
+            if (suggestion.weight() < last.weight() || Suggestion.ORDER.compare(suggestion, last) >= 0) {
+                return;
+            }
+        }
+        if (indexOf(top, suggestion) >= 0) {
+            return;
+        }
+        int at = 0;
+        while (at < top.length && Suggestion.ORDER.compare(suggestion, top[at]) >= 0) {
+            at++;
+        }
+        Suggestion[] updated = new Suggestion[Math.min(top.length + 1, cacheSize)];
+        System.arraycopy(top, 0, updated, 0, at);
+        updated[at] = suggestion;
+        System.arraycopy(top, at, updated, at + 1, updated.length - at - 1);
+        node.top = updated;
+    }
+
+    private void recompute(Node node) {
+        List<Suggestion> candidates = node.terminals != null ? new ArrayList<>(node.terminals) : new ArrayList<>();
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(Suggestion.ORDER);
+        Set<Suggestion> top = new LinkedHashSet<>();
+        for (Suggestion candidate : candidates) {
+            if (top.size() == cacheSize) {
+                break;
+            }
+            top.add(candidate);
+        }
+        node.top = top.toArray(NO_SUGGESTIONS);
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOf(Suggestion[] array, Suggestion suggestion) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i].equals(suggestion)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 메모리를 줄이려 자식/상위 목록은 컬렉션 대신 배열로 둔다 (자식은 첫 글자 순 정렬, 첫 글자 배열에서 이진 탐색)
+    // 같은 이름(공기밥 등)이 수천 개 몰릴 수 있는 끝 항목만 늘어나는 리스트로 둔다
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final char[] NO_FIRSTS = new char[0];
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private char[] firsts = NO_FIRSTS;
+        private List<Suggestion> terminals;     // 이 노드에서 끝나는 키의 항목 (없으면 null)
+        private Suggestion[] top = NO_SUGGESTIONS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int index = Arrays.binarySearch(firsts, first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        // 같은 첫 글자의 자식이 있으면 바꾸고, 없으면 정렬 위치에 넣는다
+        void put(Node child) {
+            char first = child.label.charAt(0);
+            int index = Arrays.binarySearch(firsts, first);
+            if (index >= 0) {
+                children[index] = child;
+                return;
+            }
+            int insertAt = -index - 1;
+            Node[] expanded = new Node[children.length + 1];
+            System.arraycopy(children, 0, expanded, 0, insertAt);
+            expanded[insertAt] = child;
+            System.arraycopy(children, insertAt, expanded, insertAt + 1, children.length - insertAt);
+            char[] expandedFirsts = new char[firsts.length + 1];
+            System.arraycopy(firsts, 0, expandedFirsts, 0, insertAt);
+            expandedFirsts[insertAt] = first;
+            System.arraycopy(firsts, insertAt, expandedFirsts, insertAt + 1, firsts.length - insertAt);
+            children = expanded;
+            firsts = expandedFirsts;
+        }
+
+        void removeChild(char first) {
+            int index = Arrays.binarySearch(firsts, first);
+            if (index < 0) {
+                return;
+            }
+            if (children.length == 1) {
+                children = NO_CHILDREN;
+                firsts = NO_FIRSTS;
+                return;
+            }
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            char[] shrunkFirsts = new char[firsts.length - 1];
+            System.arraycopy(firsts, 0, shrunkFirsts, 0, index);
+            System.arraycopy(firsts, index + 1, shrunkFirsts, index, firsts.length - index - 1);
+            children = shrunk;
+            firsts = shrunkFirsts;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+
+import java.util.Comparator;
+
+/**
+ * 자동완성 항목 - 값이 바뀌면 이전 항목을 빼고 새 항목을 넣으므로 동일성은 모든 값 기준이다.
+ *
+ * @param id           레스토랑/메뉴 ID (카테고리는 null)
+ * @param restaurantId 메뉴가 속한 레스토랑 ID (레스토랑은 자기 ID, 카테고리는 null)
+ * @param weight       인기 가중치 - 클수록 앞에 나온다
+ */
+public record Suggestion(
+        SuggestionType type,
+        Long id,
+        Long restaurantId,
+        String name,
+        RestaurantCategory category,
+        long weight) {
+
+    // 가중치 내림차순, 같으면 카테고리 → 레스토랑 → 메뉴, 짧은 이름 순
+    static final Comparator<Suggestion> ORDER = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::type)
+            .thenComparingInt(suggestion -> suggestion.name().length())
+            .thenComparing(Suggestion::name)
+            .thenComparing(Suggestion::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+}
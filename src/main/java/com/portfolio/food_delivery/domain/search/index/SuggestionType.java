@@ -0,0 +1,14 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SuggestionType {
+    CATEGORY("카테고리"),
+    RESTAURANT("레스토랑"),
+    MENU("메뉴");
+
+    private final String description;
+}
@@ -0,0 +1,33 @@
+package com.portfolio.food_delivery.domain.search.service;
+
+import com.portfolio.food_delivery.domain.search.dto.SuggestionResponse;
+import com.portfolio.food_delivery.domain.search.index.SuggestIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 검색어 자동완성
+ * 메모리 색인만 읽으므로 트랜잭션(커넥션)을 열지 않는다.
+ */
+@Service
+public class SuggestService {
+
+    private final SuggestIndex suggestIndex;
+    private final int maxLimit;
+
+    public SuggestService(SuggestIndex suggestIndex,
+                          @Value("${search.suggest.cache-size:10}") int maxLimit) {
+        this.suggestIndex = suggestIndex;
+        this.maxLimit = maxLimit;
+    }
+
+    // 노드마다 미리 정렬해 둔 개수(cache-size)보다 많이는 줄 수 없다
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        int clamped = Math.max(1, Math.min(limit, maxLimit));
+        return suggestIndex.suggest(query, clamped).stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+}
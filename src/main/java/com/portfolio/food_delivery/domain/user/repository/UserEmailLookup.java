@@ -0,0 +1,11 @@
+package com.portfolio.food_delivery.domain.user.repository;
+
+import com.portfolio.food_delivery.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserEmailLookup {
+
+    // 이메일(natural id)로 조회 - 2차 캐시에 있으면 DB를 거치지 않는다
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,27 @@
+package com.portfolio.food_delivery.domain.user.repository;
+
+import com.portfolio.food_delivery.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 요청마다 인증된 이메일로 사용자 ID를 찾으므로 JPQL 대신 natural id 조회를 써서
+ * 이메일 → ID(user-email 리전), ID → 사용자(user 리전) 모두 2차 캐시에서 처리한다.
+ */
+@RequiredArgsConstructor
+public class UserEmailLookupImpl implements UserEmailLookup {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -4,10 +4,7 @@ import com.portfolio.food_delivery.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserEmailLookup {
     boolean existsByEmail(String email);
-    Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+}
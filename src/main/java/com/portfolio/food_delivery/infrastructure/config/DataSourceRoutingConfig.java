@@ -0,0 +1,132 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import com.portfolio.food_delivery.infrastructure.datasource.ReadYourWritesTracker;
+import com.portfolio.food_delivery.infrastructure.datasource.ReplicaLagMonitor;
+import com.portfolio.food_delivery.infrastructure.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary / replica DataSource 라우팅 설정
+ * datasource.routing.enabled=true 일 때만 적용되며, 꺼져 있으면 spring.datasource 하나만 사용한다.
+ * primary 는 spring.datasource 설정을 그대로 쓰고 replica 는 datasource.routing.replica 설정을 쓴다.
+ * 두 풀은 빈으로 등록되므로 hikaricp.connections.* 지표가 pool 태그(primary/replica)별로 수집된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    // spring.datasource.hikari.* (풀 크기, data-source-properties 등)는 자동 설정 DataSource 와 같이 적용
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 드라이버 속성(useCursorFetch 등)은 primary 와 같게 둔다 - 스트리밍 조회는 readOnly 라 replica 로 간다
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${datasource.routing.replica.url}") String url,
+            @Value("${datasource.routing.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.routing.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.routing.replica.maximum-pool-size:20}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        Binder.get(environment)
+                .bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+                .ifBound(driverProperties -> driverProperties.forEach(dataSource::addDataSourceProperty));
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.sticky-window-ms:2000}") long stickyWindowMillis) {
+        return new ReadYourWritesTracker(Duration.ofMillis(stickyWindowMillis));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.routing.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.routing.replica.max-lag-ms:1000}") long maxLagMillis,
+            MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, Duration.ofMillis(maxLagMillis));
+        Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLastLagMillis)
+                .description("마지막으로 확인한 replica 지연 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", monitor, m -> m.isAvailable() ? 1 : 0)
+                .description("replica 로 읽기를 보내고 있는지 (1: 사용, 0: primary 로 우회)")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryDataSource, replicaDataSource, readYourWritesTracker, replicaLagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 실제 커넥션을 고르도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthScheduler replicaHealthScheduler(ReplicaLagMonitor replicaLagMonitor,
+                                                         ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaHealthScheduler(replicaLagMonitor, readYourWritesTracker);
+    }
+
+    static class ReplicaHealthScheduler {
+
+        private final ReplicaLagMonitor replicaLagMonitor;
+        private final ReadYourWritesTracker readYourWritesTracker;
+
+        ReplicaHealthScheduler(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+            this.replicaLagMonitor = replicaLagMonitor;
+            this.readYourWritesTracker = readYourWritesTracker;
+        }
+
+        @Scheduled(fixedDelayString = "${datasource.routing.replica.lag-check-interval-ms:1000}")
+        public void checkReplica() {
+            replicaLagMonitor.check();
+        }
+
+        @Scheduled(fixedDelayString = "${datasource.routing.sticky-purge-interval-ms:60000}")
+        public void purgeStickyUsers() {
+            readYourWritesTracker.purgeExpired();
+        }
+    }
+}
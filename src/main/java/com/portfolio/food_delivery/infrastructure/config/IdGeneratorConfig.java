@@ -0,0 +1,30 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import com.portfolio.food_delivery.common.id.IdGenerator;
+import com.portfolio.food_delivery.common.id.SnowflakeIdGenerator;
+import com.portfolio.food_delivery.common.id.TimeOrderedIdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // 인스턴스마다 다른 노드 ID를 주어야 ID가 겹치지 않는다 (prod 는 기본값이 없어 지정하지 않으면 기동 실패)
+    @Bean
+    public IdGenerator idGenerator(@Value("${id-generator.node-id:}") String nodeId) {
+        if (nodeId.isBlank()) {
+            throw new IllegalStateException(
+                    "id-generator.node-id(NODE_ID)가 설정되지 않았습니다. 인스턴스마다 0 ~ "
+                            + SnowflakeIdGenerator.MAX_NODE_ID + " 사이의 다른 값을 지정하세요.");
+        }
+        return new SnowflakeIdGenerator(Long.parseLong(nodeId.trim()));
+    }
+
+    // EntityManagerFactory 를 만들 때 호출되므로 첫 INSERT 전에 반드시 등록된다
+    @Bean
+    public HibernatePropertiesCustomizer timeOrderedIdInstaller(IdGenerator idGenerator) {
+        return properties -> TimeOrderedIdentifierGenerator.install(idGenerator);
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.net.URL;
+import java.util.UUID;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * 애플리케이션 컨텍스트마다 자기 CacheManager 를 만든다.
+     * JCache 공급자는 같은 URI 의 CacheManager 를 JVM 에서 하나만 두므로, 한 컨텍스트가 닫히면서 닫은 관리자를
+     * 다른 컨텍스트의 SessionFactory 가 계속 쓰게 된다 (테스트의 @DirtiesContext). 리전 설정은 그대로 ehcache.xml 에서 읽는다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${spring.jpa.properties.hibernate.javax.cache.uri:ehcache.xml}") String configResource) {
+        ClassLoader classLoader = getClass().getClassLoader();
+        URL config = classLoader.getResource(configResource);
+        if (config == null) {
+            throw new IllegalStateException("2차 캐시 설정을 찾을 수 없습니다: " + configResource);
+        }
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName(), classLoader);
+        URI uri = URI.create("urn:food-delivery:hibernate-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, new XmlConfiguration(config, classLoader));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+}
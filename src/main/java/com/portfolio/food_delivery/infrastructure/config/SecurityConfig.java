@@ -37,8 +37,13 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/restaurants", "/api/restaurants/**").permitAll()  // 레스토랑 조회는 모두 허용
                         .requestMatchers(HttpMethod.GET, "/api/restaurants/*/menus").permitAll()  // 메뉴 조회는 모두 허용
                         .requestMatchers(HttpMethod.GET, "/api/reviews/restaurants/**").permitAll()  // 레스토랑 리뷰 조회는 모두 허용
+                        .requestMatchers(HttpMethod.GET, "/api/search/**").permitAll()  // 검색어 자동완성은 모두 허용
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")  // 관리자 API
+                        .requestMatchers("/api/dispatch/**").hasRole("DELIVERY_PARTNER")  // 배차 API
                         .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                        // 지표/느린 trace(요청 URL, SQL, 호출 그래프)/기동 단계는 관리자만
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/swagger-ui/**", "/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,17 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import com.portfolio.food_delivery.infrastructure.sql.SqlStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlMonitoringConfig {
+
+    // 요청별 SQL 수 집계를 위해 모든 SQL 을 SqlStatementInspector 에 통과시킨다
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+    }
+}
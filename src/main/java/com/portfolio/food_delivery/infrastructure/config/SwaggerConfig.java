@@ -78,7 +78,8 @@ public class SwaggerConfig {
                 new Tag().name("Orders").description("주문 관련 API"),
                 new Tag().name("Cart").description("장바구니 관련 API"),
                 new Tag().name("Payments").description("결제 관련 API"),
-                new Tag().name("Reviews").description("리뷰 관련 API")
+                new Tag().name("Reviews").description("리뷰 관련 API"),
+                new Tag().name("Analytics").description("매출 분석 관련 API")
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import com.portfolio.food_delivery.infrastructure.tracing.RingBufferSpanExporter;
+import com.portfolio.food_delivery.infrastructure.tracing.SlowTraceEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    // SpanExporter 빈은 Spring Boot 가 BatchSpanProcessor 에 등록한다 (수집 서버 없이 메모리에만 보관)
+    @Bean
+    public RingBufferSpanExporter ringBufferSpanExporter(@Value("${tracing.buffer.capacity:10000}") int capacity) {
+        return new RingBufferSpanExporter(capacity);
+    }
+
+    @Bean
+    public SlowTraceEndpoint slowTraceEndpoint(RingBufferSpanExporter ringBufferSpanExporter,
+                                               @Value("${tracing.slow-threshold-ms:500}") long slowThresholdMs) {
+        return new SlowTraceEndpoint(ringBufferSpanExporter, slowThresholdMs);
+    }
+}
@@ -0,0 +1,6 @@
+package com.portfolio.food_delivery.infrastructure.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,44 @@
+package com.portfolio.food_delivery.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각
+ * 쓰기 직후 일정 시간 동안은 해당 사용자의 읽기를 primary 로 보내 복제 지연으로 방금 쓴 데이터가 안 보이는 일을 막는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyNanos;
+    private final ConcurrentHashMap<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.stickyNanos = stickyWindow.toNanos();
+    }
+
+    public void markWrite(String userKey) {
+        lastWriteNanos.put(userKey, System.nanoTime());
+    }
+
+    public boolean isSticky(String userKey) {
+        Long writtenAt = lastWriteNanos.get(userKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < stickyNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(userKey, writtenAt);
+        return false;
+    }
+
+    // 다시 읽지 않는 사용자의 기록 정리
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.entrySet().removeIf(entry -> now - entry.getValue() >= stickyNanos);
+    }
+
+    public int size() {
+        return lastWriteNanos.size();
+    }
+}
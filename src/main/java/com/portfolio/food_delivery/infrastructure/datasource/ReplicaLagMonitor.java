@@ -0,0 +1,69 @@
+package com.portfolio.food_delivery.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * replica 상태 확인
+ * 주기적으로 replica 에 지연 조회 쿼리를 실행해 허용 지연을 넘거나 접속할 수 없으면 읽기를 primary 로 돌린다.
+ *
+ * 지연 조회 쿼리는 밀리초 단위 지연 하나를 반환해야 한다 (예: pt-heartbeat 테이블 조회).
+ * 쿼리를 지정하지 않으면 접속 가능 여부만 확인한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PING_QUERY = "SELECT 1";
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean available = true;
+    private volatile long lastLagMillis;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public void check() {
+        boolean wasAvailable = available;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery != null ? lagQuery : PING_QUERY)) {
+
+            long lag = lagQuery != null && resultSet.next() ? resultSet.getLong(1) : 0L;
+            lastLagMillis = lag;
+            available = lag <= maxLagMillis;
+
+            if (!available && wasAvailable) {
+                log.warn("replica 지연이 허용치를 넘어 읽기를 primary 로 전환합니다 - 지연: {}ms", lag);
+            }
+        } catch (SQLException e) {
+            available = false;
+            if (wasAvailable) {
+                log.warn("replica 에 접속할 수 없어 읽기를 primary 로 전환합니다", e);
+            }
+        }
+
+        if (available && !wasAvailable) {
+            log.info("replica 가 복구되어 읽기를 다시 replica 로 보냅니다 - 지연: {}ms", lastLagMillis);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.portfolio.food_delivery.infrastructure.datasource;
+
+import com.portfolio.food_delivery.infrastructure.security.SecurityUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource
+ *
+ * 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 골라야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * 다음 경우에는 읽기 전용이어도 primary 를 쓴다.
+ * - 같은 사용자가 최근에 쓰기 트랜잭션을 커밋함 (read-your-writes)
+ * - replica 지연이 허용치를 넘었거나 접속할 수 없음
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker writesTracker;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter writeRoutes;
+    private final Counter readRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicationRoutingDataSource(DataSource primary,
+                                        DataSource replica,
+                                        ReadYourWritesTracker writesTracker,
+                                        ReplicaLagMonitor lagMonitor,
+                                        MeterRegistry meterRegistry) {
+        this.writesTracker = writesTracker;
+        this.lagMonitor = lagMonitor;
+
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.writeRoutes = routeCounter(meterRegistry, DataSourceType.PRIMARY, "write");
+        this.readRoutes = routeCounter(meterRegistry, DataSourceType.REPLICA, "read-only");
+        this.stickyRoutes = routeCounter(meterRegistry, DataSourceType.PRIMARY, "read-your-writes");
+        this.fallbackRoutes = routeCounter(meterRegistry, DataSourceType.PRIMARY, "replica-unavailable");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userKey = currentUserKey();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite(userKey);
+            writeRoutes.increment();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (userKey != null && writesTracker.isSticky(userKey)) {
+            stickyRoutes.increment();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!lagMonitor.isAvailable()) {
+            fallbackRoutes.increment();
+            return DataSourceType.PRIMARY;
+        }
+
+        readRoutes.increment();
+        return DataSourceType.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋된 뒤부터 해당 사용자의 읽기를 primary 에 고정
+    private void registerWrite(String userKey) {
+        if (userKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writesTracker.markWrite(userKey);
+            }
+        });
+    }
+
+    private String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return SecurityUtil.getCurrentUserEmail().orElse(null);
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, DataSourceType pool, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("트랜잭션별 DataSource 선택 횟수")
+                .tag("pool", pool.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
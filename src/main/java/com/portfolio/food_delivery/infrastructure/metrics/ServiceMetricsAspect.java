@@ -0,0 +1,139 @@
+package com.portfolio.food_delivery.infrastructure.metrics;
+
+import com.portfolio.food_delivery.domain.payment.service.PaymentGatewayService.PaymentGatewayResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드와 PG 호출의 응답 시간을 기록하고, 요청 trace 안에서는 span 을 만든다.
+ *
+ * - service.invocations: domain.*.service 패키지 빈의 public 메서드 (태그: service, method, exception)
+ * - payment.gateway.requests: PaymentGatewayService 호출 (태그: method, outcome)
+ *
+ * 리포지토리 메서드는 Spring Boot 가 spring.data.repository.invocations 로 기록한다.
+ * 태그 값은 클래스/메서드/예외 이름뿐이라 카디널리티가 코드 크기를 넘지 않는다.
+ * 정상 호출의 Timer 는 메서드별로 캐시해 호출마다 미터를 찾지 않는다.
+ * 트랜잭션 커밋 시간까지 포함되도록 트랜잭션 프록시보다 바깥에서 실행한다.
+ * span 은 진행 중인 trace 가 있을 때만 자식으로 만든다 (스케줄러 작업이 새 trace 를 만들지 않도록).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    static final String SERVICE_TIMER = "service.invocations";
+    static final String GATEWAY_TIMER = "payment.gateway.requests";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final ConcurrentHashMap<Method, Timer> serviceTimers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ServiceMetricsAspect(MeterRegistry meterRegistry, ObjectProvider<Tracer> tracer) {
+        this(meterRegistry, tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    ServiceMetricsAspect(MeterRegistry meterRegistry, Tracer tracer) {
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * com.portfolio.food_delivery.domain.*.service.*.*(..)) " +
+            "&& !within(com.portfolio.food_delivery.domain.payment.service.PaymentGatewayService+)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = startSpan(joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        long start = System.nanoTime();
+        try (Tracer.SpanInScope scope = span != null ? tracer.withSpan(span) : null) {
+            Object result = joinPoint.proceed();
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            serviceTimers.computeIfAbsent(method, key -> serviceTimer(joinPoint, NONE))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            serviceTimer(joinPoint, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (span != null) {
+                span.error(e);
+            }
+            throw e;
+        } finally {
+            if (span != null) {
+                span.end();
+            }
+        }
+    }
+
+    @Around("execution(* com.portfolio.food_delivery.domain.payment.service.PaymentGatewayService.*(..))")
+    public Object timeGateway(ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = startSpan("pg." + joinPoint.getSignature().getName());
+        long start = System.nanoTime();
+        String outcome = "error";
+        try (Tracer.SpanInScope scope = span != null ? tracer.withSpan(span) : null) {
+            Object result = joinPoint.proceed();
+            outcome = outcomeOf(result);
+            return result;
+        } catch (Throwable e) {
+            if (span != null) {
+                span.error(e);
+            }
+            throw e;
+        } finally {
+            if (span != null) {
+                span.tag("outcome", outcome).end();
+            }
+            Timer.builder(GATEWAY_TIMER)
+                    .description("PG사 호출 응답 시간")
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 진행 중인 trace 가 없거나 샘플링되지 않았으면 span 을 만들지 않는다
+    private Span startSpan(String name) {
+        Span current = tracer.currentSpan();
+        if (current == null || current.isNoop()) {
+            return null;
+        }
+        return tracer.nextSpan(current).name(name).start();
+    }
+
+    private Timer serviceTimer(ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(SERVICE_TIMER)
+                .description("서비스 메서드 응답 시간")
+                .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    // PG 응답의 성공 여부 (거래 ID 등 값 자체는 태그로 쓰지 않는다)
+    private static String outcomeOf(Object result) {
+        if (result instanceof PaymentGatewayResponse response) {
+            return response.success() ? "success" : "failure";
+        }
+        if (result instanceof Boolean success) {
+            return success ? "success" : "failure";
+        }
+        return "success";
+    }
+}
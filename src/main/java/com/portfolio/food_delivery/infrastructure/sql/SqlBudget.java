@@ -0,0 +1,19 @@
+package com.portfolio.food_delivery.infrastructure.sql;
+
+import java.lang.annotation.*;
+
+/**
+ * 엔드포인트별 SQL 실행 예산
+ * 기본값(sql.monitor.*)으로는 부족한 엔드포인트의 핸들러 메서드에 붙인다. 0 이하이면 기본값을 쓴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SqlBudget {
+
+    // 요청 하나에서 실행할 수 있는 전체 SQL 수
+    int maxStatements() default 0;
+
+    // 같은 SELECT 가 반복될 수 있는 횟수
+    int maxRepeats() default 0;
+}
@@ -0,0 +1,9 @@
+package com.portfolio.food_delivery.infrastructure.sql;
+
+// 테스트에서 SQL 예산을 넘긴 요청을 실패시키기 위한 예외 (운영에서는 던지지 않고 로그/지표로만 남긴다)
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
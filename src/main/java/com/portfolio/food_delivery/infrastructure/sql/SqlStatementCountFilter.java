@@ -0,0 +1,120 @@
+package com.portfolio.food_delivery.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청마다 실행된 SQL 수를 엔드포인트(URI 패턴)별로 집계하고 예산을 검사한다.
+ *
+ * - http.server.sql.statements: 요청당 SQL 수 분포
+ * - http.server.sql.n-plus-one: 같은 SELECT 가 허용 횟수를 넘게 반복된 요청 수
+ * - http.server.sql.budget-exceeded: 전체 SQL 수 예산을 넘긴 요청 수
+ *
+ * 운영에서는 경고 로그와 지표만 남기고, 테스트(sql.monitor.fail-on-violation=true)에서는 요청을 실패시킨다.
+ * 인증 필터에서 실행되는 SQL 도 포함되도록 가장 먼저 실행한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_URI = "UNMATCHED";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean failOnViolation;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${sql.monitor.max-statements-per-request:50}") int maxStatements,
+                                   @Value("${sql.monitor.repeat-threshold:10}") int maxRepeats,
+                                   @Value("${sql.monitor.fail-on-violation:false}") boolean failOnViolation) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementInspector.end(stats);
+        }
+        check(request, stats);
+    }
+
+    private void check(HttpServletRequest request, SqlStatementStats stats) {
+        String uri = uriOf(request);
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 실행된 SQL 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTotal());
+
+        SqlBudget budget = budgetOf(request);
+        int statementLimit = budget != null && budget.maxStatements() > 0 ? budget.maxStatements() : maxStatements;
+        int repeatLimit = budget != null && budget.maxRepeats() > 0 ? budget.maxRepeats() : maxRepeats;
+
+        Map<String, Integer> repeated = stats.getRepeatedSelects(repeatLimit);
+        if (!repeated.isEmpty()) {
+            violationCounter("http.server.sql.n-plus-one", method, uri).increment();
+            Map.Entry<String, Integer> worst = repeated.entrySet().iterator().next();
+            report("N+1 의심 - %s %s: 같은 SELECT 가 %d번 실행됨 (허용 %d번) - %s"
+                    .formatted(method, uri, worst.getValue(), repeatLimit, worst.getKey()));
+        }
+
+        if (stats.getTotal() > statementLimit) {
+            violationCounter("http.server.sql.budget-exceeded", method, uri).increment();
+            report("SQL 예산 초과 - %s %s: %d개 실행됨 (예산 %d개)"
+                    .formatted(method, uri, stats.getTotal(), statementLimit));
+        }
+    }
+
+    private void report(String message) {
+        if (failOnViolation) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private Counter violationCounter(String name, String method, String uri) {
+        return Counter.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    // 경로 변수가 지표 태그를 늘리지 않도록 실제 경로 대신 매핑된 패턴을 쓴다
+    private String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_URI;
+    }
+
+    private SqlBudget budgetOf(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethodAnnotation(SqlBudget.class) : null;
+    }
+}
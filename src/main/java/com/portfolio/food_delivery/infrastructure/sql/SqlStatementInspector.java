@@ -0,0 +1,35 @@
+package com.portfolio.food_delivery.infrastructure.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 모든 SQL 을 현재 스레드의 측정 구간에 기록한다.
+ * 측정 구간은 begin()/end() 로 열고 닫으며, 중첩된 구간의 SQL 은 바깥 구간에도 함께 집계된다.
+ * 열린 구간이 없으면 아무것도 하지 않는다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end(SqlStatementStats stats) {
+        if (stats.getParent() != null) {
+            CURRENT.set(stats.getParent());
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.getParent()) {
+            stats.record(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,70 @@
+package com.portfolio.food_delivery.infrastructure.sql;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 한 구간(HTTP 요청, 테스트 블록 등)에서 실행된 SQL 통계
+ * SELECT 는 모양(shape)별로 횟수를 세어 같은 쿼리가 반복되는 N+1 을 찾는다.
+ */
+public class SqlStatementStats {
+
+    // 원문 SQL 은 이 개수까지만 보관한다 (대량 작업 요청에서 메모리가 늘지 않도록)
+    static final int MAX_RECORDED_STATEMENTS = 200;
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatementStats parent;
+    private final Map<String, Integer> selectShapes = new HashMap<>();
+    private final List<String> statements = new ArrayList<>();
+    private int total;
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    SqlStatementStats getParent() {
+        return parent;
+    }
+
+    void record(String sql) {
+        total++;
+        if (statements.size() < MAX_RECORDED_STATEMENTS) {
+            statements.add(sql);
+        }
+        String shape = shapeOf(sql);
+        if (shape.startsWith("select")) {
+            selectShapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    // 가장 많이 반복된 SELECT 모양의 실행 횟수
+    public int getMaxRepeats() {
+        return selectShapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    // threshold 보다 많이 반복된 SELECT 모양 → 횟수 (많은 순)
+    public Map<String, Integer> getRepeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        selectShapes.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    // 바인딩 값은 이미 ? 이므로 IN 목록 길이와 공백만 정규화한다
+    static String shapeOf(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return IN_LIST.matcher(normalized).replaceAll("(?)");
+    }
+}
@@ -0,0 +1,69 @@
+package com.portfolio.food_delivery.infrastructure.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.*;
+
+/**
+ * 완료된 span 을 최근 capacity 개까지 메모리에 보관하는 exporter
+ * 별도 수집 서버 없이 한 대에서 느린 요청을 확인하기 위한 용도이며, 가득 차면 가장 오래된 span 부터 덮어쓴다.
+ * export 는 BatchSpanProcessor 의 작업 스레드에서만 호출되므로 잠금 경쟁은 조회 요청과만 생긴다.
+ */
+public class RingBufferSpanExporter implements SpanExporter {
+
+    private final SpanData[] spans;
+    private int next;
+    private boolean wrapped;
+
+    public RingBufferSpanExporter(int capacity) {
+        this.spans = new SpanData[capacity];
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            spans[next] = span;
+            next++;
+            if (next == spans.length) {
+                next = 0;
+                wrapped = true;
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    // traceId → 해당 trace 의 span 목록 (시작 시각 순)
+    public Map<String, List<SpanData>> tracesById() {
+        Map<String, List<SpanData>> traces = new HashMap<>();
+        for (SpanData span : snapshot()) {
+            traces.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+        traces.values().forEach(list -> list.sort(Comparator.comparingLong(SpanData::getStartEpochNanos)));
+        return traces;
+    }
+
+    public synchronized int size() {
+        return wrapped ? spans.length : next;
+    }
+
+    private synchronized List<SpanData> snapshot() {
+        List<SpanData> copy = new ArrayList<>(size());
+        if (wrapped) {
+            copy.addAll(Arrays.asList(spans).subList(next, spans.length));
+        }
+        copy.addAll(Arrays.asList(spans).subList(0, next));
+        return copy;
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.food_delivery.infrastructure.tracing;
+
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 메모리에 보관된 trace 중 느린 것을 보여주는 actuator 엔드포인트
+ *
+ * - GET /actuator/slowtraces?minDurationMs=&limit= : 루트 span 이 기준보다 오래 걸린 trace 목록 (느린 순)
+ * - GET /actuator/slowtraces/{traceId}             : trace 하나의 전체 span
+ */
+@Endpoint(id = "slowtraces")
+public class SlowTraceEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final RingBufferSpanExporter exporter;
+    private final long defaultMinDurationMs;
+
+    public SlowTraceEndpoint(RingBufferSpanExporter exporter, long defaultMinDurationMs) {
+        this.exporter = exporter;
+        this.defaultMinDurationMs = defaultMinDurationMs;
+    }
+
+    public record SpanView(String spanId, String parentSpanId, String name, String kind,
+                           double startOffsetMs, double durationMs, String status,
+                           Map<String, String> attributes) {}
+
+    public record TraceView(String traceId, String name, Instant startedAt, double durationMs,
+                            int spanCount, List<SpanView> spans) {}
+
+    @ReadOperation
+    public List<TraceView> slowTraces(@Nullable Long minDurationMs, @Nullable Integer limit) {
+        long thresholdNanos = (minDurationMs != null ? minDurationMs : defaultMinDurationMs) * 1_000_000L;
+        int max = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+
+        return exporter.tracesById().entrySet().stream()
+                .map(entry -> toView(entry.getKey(), entry.getValue()))
+                .filter(Objects::nonNull)
+                .filter(trace -> trace.durationMs() * 1_000_000L >= thresholdNanos)
+                .sorted(Comparator.comparingDouble(TraceView::durationMs).reversed())
+                .limit(max)
+                .toList();
+    }
+
+    @ReadOperation
+    public TraceView trace(@Selector String traceId) {
+        List<SpanData> spans = exporter.tracesById().get(traceId);
+        return spans != null ? toView(traceId, spans) : null;
+    }
+
+    // 루트 span 이 아직 끝나지 않은(버퍼에 없는) trace 는 제외한다
+    private static TraceView toView(String traceId, List<SpanData> spans) {
+        SpanData root = spans.stream()
+                .filter(span -> !SpanId.isValid(span.getParentSpanId()))
+                .findFirst()
+                .orElse(null);
+        if (root == null) {
+            return null;
+        }
+
+        long origin = root.getStartEpochNanos();
+        List<SpanView> views = spans.stream()
+                .map(span -> new SpanView(
+                        span.getSpanId(),
+                        SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null,
+                        span.getName(),
+                        span.getKind().name(),
+                        millis(span.getStartEpochNanos() - origin),
+                        millis(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                        span.getStatus().getStatusCode().name(),
+                        attributesOf(span)))
+                .toList();
+
+        return new TraceView(traceId, root.getName(),
+                Instant.ofEpochSecond(0, origin),
+                millis(root.getEndEpochNanos() - origin),
+                views.size(), views);
+    }
+
+    private static Map<String, String> attributesOf(SpanData span) {
+        Map<String, String> attributes = new TreeMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        return attributes;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -2,7 +2,11 @@ package com.portfolio.food_delivery.presentation.advice;
 
 import com.portfolio.food_delivery.common.exception.BusinessException;
 import com.portfolio.food_delivery.common.exception.ErrorCode;
-import lombok.extern.slf4j.Slf4j;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuImportException;
+import com.portfolio.food_delivery.domain.order.exception.KitchenBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -16,49 +20,77 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final SampledErrorLogger errorLogger;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry,
+                                  @Value("${error.log.sample-interval-ms:10000}") long sampleIntervalMillis) {
+        this.errorLogger = new SampledErrorLogger(meterRegistry, sampleIntervalMillis);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        log.error("handleMethodArgumentNotValidException", e);
+        errorLogger.record(ErrorCode.INVALID_INPUT_VALUE, e);
         final ErrorResponse response = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(BindException.class)
     protected ResponseEntity<ErrorResponse> handleBindException(BindException e) {
-        log.error("handleBindException", e);
+        errorLogger.record(ErrorCode.INVALID_INPUT_VALUE, e);
         final ErrorResponse response = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
-        log.error("handleMethodArgumentTypeMismatchException", e);
+        errorLogger.record(ErrorCode.INVALID_TYPE_VALUE, e);
         final ErrorResponse response = ErrorResponse.of(ErrorCode.INVALID_TYPE_VALUE);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
-        log.error("handleHttpRequestMethodNotSupportedException", e);
+        errorLogger.record(ErrorCode.METHOD_NOT_ALLOWED, e);
         final ErrorResponse response = ErrorResponse.of(ErrorCode.METHOD_NOT_ALLOWED);
         return new ResponseEntity<>(response, HttpStatus.METHOD_NOT_ALLOWED);
     }
 
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(final BusinessException e) {
-        log.error("handleBusinessException", e);
         final ErrorCode errorCode = e.getErrorCode();
+        errorLogger.record(errorCode, e);
         final ErrorResponse response = ErrorResponse.of(errorCode);
         return new ResponseEntity<>(response, errorCode.getStatus());
     }
 
+    // 주방 혼잡 - 다시 주문해볼 시점을 Retry-After(초)로 알려준다
+    @ExceptionHandler(KitchenBusyException.class)
+    protected ResponseEntity<ErrorResponse> handleKitchenBusyException(final KitchenBusyException e) {
+        final ErrorCode errorCode = e.getErrorCode();
+        errorLogger.record(errorCode, e);
+        final ErrorResponse response = ErrorResponse.of(errorCode);
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getExpectedWait().toSeconds())))
+                .body(response);
+    }
+
+    // 메뉴 일괄 등록 - 몇 번째 행의 어떤 값이 잘못됐는지 errors 로 알려준다
+    @ExceptionHandler(InvalidMenuImportException.class)
+    protected ResponseEntity<ErrorResponse> handleInvalidMenuImportException(final InvalidMenuImportException e) {
+        final ErrorCode errorCode = e.getErrorCode();
+        errorLogger.record(errorCode, e);
+        final String field = e.getRow() > 0 ? "rows[" + e.getRow() + "]." + e.getField() : e.getField();
+        final ErrorResponse response = ErrorResponse.of(errorCode,
+                ErrorResponse.FieldError.of(field, e.getValue(), e.getMessage()));
+        return new ResponseEntity<>(response, errorCode.getStatus());
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handleException(Exception e) {
-        log.error("handleException", e);
+        errorLogger.record(ErrorCode.INTERNAL_SERVER_ERROR, e);
         final ErrorResponse response = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -0,0 +1,62 @@
+package com.portfolio.food_delivery.presentation.advice;
+
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ErrorCode 별 오류 응답 집계와 로그 샘플링
+ *
+ * - 모든 오류 응답은 http.server.errors{code, status} 카운터로 센다.
+ * - 5xx 는 매번 ERROR 로그(스택 포함)를 남긴다.
+ * - 4xx 는 ErrorCode 마다 sampleIntervalMillis 에 한 번만 WARN 으로 남기고, 그 사이에 생략된 건수를 함께 적는다.
+ */
+@Slf4j
+class SampledErrorLogger {
+
+    private final long sampleIntervalNanos;
+    private final Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+    private final AtomicLongArray lastLoggedNanos;
+    private final AtomicLongArray suppressed;
+
+    SampledErrorLogger(MeterRegistry meterRegistry, long sampleIntervalMillis) {
+        this.sampleIntervalNanos = sampleIntervalMillis * 1_000_000L;
+        ErrorCode[] codes = ErrorCode.values();
+        this.lastLoggedNanos = new AtomicLongArray(codes.length);
+        this.suppressed = new AtomicLongArray(codes.length);
+
+        long initial = System.nanoTime() - sampleIntervalNanos;
+        for (ErrorCode code : codes) {
+            lastLoggedNanos.set(code.ordinal(), initial);
+            counters.put(code, Counter.builder("http.server.errors")
+                    .description("ErrorCode 별 오류 응답 수")
+                    .tag("code", code.getCode())
+                    .tag("status", String.valueOf(code.getStatus().value()))
+                    .register(meterRegistry));
+        }
+    }
+
+    void record(ErrorCode errorCode, Exception e) {
+        counters.get(errorCode).increment();
+
+        if (errorCode.getStatus().is5xxServerError()) {
+            log.error("[{}] {}", errorCode.getCode(), e.getMessage(), e);
+            return;
+        }
+
+        int index = errorCode.ordinal();
+        long now = System.nanoTime();
+        long last = lastLoggedNanos.get(index);
+        if (now - last < sampleIntervalNanos || !lastLoggedNanos.compareAndSet(index, last, now)) {
+            suppressed.incrementAndGet(index);
+            return;
+        }
+        log.warn("[{}] {} - {} (최근 생략 {}건)",
+                errorCode.getCode(), e.getClass().getSimpleName(), e.getMessage(), suppressed.getAndSet(index, 0));
+    }
+}
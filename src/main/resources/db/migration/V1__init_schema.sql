@@ -0,0 +1,200 @@
+-- 초기 스키마 (MySQL 8)
+-- IDENTITY 엔티티(users, restaurants, carts, revenue_rollups)는 AUTO_INCREMENT,
+-- @TimeOrderedId 엔티티(menus, orders, order_items, payments, cart_items, reviews)는 애플리케이션에서 ID를 발급한다.
+-- menus.id 의 AUTO_INCREMENT 는 남겨 둔다 (애플리케이션이 준 ID를 그대로 받으며, 외래 키가 참조하는 컬럼이라 바꾸려면 테이블을 다시 만들어야 함).
+
+CREATE TABLE users (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    city         VARCHAR(255),
+    district     VARCHAR(255),
+    street       VARCHAR(255),
+    detail       VARCHAR(255),
+    zip_code     VARCHAR(255),
+    role         VARCHAR(30)  NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE restaurants (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    owner_id             BIGINT       NOT NULL,
+    name                 VARCHAR(255) NOT NULL,
+    description          VARCHAR(500),
+    phone_number         VARCHAR(255) NOT NULL,
+    city                 VARCHAR(255),
+    district             VARCHAR(255),
+    street               VARCHAR(255),
+    detail               VARCHAR(255),
+    zip_code             VARCHAR(255),
+    category             VARCHAR(30)  NOT NULL,
+    open_time            TIME         NOT NULL,
+    close_time           TIME         NOT NULL,
+    minimum_order_amount INT          NOT NULL,
+    delivery_fee         INT          NOT NULL,
+    rating               DOUBLE       NOT NULL,
+    review_count         INT          NOT NULL,
+    status               VARCHAR(30)  NOT NULL,
+    created_at           DATETIME(6)  NOT NULL,
+    updated_at           DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_restaurants_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 목록 조회: status [+ category]
+CREATE INDEX idx_restaurants_status_category ON restaurants (status, category);
+
+CREATE TABLE menus (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    restaurant_id BIGINT       NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    description   VARCHAR(500),
+    price         INT          NOT NULL,
+    image_url     VARCHAR(255),
+    status        VARCHAR(30)  NOT NULL,
+    display_order INT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menus_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 메뉴판 조회: restaurant_id + status ORDER BY display_order
+CREATE INDEX idx_menus_restaurant_status_order ON menus (restaurant_id, status, display_order);
+
+CREATE TABLE orders (
+    id            BIGINT       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    restaurant_id BIGINT       NOT NULL,
+    city          VARCHAR(255),
+    district      VARCHAR(255),
+    street        VARCHAR(255),
+    detail        VARCHAR(255),
+    zip_code      VARCHAR(255),
+    phone_number  VARCHAR(255) NOT NULL,
+    request       VARCHAR(255),
+    total_amount  INT          NOT NULL,
+    delivery_fee  INT          NOT NULL,
+    status        VARCHAR(30)  NOT NULL,
+    ordered_at    DATETIME(6)  NOT NULL,
+    completed_at  DATETIME(6),
+    cancel_reason VARCHAR(255),
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 주문 내역: user_id / restaurant_id ORDER BY ordered_at DESC
+CREATE INDEX idx_orders_user_ordered_at ON orders (user_id, ordered_at);
+CREATE INDEX idx_orders_restaurant_ordered_at ON orders (restaurant_id, ordered_at);
+-- 오래된 미처리 주문 조회: status + ordered_at < ?
+CREATE INDEX idx_orders_status_ordered_at ON orders (status, ordered_at);
+
+CREATE TABLE order_items (
+    id       BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    menu_id  BIGINT NOT NULL,
+    quantity INT    NOT NULL,
+    price    INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_items_menu FOREIGN KEY (menu_id) REFERENCES menus (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE payments (
+    id             BIGINT       NOT NULL,
+    order_id       BIGINT       NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    amount         INT          NOT NULL,
+    method         VARCHAR(30)  NOT NULL,
+    status         VARCHAR(30)  NOT NULL,
+    transaction_id VARCHAR(255),
+    card_number    VARCHAR(255),
+    paid_at        DATETIME(6),
+    cancelled_at   DATETIME(6),
+    cancel_reason  VARCHAR(255),
+    failure_reason VARCHAR(255),
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payments_order UNIQUE (order_id),
+    CONSTRAINT uk_payments_transaction UNIQUE (transaction_id),
+    CONSTRAINT fk_payments_order FOREIGN KEY (order_id) REFERENCES orders (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 결제 내역 keyset 페이지네이션: user_id ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_payments_user_created_id ON payments (user_id, created_at, id);
+-- 매출 합계/집계: status + paid_at 범위, cancelled_at 범위
+CREATE INDEX idx_payments_status_paid_at ON payments (status, paid_at);
+CREATE INDEX idx_payments_paid_at ON payments (paid_at);
+CREATE INDEX idx_payments_cancelled_at ON payments (cancelled_at);
+
+CREATE TABLE carts (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT      NOT NULL,
+    restaurant_id BIGINT,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_carts_user UNIQUE (user_id),
+    CONSTRAINT fk_carts_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_carts_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE cart_items (
+    id       BIGINT NOT NULL,
+    cart_id  BIGINT NOT NULL,
+    menu_id  BIGINT NOT NULL,
+    quantity INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cart_items_cart FOREIGN KEY (cart_id) REFERENCES carts (id),
+    CONSTRAINT fk_cart_items_menu FOREIGN KEY (menu_id) REFERENCES menus (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE reviews (
+    id            BIGINT        NOT NULL,
+    user_id       BIGINT        NOT NULL,
+    restaurant_id BIGINT        NOT NULL,
+    order_id      BIGINT        NOT NULL,
+    rating        INT           NOT NULL,
+    content       VARCHAR(1000),
+    image_url     VARCHAR(255),
+    is_deleted    BIT(1)        NOT NULL,
+    reply         VARCHAR(500),
+    replied_at    DATETIME(6),
+    created_at    DATETIME(6)   NOT NULL,
+    updated_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reviews_order UNIQUE (order_id),
+    CONSTRAINT fk_reviews_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_reviews_order FOREIGN KEY (order_id) REFERENCES orders (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 리뷰 목록/평점 집계: restaurant_id|user_id + is_deleted ORDER BY created_at DESC
+CREATE INDEX idx_reviews_restaurant_deleted_created ON reviews (restaurant_id, is_deleted, created_at);
+CREATE INDEX idx_reviews_user_deleted_created ON reviews (user_id, is_deleted, created_at);
+
+CREATE TABLE revenue_rollups (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    restaurant_id    BIGINT      NOT NULL,
+    granularity      VARCHAR(10) NOT NULL,
+    bucket_start     DATETIME(6) NOT NULL,
+    method           VARCHAR(30) NOT NULL,
+    gross_amount     BIGINT      NOT NULL,
+    cancelled_amount BIGINT      NOT NULL,
+    payment_count    BIGINT      NOT NULL,
+    cancelled_count  BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_revenue_rollups_bucket UNIQUE (restaurant_id, granularity, bucket_start, method)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 전체 레스토랑 기간 집계: granularity + bucket_start 범위
+CREATE INDEX idx_revenue_rollups_granularity_bucket ON revenue_rollups (granularity, bucket_start);
@@ -0,0 +1,10 @@
+-- 주문 상태별 전환 시각 (배달 예상 시간 추정용)
+ALTER TABLE orders
+    ADD COLUMN confirmed_at DATETIME(6) NULL AFTER ordered_at,
+    ADD COLUMN preparing_at DATETIME(6) NULL AFTER confirmed_at,
+    ADD COLUMN ready_at     DATETIME(6) NULL AFTER preparing_at,
+    ADD COLUMN picked_up_at DATETIME(6) NULL AFTER ready_at,
+    ADD COLUMN delivered_at DATETIME(6) NULL AFTER picked_up_at;
+
+-- 완료된 배달은 completed_at 으로 채운다 (중간 단계 시각은 알 수 없음)
+UPDATE orders SET delivered_at = completed_at WHERE status = 'DELIVERED';
@@ -0,0 +1,11 @@
+-- 배차용 레스토랑 위치
+ALTER TABLE restaurants
+    ADD COLUMN latitude  DOUBLE NULL AFTER zip_code,
+    ADD COLUMN longitude DOUBLE NULL AFTER latitude;
+
+-- 주문에 배정된 배달 파트너
+ALTER TABLE orders
+    ADD COLUMN rider_id BIGINT NULL AFTER restaurant_id,
+    ADD CONSTRAINT fk_orders_rider FOREIGN KEY (rider_id) REFERENCES users (id);
+
+CREATE INDEX idx_orders_rider_status ON orders (rider_id, status);
@@ -0,0 +1,33 @@
+-- 할인 쿠폰
+CREATE TABLE coupons (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    code                 VARCHAR(30)  NOT NULL,
+    name                 VARCHAR(255) NOT NULL,
+    discount_type        VARCHAR(20)  NOT NULL,
+    discount_value       INT          NOT NULL,
+    max_discount_amount  INT          NULL,
+    minimum_order_amount INT          NOT NULL,
+    restaurant_id        BIGINT       NULL,
+    first_order_only     BIT(1)       NOT NULL,
+    total_quantity       INT          NULL,
+    redeemed_count       BIGINT       NOT NULL,
+    valid_from           DATETIME(6)  NOT NULL,
+    valid_until          DATETIME(6)  NOT NULL,
+    created_at           DATETIME(6)  NOT NULL,
+    updated_at           DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_coupons_code UNIQUE (code),
+    CONSTRAINT fk_coupons_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기동 시 사용 기간이 남은 쿠폰만 읽어 장부에 올린다 (CouponRepository.findAllByValidUntilAfter)
+CREATE INDEX idx_coupons_valid_until ON coupons (valid_until);
+
+-- 주문에 적용된 쿠폰과 할인 금액
+ALTER TABLE orders
+    ADD COLUMN coupon_id       BIGINT NULL AFTER rider_id,
+    ADD COLUMN discount_amount INT    NOT NULL DEFAULT 0 AFTER delivery_fee,
+    ADD CONSTRAINT fk_orders_coupon FOREIGN KEY (coupon_id) REFERENCES coupons (id);
+
+-- 쿠폰 장부 초기화 (쿠폰별 결제 완료 수, 결제 대기 예약)
+CREATE INDEX idx_orders_coupon_status ON orders (coupon_id, status);
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 @AutoConfigureMockMvc
 @Transactional
 @ActiveProfiles("test")
+// 테스트 트랜잭션은 롤백되므로 다른 스레드의 장바구니 write-behind 저장은 끈다
+// 모든 컨트롤러 테스트는 요청별 SQL 예산을 넘기거나 N+1 이 보이면 실패한다 (SqlStatementCountFilter)
+@TestPropertySource(properties = {
+        "cart.store.write-behind.enabled=false",
+        "sql.monitor.fail-on-violation=true",
+        "sql.monitor.repeat-threshold=5"
+})
 public abstract class BaseIntegrationTest {
 
     @Autowired
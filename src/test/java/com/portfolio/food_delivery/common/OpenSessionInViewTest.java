@@ -0,0 +1,32 @@
+package com.portfolio.food_delivery.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenSessionInViewTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("OSIV 비활성화 - 요청이 끝날 때까지 커넥션을 붙잡지 않음")
+    void openSessionInViewDisabled() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커넥션 점유 시간(hikaricp.connections.usage)을 지표로 확인할 수 있음")
+    void connectionUsageMetricRegistered() {
+        assertThat(meterRegistry.find("hikaricp.connections.usage").timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+    }
+}
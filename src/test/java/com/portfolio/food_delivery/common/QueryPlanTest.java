@@ -0,0 +1,260 @@
+package com.portfolio.food_delivery.common;
+
+import com.portfolio.food_delivery.domain.analytics.entity.RollupGranularity;
+import com.portfolio.food_delivery.domain.analytics.repository.RevenueRollupRepository;
+import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.coupon.repository.CouponRepository;
+import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
+import com.portfolio.food_delivery.domain.payment.repository.PaymentRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.review.repository.ReviewRepository;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import com.portfolio.food_delivery.infrastructure.sql.SqlStatementInspector;
+import com.portfolio.food_delivery.infrastructure.sql.SqlStatementStats;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 리포지토리 쿼리 실행 계획 회귀 테스트
+ * 각 쿼리가 실제로 만드는 SQL 을 SqlStatementInspector 로 모아 H2(MySQL 모드)에서 EXPLAIN 하고, 전체 테이블 스캔이 나오면 실패시킨다.
+ * 인덱스를 쓸 수 없는 쿼리는 allowScan 으로 이유와 함께 명시한다.
+ */
+class QueryPlanTest extends BaseIntegrationTest {
+
+    private static final String TABLE_SCAN = ".tableScan";
+
+    // 쿼리 캐시에 걸리지 않도록 테스트 데이터와 겹치지 않는 ID 사용
+    private static final Long ID = 987_654_321L;
+    private static final Pageable SECOND_PAGE = PageRequest.of(1, 10); // 두 번째 페이지여야 count 쿼리도 실행됨
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    private SoftAssertions softly;
+
+    @BeforeEach
+    void setUp() {
+        softly = new SoftAssertions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("사용자/레스토랑/메뉴 쿼리는 인덱스를 사용")
+    void catalogQueries_UseIndexes() {
+        assertIndexed("users.existsByEmail", () -> userRepository.existsByEmail("plan@example.com"));
+
+        assertIndexed("restaurants.findByStatus", () -> restaurantRepository.findByStatus(RestaurantStatus.OPEN, SECOND_PAGE));
+        assertIndexed("restaurants.findByStatusAndCategory", () -> restaurantRepository.findByStatusAndCategory(
+                RestaurantStatus.OPEN, RestaurantCategory.CHICKEN, SECOND_PAGE));
+        assertIndexed("restaurants.findByOwnerId", () -> restaurantRepository.findByOwnerId(ID));
+        assertIndexed("restaurants.findByIdForUpdate", () -> restaurantRepository.findByIdForUpdate(ID));
+        allowScan("restaurants.searchByKeyword", "LIKE '%키워드%' 는 B-tree 인덱스로 찾을 수 없음",
+                () -> restaurantRepository.searchByKeyword(RestaurantStatus.OPEN, "치킨", SECOND_PAGE));
+
+        assertIndexed("menus.findByRestaurantIdAndStatusOrderByDisplayOrder",
+                () -> menuRepository.findByRestaurantIdAndStatusOrderByDisplayOrder(ID, MenuStatus.AVAILABLE));
+        assertIndexed("menus.findByRestaurantIdOrderByDisplayOrder", () -> menuRepository.findByRestaurantIdOrderByDisplayOrder(ID));
+        assertIndexed("menus.findByIdWithRestaurant", () -> menuRepository.findByIdWithRestaurant(ID));
+        assertIndexed("menus.findAllByIdInWithRestaurant", () -> menuRepository.findAllByIdInWithRestaurant(List.of(ID, ID + 1)));
+        assertIndexed("menus.findMaxDisplayOrder", () -> menuRepository.findMaxDisplayOrder(ID));
+    }
+
+    @Test
+    @DisplayName("주문/리뷰 쿼리는 인덱스를 사용")
+    void orderAndReviewQueries_UseIndexes() {
+        assertIndexed("orders.findByUserIdOrderByOrderedAtDesc", () -> orderRepository.findByUserIdOrderByOrderedAtDesc(ID, SECOND_PAGE));
+        assertIndexed("orders.findByRestaurantIdOrderByOrderedAtDesc",
+                () -> orderRepository.findByRestaurantIdOrderByOrderedAtDesc(ID, SECOND_PAGE));
+        assertIndexed("orders.findByIdWithItems", () -> orderRepository.findByIdWithItems(ID));
+        assertIndexed("orders.findByStatusAndOrderedAtBefore",
+                () -> orderRepository.findByStatusAndOrderedAtBefore(OrderStatus.PENDING, TO));
+
+        assertIndexed("orders.streamTimelinesByStatus", () -> {
+            try (Stream<?> rows = orderRepository.streamTimelinesByStatus(OrderStatus.DELIVERED, FROM)) {
+                rows.count();
+            }
+        });
+        assertIndexed("orders.findPickupsWithoutRider", () -> orderRepository.findPickupsWithoutRider(OrderStatus.READY));
+        assertIndexed("orders.findFirstByRiderIdAndStatus",
+                () -> orderRepository.findFirstByRiderIdAndStatus(ID, OrderStatus.DELIVERING));
+        assertIndexed("orders.countByRestaurantAndStatusIn",
+                () -> orderRepository.countByRestaurantAndStatusIn(List.of(OrderStatus.CONFIRMED, OrderStatus.PREPARING)));
+        assertIndexed("orders.existsByUserIdAndCouponIdAndStatusNot",
+                () -> orderRepository.existsByUserIdAndCouponIdAndStatusNot(ID, ID, OrderStatus.CANCELLED));
+        assertIndexed("orders.existsByUserIdAndStatusNot", () -> orderRepository.existsByUserIdAndStatusNot(ID, OrderStatus.CANCELLED));
+        assertIndexed("orders.countByCouponIdAndStatusNotIn",
+                () -> orderRepository.countByCouponIdAndStatusNotIn(ID, List.of(OrderStatus.PENDING, OrderStatus.CANCELLED)));
+        assertIndexed("orders.findCouponHolds", () -> orderRepository.findCouponHolds(ID, OrderStatus.PENDING));
+        assertIndexed("orders.streamPlacementsSince", () -> {
+            try (Stream<?> rows = orderRepository.streamPlacementsSince(List.of(OrderStatus.DELIVERED), FROM)) {
+                rows.count();
+            }
+        });
+        assertIndexed("orders.streamOrderedMenusSince", () -> {
+            try (Stream<?> rows = orderRepository.streamOrderedMenusSince(List.of(OrderStatus.DELIVERED), FROM)) {
+                rows.count();
+            }
+        });
+
+        assertIndexed("reviews.findByRestaurantIdAndIsDeletedFalseOrderByCreatedAtDesc",
+                () -> reviewRepository.findByRestaurantIdAndIsDeletedFalseOrderByCreatedAtDesc(ID, SECOND_PAGE));
+        assertIndexed("reviews.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc",
+                () -> reviewRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(ID, SECOND_PAGE));
+        assertIndexed("reviews.existsByOrderIdAndIsDeletedFalse", () -> reviewRepository.existsByOrderIdAndIsDeletedFalse(ID));
+        assertIndexed("reviews.findByIdWithDetails", () -> reviewRepository.findByIdWithDetails(ID));
+        assertIndexed("reviews.calculateAverageRating", () -> reviewRepository.calculateAverageRating(ID));
+        assertIndexed("reviews.countByRestaurantId", () -> reviewRepository.countByRestaurantId(ID));
+        assertIndexed("reviews.countByRating", () -> reviewRepository.countByRating(ID));
+    }
+
+    @Test
+    @DisplayName("결제/집계 쿼리는 인덱스를 사용")
+    void paymentQueries_UseIndexes() {
+        assertIndexed("payments.findByOrderId", () -> paymentRepository.findByOrderId(ID));
+        assertIndexed("payments.existsByOrderId", () -> paymentRepository.existsByOrderId(ID));
+        assertIndexed("payments.findByTransactionId", () -> paymentRepository.findByTransactionId("TX-PLAN"));
+        assertIndexed("payments.findByUserId", () -> paymentRepository.findByUserId(ID, SECOND_PAGE));
+        assertIndexed("payments.findHistoryFirstPage", () -> paymentRepository.findHistoryFirstPage(ID, PageRequest.of(0, 21)));
+        assertIndexed("payments.findHistoryAfterCursor",
+                () -> paymentRepository.findHistoryAfterCursor(ID, TO, ID, PageRequest.of(0, 21)));
+        assertIndexed("payments.findByStatus", () -> paymentRepository.findByStatus(PaymentStatus.PENDING));
+        assertIndexed("payments.findByUserIdAndDateRange", () -> paymentRepository.findByUserIdAndDateRange(ID, FROM, TO));
+        assertIndexed("payments.sumAmountByStatusAndDateRange",
+                () -> paymentRepository.sumAmountByStatusAndDateRange(PaymentStatus.SUCCESS, FROM, TO));
+        assertIndexed("payments.streamHistoryByUserIdAndDateRange", () -> {
+            try (Stream<?> rows = paymentRepository.streamHistoryByUserIdAndDateRange(ID, FROM, TO)) {
+                rows.count();
+            }
+        });
+        assertIndexed("payments.streamHistoryByRestaurantIdAndDateRange", () -> {
+            try (Stream<?> rows = paymentRepository.streamHistoryByRestaurantIdAndDateRange(ID, FROM, TO)) {
+                rows.count();
+            }
+        });
+        allowScan("payments.streamRollupRows", "paid_at/cancelled_at 의 OR 조건 - MySQL 은 index merge 를 쓰지만 H2 는 지원하지 않음",
+                () -> {
+                    try (Stream<?> rows = paymentRepository.streamRollupRows(FROM, TO)) {
+                        rows.count();
+                    }
+                });
+
+        assertIndexed("revenueRollups.findByRestaurantAndRange",
+                () -> revenueRollupRepository.findByRestaurantAndRange(ID, RollupGranularity.DAILY, FROM, TO));
+        assertIndexed("revenueRollups.sumByRange", () -> revenueRollupRepository.sumByRange(RollupGranularity.DAILY, FROM, TO));
+    }
+
+    @Test
+    @DisplayName("쿠폰 쿼리는 인덱스를 사용")
+    void couponQueries_UseIndexes() {
+        assertIndexed("coupons.findByCode", () -> couponRepository.findByCode("PLAN"));
+        assertIndexed("coupons.existsByCode", () -> couponRepository.existsByCode("PLAN"));
+        assertIndexed("coupons.findAllByValidUntilAfter", () -> couponRepository.findAllByValidUntilAfter(TO));
+        assertIndexed("coupons.addRedeemedCount", () -> couponRepository.addRedeemedCount(ID, 1));
+    }
+
+    @Test
+    @DisplayName("장바구니 쿼리는 인덱스를 사용")
+    void cartQueries_UseIndexes() {
+        assertIndexed("carts.findByUserId", () -> cartRepository.findByUserId(ID));
+        assertIndexed("carts.findByUserIdWithItems", () -> cartRepository.findByUserIdWithItems(ID));
+        assertIndexed("carts.findAllByUserIdInWithItems", () -> cartRepository.findAllByUserIdInWithItems(Set.of(ID, ID + 1)));
+        assertIndexed("carts.findAllByUserIdIn", () -> cartRepository.findAllByUserIdIn(Set.of(ID, ID + 1)));
+        assertIndexed("carts.existsByUserId", () -> cartRepository.existsByUserId(ID));
+        assertIndexed("carts.countItemsByUserId", () -> cartRepository.countItemsByUserId(ID));
+        assertIndexed("carts.deleteItemsByUserIdIn", () -> cartRepository.deleteItemsByUserIdIn(Set.of(ID)));
+        assertIndexed("carts.clearRestaurantByUserIdIn",
+                () -> cartRepository.clearRestaurantByUserIdIn(Set.of(ID), LocalDateTime.now()));
+    }
+
+    private void assertIndexed(String name, Runnable query) {
+        for (String plan : explainAll(name, query)) {
+            softly.assertThat(plan).as("%s 실행 계획에 전체 테이블 스캔이 있음", name).doesNotContain(TABLE_SCAN);
+        }
+    }
+
+    // 스캔이 불가피한 쿼리 - SQL 이 실제로 실행되는지만 확인
+    private void allowScan(String name, String reason, Runnable query) {
+        softly.assertThat(explainAll(name, query)).as("%s (스캔 허용: %s)", name, reason).isNotEmpty();
+    }
+
+    private List<String> explainAll(String name, Runnable query) {
+        SqlStatementStats stats = SqlStatementInspector.begin();
+        try {
+            query.run();
+        } finally {
+            SqlStatementInspector.end(stats);
+        }
+        softly.assertThat(stats.getStatements()).as("%s 에서 실행된 SQL 이 없음", name).isNotEmpty();
+        return stats.getStatements().stream().map(this::explain).toList();
+    }
+
+    // 파라미터 값과 관계없이 준비 단계의 실행 계획을 본다
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return sql + "\n" + resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
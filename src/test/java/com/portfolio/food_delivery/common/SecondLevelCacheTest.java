@@ -0,0 +1,141 @@
+package com.portfolio.food_delivery.common;
+
+import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 트랜잭션에서 저장한 엔티티는 커밋 전이라 2차 캐시에 넣지 않으므로, 테스트 트랜잭션 없이 커밋된 데이터로 확인한다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private User owner;
+    private Restaurant restaurant;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> save());
+
+        // 저장 커밋이 리전을 채우므로 비우고 시작한다 (첫 조회가 적재, 두 번째 조회가 적중)
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            menuRepository.deleteById(menu.getId());
+            restaurantRepository.deleteById(restaurant.getId());
+            userRepository.deleteById(owner.getId());
+        });
+    }
+
+    private void save() {
+        owner = userRepository.save(User.builder()
+                .email("cache-owner@example.com")
+                .password("password123!")
+                .name("사장님")
+                .phoneNumber("010-1111-2222")
+                .role(UserRole.RESTAURANT_OWNER)
+                .build());
+
+        restaurant = restaurantRepository.save(Restaurant.builder()
+                .owner(owner)
+                .name("맛있는 치킨")
+                .category(RestaurantCategory.CHICKEN)
+                .phoneNumber("02-1234-5678")
+                .address(new Address("서울시", "강남구", "테헤란로", "123", "12345"))
+                .openTime(LocalTime.of(10, 0))
+                .closeTime(LocalTime.of(22, 0))
+                .minimumOrderAmount(15000)
+                .deliveryFee(3000)
+                .build());
+
+        menu = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("양념치킨")
+                .price(20000)
+                .displayOrder(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("메뉴 ID 조회는 두 번째부터 2차 캐시에서 처리")
+    void findMenuById_HitsSecondLevelCache() {
+        // given - 첫 조회로 캐시 적재
+        menuRepository.findById(menu.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        // when
+        Menu cached = menuRepository.findById(menu.getId()).orElseThrow();
+
+        // then
+        assertThat(cached.getName()).isEqualTo("양념치킨");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getDomainDataRegionStatistics("menu").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이메일로 사용자 조회 시 natural id 캐시와 사용자 캐시를 함께 사용")
+    void findUserByEmail_HitsNaturalIdCache() {
+        // given
+        userRepository.findByEmail(owner.getEmail());
+        long statements = statistics.getPrepareStatementCount();
+
+        // when
+        User cached = userRepository.findByEmail(owner.getEmail()).orElseThrow();
+
+        // then
+        assertThat(cached.getId()).isEqualTo(owner.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 이메일은 빈 결과")
+    void findUserByEmail_NotFound() {
+        assertThat(userRepository.findByEmail("nobody@example.com")).isEmpty();
+    }
+}
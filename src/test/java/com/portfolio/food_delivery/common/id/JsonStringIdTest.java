@@ -0,0 +1,42 @@
+package com.portfolio.food_delivery.common.id;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.food_delivery.domain.order.dto.OrderItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonStringIdTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("snowflake ID는 JavaScript 에서 반올림되지 않도록 문자열로 직렬화")
+    void serializeAsString() throws Exception {
+        long id = new SnowflakeIdGenerator(1).nextId();
+        assertThat(id).isGreaterThan(1L << 53); // Number.MAX_SAFE_INTEGER 초과
+
+        OrderItemResponse response = OrderItemResponse.builder()
+                .id(id)
+                .menuId(id + 1)
+                .menuName("양념치킨")
+                .build();
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(response));
+        assertThat(json.get("id").isTextual()).isTrue();
+        assertThat(json.get("id").asText()).isEqualTo(Long.toString(id));
+        assertThat(json.get("menuId").asText()).isEqualTo(Long.toString(id + 1));
+
+        // 역직렬화는 문자열 그대로 받는다
+        assertThat(objectMapper.readValue(json.toString(), OrderItemResponse.class).getId()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("값이 없는 ID는 null 그대로")
+    void serializeNull() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(OrderItemResponse.builder().build()));
+        assertThat(json.get("id").isNull()).isTrue();
+    }
+}
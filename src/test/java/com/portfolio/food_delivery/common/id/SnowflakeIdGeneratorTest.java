@@ -0,0 +1,67 @@
+package com.portfolio.food_delivery.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    // 테스트에서 시각을 직접 지정하는 발급기
+    private static class FixedClockGenerator extends SnowflakeIdGenerator {
+        long now;
+
+        FixedClockGenerator(long nodeId, long now) {
+            super(nodeId);
+            this.now = now;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+    }
+
+    @Test
+    @DisplayName("발급 시각과 노드 ID를 ID에서 다시 꺼낼 수 있음")
+    void nextId_EncodesTimestampAndNode() {
+        // given
+        Instant now = Instant.parse("2025-06-01T12:00:00Z");
+        SnowflakeIdGenerator generator = new FixedClockGenerator(37, now.toEpochMilli());
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(now);
+        assertThat(SnowflakeIdGenerator.nodeOf(id)).isEqualTo(37);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 다 써도, 시계가 뒤로 가도 ID는 계속 증가")
+    void nextId_MonotonicWhenClockStallsOrGoesBack() {
+        // given
+        FixedClockGenerator generator = new FixedClockGenerator(1, Instant.parse("2025-06-01T12:00:00Z").toEpochMilli());
+
+        // when & then
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {     // 한 밀리초 시퀀스(4096)를 넘겨 발급
+            if (i == 5_000) {
+                generator.now -= 1_000;          // 시계가 1초 뒤로 감
+            }
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위 검증")
+    void constructor_InvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
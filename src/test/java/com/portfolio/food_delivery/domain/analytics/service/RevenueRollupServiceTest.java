@@ -0,0 +1,216 @@
+package com.portfolio.food_delivery.domain.analytics.service;
+
+import com.portfolio.food_delivery.domain.analytics.dto.RevenueReportResponse;
+import com.portfolio.food_delivery.domain.analytics.dto.RollupRebuildResponse;
+import com.portfolio.food_delivery.domain.analytics.entity.RevenueRollup;
+import com.portfolio.food_delivery.domain.analytics.entity.RollupGranularity;
+import com.portfolio.food_delivery.domain.analytics.exception.InvalidAnalyticsRequestException;
+import com.portfolio.food_delivery.domain.analytics.repository.RevenueRollupRepository;
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.payment.dto.PaymentRollupRow;
+import com.portfolio.food_delivery.domain.payment.entity.Payment;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentMethod;
+import com.portfolio.food_delivery.domain.payment.entity.PaymentStatus;
+import com.portfolio.food_delivery.domain.payment.repository.PaymentRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupServiceTest {
+
+    @Mock
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @InjectMocks
+    private RevenueRollupService revenueRollupService;
+
+    @Test
+    @DisplayName("결제 성공 시 시간별/일별 집계에 누적")
+    void recordPaymentSucceeded() {
+        // given
+        LocalDateTime paidAt = LocalDateTime.of(2025, 1, 15, 12, 34, 56);
+        Payment payment = createPayment(PaymentStatus.SUCCESS, paidAt, null);
+
+        // when
+        revenueRollupService.recordPaymentSucceeded(payment);
+
+        // then
+        verify(revenueRollupRepository).upsert(1L, "HOURLY", LocalDateTime.of(2025, 1, 15, 12, 0),
+                "CREDIT_CARD", 23000L, 0L, 1L, 0L);
+        verify(revenueRollupRepository).upsert(1L, "DAILY", LocalDateTime.of(2025, 1, 15, 0, 0),
+                "CREDIT_CARD", 23000L, 0L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("결제 취소 시 취소 시각 구간에 누적")
+    void recordPaymentCancelled() {
+        // given
+        LocalDateTime paidAt = LocalDateTime.of(2025, 1, 15, 23, 50);
+        LocalDateTime cancelledAt = LocalDateTime.of(2025, 1, 16, 0, 10);
+        Payment payment = createPayment(PaymentStatus.CANCELLED, paidAt, cancelledAt);
+
+        // when
+        revenueRollupService.recordPaymentCancelled(payment);
+
+        // then
+        verify(revenueRollupRepository).upsert(1L, "HOURLY", LocalDateTime.of(2025, 1, 16, 0, 0),
+                "CREDIT_CARD", 0L, 23000L, 0L, 1L);
+        verify(revenueRollupRepository).upsert(1L, "DAILY", LocalDateTime.of(2025, 1, 16, 0, 0),
+                "CREDIT_CARD", 0L, 23000L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("레스토랑 매출 조회 - 결제 수단별 행을 구간 단위로 합산")
+    void getRestaurantRevenue_Success() {
+        // given
+        Long restaurantId = 1L;
+        Long ownerId = 10L;
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 3, 0, 0);
+        LocalDateTime day1 = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime day2 = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+        given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(createRestaurant(ownerId)));
+        given(revenueRollupRepository.findByRestaurantAndRange(restaurantId, RollupGranularity.DAILY, start, end))
+                .willReturn(List.of(
+                        createRollup(day1, PaymentMethod.CREDIT_CARD, 50000L, 10000L, 3L, 1L),
+                        createRollup(day1, PaymentMethod.KAKAO_PAY, 20000L, 0L, 1L, 0L),
+                        createRollup(day2, PaymentMethod.CREDIT_CARD, 30000L, 0L, 2L, 0L)));
+
+        // when
+        RevenueReportResponse response = revenueRollupService.getRestaurantRevenue(
+                restaurantId, ownerId, RollupGranularity.DAILY, start, end);
+
+        // then
+        assertThat(response.getBuckets()).hasSize(2);
+        assertThat(response.getBuckets().get(0).getGrossAmount()).isEqualTo(70000L);
+        assertThat(response.getBuckets().get(0).getNetAmount()).isEqualTo(60000L);
+        assertThat(response.getBuckets().get(0).getGrossAmountByMethod())
+                .containsEntry(PaymentMethod.KAKAO_PAY, 20000L);
+        assertThat(response.getGrossAmount()).isEqualTo(100000L);
+        assertThat(response.getCancelledAmount()).isEqualTo(10000L);
+        assertThat(response.getPaymentCount()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("레스토랑 매출 조회 실패 - 소유자가 아님")
+    void getRestaurantRevenue_Unauthorized() {
+        // given
+        given(restaurantRepository.findById(1L)).willReturn(Optional.of(createRestaurant(10L)));
+
+        // when & then
+        assertThatThrownBy(() -> revenueRollupService.getRestaurantRevenue(1L, 99L, RollupGranularity.DAILY,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0)))
+                .isInstanceOf(UnauthorizedException.class);
+
+        verify(revenueRollupRepository, never()).findByRestaurantAndRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("전체 매출 조회 실패 - 시간별 조회 기간 초과")
+    void getPlatformRevenue_RangeTooLong() {
+        assertThatThrownBy(() -> revenueRollupService.getPlatformRevenue(RollupGranularity.HOURLY,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 3, 1, 0, 0)))
+                .isInstanceOf(InvalidAnalyticsRequestException.class);
+    }
+
+    @Test
+    @DisplayName("매출 집계 재생성 - 스트리밍 결제 행을 구간별로 합산하여 저장")
+    void rebuild_Success() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 2, 0, 0);
+        LocalDateTime paidAt = LocalDateTime.of(2025, 1, 1, 12, 10);
+
+        given(paymentRepository.streamRollupRows(start, end)).willReturn(Stream.of(
+                new PaymentRollupRow(1L, PaymentMethod.CREDIT_CARD, 10000, paidAt, null),
+                new PaymentRollupRow(1L, PaymentMethod.CREDIT_CARD, 20000, paidAt.plusMinutes(5), paidAt.plusMinutes(30))));
+
+        // when
+        RollupRebuildResponse response = revenueRollupService.rebuild(start, end.minusHours(1));
+
+        // then
+        assertThat(response.getEndDate()).isEqualTo(end);
+        assertThat(response.getScannedPayments()).isEqualTo(2L);
+        assertThat(response.getRollupRows()).isEqualTo(2);
+
+        verify(revenueRollupRepository).deleteByRange(start, end);
+        verify(revenueRollupRepository).upsert(1L, "HOURLY", LocalDateTime.of(2025, 1, 1, 12, 0),
+                "CREDIT_CARD", 30000L, 20000L, 2L, 1L);
+        verify(revenueRollupRepository).upsert(1L, "DAILY", start,
+                "CREDIT_CARD", 30000L, 20000L, 2L, 1L);
+    }
+
+    // Helper methods
+    private Payment createPayment(PaymentStatus status, LocalDateTime paidAt, LocalDateTime cancelledAt) {
+        Order order = Order.builder()
+                .id(1L)
+                .restaurant(createRestaurant(10L))
+                .totalAmount(20000)
+                .deliveryFee(3000)
+                .build();
+
+        return Payment.builder()
+                .id(1L)
+                .order(order)
+                .amount(23000)
+                .method(PaymentMethod.CREDIT_CARD)
+                .status(status)
+                .paidAt(paidAt)
+                .cancelledAt(cancelledAt)
+                .build();
+    }
+
+    private Restaurant createRestaurant(Long ownerId) {
+        User owner = User.builder()
+                .id(ownerId)
+                .email("owner@example.com")
+                .name("사장님")
+                .build();
+
+        return Restaurant.builder()
+                .id(1L)
+                .owner(owner)
+                .name("맛있는 치킨")
+                .build();
+    }
+
+    private RevenueRollup createRollup(LocalDateTime bucketStart, PaymentMethod method,
+                                       Long gross, Long cancelled, Long paymentCount, Long cancelledCount) {
+        return RevenueRollup.builder()
+                .restaurantId(1L)
+                .granularity(RollupGranularity.DAILY)
+                .bucketStart(bucketStart)
+                .method(method)
+                .grossAmount(gross)
+                .cancelledAmount(cancelled)
+                .paymentCount(paymentCount)
+                .cancelledCount(cancelledCount)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.portfolio.food_delivery.domain.cart.service;
+
+import com.portfolio.food_delivery.domain.cart.entity.Cart;
+import com.portfolio.food_delivery.domain.cart.entity.CartItem;
+import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.cart.store.CartMenuSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartRestaurantSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CartPersistServiceTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @InjectMocks
+    private CartPersistService cartPersistService;
+
+    @Test
+    @DisplayName("메모리 장바구니 상태를 기존 장바구니에 반영 - 변경된 항목만 수정하고 합계 유지")
+    void persist_SyncExistingCart() {
+        // given
+        User user = User.builder().id(1L).build();
+        Restaurant restaurant = Restaurant.builder().id(1L).name("맛있는 치킨").build();
+        Menu chicken = Menu.builder().id(10L).restaurant(restaurant).name("양념치킨").price(20000).build();
+        Menu coke = Menu.builder().id(11L).restaurant(restaurant).name("콜라").price(2000).build();
+        Menu fries = Menu.builder().id(12L).restaurant(restaurant).name("감자튀김").price(3000).build();
+
+        Cart cart = Cart.builder().id(100L).user(user).build();
+        cart.addItem(CartItem.builder().menu(chicken).quantity(1).build());
+        cart.addItem(CartItem.builder().menu(coke).quantity(1).build());
+        CartItem chickenItem = cart.findCartItemByMenuId(10L);
+
+        CartRestaurantSnapshot restaurantSnapshot = new CartRestaurantSnapshot(1L, "맛있는 치킨", 15000, 3000);
+        CartSnapshot snapshot = new CartSnapshot(1L, 100L, restaurantSnapshot, List.of(
+                new CartSnapshot.Item(new CartMenuSnapshot(10L, "양념치킨", 20000, null), 2),
+                new CartSnapshot.Item(new CartMenuSnapshot(12L, "감자튀김", 3000, null), 1)));
+
+        given(cartRepository.findAllByUserIdInWithItems(List.of(1L))).willReturn(List.of(cart));
+        given(restaurantRepository.getReferenceById(1L)).willReturn(restaurant);
+        given(menuRepository.getReferenceById(12L)).willReturn(fries);
+
+        // when
+        Map<Long, Long> cartIds = cartPersistService.persist(List.of(snapshot));
+
+        // then
+        assertThat(cartIds).containsEntry(1L, 100L);
+        assertThat(cart.getCartItems()).extracting(item -> item.getMenu().getId()).containsExactly(10L, 12L);
+        assertThat(cart.findCartItemByMenuId(10L)).isSameAs(chickenItem);
+        assertThat(cart.findCartItemByMenuId(11L)).isNull();
+        assertThat(cart.getTotalQuantity()).isEqualTo(3);
+        assertThat(cart.getTotalAmount()).isEqualTo(43000); // 20000*2 + 3000
+
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    @Test
+    @DisplayName("비워진 장바구니는 벌크 DELETE 로 정리하고, 행이 없는 사용자는 새로 생성")
+    void persist_EmptiedCart_BulkDeleteAndCreate() {
+        // given
+        User user = User.builder().id(2L).build();
+        CartSnapshot snapshot = new CartSnapshot(2L, null, null, List.of());
+
+        given(cartRepository.findAllByUserIdIn(List.of(2L))).willReturn(List.of());
+        given(userRepository.getReferenceById(2L)).willReturn(user);
+        given(cartRepository.save(any(Cart.class))).willAnswer(invocation -> {
+            Cart cart = invocation.getArgument(0);
+            return Cart.builder().id(200L).user(cart.getUser()).build();
+        });
+
+        // when
+        Map<Long, Long> cartIds = cartPersistService.persist(List.of(snapshot));
+
+        // then
+        assertThat(cartIds).containsEntry(2L, 200L);
+        verify(cartRepository).deleteItemsByUserIdIn(List.of(2L));
+        verify(cartRepository, never()).findAllByUserIdInWithItems(any());
+    }
+}
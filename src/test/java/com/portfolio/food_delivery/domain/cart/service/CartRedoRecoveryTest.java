@@ -0,0 +1,180 @@
+package com.portfolio.food_delivery.domain.cart.service;
+
+import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.cart.entity.Cart;
+import com.portfolio.food_delivery.domain.cart.entity.CartItem;
+import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.cart.store.*;
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비정상 종료 후 재기동 시 redo 로그 복구 (스케줄러/웹 요청보다 먼저 복구되는지)
+ * 이전 프로세스가 남긴 세그먼트를 만든 뒤 write-behind 를 켠 채로 컨텍스트를 띄운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+class CartRedoRecoveryTest {
+
+    private static final Path REDO_DIRECTORY = createRedoDirectory();
+
+    @DynamicPropertySource
+    static void redoLogProperties(DynamicPropertyRegistry registry) {
+        registry.add("cart.store.redo-log.enabled", () -> "true");
+        registry.add("cart.store.redo-log.directory", REDO_DIRECTORY::toString);
+        registry.add("cart.store.write-behind.enabled", () -> "true");
+        // 다른 테스트 컨텍스트와 DB를 나눠 쓰지 않도록 (IDENTITY 값, create-drop)
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:cart-redo-recovery;MODE=MySQL");
+    }
+
+    @Autowired
+    private CrashedProcess crashedProcess;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Test
+    @DisplayName("기동 시 남은 redo 로그로 장바구니를 복구해 DB에 반영한 뒤 세그먼트를 정리")
+    void recoverOnStartup() throws IOException {
+        Long userId = crashedProcess.customerId;
+
+        // 메모리 - 사용자별 마지막 기록 상태
+        CartSnapshot restored = cartStore.find(userId).orElseThrow();
+        assertThat(restored.restaurant().restaurantId()).isEqualTo(crashedProcess.restaurantId);
+        assertThat(restored.items().stream()
+                .collect(Collectors.toMap(item -> item.menu().menuId(), CartSnapshot.Item::quantity)))
+                .isEqualTo(Map.of(crashedProcess.chickenId, 2, crashedProcess.cokeId, 1));
+
+        // DB - 복구 직후 저장
+        Cart saved = cartRepository.findByUserIdWithItems(userId).orElseThrow();
+        assertThat(saved.getCartItems().stream()
+                .collect(Collectors.toMap(item -> item.getMenu().getId(), CartItem::getQuantity)))
+                .isEqualTo(Map.of(crashedProcess.chickenId, 2, crashedProcess.cokeId, 1));
+
+        // 반영이 끝난 세그먼트는 삭제
+        try (Stream<Path> files = Files.list(REDO_DIRECTORY)) {
+            assertThat(files.toList()).isEmpty();
+        }
+    }
+
+    private static Path createRedoDirectory() {
+        try {
+            Path directory = Files.createTempDirectory("cart-redo-recovery");
+            directory.toFile().deleteOnExit();
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class CrashedProcessConfig {
+
+        // 애플리케이션의 redo 로그가 세그먼트 번호를 정하기 전에 이전 프로세스의 기록을 남긴다
+        @Bean
+        static BeanFactoryPostProcessor cartRedoLogAfterCrashedProcess() {
+            return beanFactory -> {
+                BeanDefinition redoLog = beanFactory.getBeanDefinition("cartRedoLog");
+                redoLog.setDependsOn("crashedProcess");
+            };
+        }
+
+        @Bean
+        CrashedProcess crashedProcess(UserRepository userRepository,
+                                      RestaurantRepository restaurantRepository,
+                                      MenuRepository menuRepository) {
+            return new CrashedProcess(userRepository, restaurantRepository, menuRepository);
+        }
+    }
+
+    // DB에 반영하기 전에 죽은 프로세스 - 같은 사용자를 두 번 기록
+    static class CrashedProcess {
+
+        final Long customerId;
+        final Long restaurantId;
+        final Long chickenId;
+        final Long cokeId;
+
+        CrashedProcess(UserRepository userRepository,
+                       RestaurantRepository restaurantRepository,
+                       MenuRepository menuRepository) {
+            User customer = userRepository.save(User.builder()
+                    .email("customer@example.com")
+                    .password("password123!")
+                    .name("고객님")
+                    .phoneNumber("010-1111-2222")
+                    .role(UserRole.CUSTOMER)
+                    .build());
+            User owner = userRepository.save(User.builder()
+                    .email("owner@example.com")
+                    .password("password123!")
+                    .name("사장님")
+                    .phoneNumber("010-3333-4444")
+                    .role(UserRole.RESTAURANT_OWNER)
+                    .build());
+            Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                    .owner(owner)
+                    .name("맛있는 치킨")
+                    .category(RestaurantCategory.CHICKEN)
+                    .phoneNumber("02-1234-5678")
+                    .address(new Address("서울시", "강남구", "선릉로", "456", "12346"))
+                    .openTime(LocalTime.of(10, 0))
+                    .closeTime(LocalTime.of(22, 0))
+                    .minimumOrderAmount(15000)
+                    .deliveryFee(3000)
+                    .build());
+            Menu chicken = menuRepository.save(Menu.builder()
+                    .restaurant(restaurant).name("양념치킨").price(20000).displayOrder(1).build());
+            Menu coke = menuRepository.save(Menu.builder()
+                    .restaurant(restaurant).name("콜라").price(2000).displayOrder(2).build());
+
+            CartRedoLog redoLog = new CartRedoLog(true, REDO_DIRECTORY.toString(), 8);
+            CartRestaurantSnapshot cartRestaurant = CartRestaurantSnapshot.from(restaurant);
+            redoLog.append(new CartSnapshot(customer.getId(), null, cartRestaurant, List.of(
+                    new CartSnapshot.Item(CartMenuSnapshot.from(chicken), 1))));
+            redoLog.append(new CartSnapshot(customer.getId(), null, cartRestaurant, List.of(
+                    new CartSnapshot.Item(CartMenuSnapshot.from(chicken), 2),
+                    new CartSnapshot.Item(CartMenuSnapshot.from(coke), 1))));
+            redoLog.close();
+
+            this.customerId = customer.getId();
+            this.restaurantId = restaurant.getId();
+            this.chickenId = chicken.getId();
+            this.cokeId = coke.getId();
+        }
+    }
+}
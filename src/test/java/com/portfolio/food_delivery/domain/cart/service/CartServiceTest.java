@@ -4,8 +4,12 @@ import com.portfolio.food_delivery.domain.cart.dto.*;
 import com.portfolio.food_delivery.domain.cart.entity.Cart;
 import com.portfolio.food_delivery.domain.cart.entity.CartItem;
 import com.portfolio.food_delivery.domain.cart.exception.CartItemNotFoundException;
+import com.portfolio.food_delivery.domain.cart.exception.CartNotFoundException;
 import com.portfolio.food_delivery.domain.cart.exception.InvalidCartException;
 import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.cart.store.CartRedoLog;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartStore;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
 import com.portfolio.food_delivery.domain.menu.exception.MenuNotFoundException;
@@ -15,13 +19,16 @@ import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
 import com.portfolio.food_delivery.domain.user.entity.User;
 import com.portfolio.food_delivery.domain.user.entity.UserRole;
 import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,8 +36,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CartServiceTest {
@@ -44,9 +52,16 @@ class CartServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
-    @InjectMocks
+    private CartStore cartStore;
+
     private CartService cartService;
 
+    @BeforeEach
+    void setUp() {
+        cartStore = new CartStore(cartRepository, userRepository, new CartRedoLog(false, "unused", 1), 4);
+        cartService = new CartService(cartStore, userRepository, menuRepository);
+    }
+
     @Test
     @DisplayName("장바구니에 메뉴 추가 성공 - 새로운 장바구니")
     void addToCart_NewCart_Success() {
@@ -54,7 +69,6 @@ class CartServiceTest {
         Long userId = 1L;
         Long menuId = 1L;
 
-        User user = createUser(userId);
         Restaurant restaurant = createRestaurant();
         Menu menu = createMenu(menuId, restaurant, "양념치킨", 20000);
 
@@ -63,28 +77,9 @@ class CartServiceTest {
                 .quantity(2)
                 .build();
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(menuId)).willReturn(Optional.of(menu));
-        given(cartRepository.findByUserId(userId)).willReturn(Optional.empty());
-        given(cartRepository.save(any(Cart.class))).willAnswer(invocation -> {
-            Cart cart = invocation.getArgument(0);
-            // ID 설정을 위한 새 Cart 생성
-            Cart savedCart = Cart.builder()
-                    .id(1L)
-                    .user(cart.getUser())
-                    .restaurant(cart.getRestaurant())
-                    .build();
-            // CartItem 복사
-            cart.getCartItems().forEach(item -> {
-                CartItem newItem = CartItem.builder()
-                        .id(1L)
-                        .menu(item.getMenu())
-                        .quantity(item.getQuantity())
-                        .build();
-                savedCart.addItem(newItem);
-            });
-            return savedCart;
-        });
+        given(menuRepository.findByIdWithRestaurant(menuId)).willReturn(Optional.of(menu));
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.empty());
+        given(userRepository.existsById(userId)).willReturn(true);
 
         // when
         CartResponse response = cartService.addToCart(userId, request);
@@ -96,10 +91,14 @@ class CartServiceTest {
         assertThat(response.getTotalAmount()).isEqualTo(40000);
         assertThat(response.getItems()).hasSize(1);
 
-        verify(userRepository).findById(userId);
-        verify(menuRepository).findById(menuId);
-        verify(cartRepository).findByUserId(userId);
-        verify(cartRepository).save(any(Cart.class));
+        verify(menuRepository).findByIdWithRestaurant(menuId);
+        verify(cartRepository).findByUserIdWithItems(userId);
+        verify(cartRepository, never()).save(any(Cart.class)); // DB 반영은 write-behind 로 처리
+
+        // DB 반영 대상으로 등록됨
+        List<CartSnapshot> dirty = cartStore.drainDirty();
+        assertThat(dirty).hasSize(1);
+        assertThat(dirty.get(0).userId()).isEqualTo(userId);
     }
 
     @Test
@@ -121,9 +120,8 @@ class CartServiceTest {
                 .quantity(1)
                 .build();
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(menuId)).willReturn(Optional.of(newMenu));
-        given(cartRepository.findByUserId(userId)).willReturn(Optional.of(existingCart));
+        given(menuRepository.findByIdWithRestaurant(menuId)).willReturn(Optional.of(newMenu));
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.of(existingCart));
 
         // when
         CartResponse response = cartService.addToCart(userId, request);
@@ -132,7 +130,7 @@ class CartServiceTest {
         assertThat(response.getItems()).hasSize(2);
         assertThat(response.getTotalAmount()).isEqualTo(38000); // 20000 + 18000
 
-        verify(cartRepository, never()).save(any(Cart.class)); // 기존 카트 수정이므로 save 호출 안함
+        verify(cartRepository, never()).save(any(Cart.class)); // 메모리에서만 수정하므로 save 호출 안함
     }
 
     @Test
@@ -155,9 +153,8 @@ class CartServiceTest {
                 .quantity(1)
                 .build();
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(menuId)).willReturn(Optional.of(newMenu));
-        given(cartRepository.findByUserId(userId)).willReturn(Optional.of(existingCart));
+        given(menuRepository.findByIdWithRestaurant(menuId)).willReturn(Optional.of(newMenu));
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.of(existingCart));
 
         // when
         CartResponse response = cartService.addToCart(userId, request);
@@ -185,13 +182,14 @@ class CartServiceTest {
                 .quantity(1)
                 .build();
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(menuId)).willReturn(Optional.of(menu));
+        given(menuRepository.findByIdWithRestaurant(menuId)).willReturn(Optional.of(menu));
 
         // when & then
         assertThatThrownBy(() -> cartService.addToCart(userId, request))
                 .isInstanceOf(InvalidCartException.class)
                 .hasMessage("품절된 메뉴는 장바구니에 담을 수 없습니다.");
+
+        verify(cartRepository, never()).findByUserIdWithItems(anyLong());
     }
 
     @Test
@@ -302,14 +300,112 @@ class CartServiceTest {
         Menu menu = createMenu(1L, restaurant, "양념치킨", 20000);
         Cart cart = createCartWithItem(user, restaurant, menu, 2);
 
-        given(cartRepository.findByUserId(userId)).willReturn(Optional.of(cart));
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.of(cart));
 
         // when
         cartService.clearCart(userId);
 
         // then
-        assertThat(cart.isEmpty()).isTrue();
-        assertThat(cart.getRestaurant()).isNull();
+        CartResponse response = cartService.getCart(userId);
+        assertThat(response.getItems()).isEmpty();
+        assertThat(response.getRestaurantId()).isNull();
+        assertThat(cartService.getCartItemCount(userId)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("장바구니는 처음 한 번만 DB에서 읽고 이후 변경은 메모리에서 처리")
+    void cartMutations_LoadFromDatabaseOnce() {
+        // given
+        Long userId = 1L;
+
+        User user = createUser(userId);
+        Restaurant restaurant = createRestaurant();
+        Menu menu1 = createMenu(1L, restaurant, "양념치킨", 20000);
+        Menu menu2 = createMenu(2L, restaurant, "콜라", 2000);
+        Cart cart = createCartWithItem(user, restaurant, menu1, 1);
+
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.of(cart));
+        given(menuRepository.findByIdWithRestaurant(2L)).willReturn(Optional.of(menu2));
+
+        // when
+        cartService.addToCart(userId, CartItemRequest.builder().menuId(2L).quantity(2).build());
+        cartService.updateCartItem(userId, 1L, CartUpdateRequest.builder().quantity(3).build());
+        cartService.removeFromCart(userId, 2L);
+        CartResponse response = cartService.getCart(userId);
+
+        // then
+        assertThat(response.getTotalQuantity()).isEqualTo(3);
+        assertThat(response.getTotalAmount()).isEqualTo(60000);
+        assertThat(cartService.getCartItemCount(userId)).isEqualTo(1);
+
+        verify(cartRepository, times(1)).findByUserIdWithItems(userId);
+        verify(cartRepository, never()).countItemsByUserId(anyLong());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("장바구니 아이템 수량 변경 실패 - 장바구니에 없는 메뉴")
+    void updateCartItem_ItemNotInCart_Fail() {
+        // given
+        Long userId = 1L;
+
+        User user = createUser(userId);
+        Restaurant restaurant = createRestaurant();
+        Menu menu = createMenu(1L, restaurant, "양념치킨", 20000);
+        Cart cart = createCartWithItem(user, restaurant, menu, 2);
+
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.of(cart));
+
+        CartUpdateRequest request = CartUpdateRequest.builder()
+                .quantity(1)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> cartService.updateCartItem(userId, 99L, request))
+                .isInstanceOf(CartItemNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("주문 불가 메뉴는 주문 트랜잭션이 커밋된 뒤에 제거")
+    void removeUnavailableItemsAfterCommit_RemovesOnCommit() {
+        // given
+        Long userId = 1L;
+        Long menuId = 1L;
+
+        User user = createUser(userId);
+        Restaurant restaurant = createRestaurant();
+        Menu menu = createMenu(menuId, restaurant, "양념치킨", 20000);
+        Cart cart = createCartWithItem(user, restaurant, menu, 2);
+
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.of(cart));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            cartService.removeUnavailableItemsAfterCommit(userId, List.of(menuId));
+
+            // then - 커밋 전에는 그대로
+            assertThat(cartStore.find(userId).orElseThrow().items()).hasSize(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(cartStore.find(userId).orElseThrow().items()).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("장바구니 비우기 실패 - 장바구니 없음")
+    void clearCart_NoCart_Fail() {
+        // given
+        Long userId = 1L;
+
+        given(cartRepository.findByUserIdWithItems(userId)).willReturn(Optional.empty());
+        given(userRepository.existsById(userId)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> cartService.clearCart(userId))
+                .isInstanceOf(CartNotFoundException.class);
     }
 
     // Helper methods
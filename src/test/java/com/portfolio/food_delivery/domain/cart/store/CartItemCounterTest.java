@@ -0,0 +1,55 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartItemCounterTest {
+
+    @Test
+    @DisplayName("확장과 삭제 후에도 남은 값을 모두 찾음")
+    void putAndRemove_KeepsProbeChains() {
+        // given
+        CartItemCounter counter = new CartItemCounter(10_000);
+        for (long userId = 1; userId <= 1000; userId++) {
+            counter.put(userId, (int) (userId % 7));
+        }
+
+        // when - 짝수 사용자만 삭제
+        for (long userId = 2; userId <= 1000; userId += 2) {
+            counter.remove(userId);
+        }
+
+        // then
+        assertThat(counter.size()).isEqualTo(500);
+        for (long userId = 1; userId <= 1000; userId++) {
+            int expected = userId % 2 == 0 ? CartItemCounter.MISSING : (int) (userId % 7);
+            assertThat(counter.get(userId)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("putIfAbsent 는 기존 값을 덮어쓰지 않음")
+    void putIfAbsent_KeepsNewerValue() {
+        CartItemCounter counter = new CartItemCounter(10);
+        counter.put(1L, 2);
+
+        assertThat(counter.putIfAbsent(1L, 0)).isEqualTo(2);
+        assertThat(counter.putIfAbsent(2L, 5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("상한에 도달하면 비우고 다시 채움")
+    void put_ClearsWhenFull() {
+        CartItemCounter counter = new CartItemCounter(2);
+        counter.put(1L, 1);
+        counter.put(2L, 1);
+
+        counter.put(3L, 1);
+
+        assertThat(counter.size()).isEqualTo(1);
+        assertThat(counter.get(1L)).isEqualTo(CartItemCounter.MISSING);
+        assertThat(counter.get(3L)).isEqualTo(1);
+    }
+}
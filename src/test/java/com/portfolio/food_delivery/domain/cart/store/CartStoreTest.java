@@ -0,0 +1,242 @@
+package com.portfolio.food_delivery.domain.cart.store;
+
+import com.portfolio.food_delivery.domain.cart.repository.CartRepository;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CartStoreTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @TempDir
+    Path redoDirectory;
+
+    private CartRedoLog redoLog;
+    private CartStore cartStore;
+
+    private final CartRestaurantSnapshot restaurant = new CartRestaurantSnapshot(1L, "맛있는 치킨", 15000, 3000);
+    private final CartMenuSnapshot chicken = new CartMenuSnapshot(10L, "양념치킨", 20000, null);
+    private final CartMenuSnapshot coke = new CartMenuSnapshot(11L, "콜라", 2000, null);
+
+    @BeforeEach
+    void setUp() {
+        redoLog = new CartRedoLog(true, redoDirectory.toString(), 4);
+        cartStore = new CartStore(cartRepository, userRepository, redoLog, 8);
+    }
+
+    private void givenNoSavedCarts() {
+        given(cartRepository.findByUserIdWithItems(anyLong())).willReturn(Optional.empty());
+        given(userRepository.existsById(anyLong())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 다음 drain 에 다시 포함")
+    void markFailed_RequeuesCart() {
+        // given
+        givenNoSavedCarts();
+        cartStore.addItem(1L, restaurant, chicken, 1);
+        List<CartSnapshot> first = cartStore.drainDirty();
+
+        // when
+        cartStore.markFailed(1L);
+
+        // then
+        assertThat(first).hasSize(1);
+        assertThat(cartStore.drainDirty()).extracting(CartSnapshot::userId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("DB 반영 전 장바구니는 유휴 상태여도 메모리에서 내리지 않음")
+    void evictIdle_KeepsUnflushedCarts() {
+        // given
+        givenNoSavedCarts();
+        cartStore.addItem(1L, restaurant, chicken, 1);
+        cartStore.addItem(2L, restaurant, coke, 1);
+        cartStore.drainDirty();
+        cartStore.markPersisted(1L, 100L);   // 1번만 저장 완료, 2번은 저장 중
+
+        // when
+        int evicted = cartStore.evictIdle(Duration.ZERO);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(cartStore.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리에서 내린 장바구니의 항목 수는 DB를 다시 읽지 않고 카운터에서 응답")
+    void countItems_ServedFromCounterAfterEviction() {
+        // given
+        givenNoSavedCarts();
+        cartStore.addItem(1L, restaurant, chicken, 1);
+        cartStore.addItem(1L, restaurant, coke, 2);
+        cartStore.drainDirty();
+        cartStore.markPersisted(1L, 100L);
+        cartStore.evictIdle(Duration.ZERO);
+
+        // when
+        int count = cartStore.countItems(1L);
+
+        // then
+        assertThat(cartStore.size()).isZero();
+        assertThat(count).isEqualTo(2);
+        verify(cartRepository, never()).countItemsByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("처음 보는 사용자의 항목 수는 COUNT 한 번으로 채우고 장바구니 전체는 읽지 않음")
+    void countItems_HydratesCounterOnMiss() {
+        // given
+        given(cartRepository.countItemsByUserId(1L)).willReturn(3);
+
+        // when
+        int first = cartStore.countItems(1L);
+        int second = cartStore.countItems(1L);
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(3);
+        verify(cartRepository, times(1)).countItemsByUserId(1L);
+        verify(cartRepository, never()).findByUserIdWithItems(anyLong());
+    }
+
+    @Test
+    @DisplayName("redo 로그는 사용자별 마지막 상태만 복구하고 반영 완료된 세그먼트는 삭제")
+    void redoLog_RecoverLatestStatePerUser() throws Exception {
+        // given
+        givenNoSavedCarts();
+        cartStore.addItem(1L, restaurant, chicken, 1);
+        cartStore.addItem(1L, restaurant, coke, 2);
+        cartStore.updateItemQuantity(1L, 10L, 3);
+        cartStore.addItem(2L, restaurant, coke, 1);
+        cartStore.clear(2L);
+
+        // when - 세그먼트 전환 후 재시작한 것처럼 새 로그로 읽기
+        long sealed = redoLog.rotate();
+        redoLog.close();
+        CartRedoLog reopened = new CartRedoLog(true, redoDirectory.toString(), 4);
+        Map<Long, CartRedoLog.Entry> entries = reopened.readSegmentsBefore(reopened.currentSequence());
+
+        // then
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(1L).restaurantId()).isEqualTo(1L);
+        assertThat(entries.get(1L).quantities()).containsExactly(Map.entry(10L, 3), Map.entry(11L, 2));
+        assertThat(entries.get(2L).restaurantId()).isNull();
+        assertThat(entries.get(2L).quantities()).isEmpty();
+
+        // 반영 완료 후 세그먼트 정리
+        reopened.deleteSegmentsBefore(sealed);
+        try (var files = Files.list(redoDirectory)) {
+            assertThat(files.count()).isZero(); // 새 세그먼트는 첫 기록 때 만들어지므로 빈 파일도 남지 않음
+        }
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트 끝의 줄바꿈 없는 줄은 형식이 맞아도 복구하지 않음")
+    void redoLog_IgnoreTornTailOfSegment() throws Exception {
+        // given - 사용자 1 은 두 번 기록되고, 마지막 기록이 쓰다가 잘린다
+        givenNoSavedCarts();
+        cartStore.addItem(1L, restaurant, chicken, 1);
+        cartStore.addItem(2L, restaurant, coke, 1);
+        cartStore.addItem(1L, restaurant, coke, 12);
+        redoLog.rotate();
+        redoLog.close();
+
+        // 사용자 1 이 기록된 stripe 의 세그먼트
+        Path segment;
+        try (var files = Files.list(redoDirectory)) {
+            segment = files.filter(file -> readUnchecked(file).endsWith("1\t1\t10:1,11:12\n")).findFirst().orElseThrow();
+        }
+        String full = Files.readString(segment, StandardCharsets.UTF_8);
+        int lastLineStart = full.lastIndexOf('\n', full.length() - 2) + 1;
+
+        // 수량 중간("11:1"), 항목 목록 직전("1\t1\t"), 쉼표 직후("10:1,") 에서 잘린 경우
+        for (String torn : List.of("1\t1\t10:1,11:1", "1\t1\t", "1\t1\t10:1,")) {
+            Files.write(segment, (full.substring(0, lastLineStart) + torn).getBytes(StandardCharsets.UTF_8));
+
+            // when
+            CartRedoLog reopened = new CartRedoLog(true, redoDirectory.toString(), 4);
+            Map<Long, CartRedoLog.Entry> entries = reopened.readSegmentsBefore(reopened.currentSequence());
+            reopened.close();
+
+            // then - 사용자 1 은 잘리기 전 마지막 완전한 줄의 상태로 복구
+            assertThat(entries.get(1L).quantities()).as(torn).containsExactly(Map.entry(10L, 1));
+            assertThat(entries.get(2L).quantities()).as(torn).containsExactly(Map.entry(11L, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("redo 로그는 사용자별 stripe 파일에 나눠 기록하고, 세그먼트 번호 순으로 읽어 마지막 상태를 복구")
+    void redoLog_StripesKeepPerUserOrderAcrossSegments() throws Exception {
+        // given - 여러 세그먼트에 걸쳐 여러 사용자를 기록
+        givenNoSavedCarts();
+        for (long userId = 1; userId <= 16; userId++) {
+            cartStore.addItem(userId, restaurant, chicken, 1);
+        }
+        redoLog.rotate();
+        for (long userId = 1; userId <= 16; userId++) {
+            cartStore.updateItemQuantity(userId, 10L, (int) userId + 1);
+        }
+        redoLog.rotate();
+        redoLog.close();
+
+        // then - stripe 마다 따로 기록되고
+        try (var files = Files.list(redoDirectory)) {
+            assertThat(files.count()).isGreaterThan(2);
+        }
+        CartRedoLog reopened = new CartRedoLog(true, redoDirectory.toString(), 4);
+        Map<Long, CartRedoLog.Entry> entries = reopened.readSegmentsBefore(reopened.currentSequence());
+        reopened.close();
+
+        // 사용자마다 마지막 세그먼트의 상태로 복구
+        assertThat(entries).hasSize(16);
+        for (long userId = 1; userId <= 16; userId++) {
+            assertThat(entries.get(userId).quantities()).containsExactly(Map.entry(10L, (int) userId + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 redo 로그 줄은 무시")
+    void redoLog_ParseTruncatedLine() {
+        assertThat(CartRedoLog.parse("1\t1\t10:3,11:2")).isNotNull();
+        assertThat(CartRedoLog.parse("1\t1\t10:")).isNull();
+        assertThat(CartRedoLog.parse("1\t1")).isNull();
+    }
+
+    private static String readUnchecked(Path file) {
+        try {
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.portfolio.food_delivery.domain.coupon.controller;
+
+import com.portfolio.food_delivery.common.BaseIntegrationTest;
+import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.coupon.dto.CouponCreateRequest;
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+import com.portfolio.food_delivery.domain.menu.entity.Menu;
+import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.dto.OrderCreateRequest;
+import com.portfolio.food_delivery.domain.order.dto.OrderItemRequest;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.dto.LoginRequest;
+import com.portfolio.food_delivery.domain.user.dto.LoginResponse;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CouponControllerTest extends BaseIntegrationTest {
+
+    // 쿠폰 장부는 애플리케이션 빈이라 테스트 롤백으로 지워지지 않으므로 테스트마다 다른 코드를 쓴다
+    private static final AtomicInteger CODE_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Restaurant restaurant;
+    private Menu menu;
+    private String adminToken;
+    private String customerToken;
+    private String code;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderRepository.deleteAll();
+        menuRepository.deleteAll();
+        restaurantRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userRepository.save(User.builder()
+                .email("admin@example.com")
+                .password(passwordEncoder.encode("password123!"))
+                .name("관리자")
+                .phoneNumber("010-9999-0000")
+                .role(UserRole.ADMIN)
+                .build());
+
+        userRepository.save(User.builder()
+                .email("customer@example.com")
+                .password(passwordEncoder.encode("password123!"))
+                .name("고객님")
+                .phoneNumber("010-1111-2222")
+                .role(UserRole.CUSTOMER)
+                .address(new Address("서울시", "강남구", "테헤란로", "123", "12345"))
+                .build());
+
+        User owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .password(passwordEncoder.encode("password123!"))
+                .name("사장님")
+                .phoneNumber("010-3333-4444")
+                .role(UserRole.RESTAURANT_OWNER)
+                .build());
+
+        restaurant = restaurantRepository.save(Restaurant.builder()
+                .owner(owner)
+                .name("맛있는 치킨")
+                .category(RestaurantCategory.CHICKEN)
+                .phoneNumber("02-1234-5678")
+                .address(new Address("서울시", "강남구", "선릉로", "456", "12346"))
+                .openTime(LocalTime.of(10, 0))
+                .closeTime(LocalTime.of(22, 0))
+                .minimumOrderAmount(15000)
+                .deliveryFee(3000)
+                .build());
+
+        menu = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("양념치킨")
+                .price(20000)
+                .displayOrder(1)
+                .build());
+
+        adminToken = getAccessToken("admin@example.com", "password123!");
+        customerToken = getAccessToken("customer@example.com", "password123!");
+        code = "TEST-" + System.currentTimeMillis() % 100000 + "-" + CODE_SEQUENCE.incrementAndGet();
+    }
+
+    private String getAccessToken(String email, String password) throws Exception {
+        LoginRequest loginRequest = new LoginRequest(email, password);
+        MvcResult result = mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        LoginResponse loginResponse = objectMapper.readValue(
+                result.getResponse().getContentAsString(), LoginResponse.class);
+        return loginResponse.getAccessToken();
+    }
+
+    private CouponCreateRequest fixedCoupon(Integer totalQuantity) {
+        return CouponCreateRequest.builder()
+                .code(code)
+                .name("3,000원 할인")
+                .discountType(DiscountType.FIXED)
+                .discountValue(3000)
+                .minimumOrderAmount(15000)
+                .totalQuantity(totalQuantity)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private void createCoupon(CouponCreateRequest request) throws Exception {
+        mockMvc.perform(post("/api/admin/coupons")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private OrderCreateRequest orderWithCoupon(String couponCode) {
+        return OrderCreateRequest.builder()
+                .restaurantId(restaurant.getId())
+                .orderItems(List.of(OrderItemRequest.builder()
+                        .menuId(menu.getId())
+                        .quantity(1)
+                        .build()))
+                .deliveryAddress(new Address("서울시", "강남구", "테헤란로", "789", "12347"))
+                .phoneNumber("010-5555-6666")
+                .couponCode(couponCode)
+                .build();
+    }
+
+    @Test
+    @DisplayName("쿠폰 등록 성공")
+    void createCoupon_Success() throws Exception {
+        mockMvc.perform(post("/api/admin/coupons")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(fixedCoupon(100))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.code").value(code))
+                .andExpect(jsonPath("$.discountType").value("FIXED"))
+                .andExpect(jsonPath("$.remainingQuantity").value(100));
+    }
+
+    @Test
+    @DisplayName("쿠폰 등록 실패 - 관리자가 아님")
+    void createCoupon_Customer_Forbidden() throws Exception {
+        mockMvc.perform(post("/api/admin/coupons")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(fixedCoupon(100))))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("쿠폰 등록 실패 - 중복된 쿠폰 코드")
+    void createCoupon_DuplicateCode() throws Exception {
+        createCoupon(fixedCoupon(100));
+
+        mockMvc.perform(post("/api/admin/coupons")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(fixedCoupon(100))))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CP005"));
+    }
+
+    @Test
+    @DisplayName("쿠폰 조회 실패 - 없는 쿠폰")
+    void getCoupon_NotFound() throws Exception {
+        mockMvc.perform(get("/api/coupons/{code}", "NO-SUCH-COUPON")
+                        .header("Authorization", "Bearer " + customerToken))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("CP001"));
+    }
+
+    @Test
+    @DisplayName("쿠폰을 적용한 주문 - 할인 금액을 뺀 결제 금액")
+    void createOrder_WithCoupon() throws Exception {
+        createCoupon(fixedCoupon(10));
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderWithCoupon(code))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.totalAmount").value(20000))
+                .andExpect(jsonPath("$.discountAmount").value(3000))
+                .andExpect(jsonPath("$.paymentAmount").value(20000));  // 20000 + 3000 - 3000
+
+        // 결제 대기 중인 주문이 수량 하나를 잡고 있다
+        mockMvc.perform(get("/api/coupons/{code}", code)
+                        .header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remainingQuantity").value(9));
+    }
+
+    @Test
+    @DisplayName("쿠폰을 적용한 주문 실패 - 이미 사용한 쿠폰")
+    void createOrder_CouponAlreadyUsed() throws Exception {
+        createCoupon(fixedCoupon(10));
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderWithCoupon(code))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderWithCoupon(code))))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("CP004"));
+    }
+}
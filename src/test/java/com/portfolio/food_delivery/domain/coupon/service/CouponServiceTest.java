@@ -0,0 +1,173 @@
+package com.portfolio.food_delivery.domain.coupon.service;
+
+import com.portfolio.food_delivery.domain.coupon.dto.CouponCreateRequest;
+import com.portfolio.food_delivery.domain.coupon.entity.Coupon;
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+import com.portfolio.food_delivery.domain.coupon.exception.CouponAlreadyUsedException;
+import com.portfolio.food_delivery.domain.coupon.exception.CouponCodeDuplicationException;
+import com.portfolio.food_delivery.domain.coupon.exception.CouponSoldOutException;
+import com.portfolio.food_delivery.domain.coupon.exception.InvalidCouponException;
+import com.portfolio.food_delivery.domain.coupon.repository.CouponRepository;
+import com.portfolio.food_delivery.domain.coupon.store.CouponLedger;
+import com.portfolio.food_delivery.domain.coupon.store.CouponLedger.ClaimResult;
+import com.portfolio.food_delivery.domain.coupon.store.CouponRule;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponServiceTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long RESTAURANT_ID = 100L;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CouponLedger couponLedger;
+
+    @InjectMocks
+    private CouponService couponService;
+
+    private CouponRule rule(DiscountType type, int value, Integer maxDiscount, Long restaurantId, boolean firstOrderOnly) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CouponRule(COUPON_ID, "WELCOME", "환영 쿠폰", type, value, maxDiscount, 15000,
+                restaurantId, firstOrderOnly, 100, now.minusDays(1), now.plusDays(1));
+    }
+
+    private void givenRule(CouponRule rule) {
+        given(couponLedger.find("WELCOME")).willReturn(Optional.of(rule));
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 성공 - 정률 할인은 최대 할인 금액까지")
+    void claim_PercentDiscount_CappedByMax() {
+        // given
+        givenRule(rule(DiscountType.PERCENT, 20, 5000, null, false));
+        given(couponLedger.claim(COUPON_ID, USER_ID)).willReturn(ClaimResult.CLAIMED);
+        given(couponRepository.getReferenceById(COUPON_ID)).willReturn(Coupon.builder().id(COUPON_ID).build());
+
+        // when
+        CouponClaim claim = couponService.claim(USER_ID, "WELCOME", RESTAURANT_ID, 40000);
+
+        // then
+        assertThat(claim.discountAmount()).isEqualTo(5000);
+        assertThat(claim.couponId()).isEqualTo(COUPON_ID);
+        verify(couponLedger).finishClaim(COUPON_ID, USER_ID, true);
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 실패 - 최소 주문 금액 미달이면 수량을 확보하지 않음")
+    void claim_BelowMinimumAmount() {
+        givenRule(rule(DiscountType.FIXED, 3000, null, null, false));
+
+        assertThatThrownBy(() -> couponService.claim(USER_ID, "WELCOME", RESTAURANT_ID, 10000))
+                .isInstanceOf(InvalidCouponException.class);
+
+        verify(couponLedger, never()).claim(any(), any());
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 실패 - 다른 레스토랑 전용 쿠폰")
+    void claim_OtherRestaurant() {
+        givenRule(rule(DiscountType.FIXED, 3000, null, 999L, false));
+
+        assertThatThrownBy(() -> couponService.claim(USER_ID, "WELCOME", RESTAURANT_ID, 20000))
+                .isInstanceOf(InvalidCouponException.class);
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 실패 - 수량 소진")
+    void claim_SoldOut() {
+        givenRule(rule(DiscountType.FIXED, 3000, null, null, false));
+        given(couponLedger.claim(COUPON_ID, USER_ID)).willReturn(ClaimResult.SOLD_OUT);
+
+        assertThatThrownBy(() -> couponService.claim(USER_ID, "WELCOME", RESTAURANT_ID, 20000))
+                .isInstanceOf(CouponSoldOutException.class);
+
+        verify(couponLedger, never()).finishClaim(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 실패 - 이미 사용한 쿠폰")
+    void claim_AlreadyUsed() {
+        givenRule(rule(DiscountType.FIXED, 3000, null, null, false));
+        given(couponLedger.claim(COUPON_ID, USER_ID)).willReturn(ClaimResult.CLAIMED);
+        given(orderRepository.existsByUserIdAndCouponIdAndStatusNot(USER_ID, COUPON_ID, OrderStatus.CANCELLED))
+                .willReturn(true);
+
+        assertThatThrownBy(() -> couponService.claim(USER_ID, "WELCOME", RESTAURANT_ID, 20000))
+                .isInstanceOf(CouponAlreadyUsedException.class);
+    }
+
+    @Test
+    @DisplayName("쿠폰 적용 실패 - 첫 주문 전용 쿠폰")
+    void claim_FirstOrderOnly() {
+        givenRule(rule(DiscountType.FIXED, 3000, null, null, true));
+        given(couponLedger.claim(COUPON_ID, USER_ID)).willReturn(ClaimResult.CLAIMED);
+        given(orderRepository.existsByUserIdAndStatusNot(USER_ID, OrderStatus.CANCELLED)).willReturn(true);
+
+        assertThatThrownBy(() -> couponService.claim(USER_ID, "WELCOME", RESTAURANT_ID, 20000))
+                .isInstanceOf(InvalidCouponException.class);
+    }
+
+    @Test
+    @DisplayName("쿠폰 등록 실패 - 중복된 코드")
+    void createCoupon_DuplicateCode() {
+        CouponCreateRequest request = CouponCreateRequest.builder()
+                .code("WELCOME")
+                .name("환영 쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(3000)
+                .validFrom(LocalDateTime.now())
+                .validUntil(LocalDateTime.now().plusDays(7))
+                .build();
+        given(couponRepository.existsByCode("WELCOME")).willReturn(true);
+
+        assertThatThrownBy(() -> couponService.createCoupon(request))
+                .isInstanceOf(CouponCodeDuplicationException.class);
+
+        verify(couponRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("쿠폰 등록 실패 - 100% 를 넘는 정률 할인")
+    void createCoupon_PercentOver100() {
+        CouponCreateRequest request = CouponCreateRequest.builder()
+                .code("HALF")
+                .name("반값")
+                .discountType(DiscountType.PERCENT)
+                .discountValue(150)
+                .validFrom(LocalDateTime.now())
+                .validUntil(LocalDateTime.now().plusDays(7))
+                .build();
+
+        assertThatThrownBy(() -> couponService.createCoupon(request))
+                .isInstanceOf(InvalidCouponException.class);
+    }
+}
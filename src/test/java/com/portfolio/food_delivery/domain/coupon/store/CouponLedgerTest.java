@@ -0,0 +1,121 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import com.portfolio.food_delivery.domain.coupon.entity.DiscountType;
+import com.portfolio.food_delivery.domain.coupon.store.CouponLedger.ClaimResult;
+import com.portfolio.food_delivery.domain.order.dto.CouponHoldRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponLedgerTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private CouponLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new CouponLedger(15, 4);
+    }
+
+    private CouponRule rule(Integer totalQuantity) {
+        return new CouponRule(COUPON_ID, "WELCOME", "환영 쿠폰", DiscountType.FIXED, 3000, null, 0,
+                null, false, totalQuantity, NOW.minusDays(1), NOW.plusDays(1));
+    }
+
+    // 주문 생성 트랜잭션이 커밋된 것처럼 확보 -> 예약 -> 종료
+    private void order(Long orderId, Long userId) {
+        assertThat(ledger.claim(COUPON_ID, userId)).isEqualTo(ClaimResult.CLAIMED);
+        ledger.hold(orderId, COUPON_ID, userId, NOW);
+        ledger.finishClaim(COUPON_ID, userId, true);
+    }
+
+    @Test
+    @DisplayName("DB 의 사용 수와 결제 대기 주문을 빼고 남은 수량으로 등록")
+    void register_SubtractsRedeemedAndHolds() {
+        ledger.register(rule(10), 3, 3, List.of(new CouponHoldRow(100L, 7L, NOW)));
+
+        assertThat(ledger.remaining(COUPON_ID).getAsLong()).isEqualTo(6);
+        assertThat(ledger.holdCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수량이 없으면 소진, 같은 사용자의 동시 주문은 진행 중")
+    void claim_SoldOutAndInProgress() {
+        ledger.register(rule(1), 0, 0, List.of());
+
+        assertThat(ledger.claim(COUPON_ID, 1L)).isEqualTo(ClaimResult.CLAIMED);
+        assertThat(ledger.claim(COUPON_ID, 1L)).isEqualTo(ClaimResult.IN_PROGRESS);
+        assertThat(ledger.claim(COUPON_ID, 2L)).isEqualTo(ClaimResult.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("주문이 롤백되면 확보한 수량을 돌려줌")
+    void finishClaim_Rollback_ReleasesPermit() {
+        ledger.register(rule(1), 0, 0, List.of());
+        ledger.claim(COUPON_ID, 1L);
+        ledger.hold(10L, COUPON_ID, 1L, NOW);
+
+        ledger.dropHold(10L);
+        ledger.finishClaim(COUPON_ID, 1L, false);
+
+        assertThat(ledger.remaining(COUPON_ID).getAsLong()).isEqualTo(1);
+        assertThat(ledger.holdCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결제하지 않은 예약은 ttl 이 지나면 반납, 결제 중인 예약은 유지")
+    void releaseExpired_SkipsPinnedHolds() {
+        ledger.register(rule(5), 0, 0, List.of());
+        order(10L, 1L);
+        order(11L, 2L);
+        assertThat(ledger.pinForPayment(11L, COUPON_ID, 2L)).isTrue();
+
+        int released = ledger.releaseExpired(NOW.plusMinutes(16));
+
+        assertThat(released).isEqualTo(1);
+        assertThat(ledger.remaining(COUPON_ID).getAsLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("만료된 예약으로 결제하면 수량을 다시 확보하고, 없으면 실패")
+    void pinForPayment_ExpiredHold_Reacquires() {
+        ledger.register(rule(1), 0, 0, List.of());
+        order(10L, 1L);
+        ledger.releaseExpired(NOW.plusMinutes(16));
+        order(11L, 2L);
+
+        assertThat(ledger.pinForPayment(10L, COUPON_ID, 1L)).isFalse();
+
+        ledger.cancel(11L, COUPON_ID, false);
+        assertThat(ledger.pinForPayment(10L, COUPON_ID, 1L)).isTrue();
+        assertThat(ledger.remaining(COUPON_ID).getAsLong()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용 확정 수는 DB 에 반영한 만큼을 뺀 차이로 반영")
+    void confirm_TracksUnpersistedRedemptions() {
+        ledger.register(rule(null), 2, 2, List.of());
+        order(10L, 1L);
+        order(11L, 2L);
+
+        ledger.confirm(10L, COUPON_ID);
+        ledger.confirm(11L, COUPON_ID);
+        Map<Long, Long> deltas = ledger.unpersistedRedemptions();
+
+        assertThat(deltas).containsEntry(COUPON_ID, 2L);
+        ledger.markPersisted(deltas);
+        assertThat(ledger.unpersistedRedemptions()).isEmpty();
+
+        // 결제 후 취소는 사용 확정을 되돌린다
+        ledger.cancel(10L, COUPON_ID, true);
+        assertThat(ledger.unpersistedRedemptions()).containsEntry(COUPON_ID, -1L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.food_delivery.domain.coupon.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedQuotaTest {
+
+    @Test
+    @DisplayName("칸 수로 나눠지지 않는 수량도 전부 확보한 뒤 소진")
+    void tryAcquire_DrainsAllStripes() {
+        StripedQuota quota = new StripedQuota(10, 4);
+
+        int acquired = 0;
+        while (quota.tryAcquire()) {
+            acquired++;
+        }
+
+        assertThat(acquired).isEqualTo(10);
+        assertThat(quota.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("반납한 수량은 다시 확보할 수 있음")
+    void release_MakesPermitAvailable() {
+        StripedQuota quota = new StripedQuota(1, 8);
+        assertThat(quota.tryAcquire()).isTrue();
+        assertThat(quota.tryAcquire()).isFalse();
+
+        quota.release();
+
+        assertThat(quota.available()).isEqualTo(1);
+        assertThat(quota.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("칸 수는 2의 거듭제곱이어야 함")
+    void constructor_RejectsInvalidStripes() {
+        assertThatThrownBy(() -> new StripedQuota(10, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StripedQuota(-1, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("1,000개 스레드가 동시에 확보해도 수량을 넘지 않음")
+    void tryAcquire_Concurrent_NeverOversells() throws Exception {
+        int permits = 100;
+        int threads = 1000;
+        StripedQuota quota = new StripedQuota(permits, 16);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        if (quota.tryAcquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(acquired.get()).isEqualTo(permits);
+        assertThat(quota.available()).isZero();
+    }
+}
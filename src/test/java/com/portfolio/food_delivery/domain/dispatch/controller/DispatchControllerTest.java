@@ -0,0 +1,220 @@
+package com.portfolio.food_delivery.domain.dispatch.controller;
+
+import com.portfolio.food_delivery.common.BaseIntegrationTest;
+import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderLocationRequest;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderRegistry;
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
+import com.portfolio.food_delivery.domain.user.dto.LoginRequest;
+import com.portfolio.food_delivery.domain.user.dto.LoginResponse;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import com.portfolio.food_delivery.infrastructure.sql.SqlStatementInspector;
+import com.portfolio.food_delivery.infrastructure.sql.SqlStatementStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DispatchControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RiderRegistry riderRegistry;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User rider;
+    private User customer;
+    private Restaurant restaurant;
+    private String riderToken;
+    private String customerToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderRepository.deleteAll();
+        restaurantRepository.deleteAll();
+        userRepository.deleteAll();
+
+        rider = userRepository.save(User.builder()
+                .email("rider@example.com")
+                .password(passwordEncoder.encode("password123!"))
+                .name("배달원")
+                .phoneNumber("010-7777-8888")
+                .role(UserRole.DELIVERY_PARTNER)
+                .build());
+
+        customer = userRepository.save(User.builder()
+                .email("customer@example.com")
+                .password(passwordEncoder.encode("password123!"))
+                .name("고객님")
+                .phoneNumber("010-1111-2222")
+                .role(UserRole.CUSTOMER)
+                .address(new Address("서울시", "강남구", "테헤란로", "123", "12345"))
+                .build());
+
+        User owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .password(passwordEncoder.encode("password123!"))
+                .name("사장님")
+                .phoneNumber("010-3333-4444")
+                .role(UserRole.RESTAURANT_OWNER)
+                .build());
+
+        restaurant = restaurantRepository.save(Restaurant.builder()
+                .owner(owner)
+                .name("맛있는 치킨")
+                .category(RestaurantCategory.CHICKEN)
+                .phoneNumber("02-1234-5678")
+                .address(new Address("서울시", "강남구", "선릉로", "456", "12346"))
+                .latitude(37.5012)
+                .longitude(127.0396)
+                .openTime(LocalTime.of(10, 0))
+                .closeTime(LocalTime.of(22, 0))
+                .minimumOrderAmount(15000)
+                .deliveryFee(3000)
+                .build());
+
+        riderToken = getAccessToken("rider@example.com", "password123!");
+        customerToken = getAccessToken("customer@example.com", "password123!");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 저장소는 애플리케이션 빈이라 테스트 트랜잭션 롤백으로 지워지지 않는다
+        riderRegistry.offline(rider.getId());
+    }
+
+    private String getAccessToken(String email, String password) throws Exception {
+        LoginRequest loginRequest = new LoginRequest(email, password);
+        MvcResult result = mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        LoginResponse loginResponse = objectMapper.readValue(
+                result.getResponse().getContentAsString(), LoginResponse.class);
+        return loginResponse.getAccessToken();
+    }
+
+    @Test
+    @DisplayName("운행 시작 성공")
+    void goOnline_Success() throws Exception {
+        mockMvc.perform(post("/api/dispatch/riders/me/online")
+                        .header("Authorization", "Bearer " + riderToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RiderLocationRequest(37.4979, 127.0276))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.riderId").value(rider.getId()))
+                .andExpect(jsonPath("$.status").value("AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("운행 시작 실패 - 배달 파트너가 아님")
+    void goOnline_Customer_Forbidden() throws Exception {
+        mockMvc.perform(post("/api/dispatch/riders/me/online")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RiderLocationRequest(37.4979, 127.0276))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("위치 갱신 - SQL 없이 메모리만 갱신")
+    void updateLocation_NoSql() throws Exception {
+        riderRegistry.online(rider.getId(), rider.getEmail(), 37.4979, 127.0276, null);
+
+        SqlStatementStats stats = SqlStatementInspector.begin();
+        try {
+            mockMvc.perform(put("/api/dispatch/riders/me/location")
+                            .header("Authorization", "Bearer " + riderToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RiderLocationRequest(37.5001, 127.0301))))
+                    .andExpect(status().isNoContent());
+        } finally {
+            SqlStatementInspector.end(stats);
+        }
+
+        assertThat(stats.getTotal()).isZero();
+        assertThat(riderRegistry.find(rider.getId()).orElseThrow().latitude()).isEqualTo(37.5001);
+    }
+
+    @Test
+    @DisplayName("위치 갱신 실패 - 운행 시작 전")
+    void updateLocation_NotOnline_Conflict() throws Exception {
+        mockMvc.perform(put("/api/dispatch/riders/me/location")
+                        .header("Authorization", "Bearer " + riderToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RiderLocationRequest(37.5001, 127.0301))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("위치 갱신 실패 - 잘못된 위도")
+    void updateLocation_InvalidLatitude() throws Exception {
+        mockMvc.perform(put("/api/dispatch/riders/me/location")
+                        .header("Authorization", "Bearer " + riderToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RiderLocationRequest(91.0, 127.0301))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("배달 완료 - 배정된 배달 파트너")
+    void completeDelivery_Success() throws Exception {
+        Order order = createAssignedOrder();
+
+        mockMvc.perform(post("/api/dispatch/orders/{orderId}/delivered", order.getId())
+                        .header("Authorization", "Bearer " + riderToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DELIVERED"))
+                .andExpect(jsonPath("$.riderId").value(rider.getId()));
+    }
+
+    private Order createAssignedOrder() {
+        Order order = Order.builder()
+                .user(customer)
+                .restaurant(restaurant)
+                .deliveryAddress(customer.getAddress())
+                .phoneNumber(customer.getPhoneNumber())
+                .totalAmount(20000)
+                .deliveryFee(3000)
+                .status(OrderStatus.READY)
+                .orderedAt(LocalDateTime.now().minusMinutes(30))
+                .readyAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+        order.assignRider(rider);
+        return orderRepository.save(order);
+    }
+}
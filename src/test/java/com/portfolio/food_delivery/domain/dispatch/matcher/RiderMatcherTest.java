@@ -0,0 +1,112 @@
+package com.portfolio.food_delivery.domain.dispatch.matcher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RiderMatcherTest {
+
+    // 강남역 부근, 위도 0.009도 ≈ 1km
+    private static final double LAT = 37.4979;
+    private static final double LON = 127.0276;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    private final RiderMatcher matcher = new RiderMatcher(5, 1);
+
+    @Test
+    @DisplayName("가장 가까운 배달 파트너를 배정")
+    void match_NearestRider() {
+        List<PendingOrder> orders = List.of(order(1L, LAT, LON, 0));
+        List<RiderPosition> riders = List.of(
+                new RiderPosition(10L, LAT + 0.027, LON),   // 약 3km
+                new RiderPosition(11L, LAT + 0.0045, LON),  // 약 0.5km
+                new RiderPosition(12L, LAT - 0.018, LON));  // 약 2km
+
+        List<Assignment> assignments = matcher.match(orders, riders);
+
+        assertThat(assignments).hasSize(1);
+        assertThat(assignments.get(0).riderId()).isEqualTo(11L);
+        assertThat(assignments.get(0).distanceKm()).isBetween(0.45, 0.55);
+    }
+
+    @Test
+    @DisplayName("격자 칸과 관계없이 실제 거리가 가장 가까운 파트너를 고른다")
+    void match_NearerRiderInOuterRing() {
+        // 대각선 방향 약 1.26km vs 북쪽 약 1.16km
+        List<PendingOrder> orders = List.of(order(1L, LAT, LON, 0));
+        List<RiderPosition> riders = List.of(
+                new RiderPosition(10L, LAT + 0.0085, LON + 0.0095),
+                new RiderPosition(11L, LAT + 0.0105, LON));
+
+        Assignment assignment = matcher.match(orders, riders).get(0);
+
+        assertThat(assignment.riderId()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("반경 밖의 배달 파트너는 배정하지 않음")
+    void match_OutsideRadius() {
+        List<PendingOrder> orders = List.of(order(1L, LAT, LON, 0));
+        List<RiderPosition> riders = List.of(new RiderPosition(10L, LAT + 0.09, LON)); // 약 10km
+
+        assertThat(matcher.match(orders, riders)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("앞 순서(오래 기다린) 주문이 먼저 가까운 파트너를 가져간다")
+    void match_OldestOrderFirst() {
+        List<PendingOrder> orders = List.of(
+                order(1L, LAT, LON, 10),
+                order(2L, LAT, LON + 0.001, 5));
+        List<RiderPosition> riders = List.of(
+                new RiderPosition(10L, LAT, LON + 0.0011),
+                new RiderPosition(11L, LAT + 0.018, LON));
+
+        List<Assignment> assignments = matcher.match(orders, riders);
+
+        assertThat(assignments).extracting(Assignment::orderId).containsExactly(1L, 2L);
+        assertThat(assignments).extracting(Assignment::riderId).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("한 파트너는 한 주문에만 배정되고, 파트너가 모자라면 나머지 주문은 대기")
+    void match_EachRiderOnce() {
+        Random random = new Random(42);
+        List<PendingOrder> orders = new ArrayList<>();
+        for (long i = 0; i < 300; i++) {
+            orders.add(order(i, LAT + random.nextGaussian() * 0.01, LON + random.nextGaussian() * 0.01, 0));
+        }
+        List<RiderPosition> riders = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            riders.add(new RiderPosition(1000 + i,
+                    LAT + random.nextGaussian() * 0.01, LON + random.nextGaussian() * 0.01));
+        }
+
+        List<Assignment> assignments = matcher.match(orders, riders);
+
+        assertThat(assignments).hasSize(100);
+        Set<Long> riderIds = new HashSet<>();
+        assignments.forEach(assignment -> assertThat(riderIds.add(assignment.riderId())).isTrue());
+        assertThat(assignments).allSatisfy(assignment -> assertThat(assignment.distanceKm()).isLessThanOrEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("반경과 격자 크기는 양수여야 함")
+    void constructor_InvalidArguments() {
+        assertThatThrownBy(() -> new RiderMatcher(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RiderMatcher(5, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PendingOrder order(Long orderId, double latitude, double longitude, int waitingMinutes) {
+        return new PendingOrder(orderId, latitude, longitude, NOW.minusMinutes(waitingMinutes));
+    }
+}
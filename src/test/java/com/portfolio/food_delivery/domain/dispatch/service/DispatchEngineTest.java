@@ -0,0 +1,151 @@
+package com.portfolio.food_delivery.domain.dispatch.service;
+
+import com.portfolio.food_delivery.domain.dispatch.store.PendingOrderPool;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderRegistry;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderStatus;
+import com.portfolio.food_delivery.domain.order.dto.OrderPickupRow;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DispatchEngineTest {
+
+    private static final double LAT = 37.4979;
+    private static final double LON = 127.0276;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    private RiderRegistry riderRegistry;
+    private PendingOrderPool pendingOrders;
+    private DispatchService dispatchService;
+    private OrderRepository orderRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private DispatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        riderRegistry = new RiderRegistry();
+        pendingOrders = new PendingOrderPool();
+        dispatchService = mock(DispatchService.class);
+        orderRepository = mock(OrderRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new DispatchEngine(riderRegistry, pendingOrders, dispatchService, orderRepository,
+                meterRegistry, true, 100, 5, 1, 120);
+    }
+
+    @Test
+    @DisplayName("READY 이벤트로 대기열에 들어간 주문을 가까운 파트너에게 배차")
+    void dispatch_AssignsReadyOrder() {
+        riderRegistry.online(10L, "rider@example.com", LAT + 0.001, LON, null);
+        engine.onOrderStatusChanged(readyEvent(1L, LAT, LON));
+        given(dispatchService.applyAssignments(anyList())).willReturn(Set.of(1L));
+
+        int assigned = engine.dispatch();
+
+        assertThat(assigned).isEqualTo(1);
+        assertThat(pendingOrders.size()).isZero();
+        assertThat(riderRegistry.find(10L).orElseThrow().status()).isEqualTo(RiderStatus.ASSIGNED);
+        assertThat(riderRegistry.find(10L).orElseThrow().assignedOrderId()).isEqualTo(1L);
+        assertThat(meterRegistry.counter("dispatch.assignments").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("위치가 없는 레스토랑의 주문은 자동 배차 대상이 아님")
+    void onOrderStatusChanged_WithoutLocation_Ignored() {
+        engine.onOrderStatusChanged(readyEvent(1L, null, null));
+
+        assertThat(pendingOrders.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 파트너를 되돌리고 주문은 대기열에 남긴다")
+    void dispatch_ApplyFails_ReleasesRiders() {
+        riderRegistry.online(10L, "rider@example.com", LAT, LON, null);
+        engine.onOrderStatusChanged(readyEvent(1L, LAT, LON));
+        given(dispatchService.applyAssignments(anyList())).willThrow(new IllegalStateException("DB 오류"));
+
+        int assigned = engine.dispatch();
+
+        assertThat(assigned).isZero();
+        assertThat(pendingOrders.size()).isEqualTo(1);
+        assertThat(riderRegistry.find(10L).orElseThrow().status()).isEqualTo(RiderStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("그 사이 READY 가 아니게 된 주문은 대기열에서 빼고 파트너는 되돌린다")
+    void dispatch_StaleOrder_Dropped() {
+        riderRegistry.online(10L, "rider@example.com", LAT, LON, null);
+        engine.onOrderStatusChanged(readyEvent(1L, LAT, LON));
+        given(dispatchService.applyAssignments(anyList())).willReturn(Set.of());
+
+        engine.dispatch();
+
+        assertThat(pendingOrders.size()).isZero();
+        assertThat(riderRegistry.find(10L).orElseThrow().status()).isEqualTo(RiderStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("배차 가능한 파트너가 없으면 DB에 접근하지 않음")
+    void dispatch_NoRiders() {
+        engine.onOrderStatusChanged(readyEvent(1L, LAT, LON));
+
+        assertThat(engine.dispatch()).isZero();
+        verify(dispatchService, never()).applyAssignments(anyList());
+        assertThat(pendingOrders.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배달 완료 이벤트로 파트너가 다시 배차 대기 상태가 된다")
+    void onOrderStatusChanged_Delivered_ReleasesRider() {
+        riderRegistry.online(10L, "rider@example.com", LAT, LON, 1L);
+
+        engine.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, 10L,
+                OrderStatus.DELIVERING, OrderStatus.DELIVERED, NOW.minusMinutes(40), NOW.minusMinutes(25), NOW,
+                LAT, LON, null));
+
+        assertThat(riderRegistry.find(10L).orElseThrow().status()).isEqualTo(RiderStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("수동으로 배달을 시작한 주문은 대기열에서 빠진다")
+    void onOrderStatusChanged_Delivering_RemovesPending() {
+        engine.onOrderStatusChanged(readyEvent(1L, LAT, LON));
+
+        engine.onOrderStatusChanged(new OrderStatusChangedEvent(1L, 1L, null,
+                OrderStatus.READY, OrderStatus.DELIVERING, NOW.minusMinutes(20), NOW.minusMinutes(5), null,
+                LAT, LON, null));
+
+        assertThat(pendingOrders.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 시 배차되지 않은 READY 주문을 대기열에 채운다")
+    void warmUp_LoadsPendingOrders() {
+        given(orderRepository.findPickupsWithoutRider(OrderStatus.READY)).willReturn(List.of(
+                new OrderPickupRow(1L, NOW.minusMinutes(3), LAT, LON),
+                new OrderPickupRow(2L, null, LAT, LON)));
+
+        engine.warmUp();
+
+        assertThat(pendingOrders.oldest(10)).extracting(pending -> pending.orderId()).containsExactly(2L, 1L);
+    }
+
+    private OrderStatusChangedEvent readyEvent(Long orderId, Double latitude, Double longitude) {
+        return new OrderStatusChangedEvent(orderId, 1L, null, OrderStatus.PREPARING, OrderStatus.READY,
+                NOW.minusMinutes(20), NOW.minusMinutes(1), null, latitude, longitude, null);
+    }
+}
@@ -0,0 +1,207 @@
+package com.portfolio.food_delivery.domain.dispatch.service;
+
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderLocationRequest;
+import com.portfolio.food_delivery.domain.dispatch.dto.RiderStatusResponse;
+import com.portfolio.food_delivery.domain.dispatch.exception.NotDeliveryPartnerException;
+import com.portfolio.food_delivery.domain.dispatch.exception.RiderNotOnlineException;
+import com.portfolio.food_delivery.domain.dispatch.matcher.Assignment;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderRegistry;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderSnapshot;
+import com.portfolio.food_delivery.domain.dispatch.store.RiderStatus;
+import com.portfolio.food_delivery.domain.order.dto.OrderResponse;
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.exception.InvalidOrderException;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
+import com.portfolio.food_delivery.domain.user.entity.User;
+import com.portfolio.food_delivery.domain.user.entity.UserRole;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchServiceTest {
+
+    @Mock
+    private RiderRegistry riderRegistry;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DispatchService dispatchService;
+
+    @Test
+    @DisplayName("운행 시작 - 배달 중인 주문이 있으면 배달 중 상태로 복원")
+    void goOnline_RestoresActiveDelivery() {
+        // given
+        User rider = createRider(7L);
+        Order delivering = createOrder(1L, OrderStatus.DELIVERING);
+        RiderLocationRequest request = new RiderLocationRequest(37.4979, 127.0276);
+
+        given(userRepository.findById(7L)).willReturn(Optional.of(rider));
+        given(orderRepository.findFirstByRiderIdAndStatus(7L, OrderStatus.DELIVERING))
+                .willReturn(Optional.of(delivering));
+        given(riderRegistry.online(7L, rider.getEmail(), 37.4979, 127.0276, 1L))
+                .willReturn(new RiderSnapshot(7L, RiderStatus.ASSIGNED, 37.4979, 127.0276, 1L));
+
+        // when
+        RiderStatusResponse response = dispatchService.goOnline(7L, request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(RiderStatus.ASSIGNED);
+        assertThat(response.getAssignedOrderId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("운행 시작 실패 - 배달 파트너가 아님")
+    void goOnline_NotDeliveryPartner_Fail() {
+        // given
+        User customer = User.builder().id(1L).email("user1@example.com").role(UserRole.CUSTOMER).build();
+        given(userRepository.findById(1L)).willReturn(Optional.of(customer));
+
+        // when & then
+        assertThatThrownBy(() -> dispatchService.goOnline(1L, new RiderLocationRequest(37.4979, 127.0276)))
+                .isInstanceOf(NotDeliveryPartnerException.class);
+        verify(riderRegistry, never()).online(any(), any(), anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    @DisplayName("위치 갱신 실패 - 운행 중이 아님")
+    void updateLocation_NotOnline_Fail() {
+        // given
+        given(riderRegistry.updateLocation("rider7@example.com", 37.5, 127.0)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> dispatchService.updateLocation("rider7@example.com",
+                new RiderLocationRequest(37.5, 127.0)))
+                .isInstanceOf(RiderNotOnlineException.class);
+    }
+
+    @Test
+    @DisplayName("배차 반영 - READY 주문만 배정하고 상태 변경 이벤트를 발행")
+    void applyAssignments_SkipsStaleOrders() {
+        // given
+        Order ready = createOrder(1L, OrderStatus.READY);
+        Order alreadyDelivering = createOrder(2L, OrderStatus.DELIVERING);
+        List<Assignment> assignments = List.of(
+                new Assignment(1L, 7L, 0.5),
+                new Assignment(2L, 8L, 0.7),
+                new Assignment(3L, 9L, 0.9));
+
+        given(orderRepository.findAllByIdInWithRestaurant(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(ready, alreadyDelivering));
+        given(userRepository.getReferenceById(7L)).willReturn(createRider(7L));
+
+        // when
+        Set<Long> assigned = dispatchService.applyAssignments(assignments);
+
+        // then
+        assertThat(assigned).containsExactly(1L);
+        assertThat(ready.getStatus()).isEqualTo(OrderStatus.DELIVERING);
+        assertThat(ready.getRider().getId()).isEqualTo(7L);
+        assertThat(ready.getPickedUpAt()).isNotNull();
+        verify(eventPublisher, times(1)).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배달 완료 - 배정된 배달 파트너")
+    void completeDelivery_Success() {
+        // given
+        Order order = createOrder(1L, OrderStatus.READY);
+        order.assignRider(createRider(7L));
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+
+        // when
+        OrderResponse response = dispatchService.completeDelivery(1L, 7L);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(response.getDeliveredAt()).isNotNull();
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배달 완료 실패 - 다른 배달 파트너")
+    void completeDelivery_OtherRider_Fail() {
+        // given
+        Order order = createOrder(1L, OrderStatus.READY);
+        order.assignRider(createRider(7L));
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> dispatchService.completeDelivery(1L, 8L))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    @DisplayName("배달 완료 실패 - 이미 배달 완료된 주문")
+    void completeDelivery_NotDelivering_Fail() {
+        // given
+        Order order = createOrder(1L, OrderStatus.READY);
+        order.assignRider(createRider(7L));
+        order.updateStatus(OrderStatus.DELIVERED);
+        given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> dispatchService.completeDelivery(1L, 7L))
+                .isInstanceOf(InvalidOrderException.class);
+    }
+
+    private User createRider(Long id) {
+        return User.builder()
+                .id(id)
+                .email("rider" + id + "@example.com")
+                .role(UserRole.DELIVERY_PARTNER)
+                .build();
+    }
+
+    private Order createOrder(Long id, OrderStatus status) {
+        Restaurant restaurant = Restaurant.builder()
+                .id(1L)
+                .owner(User.builder().id(100L).role(UserRole.RESTAURANT_OWNER).build())
+                .name("맛있는 치킨")
+                .latitude(37.5012)
+                .longitude(127.0396)
+                .build();
+        return Order.builder()
+                .id(id)
+                .user(User.builder().id(200L).role(UserRole.CUSTOMER).build())
+                .restaurant(restaurant)
+                .phoneNumber("010-1111-2222")
+                .totalAmount(20000)
+                .deliveryFee(3000)
+                .status(status)
+                .orderedAt(LocalDateTime.now().minusMinutes(30))
+                .readyAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+}
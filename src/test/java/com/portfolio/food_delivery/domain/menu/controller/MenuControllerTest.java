@@ -3,10 +3,13 @@ package com.portfolio.food_delivery.domain.menu.controller;
 import com.portfolio.food_delivery.common.BaseIntegrationTest;
 import com.portfolio.food_delivery.common.entity.Address;
 import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.dto.MenuReorderRequest;
 import com.portfolio.food_delivery.domain.menu.dto.MenuUpdateRequest;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
 import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.event.OrderPlacedEvent;
+import com.portfolio.food_delivery.domain.order.popularity.PopularityTracker;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
 import com.portfolio.food_delivery.domain.restaurant.repository.RestaurantRepository;
@@ -23,7 +26,9 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,6 +52,9 @@ class MenuControllerTest extends BaseIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PopularityTracker popularityTracker;
+
     private String ownerToken;
     private String customerToken;
     private User owner;
@@ -183,6 +191,46 @@ class MenuControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[1].name").value("후라이드치킨"));
     }
 
+    @Test
+    @DisplayName("레스토랑의 메뉴 목록 인기순 조회 - 주문이 많은 메뉴가 앞에, 나머지는 진열 순서대로")
+    void getMenusByRestaurant_SortByPopular() throws Exception {
+        // given
+        Menu menu1 = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("양념치킨")
+                .price(20000)
+                .displayOrder(1)
+                .build());
+        Menu menu2 = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("후라이드치킨")
+                .price(18000)
+                .displayOrder(2)
+                .build());
+        Menu menu3 = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("간장치킨")
+                .price(19000)
+                .displayOrder(3)
+                .build());
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 리스너를 직접 호출한다
+        popularityTracker.onOrderPlaced(new OrderPlacedEvent(1L, restaurant.getId(), RestaurantCategory.CHICKEN,
+                LocalDateTime.now(), List.of(new OrderPlacedEvent.Item(menu3.getId(), 3))));
+        popularityTracker.onOrderPlaced(new OrderPlacedEvent(2L, restaurant.getId(), RestaurantCategory.CHICKEN,
+                LocalDateTime.now(), List.of(new OrderPlacedEvent.Item(menu2.getId(), 1))));
+
+        // when & then
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menus", restaurant.getId())
+                        .param("sort", "popular"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].id").value(menu3.getId()))
+                .andExpect(jsonPath("$[1].id").value(menu2.getId()))
+                .andExpect(jsonPath("$[2].id").value(menu1.getId()));
+    }
+
     @Test
     @DisplayName("메뉴 수정 성공")
     void updateMenu_Success() throws Exception {
@@ -253,4 +301,138 @@ class MenuControllerTest extends BaseIntegrationTest {
         Menu deletedMenu = menuRepository.findById(menu.getId()).orElseThrow();
         assertThat(deletedMenu.getStatus()).isEqualTo(MenuStatus.DELETED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("메뉴 일괄 등록 성공 - CSV 행 순서대로 기존 메뉴 뒤에 붙음")
+    void importMenus_Csv_Success() throws Exception {
+        // given
+        menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("양념치킨")
+                .price(20000)
+                .displayOrder(1)
+                .build());
+
+        String csv = """
+                name,price,description
+                후라이드치킨,18000,바삭한 후라이드
+                "반반치킨, 순살",21000,
+                치즈볼,5000,"쫀득한 ""치즈""볼"
+                """;
+
+        // when & then
+        mockMvc.perform(post("/api/restaurants/{restaurantId}/menus/import", restaurant.getId())
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedCount").value(3))
+                .andExpect(jsonPath("$.firstDisplayOrder").value(2))
+                .andExpect(jsonPath("$.lastDisplayOrder").value(4));
+
+        List<Menu> menus = menuRepository.findByRestaurantIdOrderByDisplayOrder(restaurant.getId());
+        assertThat(menus).extracting(Menu::getName).containsExactly("양념치킨", "후라이드치킨", "반반치킨, 순살", "치즈볼");
+        assertThat(menus.get(2).getDescription()).isNull();
+        assertThat(menus.get(3).getDescription()).isEqualTo("쫀득한 \"치즈\"볼");
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 등록 성공 - JSON 배열")
+    void importMenus_Json_Success() throws Exception {
+        // given
+        List<MenuCreateRequest> requests = List.of(
+                MenuCreateRequest.builder().name("후라이드치킨").price(18000).build(),
+                MenuCreateRequest.builder().name("양념치킨").price(20000).description("특제 양념").build());
+
+        // when & then
+        mockMvc.perform(post("/api/restaurants/{restaurantId}/menus/import", restaurant.getId())
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .param("format", "JSON")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedCount").value(2))
+                .andExpect(jsonPath("$.firstDisplayOrder").value(1));
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 등록 실패 - 잘못된 행의 번호와 필드를 알려줌")
+    void importMenus_InvalidRow() throws Exception {
+        // given
+        String csv = "name,price\n후라이드치킨,18000\n양념치킨,-100\n";
+
+        // when & then
+        mockMvc.perform(post("/api/restaurants/{restaurantId}/menus/import", restaurant.getId())
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("M003"))
+                .andExpect(jsonPath("$.errors[0].field").value("rows[2].price"))
+                .andExpect(jsonPath("$.errors[0].value").value("-100"));
+    }
+
+    @Test
+    @DisplayName("메뉴 순서 변경 성공")
+    void reorderMenus_Success() throws Exception {
+        // given
+        Menu menu1 = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("양념치킨")
+                .price(20000)
+                .displayOrder(1)
+                .build());
+        Menu menu2 = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("후라이드치킨")
+                .price(18000)
+                .displayOrder(2)
+                .build());
+
+        MenuReorderRequest request = new MenuReorderRequest(List.of(menu2.getId(), menu1.getId()));
+
+        // when & then
+        mockMvc.perform(put("/api/restaurants/{restaurantId}/menus/display-order", restaurant.getId())
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("후라이드치킨"))
+                .andExpect(jsonPath("$[0].displayOrder").value(1))
+                .andExpect(jsonPath("$[1].name").value("양념치킨"))
+                .andExpect(jsonPath("$[1].displayOrder").value(2));
+    }
+
+    @Test
+    @DisplayName("메뉴 순서 변경 실패 - 빠진 메뉴가 있음")
+    void reorderMenus_MissingMenu() throws Exception {
+        // given
+        Menu menu1 = menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("양념치킨")
+                .price(20000)
+                .displayOrder(1)
+                .build());
+        menuRepository.save(Menu.builder()
+                .restaurant(restaurant)
+                .name("후라이드치킨")
+                .price(18000)
+                .displayOrder(2)
+                .build());
+
+        MenuReorderRequest request = new MenuReorderRequest(List.of(menu1.getId()));
+
+        // when & then
+        mockMvc.perform(put("/api/restaurants/{restaurantId}/menus/display-order", restaurant.getId())
+                        .header("Authorization", "Bearer " + ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("M004"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.portfolio.food_delivery.domain.menu.importer;
+
+import com.portfolio.food_delivery.domain.menu.dto.MenuCreateRequest;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuImportException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvMenuImportReaderTest {
+
+    private CsvMenuImportReader reader(String csv) throws IOException {
+        return new CsvMenuImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("BOM, CRLF, 헤더 순서와 대소문자, 빈 줄을 처리")
+    void next_ParsesExcelStyleCsv() throws IOException {
+        try (CsvMenuImportReader reader = reader("\uFEFFPrice,NAME,imageUrl\r\n18000,후라이드치킨,\r\n\r\n20000,\"양념\r\n치킨\",https://example.com/a.jpg\r\n")) {
+            MenuCreateRequest first = reader.next();
+            assertThat(first.getName()).isEqualTo("후라이드치킨");
+            assertThat(first.getPrice()).isEqualTo(18000);
+            assertThat(first.getImageUrl()).isNull();
+
+            MenuCreateRequest second = reader.next();
+            assertThat(second.getName()).isEqualTo("양념\r\n치킨");
+            assertThat(second.getImageUrl()).isEqualTo("https://example.com/a.jpg");
+            assertThat(reader.row()).isEqualTo(2);
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없거나 가격이 숫자가 아니면 실패")
+    void next_InvalidInput_Throws() throws IOException {
+        assertThatThrownBy(() -> reader("name,description\n치킨,맛있음\n").next())
+                .isInstanceOf(InvalidMenuImportException.class);
+
+        try (CsvMenuImportReader reader = reader("name,price\n치킨,이만원\n")) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(InvalidMenuImportException.class)
+                    .satisfies(e -> assertThat(((InvalidMenuImportException) e).getField()).isEqualTo("price"));
+        }
+    }
+}
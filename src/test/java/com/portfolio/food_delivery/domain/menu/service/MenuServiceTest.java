@@ -5,8 +5,11 @@ import com.portfolio.food_delivery.domain.menu.dto.MenuResponse;
 import com.portfolio.food_delivery.domain.menu.dto.MenuUpdateRequest;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.exception.InvalidMenuOrderException;
 import com.portfolio.food_delivery.domain.menu.exception.MenuNotFoundException;
 import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.popularity.PopularityTracker;
+import com.portfolio.food_delivery.domain.order.popularity.RankingType;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
 import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -40,6 +44,12 @@ class MenuServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private PopularityTracker popularityTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuService menuService;
 
@@ -60,8 +70,8 @@ class MenuServiceTest {
                 .imageUrl("https://example.com/yangnyeom.jpg")
                 .build();
 
-        given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
-        given(menuRepository.countByRestaurantId(restaurantId)).willReturn(0);
+        given(restaurantRepository.findByIdForUpdate(restaurantId)).willReturn(Optional.of(restaurant));
+        given(menuRepository.findMaxDisplayOrder(restaurantId)).willReturn(0);
         given(menuRepository.save(any(Menu.class))).willAnswer(invocation -> {
             Menu menu = invocation.getArgument(0);
             return Menu.builder()
@@ -86,8 +96,8 @@ class MenuServiceTest {
         assertThat(response.getPrice()).isEqualTo(20000);
         assertThat(response.getStatus()).isEqualTo(MenuStatus.AVAILABLE);
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(menuRepository).countByRestaurantId(restaurantId);
+        verify(restaurantRepository).findByIdForUpdate(restaurantId);
+        verify(menuRepository).findMaxDisplayOrder(restaurantId);
         verify(menuRepository).save(any(Menu.class));
     }
 
@@ -106,14 +116,14 @@ class MenuServiceTest {
                 .price(20000)
                 .build();
 
-        given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
+        given(restaurantRepository.findByIdForUpdate(restaurantId)).willReturn(Optional.of(restaurant));
 
         // when & then
         assertThatThrownBy(() -> menuService.createMenu(restaurantId, wrongOwnerId, request))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("메뉴 등록 권한이 없습니다.");
 
-        verify(restaurantRepository).findById(restaurantId);
+        verify(restaurantRepository).findByIdForUpdate(restaurantId);
     }
 
     @Test
@@ -158,6 +168,32 @@ class MenuServiceTest {
         verify(menuRepository).findByRestaurantIdAndStatusOrderByDisplayOrder(restaurantId, MenuStatus.AVAILABLE);
     }
 
+    @Test
+    @DisplayName("레스토랑의 메뉴 목록 인기순 조회 - 순위 밖 메뉴는 진열 순서대로 뒤에")
+    void getRankedMenus_RankedFirst() {
+        // given
+        Long restaurantId = 1L;
+        Restaurant restaurant = createRestaurant(createOwner(1L));
+        List<Menu> menus = List.of(
+                createMenu(1L, restaurant, 1, MenuStatus.AVAILABLE),
+                createMenu(2L, restaurant, 2, MenuStatus.AVAILABLE),
+                createMenu(3L, restaurant, 3, MenuStatus.AVAILABLE),
+                createMenu(4L, restaurant, 4, MenuStatus.AVAILABLE));
+
+        given(restaurantRepository.existsById(restaurantId)).willReturn(true);
+        given(menuRepository.findByRestaurantIdAndStatusOrderByDisplayOrder(restaurantId, MenuStatus.AVAILABLE))
+                .willReturn(menus);
+        // 품절/삭제되어 목록에 없는 메뉴(99)가 순위에 있어도 무시
+        given(popularityTracker.rankMenus(eq(restaurantId), eq(RankingType.POPULAR), any()))
+                .willReturn(List.of(3L, 99L, 2L));
+
+        // when
+        List<MenuResponse> responses = menuService.getRankedMenus(restaurantId, RankingType.POPULAR);
+
+        // then
+        assertThat(responses).extracting(MenuResponse::getId).containsExactly(3L, 2L, 1L, 4L);
+    }
+
     @Test
     @DisplayName("메뉴 수정 성공")
     void updateMenu_Success() {
@@ -247,6 +283,70 @@ class MenuServiceTest {
         verify(menuRepository).findById(menuId);
     }
 
+    @Test
+    @DisplayName("메뉴 순서 변경 성공 - 삭제된 메뉴는 제외하고 요청 순서대로 번호를 다시 매김")
+    void reorderMenus_Success() {
+        // given
+        Long restaurantId = 1L;
+        Long ownerId = 1L;
+        Restaurant restaurant = createRestaurant(createOwner(ownerId));
+
+        Menu first = createMenu(10L, restaurant, 1, MenuStatus.AVAILABLE);
+        Menu second = createMenu(11L, restaurant, 2, MenuStatus.SOLD_OUT);
+        Menu deleted = createMenu(12L, restaurant, 3, MenuStatus.DELETED);
+        Menu third = createMenu(13L, restaurant, 4, MenuStatus.AVAILABLE);
+
+        given(restaurantRepository.findByIdForUpdate(restaurantId)).willReturn(Optional.of(restaurant));
+        given(menuRepository.findByRestaurantIdOrderByDisplayOrder(restaurantId))
+                .willReturn(List.of(first, second, deleted, third));
+
+        // when
+        List<MenuResponse> responses = menuService.reorderMenus(restaurantId, ownerId, List.of(13L, 10L, 11L));
+
+        // then
+        assertThat(responses).extracting(MenuResponse::getId).containsExactly(13L, 10L, 11L);
+        assertThat(third.getDisplayOrder()).isEqualTo(1);
+        assertThat(first.getDisplayOrder()).isEqualTo(2);
+        assertThat(second.getDisplayOrder()).isEqualTo(3);
+        assertThat(deleted.getDisplayOrder()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("메뉴 순서 변경 실패 - 빠진 메뉴나 중복된 메뉴")
+    void reorderMenus_InvalidIds_ThrowsException() {
+        // given
+        Long restaurantId = 1L;
+        Long ownerId = 1L;
+        Restaurant restaurant = createRestaurant(createOwner(ownerId));
+        Menu first = createMenu(10L, restaurant, 1, MenuStatus.AVAILABLE);
+        Menu second = createMenu(11L, restaurant, 2, MenuStatus.AVAILABLE);
+
+        given(restaurantRepository.findByIdForUpdate(restaurantId)).willReturn(Optional.of(restaurant));
+        given(menuRepository.findByRestaurantIdOrderByDisplayOrder(restaurantId)).willReturn(List.of(first, second));
+
+        // when & then
+        assertThatThrownBy(() -> menuService.reorderMenus(restaurantId, ownerId, List.of(10L)))
+                .isInstanceOf(InvalidMenuOrderException.class);
+        assertThatThrownBy(() -> menuService.reorderMenus(restaurantId, ownerId, List.of(10L, 10L)))
+                .isInstanceOf(InvalidMenuOrderException.class);
+        assertThatThrownBy(() -> menuService.reorderMenus(restaurantId, ownerId, List.of(10L, 99L)))
+                .isInstanceOf(InvalidMenuOrderException.class);
+
+        assertThat(first.getDisplayOrder()).isEqualTo(1);
+        assertThat(second.getDisplayOrder()).isEqualTo(2);
+    }
+
+    private Menu createMenu(Long id, Restaurant restaurant, int displayOrder, MenuStatus status) {
+        return Menu.builder()
+                .id(id)
+                .restaurant(restaurant)
+                .name("메뉴" + id)
+                .price(10000)
+                .status(status)
+                .displayOrder(displayOrder)
+                .build();
+    }
+
     private User createOwner(Long id) {
         return User.builder()
                 .id(id)
@@ -0,0 +1,161 @@
+package com.portfolio.food_delivery.domain.order.admission;
+
+import com.portfolio.food_delivery.domain.order.dto.RestaurantLoadRow;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.exception.KitchenBusyException;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class KitchenAdmissionTest {
+
+    private static final Long RESTAURANT_ID = 1L;
+    private static final long MINUTE_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private OrderRepository orderRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private KitchenAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // 기본 수용량 3, 최대 대기 30분, 처리량 표본 3개부터 사용
+        admission = new KitchenAdmission(orderRepository, meterRegistry, true, 3, 2, 50, 3, 30);
+    }
+
+    @Test
+    @DisplayName("기본 수용량까지 받고, 넘치면 예상 대기 시간과 함께 거절")
+    void admit_RejectsWhenSaturated() {
+        admission.admit(RESTAURANT_ID);
+        admission.admit(RESTAURANT_ID);
+        admission.admit(RESTAURANT_ID);
+
+        assertThatThrownBy(() -> admission.admit(RESTAURANT_ID))
+                .isInstanceOf(KitchenBusyException.class)
+                .satisfies(e -> assertThat(((KitchenBusyException) e).getExpectedWait())
+                        .isEqualTo(Duration.ofMinutes(10)));
+
+        assertThat(meterRegistry.counter("kitchen.admission", "result", "rejected").count()).isEqualTo(1);
+        assertThat(admission.load(RESTAURANT_ID).active()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("레스토랑마다 따로 센다")
+    void admit_PerRestaurant() {
+        for (int i = 0; i < 3; i++) {
+            admission.admit(RESTAURANT_ID);
+        }
+
+        admission.admit(2L);
+
+        assertThat(admission.load(2L).active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조리 완료와 취소로 자리가 나고, 주방을 떠나지 않는 전환은 무시")
+    void recordTransition_FreesSlot() {
+        for (int i = 0; i < 3; i++) {
+            admission.admit(RESTAURANT_ID);
+        }
+
+        admission.recordTransition(event(OrderStatus.PENDING, OrderStatus.CONFIRMED), 0);
+        admission.recordTransition(event(OrderStatus.READY, OrderStatus.DELIVERING), 0);
+        assertThat(admission.load(RESTAURANT_ID).active()).isEqualTo(3);
+
+        admission.recordTransition(event(OrderStatus.PREPARING, OrderStatus.READY), 0);
+        admission.recordTransition(event(OrderStatus.CONFIRMED, OrderStatus.CANCELLED), 0);
+
+        assertThat(admission.load(RESTAURANT_ID).active()).isEqualTo(1);
+        admission.admit(RESTAURANT_ID);
+    }
+
+    @Test
+    @DisplayName("밀려 있는 동안의 조리 완료 간격으로 처리량을 재서 수용량을 정한다")
+    void capacity_FollowsThroughput() {
+        KitchenLoad load = admission.load(RESTAURANT_ID);
+        load.add(20);
+
+        // 주방이 밀린 상태에서 2분마다 하나씩 완료 -> 30분 / 2분 = 15건
+        for (int i = 0; i <= 3; i++) {
+            admission.recordTransition(event(OrderStatus.PREPARING, OrderStatus.READY), i * 2 * MINUTE_NANOS);
+        }
+
+        assertThat(load.samples()).isEqualTo(3);
+        assertThat(admission.capacity(load)).isEqualTo(15);
+        assertThat(admission.expectedWait(load, 15)).isEqualTo(Duration.ofMinutes(4)); // 16건 중 2건이 빠져야 함
+    }
+
+    @Test
+    @DisplayName("주방이 비어 있던 시간은 처리량 표본에서 뺀다")
+    void complete_IgnoresIdleGap() {
+        KitchenLoad load = admission.load(RESTAURANT_ID);
+        load.add(1);
+
+        load.complete(0);                       // 마지막 주문 완료 - 주방이 비었다
+        load.add(2);
+        load.complete(60 * MINUTE_NANOS);       // 한 시간 뒤 완료, 간격은 한가했던 시간이므로 제외
+        load.complete(61 * MINUTE_NANOS);
+
+        assertThat(load.samples()).isEqualTo(1);
+        assertThat(load.serviceIntervalNanos()).isEqualTo((double) MINUTE_NANOS);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 잡은 자리를 돌려준다")
+    void admit_ReleasesOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            admission.admit(RESTAURANT_ID);
+            assertThat(admission.load(RESTAURANT_ID).active()).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(admission.load(RESTAURANT_ID).active()).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 시 조리가 끝나지 않은 주문 수로 채운다")
+    void warmUp_LoadsActiveOrders() {
+        given(orderRepository.countByRestaurantAndStatusIn(anyCollection()))
+                .willReturn(List.of(new RestaurantLoadRow(RESTAURANT_ID, 3L)));
+
+        admission.warmUp();
+
+        assertThatThrownBy(() -> admission.admit(RESTAURANT_ID)).isInstanceOf(KitchenBusyException.class);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 받는다")
+    void admit_Disabled() {
+        KitchenAdmission disabled = new KitchenAdmission(orderRepository, meterRegistry, false, 1, 1, 1, 1, 30);
+
+        disabled.admit(RESTAURANT_ID);
+        disabled.admit(RESTAURANT_ID);
+
+        assertThat(disabled.load(RESTAURANT_ID).active()).isZero();
+    }
+
+    private OrderStatusChangedEvent event(OrderStatus previousStatus, OrderStatus status) {
+        return new OrderStatusChangedEvent(1L, RESTAURANT_ID, null, previousStatus, status,
+                null, null, null, null, null, null);
+    }
+}
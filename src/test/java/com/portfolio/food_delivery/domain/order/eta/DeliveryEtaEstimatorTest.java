@@ -0,0 +1,145 @@
+package com.portfolio.food_delivery.domain.order.eta;
+
+import com.portfolio.food_delivery.domain.order.entity.Order;
+import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
+import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
+import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DeliveryEtaEstimatorTest {
+
+    private static final int MIN_SAMPLES = 5;
+    private static final LocalDateTime MONDAY_NOON = LocalDateTime.of(2025, 1, 13, 12, 0);
+
+    private DeliveryEtaEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new DeliveryEtaEstimator(mock(OrderRepository.class), MIN_SAMPLES, 28, 20, 25);
+    }
+
+    @Test
+    @DisplayName("표본이 없으면 기본 조리/배달 시간으로 추정")
+    void estimateNewOrder_NoSamples_UsesDefaults() {
+        EtaEstimate eta = estimator.estimateNewOrder(1L, MONDAY_NOON);
+
+        assertThat(eta.basis()).isEqualTo(EtaEstimate.Basis.DEFAULT);
+        assertThat(eta.expectedAt()).isEqualTo(MONDAY_NOON.plusMinutes(45));
+        assertThat(eta.latestAt()).isAfter(eta.expectedAt());
+    }
+
+    @Test
+    @DisplayName("같은 레스토랑·시간대 표본이 충분하면 그 분포로 추정")
+    void estimateNewOrder_RestaurantHourSamples() {
+        recordSamples(1L, MONDAY_NOON, 10, 30, MIN_SAMPLES);
+
+        EtaEstimate eta = estimator.estimateNewOrder(1L, MONDAY_NOON.plusMinutes(10));
+
+        assertThat(eta.basis()).isEqualTo(EtaEstimate.Basis.RESTAURANT_HOUR);
+        assertMinutesBetween(MONDAY_NOON.plusMinutes(10), eta.expectedAt(), 40);
+    }
+
+    @Test
+    @DisplayName("다른 시간대는 레스토랑 전체 분포로, 다른 레스토랑은 시간대 분포로 대체")
+    void estimateNewOrder_FallbackChain() {
+        recordSamples(1L, MONDAY_NOON, 10, 30, MIN_SAMPLES);
+
+        assertThat(estimator.estimateNewOrder(1L, MONDAY_NOON.plusHours(6)).basis())
+                .isEqualTo(EtaEstimate.Basis.RESTAURANT);
+        assertThat(estimator.estimateNewOrder(2L, MONDAY_NOON).basis())
+                .isEqualTo(EtaEstimate.Basis.HOUR);
+        assertThat(estimator.estimateNewOrder(2L, MONDAY_NOON.plusHours(6)).basis())
+                .isEqualTo(EtaEstimate.Basis.GLOBAL);
+    }
+
+    @Test
+    @DisplayName("조리가 끝난 주문은 조리 완료 시각부터 배달 시간만 더한다")
+    void estimate_ReadyOrder_AddsDeliveryOnly() {
+        recordSamples(1L, MONDAY_NOON, 10, 30, MIN_SAMPLES);
+        Order order = order(OrderStatus.READY, MONDAY_NOON, MONDAY_NOON.plusMinutes(15));
+
+        Optional<EtaEstimate> eta = estimator.estimate(order, MONDAY_NOON.plusMinutes(16));
+
+        assertThat(eta).isPresent();
+        assertMinutesBetween(MONDAY_NOON.plusMinutes(15), eta.get().expectedAt(), 30);
+    }
+
+    @Test
+    @DisplayName("조리가 예상보다 늦어지면 현재 시각부터 배달 시간을 더한다")
+    void estimate_LateOrder_NotBeforeNow() {
+        Order order = order(OrderStatus.PREPARING, MONDAY_NOON, null);
+        LocalDateTime now = MONDAY_NOON.plusHours(2);
+
+        EtaEstimate eta = estimator.estimate(order, now).orElseThrow();
+
+        assertThat(eta.expectedAt()).isEqualTo(now.plusMinutes(25));
+    }
+
+    @Test
+    @DisplayName("완료되거나 취소된 주문은 예상 시각이 없음")
+    void estimate_FinishedOrder_Empty() {
+        assertThat(estimator.estimate(order(OrderStatus.DELIVERED, MONDAY_NOON, MONDAY_NOON), MONDAY_NOON)).isEmpty();
+        assertThat(estimator.estimate(order(OrderStatus.CANCELLED, MONDAY_NOON, null), MONDAY_NOON)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태 변경 이벤트마다 끝난 단계의 표본만 더한다")
+    void onStatusChanged_RecordsFinishedStageOnly() {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            estimator.onStatusChanged(event(OrderStatus.READY, MONDAY_NOON.plusMinutes(10), null));
+        }
+        // 조리 표본만 쌓였으므로 배달 단계는 아직 기본값
+        assertThat(estimator.estimateNewOrder(1L, MONDAY_NOON).basis()).isEqualTo(EtaEstimate.Basis.DEFAULT);
+
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            estimator.onStatusChanged(event(OrderStatus.DELIVERED,
+                    MONDAY_NOON.plusMinutes(10), MONDAY_NOON.plusMinutes(40)));
+        }
+        assertThat(estimator.estimateNewOrder(1L, MONDAY_NOON).basis()).isEqualTo(EtaEstimate.Basis.RESTAURANT_HOUR);
+    }
+
+    @Test
+    @DisplayName("요일/시간대는 월요일 0시부터 0~167로 계산")
+    void hourOfWeek() {
+        assertThat(DeliveryEtaEstimator.hourOfWeek(LocalDateTime.of(2025, 1, 13, 0, 30))).isZero();
+        assertThat(DeliveryEtaEstimator.hourOfWeek(MONDAY_NOON)).isEqualTo(12);
+        assertThat(DeliveryEtaEstimator.hourOfWeek(LocalDateTime.of(2025, 1, 19, 23, 59))).isEqualTo(167);
+    }
+
+    private void recordSamples(Long restaurantId, LocalDateTime orderedAt,
+                               int preparationMinutes, int deliveryMinutes, int count) {
+        for (int i = 0; i < count; i++) {
+            LocalDateTime readyAt = orderedAt.plusMinutes(preparationMinutes);
+            estimator.record(restaurantId, orderedAt, readyAt, readyAt.plusMinutes(deliveryMinutes));
+        }
+    }
+
+    private OrderStatusChangedEvent event(OrderStatus status, LocalDateTime readyAt, LocalDateTime deliveredAt) {
+        return new OrderStatusChangedEvent(1L, 1L, null, null, status, MONDAY_NOON, readyAt, deliveredAt, null, null, null);
+    }
+
+    private Order order(OrderStatus status, LocalDateTime orderedAt, LocalDateTime readyAt) {
+        return Order.builder()
+                .restaurant(Restaurant.builder().id(1L).build())
+                .status(status)
+                .orderedAt(orderedAt)
+                .readyAt(readyAt)
+                .build();
+    }
+
+    // 로그 버킷 중앙값을 쓰므로 ±12.5% 오차 안에 있으면 된다
+    private void assertMinutesBetween(LocalDateTime from, LocalDateTime to, long expectedMinutes) {
+        long seconds = Duration.between(from, to).toSeconds();
+        assertThat(seconds).isBetween(expectedMinutes * 60 * 7 / 8, expectedMinutes * 60 * 9 / 8);
+    }
+}
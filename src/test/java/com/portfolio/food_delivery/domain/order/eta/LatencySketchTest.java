@@ -0,0 +1,51 @@
+package com.portfolio.food_delivery.domain.order.eta;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencySketchTest {
+
+    @Test
+    @DisplayName("비어 있으면 분위수는 -1")
+    void quantile_Empty() {
+        assertThat(new LatencySketch().quantile(0.5)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("균등 분포의 중앙값과 90분위를 상대 오차 안에서 추정")
+    void quantile_Uniform() {
+        LatencySketch sketch = new LatencySketch();
+        for (long seconds = 600; seconds < 3600; seconds++) {
+            sketch.record(seconds);
+        }
+
+        assertThat(sketch.quantile(0.5)).isBetween(2100L * 7 / 8, 2100L * 9 / 8);
+        assertThat(sketch.quantile(0.9)).isBetween(3300L * 7 / 8, 3300L * 9 / 8);
+    }
+
+    @Test
+    @DisplayName("표본이 상한을 넘으면 절반으로 줄여 최근 값의 비중을 높인다")
+    void record_DecaysOldSamples() {
+        LatencySketch sketch = new LatencySketch();
+        for (int i = 0; i < 4000; i++) {
+            sketch.record(600);
+        }
+        for (int i = 0; i < 6000; i++) {
+            sketch.record(1800);
+        }
+
+        assertThat(sketch.count()).isLessThan(4096);
+        assertThat(sketch.quantile(0.5)).isBetween(1800L * 7 / 8, 1800L * 9 / 8);
+    }
+
+    @Test
+    @DisplayName("버킷 중앙값은 원래 값과 1/8 이내")
+    void indexOf_MidpointWithinRelativeError() {
+        for (long seconds = 1; seconds < 16000; seconds += 37) {
+            long midpoint = LatencySketch.midpointOf(LatencySketch.indexOf(seconds));
+            assertThat(Math.abs(midpoint - seconds)).isLessThanOrEqualTo(Math.max(1, seconds / 8));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.portfolio.food_delivery.domain.order.popularity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeavyHittersTest {
+
+    private static final long SCOPE = 1L;
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 1, 13, 12, 0);
+
+    // 1시간 칸 × 6, 최근 1칸을 급상승 구간으로
+    private HeavyHitters hitters;
+
+    @BeforeEach
+    void setUp() {
+        hitters = new HeavyHitters(Duration.ofHours(1), 6, 1, 4, 1024, 3);
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 주문 수 내림차순으로 정렬")
+    void popular_OrderedByCount() {
+        hitters.add(10L, 5, NOON, SCOPE);
+        hitters.add(20L, 2, NOON.plusMinutes(10), SCOPE);
+        hitters.add(30L, 7, NOON.minusHours(2), SCOPE);
+
+        List<HeavyHitters.Ranked> ranked = hitters.popular(SCOPE, NOON.plusMinutes(30));
+
+        assertThat(ranked).extracting(HeavyHitters.Ranked::item).containsExactly(30L, 10L, 20L);
+        assertThat(ranked).extracting(HeavyHitters.Ranked::count).containsExactly(7L, 5L, 2L);
+    }
+
+    @Test
+    @DisplayName("다른 범위의 항목은 섞이지 않는다")
+    void popular_SeparatedByScope() {
+        hitters.add(10L, 5, NOON, SCOPE);
+        hitters.add(20L, 3, NOON, 2L);
+
+        assertThat(hitters.popular(SCOPE, NOON)).extracting(HeavyHitters.Ranked::item).containsExactly(10L);
+        assertThat(hitters.popular(2L, NOON)).extracting(HeavyHitters.Ranked::item).containsExactly(20L);
+        assertThat(hitters.popular(3L, NOON)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번 기록한 항목을 여러 범위의 후보로 올려도 한 번만 센다")
+    void add_MultipleScopes_CountedOnce() {
+        hitters.add(10L, 1, NOON, SCOPE, -1L);
+
+        assertThat(hitters.popular(SCOPE, NOON).get(0).count()).isEqualTo(1);
+        assertThat(hitters.popular(-1L, NOON).get(0).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 주문은 빠지고, 후보가 없으면 빈 목록")
+    void popular_ExpiresOutsideWindow() {
+        hitters.add(10L, 5, NOON, SCOPE);
+        hitters.add(20L, 1, NOON.plusHours(4), SCOPE);
+
+        assertThat(hitters.popular(SCOPE, NOON.plusHours(5)))
+                .extracting(HeavyHitters.Ranked::item).containsExactly(10L, 20L);
+        assertThat(hitters.popular(SCOPE, NOON.plusHours(6)))
+                .extracting(HeavyHitters.Ranked::item).containsExactly(20L);
+        assertThat(hitters.popular(SCOPE, NOON.plusHours(12))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("후보가 가득 차면 추정 횟수가 최솟값보다 큰 항목만 자리를 차지한다")
+    void popular_CandidatesBounded() {
+        hitters.add(10L, 5, NOON, SCOPE);
+        hitters.add(20L, 4, NOON, SCOPE);
+        hitters.add(30L, 3, NOON, SCOPE);
+        hitters.add(40L, 1, NOON, SCOPE);   // 최솟값(3)보다 작아 들어가지 못함
+        hitters.add(50L, 6, NOON, SCOPE);   // 30 을 밀어냄
+
+        assertThat(hitters.popular(SCOPE, NOON))
+                .extracting(HeavyHitters.Ranked::item).containsExactly(50L, 10L, 20L);
+    }
+
+    @Test
+    @DisplayName("급상승은 최근 칸의 주문 수를 이전 칸 평균과 비교한 배율 순")
+    void trending_RankedByGrowth() {
+        // 10: 이전 5시간 동안 시간당 4건, 최근 4건 (평소와 같음)
+        // 20: 이전 기록 없이 최근 3건
+        for (int hour = 5; hour >= 1; hour--) {
+            hitters.add(10L, 4, NOON.minusHours(hour), SCOPE);
+        }
+        hitters.add(10L, 4, NOON, SCOPE);
+        hitters.add(20L, 3, NOON, SCOPE);
+
+        List<HeavyHitters.Ranked> ranked = hitters.trending(SCOPE, NOON.plusMinutes(30));
+
+        assertThat(ranked).extracting(HeavyHitters.Ranked::item).containsExactly(20L, 10L);
+        assertThat(ranked.get(0).recentCount()).isEqualTo(3);
+        assertThat(ranked.get(0).score()).isEqualTo(3.0);
+        assertThat(ranked.get(1).score()).isLessThan(1.0);
+    }
+
+    @Test
+    @DisplayName("기록 순서가 섞여도(기동 시 초기화) 같은 결과, 윈도우보다 오래된 기록은 버린다")
+    void add_OutOfOrder() {
+        hitters.add(10L, 1, NOON, SCOPE);
+        hitters.add(10L, 2, NOON.minusHours(3), SCOPE);
+        hitters.add(10L, 9, NOON.minusHours(8), SCOPE);
+
+        assertThat(hitters.popular(SCOPE, NOON).get(0).count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("칸 너비보다 항목이 훨씬 많아도 상위 항목의 추정치는 실제 이상이고 크게 벗어나지 않는다")
+    void estimate_ManyItems_NeverUnderestimates() {
+        HeavyHitters wide = new HeavyHitters(Duration.ofHours(1), 6, 1, 4, 256, 10);
+        for (long item = 1_000; item < 6_000; item++) {
+            wide.add(item, 1, NOON, SCOPE);
+        }
+        wide.add(7L, 200, NOON, SCOPE);
+        wide.add(8L, 100, NOON, SCOPE);
+
+        List<HeavyHitters.Ranked> ranked = wide.popular(SCOPE, NOON);
+
+        assertThat(ranked).extracting(HeavyHitters.Ranked::item).startsWith(7L, 8L);
+        assertThat(ranked.get(0).count()).isBetween(200L, 200L + 5_000 * 3 / 256);
+        assertThat(ranked.get(1).count()).isBetween(100L, 100L + 5_000 * 3 / 256);
+    }
+}
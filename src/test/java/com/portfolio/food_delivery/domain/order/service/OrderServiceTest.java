@@ -1,14 +1,23 @@
 package com.portfolio.food_delivery.domain.order.service;
 
 import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.cart.service.CartService;
+import com.portfolio.food_delivery.domain.coupon.service.CouponService;
+import com.portfolio.food_delivery.domain.cart.store.CartMenuSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartRestaurantSnapshot;
+import com.portfolio.food_delivery.domain.cart.store.CartSnapshot;
 import com.portfolio.food_delivery.domain.menu.entity.Menu;
 import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
 import com.portfolio.food_delivery.domain.menu.repository.MenuRepository;
+import com.portfolio.food_delivery.domain.order.admission.KitchenAdmission;
 import com.portfolio.food_delivery.domain.order.dto.*;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.order.entity.OrderItem;
 import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.eta.DeliveryEtaEstimator;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
 import com.portfolio.food_delivery.domain.order.exception.InvalidOrderException;
+import com.portfolio.food_delivery.domain.order.exception.KitchenBusyException;
 import com.portfolio.food_delivery.domain.order.exception.OrderNotFoundException;
 import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
@@ -24,11 +33,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +50,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +66,21 @@ class OrderServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private DeliveryEtaEstimator etaEstimator;
+
+    @Mock
+    private KitchenAdmission kitchenAdmission;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -78,8 +106,7 @@ class OrderServiceTest {
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(1L)).willReturn(Optional.of(menu1));
-        given(menuRepository.findById(2L)).willReturn(Optional.of(menu2));
+        given(menuRepository.findAllByIdInWithRestaurant(List.of(1L, 2L))).willReturn(List.of(menu1, menu2));
         given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             return Order.builder()
@@ -109,11 +136,39 @@ class OrderServiceTest {
         assertThat(response.getOrderItems()).hasSize(2);
 
         verify(userRepository).findById(userId);
-        verify(menuRepository).findById(1L);
-        verify(menuRepository).findById(2L);
+        verify(menuRepository).findAllByIdInWithRestaurant(List.of(1L, 2L));
+        verify(menuRepository, never()).findById(anyLong());
+        verify(kitchenAdmission).admit(restaurant.getId());
         verify(orderRepository).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 주방 수용량 초과")
+    void createOrder_KitchenBusyFail() {
+        // given
+        Long userId = 1L;
+        User user = createUser(userId);
+        Restaurant restaurant = createRestaurant();
+        Menu menu = createMenu(1L, restaurant, "양념치킨", 20000);
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .restaurantId(restaurant.getId())
+                .orderItems(List.of(OrderItemRequest.builder().menuId(1L).quantity(1).build()))
+                .deliveryAddress(new Address("서울시", "강남구", "테헤란로", "123", "12345"))
+                .build();
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(menuRepository.findAllByIdInWithRestaurant(List.of(1L))).willReturn(List.of(menu));
+        willThrow(new KitchenBusyException("주문이 밀려 있습니다.", Duration.ofMinutes(5)))
+                .given(kitchenAdmission).admit(restaurant.getId());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(userId, request))
+                .isInstanceOf(KitchenBusyException.class);
+
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @Test
     @DisplayName("주문 생성 실패 - 최소 주문 금액 미달")
     void createOrder_MinimumOrderAmountFail() {
@@ -132,7 +187,7 @@ class OrderServiceTest {
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(1L)).willReturn(Optional.of(menu));
+        given(menuRepository.findAllByIdInWithRestaurant(List.of(1L))).willReturn(List.of(menu));
 
         // when & then
         assertThatThrownBy(() -> orderService.createOrder(userId, request))
@@ -140,7 +195,7 @@ class OrderServiceTest {
                 .hasMessage("최소 주문 금액을 충족하지 않습니다. 최소 주문 금액: 15000원");
 
         verify(userRepository).findById(userId);
-        verify(menuRepository).findById(1L);
+        verify(menuRepository).findAllByIdInWithRestaurant(List.of(1L));
     }
 
     @Test
@@ -162,7 +217,7 @@ class OrderServiceTest {
                 .build();
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(menuRepository.findById(1L)).willReturn(Optional.of(menu));
+        given(menuRepository.findAllByIdInWithRestaurant(List.of(1L))).willReturn(List.of(menu));
 
         // when & then
         assertThatThrownBy(() -> orderService.createOrder(userId, request))
@@ -170,6 +225,66 @@ class OrderServiceTest {
                 .hasMessage("품절된 메뉴가 포함되어 있습니다: 양념치킨");
     }
 
+    @Test
+    @DisplayName("장바구니 주문 성공 - 메뉴는 한 번에 조회하고 커밋 후 장바구니 비우기")
+    void createOrderFromCart_Success() {
+        // given
+        Long userId = 1L;
+        User user = createUser(userId);
+        Restaurant restaurant = createRestaurant();
+        Menu menu1 = createMenu(1L, restaurant, "양념치킨", 20000);
+        Menu menu2 = createMenu(2L, restaurant, "콜라", 2000);
+
+        CartSnapshot cart = new CartSnapshot(userId, 10L, CartRestaurantSnapshot.from(restaurant), List.of(
+                new CartSnapshot.Item(CartMenuSnapshot.from(menu1), 1),
+                new CartSnapshot.Item(CartMenuSnapshot.from(menu2), 2)));
+
+        given(cartService.getCartForCheckout(userId)).willReturn(cart);
+        given(menuRepository.findAllByIdInWithRestaurant(List.of(1L, 2L))).willReturn(List.of(menu1, menu2));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OrderResponse response = orderService.createOrderFromCart(userId, null);
+
+        // then
+        assertThat(response.getTotalAmount()).isEqualTo(24000);
+        assertThat(response.getOrderItems()).hasSize(2);
+
+        verify(menuRepository, never()).findById(anyLong());
+        verify(cartService).removeUnavailableItemsAfterCommit(userId, List.of());
+        verify(cartService).clearCartAfterCommit(userId);
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 - 품절 메뉴는 장바구니에서 빼고 주문")
+    void createOrderFromCart_SkipsSoldOutMenu() {
+        // given
+        Long userId = 1L;
+        User user = createUser(userId);
+        Restaurant restaurant = createRestaurant();
+        Menu menu1 = createMenu(1L, restaurant, "양념치킨", 20000);
+        Menu menu2 = createMenu(2L, restaurant, "콜라", 2000);
+        menu2.updateStatus(MenuStatus.SOLD_OUT);
+
+        CartSnapshot cart = new CartSnapshot(userId, 10L, CartRestaurantSnapshot.from(restaurant), List.of(
+                new CartSnapshot.Item(CartMenuSnapshot.from(menu1), 1),
+                new CartSnapshot.Item(CartMenuSnapshot.from(menu2), 2)));
+
+        given(cartService.getCartForCheckout(userId)).willReturn(cart);
+        given(menuRepository.findAllByIdInWithRestaurant(List.of(1L, 2L))).willReturn(List.of(menu1, menu2));
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OrderResponse response = orderService.createOrderFromCart(userId, null);
+
+        // then
+        assertThat(response.getTotalAmount()).isEqualTo(20000);
+        assertThat(response.getOrderItems()).hasSize(1);
+        verify(cartService).removeUnavailableItemsAfterCommit(userId, List.of(2L));
+    }
+
     @Test
     @DisplayName("주문 상태 변경 - 레스토랑 오너")
     void updateOrderStatus_ByOwner_Success() {
@@ -188,6 +303,7 @@ class OrderServiceTest {
         // then
         assertThat(response.getStatus()).isEqualTo(OrderStatus.PREPARING);
         verify(orderRepository).findById(orderId);
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
     }
 
     @Test
@@ -38,6 +38,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
@@ -45,6 +46,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -382,6 +384,45 @@ class PaymentControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.content[0].restaurantName").value("맛있는 치킨"));
     }
 
+    @Test
+    @DisplayName("결제 내역 커서 조회 - 다음 커서로 이어서 조회")
+    void getPaymentHistoryByCursor_Success() throws Exception {
+        // given - 나중에 생성된 결제가 먼저 조회된다
+        Payment latestPayment = paymentRepository.save(Payment.builder()
+                .order(pendingOrder)
+                .amount(23000)
+                .method(PaymentMethod.KAKAO_PAY)
+                .status(PaymentStatus.SUCCESS)
+                .transactionId("TXN_LATEST_456")
+                .paidAt(LocalDateTime.now())
+                .build());
+
+        // when - 첫 페이지
+        MvcResult firstPage = mockMvc.perform(get("/api/payments/history/cursor")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].paymentId").value(latestPayment.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        // then - 다음 페이지
+        mockMvc.perform(get("/api/payments/history/cursor")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .param("cursor", nextCursor)
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].orderId").value(confirmedOrder.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     @DisplayName("기간별 결제 내역 조회")
     void getPaymentHistoryByDateRange_Success() throws Exception {
@@ -400,6 +441,44 @@ class PaymentControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[0].orderId").value(confirmedOrder.getId()));
     }
 
+    @Test
+    @DisplayName("결제 내역 CSV 내보내기")
+    void exportPaymentHistory_Csv() throws Exception {
+        // given
+        LocalDateTime startDate = LocalDateTime.now().minusDays(7);
+        LocalDateTime endDate = LocalDateTime.now().plusDays(1);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/payments/history/export")
+                        .header("Authorization", "Bearer " + customerToken)
+                        .param("startDate", startDate.toString())
+                        .param("endDate", endDate.toString())
+                        .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"payments.csv\""))
+                .andReturn();
+
+        // then
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.replace("\uFEFF", "").split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("paymentId,orderId,restaurantName,amount,method,status,paidAt");
+        assertThat(lines[1]).contains("맛있는 치킨").contains("SUCCESS");
+    }
+
+    @Test
+    @DisplayName("레스토랑 결제 내역 내보내기 - 소유자가 아니면 실패")
+    void exportRestaurantPayments_NotOwner() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/payments/restaurants/{restaurantId}/export", restaurant.getId())
+                        .header("Authorization", "Bearer " + customerToken)
+                        .param("startDate", LocalDateTime.now().minusDays(7).toString())
+                        .param("endDate", LocalDateTime.now().plusDays(1).toString()))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("R003"));
+    }
+
     @Test
     @DisplayName("결제 상태 확인 및 업데이트")
     void checkPaymentStatus_Success() throws Exception {
@@ -1,7 +1,11 @@
 package com.portfolio.food_delivery.domain.payment.service;
 
+import com.portfolio.food_delivery.domain.analytics.service.RevenueRollupService;
+import com.portfolio.food_delivery.domain.coupon.exception.CouponSoldOutException;
+import com.portfolio.food_delivery.domain.coupon.service.CouponService;
 import com.portfolio.food_delivery.domain.order.entity.Order;
 import com.portfolio.food_delivery.domain.order.entity.OrderStatus;
+import com.portfolio.food_delivery.domain.order.event.OrderStatusChangedEvent;
 import com.portfolio.food_delivery.domain.order.repository.OrderRepository;
 import com.portfolio.food_delivery.domain.payment.dto.*;
 import com.portfolio.food_delivery.domain.payment.entity.Payment;
@@ -18,18 +22,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +51,15 @@ class PaymentServiceTest {
     @Mock
     private PaymentGatewayService paymentGatewayService;
 
+    @Mock
+    private RevenueRollupService revenueRollupService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -97,6 +113,71 @@ class PaymentServiceTest {
         verify(paymentRepository).existsByOrderId(orderId);
         verify(paymentRepository).save(any(Payment.class));
         verify(paymentGatewayService).processPayment(eq(request), eq(23000));
+        verify(revenueRollupService).recordPaymentSucceeded(any(Payment.class));
+        verify(couponService).beginPayment(order);
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("결제 처리 - 쿠폰 할인 금액을 뺀 금액으로 결제")
+    void processPayment_WithCouponDiscount() {
+        // given
+        Long orderId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .user(createUser(1L))
+                .restaurant(createRestaurant())
+                .totalAmount(20000)
+                .deliveryFee(3000)
+                .discountAmount(5000)
+                .status(OrderStatus.PENDING)
+                .orderedAt(LocalDateTime.now())
+                .build();
+
+        PaymentRequest request = PaymentRequest.builder()
+                .orderId(orderId)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .cardNumber("1234567812345678")
+                .cardExpiry("12/25")
+                .cardCvc("123")
+                .build();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(paymentRepository.existsByOrderId(orderId)).willReturn(false);
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(paymentGatewayService.processPayment(eq(request), eq(18000)))
+                .willReturn(new PaymentGatewayResponse(true, "TXN_123456", "**** **** **** 5678", null));
+
+        // when
+        PaymentResponse response = paymentService.processPayment(request);
+
+        // then
+        assertThat(response.getAmount()).isEqualTo(18000);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("결제 처리 실패 - 쿠폰 예약이 만료되고 수량이 소진됨")
+    void processPayment_CouponSoldOut() {
+        // given
+        Long orderId = 1L;
+        Order order = createOrder(orderId, OrderStatus.PENDING);
+        PaymentRequest request = PaymentRequest.builder()
+                .orderId(orderId)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .build();
+
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+        given(paymentRepository.existsByOrderId(orderId)).willReturn(false);
+        willThrow(new CouponSoldOutException("쿠폰이 모두 소진되었습니다."))
+                .given(couponService).beginPayment(order);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(request))
+                .isInstanceOf(CouponSoldOutException.class);
+
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(paymentGatewayService, never()).processPayment(any(), anyInt());
     }
 
     @Test
@@ -189,6 +270,7 @@ class PaymentServiceTest {
 
         verify(paymentRepository).findById(paymentId);
         verify(paymentGatewayService).cancelPayment("TXN_123456", 23000, "고객 요청");
+        verify(revenueRollupService).recordPaymentCancelled(payment);
     }
 
     @Test
@@ -317,6 +399,61 @@ class PaymentServiceTest {
     }
 
     // Helper methods
+    @Test
+    @DisplayName("결제 내역 커서 조회 - 다음 페이지가 있으면 마지막 행으로 커서 생성")
+    void getPaymentHistoryByCursor_HasNext() {
+        // given
+        Long userId = 1L;
+        LocalDateTime base = LocalDateTime.of(2025, 1, 10, 12, 0);
+        List<PaymentHistoryRow> rows = List.of(
+                createHistoryRow(3L, base.minusMinutes(1)),
+                createHistoryRow(2L, base.minusMinutes(2)),
+                createHistoryRow(1L, base.minusMinutes(3)));
+
+        given(paymentRepository.findHistoryFirstPage(userId, PageRequest.of(0, 3))).willReturn(rows);
+
+        // when
+        PaymentHistorySliceResponse response = paymentService.getPaymentHistoryByCursor(userId, null, 2);
+
+        // then
+        assertThat(response.getContent()).hasSize(2);
+        assertThat(response.isHasNext()).isTrue();
+        PaymentHistoryCursor next = PaymentHistoryCursor.decode(response.getNextCursor());
+        assertThat(next.paymentId()).isEqualTo(2L);
+        assertThat(next.createdAt()).isEqualTo(base.minusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("결제 내역 커서 조회 - 커서 이후 마지막 페이지")
+    void getPaymentHistoryByCursor_LastPage() {
+        // given
+        Long userId = 1L;
+        LocalDateTime cursorTime = LocalDateTime.of(2025, 1, 10, 11, 58);
+        String cursor = new PaymentHistoryCursor(cursorTime, 2L).encode();
+
+        given(paymentRepository.findHistoryAfterCursor(userId, cursorTime, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(createHistoryRow(1L, cursorTime.minusMinutes(1))));
+
+        // when
+        PaymentHistorySliceResponse response = paymentService.getPaymentHistoryByCursor(userId, cursor, 2);
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getContent().get(0).getPaymentId()).isEqualTo(1L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("결제 내역 커서 조회 실패 - 잘못된 커서")
+    void getPaymentHistoryByCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> paymentService.getPaymentHistoryByCursor(1L, "not-a-cursor", 20))
+                .isInstanceOf(InvalidPaymentCursorException.class);
+
+        verify(paymentRepository, never()).findHistoryAfterCursor(any(), any(), any(), any());
+    }
+
     private Order createOrder(Long id, OrderStatus status) {
         User user = createUser(1L);
         Restaurant restaurant = createRestaurant();
@@ -373,4 +510,9 @@ class PaymentServiceTest {
                 .deliveryFee(3000)
                 .build();
     }
-}
\ No newline at end of file
+
+    private PaymentHistoryRow createHistoryRow(Long paymentId, LocalDateTime createdAt) {
+        return new PaymentHistoryRow(paymentId, paymentId, "맛있는 치킨", 23000,
+                PaymentMethod.CREDIT_CARD, PaymentStatus.SUCCESS, createdAt, createdAt);
+    }
+}
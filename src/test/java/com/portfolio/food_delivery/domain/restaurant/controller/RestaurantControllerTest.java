@@ -2,6 +2,8 @@ package com.portfolio.food_delivery.domain.restaurant.controller;
 
 import com.portfolio.food_delivery.common.BaseIntegrationTest;
 import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.order.event.OrderPlacedEvent;
+import com.portfolio.food_delivery.domain.order.popularity.PopularityTracker;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantCreateRequest;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantUpdateRequest;
 import com.portfolio.food_delivery.domain.restaurant.entity.Restaurant;
@@ -21,7 +23,9 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -40,6 +44,9 @@ class RestaurantControllerTest extends BaseIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PopularityTracker popularityTracker;
+
     private String ownerToken;
     private String customerToken;
     private User owner;
@@ -213,6 +220,50 @@ class RestaurantControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    @DisplayName("레스토랑 목록 인기순 조회 - 최근 주문이 많은 순, 주문이 없는 레스토랑은 제외")
+    void getRestaurants_SortByPopular() throws Exception {
+        // given
+        Restaurant quiet = restaurantRepository.save(pizzeria("조용한 피자"));
+        Restaurant busy = restaurantRepository.save(pizzeria("붐비는 피자"));
+        restaurantRepository.save(pizzeria("새로 연 피자"));
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 리스너를 직접 호출한다
+        placeOrder(quiet);
+        placeOrder(busy);
+        placeOrder(busy);
+
+        // when & then
+        mockMvc.perform(get("/api/restaurants")
+                        .param("category", "PIZZA")
+                        .param("sort", "popular"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].name").value("붐비는 피자"))
+                .andExpect(jsonPath("$.content[1].name").value("조용한 피자"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    private Restaurant pizzeria(String name) {
+        return Restaurant.builder()
+                .owner(owner)
+                .name(name)
+                .category(RestaurantCategory.PIZZA)
+                .phoneNumber("02-2345-6789")
+                .address(new Address("서울시", "강남구", "선릉로", "456", "12346"))
+                .openTime(LocalTime.of(11, 0))
+                .closeTime(LocalTime.of(23, 0))
+                .minimumOrderAmount(20000)
+                .deliveryFee(2000)
+                .build();
+    }
+
+    private void placeOrder(Restaurant restaurant) {
+        popularityTracker.onOrderPlaced(new OrderPlacedEvent(null, restaurant.getId(), restaurant.getCategory(),
+                LocalDateTime.now(), List.of()));
+    }
+
     @Test
     @DisplayName("레스토랑 정보 수정 성공")
     void updateRestaurant_Success() throws Exception {
@@ -1,6 +1,9 @@
 package com.portfolio.food_delivery.domain.restaurant.service;
 
 import com.portfolio.food_delivery.common.entity.Address;
+import com.portfolio.food_delivery.domain.order.eta.DeliveryEtaEstimator;
+import com.portfolio.food_delivery.domain.order.popularity.PopularityTracker;
+import com.portfolio.food_delivery.domain.order.popularity.RankingType;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantCreateRequest;
 import com.portfolio.food_delivery.domain.restaurant.dto.RestaurantResponse;
 import com.portfolio.food_delivery.domain.restaurant.exception.UnauthorizedException;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -28,12 +32,14 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -46,6 +52,15 @@ class RestaurantServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DeliveryEtaEstimator etaEstimator;
+
+    @Mock
+    private PopularityTracker popularityTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RestaurantService restaurantService;
 
@@ -225,6 +240,34 @@ class RestaurantServiceTest {
         assertThat(response.getContent().get(1).getName()).isEqualTo("피자하우스");
     }
 
+    @Test
+    @DisplayName("레스토랑 목록 인기순 조회 - 순위 순서대로, 다른 상태의 레스토랑은 빼고 페이징")
+    void getRankedRestaurants_FiltersStatusAndPages() {
+        // given
+        User owner = User.builder().id(1L).email("owner@example.com").role(UserRole.RESTAURANT_OWNER).build();
+        Restaurant open1 = Restaurant.builder().id(1L).owner(owner).name("치킨1")
+                .category(RestaurantCategory.CHICKEN).status(RestaurantStatus.OPEN).build();
+        Restaurant closed = Restaurant.builder().id(2L).owner(owner).name("치킨2")
+                .category(RestaurantCategory.CHICKEN).status(RestaurantStatus.CLOSED).build();
+        Restaurant open3 = Restaurant.builder().id(3L).owner(owner).name("치킨3")
+                .category(RestaurantCategory.CHICKEN).status(RestaurantStatus.OPEN).build();
+
+        given(popularityTracker.rankRestaurants(eq(RestaurantCategory.CHICKEN), eq(RankingType.POPULAR), any()))
+                .willReturn(List.of(3L, 2L, 1L));
+        given(restaurantRepository.findAllById(List.of(3L, 2L, 1L))).willReturn(List.of(open1, closed, open3));
+
+        // when
+        Page<RestaurantResponse> firstPage = restaurantService.getRankedRestaurants(
+                RestaurantStatus.OPEN, RestaurantCategory.CHICKEN, RankingType.POPULAR, PageRequest.of(0, 1));
+        Page<RestaurantResponse> secondPage = restaurantService.getRankedRestaurants(
+                RestaurantStatus.OPEN, RestaurantCategory.CHICKEN, RankingType.POPULAR, PageRequest.of(1, 1));
+
+        // then
+        assertThat(firstPage.getContent()).extracting(RestaurantResponse::getId).containsExactly(3L);
+        assertThat(secondPage.getContent()).extracting(RestaurantResponse::getId).containsExactly(1L);
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("레스토랑 정보 수정 성공")
     void updateRestaurant_Success() {
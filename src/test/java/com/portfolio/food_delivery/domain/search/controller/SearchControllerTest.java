@@ -0,0 +1,130 @@
+package com.portfolio.food_delivery.domain.search.controller;
+
+import com.portfolio.food_delivery.common.BaseIntegrationTest;
+import com.portfolio.food_delivery.domain.menu.entity.MenuStatus;
+import com.portfolio.food_delivery.domain.menu.event.MenuChangedEvent;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantStatus;
+import com.portfolio.food_delivery.domain.restaurant.event.RestaurantChangedEvent;
+import com.portfolio.food_delivery.domain.search.index.SuggestIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SearchControllerTest extends BaseIntegrationTest {
+
+    private static final Long KYOCHON_ID = 900_001L;
+    private static final Long NENE_ID = 900_002L;
+
+    @Autowired
+    private SuggestIndex suggestIndex;
+
+    // 테스트 트랜잭션은 커밋되지 않아 변경 이벤트가 색인에 전달되지 않으므로 리스너를 직접 호출한다
+    @BeforeEach
+    void setUp() {
+        suggestIndex.onRestaurantChanged(new RestaurantChangedEvent(
+                KYOCHON_ID, "교촌치킨", RestaurantCategory.CHICKEN, RestaurantStatus.OPEN, 10));
+        suggestIndex.onRestaurantChanged(new RestaurantChangedEvent(
+                NENE_ID, "네네치킨", RestaurantCategory.CHICKEN, RestaurantStatus.OPEN, 30));
+        suggestIndex.onMenuChanged(new MenuChangedEvent(900_011L, KYOCHON_ID, "교촌 허니콤보", MenuStatus.AVAILABLE));
+        suggestIndex.onMenuChanged(new MenuChangedEvent(900_012L, NENE_ID, "스노윙 치킨", MenuStatus.AVAILABLE));
+    }
+
+    // 색인은 컨텍스트 전체에서 공유되므로 다른 테스트에 남지 않게 뺀다
+    @AfterEach
+    void tearDown() {
+        for (Long restaurantId : new Long[]{KYOCHON_ID, NENE_ID}) {
+            suggestIndex.onRestaurantChanged(new RestaurantChangedEvent(
+                    restaurantId, "", RestaurantCategory.CHICKEN, RestaurantStatus.PERMANENTLY_CLOSED, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("자동완성 - 입력 중인 글자로 카테고리가 먼저, 단어 중간부터도 찾는다 (인증 불필요)")
+    void suggest_PartialSyllable() throws Exception {
+        mockMvc.perform(get("/api/search/suggest").param("q", "칰"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].type").value("CATEGORY"))
+                .andExpect(jsonPath("$[0].name").value("치킨"))
+                .andExpect(jsonPath("$[0].category").value("CHICKEN"))
+                .andExpect(jsonPath("$[1].type").value("MENU"))
+                .andExpect(jsonPath("$[1].id").value(900_012L))
+                .andExpect(jsonPath("$[1].restaurantId").value(NENE_ID))
+                .andExpect(jsonPath("$[1].name").value("스노윙 치킨"));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 초성 검색은 리뷰가 많은 레스토랑의 항목이 먼저")
+    void suggest_Chosung() throws Exception {
+        mockMvc.perform(get("/api/search/suggest").param("q", "ㄱㅊ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].type").value("RESTAURANT"))
+                .andExpect(jsonPath("$[0].name").value("교촌치킨"))
+                .andExpect(jsonPath("$[1].type").value("MENU"))
+                .andExpect(jsonPath("$[1].name").value("교촌 허니콤보"));
+
+        mockMvc.perform(get("/api/search/suggest").param("q", "ㅅㄴ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("스노윙 치킨"));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 리뷰 수가 바뀌면 메뉴 순서도 바뀐다")
+    void suggest_ReweightedOnRestaurantChange() throws Exception {
+        suggestIndex.onMenuChanged(new MenuChangedEvent(900_013L, NENE_ID, "허니갈릭", MenuStatus.AVAILABLE));
+
+        mockMvc.perform(get("/api/search/suggest").param("q", "허니"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("허니갈릭"))
+                .andExpect(jsonPath("$[1].name").value("교촌 허니콤보"));
+
+        suggestIndex.onRestaurantChanged(new RestaurantChangedEvent(
+                KYOCHON_ID, "교촌치킨", RestaurantCategory.CHICKEN, RestaurantStatus.OPEN, 50));
+
+        mockMvc.perform(get("/api/search/suggest").param("q", "허니"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("교촌 허니콤보"))
+                .andExpect(jsonPath("$[1].name").value("허니갈릭"));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 품절 메뉴와 폐업 레스토랑(메뉴 포함)은 빠진다")
+    void suggest_RemovedOnStatusChange() throws Exception {
+        suggestIndex.onMenuChanged(new MenuChangedEvent(900_012L, NENE_ID, "스노윙 치킨", MenuStatus.SOLD_OUT));
+        suggestIndex.onRestaurantChanged(new RestaurantChangedEvent(
+                KYOCHON_ID, "교촌치킨", RestaurantCategory.CHICKEN, RestaurantStatus.PERMANENTLY_CLOSED, 10));
+
+        mockMvc.perform(get("/api/search/suggest").param("q", "스노"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(get("/api/search/suggest").param("q", "교촌"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("자동완성 - limit 만큼만, 빈 검색어는 빈 목록")
+    void suggest_LimitAndBlank() throws Exception {
+        mockMvc.perform(get("/api/search/suggest").param("q", "ㄱㅊ").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("교촌치킨"));
+
+        mockMvc.perform(get("/api/search/suggest").param("q", " "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
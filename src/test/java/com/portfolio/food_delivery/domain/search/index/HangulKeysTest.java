@@ -0,0 +1,49 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulKeysTest {
+
+    @Test
+    @DisplayName("공백을 빼고 소문자로")
+    void normalize() {
+        assertThat(HangulKeys.normalize(" BBQ 황금 올리브 ")).isEqualTo("bbq황금올리브");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자도 완성된 이름의 자모 키 앞부분이 된다")
+    void jamo_PartialSyllable() {
+        assertThat(HangulKeys.jamo("치킨")).startsWith(HangulKeys.jamo("칰"));
+        assertThat(HangulKeys.jamo("닭갈비")).startsWith(HangulKeys.jamo("달"));
+        assertThat(HangulKeys.jamo("닭갈비")).startsWith(HangulKeys.jamo("닭"));
+        assertThat(HangulKeys.jamo("과자")).startsWith(HangulKeys.jamo("고"));
+        assertThat(HangulKeys.jamo("치킨")).doesNotStartWith(HangulKeys.jamo("칩"));
+    }
+
+    @Test
+    @DisplayName("직접 입력한 겹자모도 낱자로 푼다")
+    void jamo_CompoundJamo() {
+        assertThat(HangulKeys.jamo("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulKeys.jamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulKeys.jamo("고ㅘ")).isEqualTo("ㄱㅗㅗㅏ");
+    }
+
+    @Test
+    @DisplayName("초성 키는 음절만 초성으로 바꾸고 나머지는 그대로")
+    void chosung() {
+        assertThat(HangulKeys.chosung("교촌치킨")).isEqualTo("ㄱㅊㅊㅋ");
+        assertThat(HangulKeys.chosung("bbq치킨")).isEqualTo("bbqㅊㅋ");
+    }
+
+    @Test
+    @DisplayName("자음만으로 된 검색어만 초성 검색")
+    void isChosung() {
+        assertThat(HangulKeys.isChosung("ㄱㅊ")).isTrue();
+        assertThat(HangulKeys.isChosung("ㄱㅏ")).isFalse();
+        assertThat(HangulKeys.isChosung("교ㅊ")).isFalse();
+        assertThat(HangulKeys.isChosung("")).isFalse();
+    }
+}
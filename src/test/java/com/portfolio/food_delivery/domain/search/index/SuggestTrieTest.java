@@ -0,0 +1,148 @@
+package com.portfolio.food_delivery.domain.search.index;
+
+import com.portfolio.food_delivery.domain.restaurant.entity.RestaurantCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    private SuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestTrie(3);
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 항목만 가중치 내림차순으로")
+    void prefix_OrderedByWeight() {
+        Suggestion chicken = restaurant(1L, "치킨집", 5);
+        Suggestion chili = restaurant(2L, "칠리", 9);
+        Suggestion pizza = restaurant(3L, "피자", 20);
+        trie.insert("치킨집", chicken);
+        trie.insert("칠리", chili);
+        trie.insert("피자", pizza);
+
+        assertThat(trie.prefix("치", 3)).containsExactly(chicken);
+        assertThat(trie.prefix("", 3)).containsExactly(pizza, chili, chicken);
+        assertThat(trie.prefix("치킨집이", 3)).isEmpty();
+        assertThat(trie.prefix("햄", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("간선 중간에서 끝나는 접두어도 찾는다")
+    void prefix_EndsInsideEdge() {
+        Suggestion combo = restaurant(1L, "콤보", 1);
+        Suggestion cola = restaurant(2L, "콜라", 2);
+        trie.insert("abcdef", combo);
+        trie.insert("abxy", cola);
+
+        assertThat(trie.prefix("abcd", 3)).containsExactly(combo);
+        assertThat(trie.prefix("ab", 3)).containsExactly(cola, combo);
+        assertThat(trie.prefix("abz", 3)).isEmpty();
+        assertThat(trie.nodeCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 항목이 여러 키로 들어가도 한 번만 나온다")
+    void prefix_SameSuggestionOnce() {
+        Suggestion combo = restaurant(1L, "허니 허니콤보", 1);
+        trie.insert("허니허니콤보", combo);
+        trie.insert("허니콤보", combo);
+
+        assertThat(trie.prefix("허니", 3)).containsExactly(combo);
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제하면 밀려났던 항목이 상위 목록으로 다시 올라오고, 빈 노드는 정리된다")
+    void remove_RecomputesAndPrunes() {
+        Suggestion first = restaurant(1L, "a1", 40);
+        Suggestion second = restaurant(2L, "a2", 30);
+        Suggestion third = restaurant(3L, "a3", 20);
+        Suggestion fourth = restaurant(4L, "a4", 10);
+        trie.insert("a1", first);
+        trie.insert("a2", second);
+        trie.insert("a3", third);
+        trie.insert("a4", fourth);
+        assertThat(trie.prefix("a", 3)).containsExactly(first, second, third);
+
+        trie.remove("a1", first);
+        assertThat(trie.prefix("a", 3)).containsExactly(second, third, fourth);
+
+        trie.remove("a2", second);
+        trie.remove("a3", third);
+        trie.remove("a4", fourth);
+        assertThat(trie.prefix("a", 3)).isEmpty();
+        assertThat(trie.size()).isZero();
+        assertThat(trie.nodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 키나 다른 항목은 지우지 않는다")
+    void remove_Missing_Ignored() {
+        Suggestion combo = restaurant(1L, "콤보", 1);
+        trie.insert("combo", combo);
+
+        trie.remove("comb", combo);
+        trie.remove("combo", restaurant(1L, "콤보", 2));
+        trie.remove("zzz", combo);
+
+        assertThat(trie.prefix("co", 3)).containsExactly(combo);
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 추가/삭제 뒤에도 모든 접두어의 결과가 전체 탐색과 같다")
+    void randomOperations_MatchBruteForce() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            if (!keys.isEmpty() && random.nextInt(3) == 0) {
+                int index = random.nextInt(keys.size());
+                trie.remove(keys.remove(index), suggestions.remove(index));
+            } else {
+                String key = randomKey(random);
+                Suggestion suggestion = restaurant((long) i, key, random.nextInt(50));
+                trie.insert(key, suggestion);
+                keys.add(key);
+                suggestions.add(suggestion);
+            }
+        }
+
+        for (String prefix : List.of("", "a", "b", "ab", "ba", "aab", "bba", "abab")) {
+            List<Suggestion> expected = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (keys.get(i).startsWith(prefix)) {
+                    expected.add(suggestions.get(i));
+                }
+            }
+            expected.sort(Suggestion.ORDER);
+            List<Suggestion> top = expected.stream().distinct().limit(3).toList();
+            assertThat(trie.prefix(prefix, 3)).as(prefix).isEqualTo(top);
+        }
+        assertThat(trie.size()).isEqualTo(keys.size());
+    }
+
+    private static String randomKey(Random random) {
+        int length = 1 + random.nextInt(6);
+        StringBuilder key = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            key.append(random.nextBoolean() ? 'a' : 'b');
+        }
+        return key.toString();
+    }
+
+    private static Suggestion restaurant(Long id, String name, long weight) {
+        return new Suggestion(SuggestionType.RESTAURANT, id, id, name, RestaurantCategory.KOREAN, weight);
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import com.portfolio.food_delivery.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdGeneratorConfigTest {
+
+    private final IdGeneratorConfig config = new IdGeneratorConfig();
+
+    @Test
+    @DisplayName("노드 ID를 지정하지 않으면 기동 실패 (prod 는 기본값이 없음)")
+    void idGenerator_NodeIdRequired() {
+        assertThatThrownBy(() -> config.idGenerator(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("NODE_ID");
+    }
+
+    @Test
+    @DisplayName("지정한 노드 ID로 발급")
+    void idGenerator_UsesNodeId() {
+        SnowflakeIdGenerator generator = (SnowflakeIdGenerator) config.idGenerator("37");
+        assertThat(SnowflakeIdGenerator.nodeOf(generator.nextId())).isEqualTo(37);
+    }
+}
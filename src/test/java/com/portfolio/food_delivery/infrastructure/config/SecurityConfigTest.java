@@ -0,0 +1,42 @@
+package com.portfolio.food_delivery.infrastructure.config;
+
+import com.portfolio.food_delivery.common.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SecurityConfigTest extends BaseIntegrationTest {
+
+    @Test
+    @DisplayName("actuator 헬스 체크는 인증 없이 허용")
+    void actuatorHealth_Public() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("느린 trace/지표 actuator 는 인증 없이 조회할 수 없음")
+    void actuatorSlowTraces_Anonymous_Forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/slowtraces"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("느린 trace actuator 는 관리자가 아니면 조회할 수 없음")
+    void actuatorSlowTraces_Customer_Forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/slowtraces").with(user("customer@example.com").roles("CUSTOMER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("느린 trace actuator 는 관리자만 조회")
+    void actuatorSlowTraces_Admin() throws Exception {
+        mockMvc.perform(get("/actuator/slowtraces").with(user("admin@example.com").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,159 @@
+package com.portfolio.food_delivery.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary / replica 로 두고 라우팅을 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void route(ReadYourWritesTracker tracker, ReplicaLagMonitor monitor) {
+        ReplicationRoutingDataSource routing =
+                new ReplicationRoutingDataSource(primary, replica, tracker, monitor, meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로")
+    void route_ReadOnlyToReplica() {
+        // given
+        route(new ReadYourWritesTracker(Duration.ofSeconds(2)),
+                new ReplicaLagMonitor(replica, null, Duration.ofSeconds(1)));
+
+        // when
+        String read = readOnlyTx.execute(status -> currentNode());
+        String write = writeTx.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("replica");
+        assertThat(write).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing").tag("reason", "read-only").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 잠시 동안 읽기도 primary 로")
+    void route_ReadYourWrites() {
+        // given
+        route(new ReadYourWritesTracker(Duration.ofMinutes(1)),
+                new ReplicaLagMonitor(replica, null, Duration.ofSeconds(1)));
+        login("writer@example.com");
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // when
+        String writerRead = readOnlyTx.execute(status -> currentNode());
+        login("other@example.com");
+        String otherRead = readOnlyTx.execute(status -> currentNode());
+
+        // then
+        assertThat(writerRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 롤백되면 primary 고정 안 함")
+    void route_RolledBackWriteIsNotSticky() {
+        // given
+        route(new ReadYourWritesTracker(Duration.ofMinutes(1)),
+                new ReplicaLagMonitor(replica, null, Duration.ofSeconds(1)));
+        login("writer@example.com");
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // when
+        String read = readOnlyTx.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 읽기를 primary 로 우회하고 회복되면 복귀")
+    void route_FallbackOnReplicaLag() {
+        // given - replica 의 지연 값을 테이블로 흉내낸다
+        new JdbcTemplate(replica).execute("CREATE TABLE heartbeat(lag_ms BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO heartbeat VALUES (5000)");
+        ReplicaLagMonitor monitor =
+                new ReplicaLagMonitor(replica, "SELECT lag_ms FROM heartbeat", Duration.ofSeconds(1));
+        route(new ReadYourWritesTracker(Duration.ofSeconds(2)), monitor);
+
+        // when
+        monitor.check();
+        String lagging = readOnlyTx.execute(status -> currentNode());
+
+        new JdbcTemplate(replica).update("UPDATE heartbeat SET lag_ms = 10");
+        monitor.check();
+        String recovered = readOnlyTx.execute(status -> currentNode());
+
+        // then
+        assertThat(lagging).isEqualTo("primary");
+        assertThat(recovered).isEqualTo("replica");
+        assertThat(meterRegistry.get("datasource.routing").tag("reason", "replica-unavailable").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private DriverManagerDataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node(name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
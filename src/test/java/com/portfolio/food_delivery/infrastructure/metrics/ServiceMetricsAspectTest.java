@@ -0,0 +1,65 @@
+package com.portfolio.food_delivery.infrastructure.metrics;
+
+import com.portfolio.food_delivery.common.BaseIntegrationTest;
+import com.portfolio.food_delivery.domain.payment.service.PaymentGatewayService;
+import com.portfolio.food_delivery.domain.user.exception.UserNotFoundException;
+import com.portfolio.food_delivery.domain.user.repository.UserRepository;
+import com.portfolio.food_delivery.domain.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceMetricsAspectTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentGatewayService paymentGatewayService;
+
+    @Test
+    @DisplayName("서비스 메서드 호출 시간을 서비스/메서드/예외 태그로 기록")
+    void recordsServiceInvocations() {
+        assertThatThrownBy(() -> userService.getUserInfo(-1L)).isInstanceOf(UserNotFoundException.class);
+
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.SERVICE_TIMER)
+                .tags("service", "UserService", "method", "getUserInfo", "exception", "UserNotFoundException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PG 호출은 별도 타이머에 결과(outcome) 태그로 기록")
+    void recordsGatewayCalls() {
+        paymentGatewayService.cancelPayment(null, 1000, "테스트");
+
+        assertThat(meterRegistry.find(ServiceMetricsAspect.GATEWAY_TIMER)
+                .tags("method", "cancelPayment", "outcome", "failure")
+                .timer()).isNotNull();
+        assertThat(meterRegistry.find(ServiceMetricsAspect.SERVICE_TIMER)
+                .tag("method", "cancelPayment")
+                .timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("리포지토리 메서드는 spring.data.repository.invocations 로 기록")
+    void recordsRepositoryInvocations() {
+        userRepository.existsByEmail("metrics@example.com");
+
+        assertThat(meterRegistry.find("spring.data.repository.invocations")
+                .tags("repository", "UserRepository", "method", "existsByEmail")
+                .timer()).isNotNull();
+    }
+}
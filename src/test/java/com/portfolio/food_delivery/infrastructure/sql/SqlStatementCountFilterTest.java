@@ -0,0 +1,102 @@
+package com.portfolio.food_delivery.infrastructure.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatementCountFilterTest {
+
+    private static final String URI = "/api/orders/{orderId}";
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+    private SimpleMeterRegistry meterRegistry;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        request = new MockHttpServletRequest("GET", "/api/orders/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+    }
+
+    @Test
+    @DisplayName("요청당 SQL 수를 URI 패턴별로 기록")
+    void recordsStatementsPerEndpoint() throws Exception {
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(meterRegistry, 50, 10, true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), execute(
+                "select * from orders where id=?",
+                "select * from order_items where order_id in (?,?,?)"));
+
+        assertThat(meterRegistry.get("http.server.sql.statements").tag("uri", URI).summary().totalAmount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 SELECT 가 허용 횟수를 넘게 반복되면 N+1 로 판단 - 테스트 모드에서는 요청 실패")
+    void failsOnRepeatedSelect() {
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(meterRegistry, 50, 2, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), execute(
+                "select * from menus where id=?",
+                "select * from menus where id=?",
+                "select * from menus where id=?")))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("N+1")
+                .hasMessageContaining("3번");
+    }
+
+    @Test
+    @DisplayName("운영 모드에서는 요청을 실패시키지 않고 지표만 남김")
+    void countsViolationWithoutFailing() throws Exception {
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(meterRegistry, 2, 10, false);
+
+        filter.doFilter(request, new MockHttpServletResponse(), execute(
+                "insert into order_items (id) values (?)",
+                "insert into order_items (id) values (?)",
+                "insert into order_items (id) values (?)"));
+
+        // INSERT 반복은 N+1 이 아니지만 전체 SQL 수 예산은 넘겼다
+        assertThat(meterRegistry.find("http.server.sql.n-plus-one").counter()).isNull();
+        assertThat(meterRegistry.get("http.server.sql.budget-exceeded").tag("uri", URI).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IN 목록 길이가 달라도 같은 SELECT 로 본다")
+    void normalizesInListLength() {
+        assertThat(SqlStatementStats.shapeOf("SELECT * FROM menus WHERE id IN (?, ?)"))
+                .isEqualTo(SqlStatementStats.shapeOf("select *  from menus where id in (?,?,?,?)"));
+    }
+
+    @Test
+    @DisplayName("중첩된 측정 구간의 SQL 은 바깥 구간에도 집계")
+    void nestedScopes() {
+        SqlStatementStats outer = SqlStatementInspector.begin();
+        SqlStatementStats inner = SqlStatementInspector.begin();
+        inspector.inspect("select 1");
+        SqlStatementInspector.end(inner);
+        inspector.inspect("select 2");
+        SqlStatementInspector.end(outer);
+        inspector.inspect("select 3");
+
+        assertThat(inner.getTotal()).isEqualTo(1);
+        assertThat(outer.getTotal()).isEqualTo(2);
+    }
+
+    private FilterChain execute(String... statements) {
+        return (req, res) -> {
+            for (String sql : statements) {
+                inspector.inspect(sql);
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.portfolio.food_delivery.infrastructure.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowTraceEndpointTest {
+
+    private RingBufferSpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+    private SlowTraceEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new RingBufferSpanExporter(8);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracer = tracerProvider.get("test");
+        endpoint = new SlowTraceEndpoint(exporter, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("루트 span 이 기준보다 오래 걸린 trace 만 느린 순으로 조회")
+    void slowTracesSortedByDuration() {
+        recordTrace("GET /api/orders", 300, "OrderService.getMyOrders");
+        recordTrace("GET /api/menus", 50, "MenuService.getMenus");
+        recordTrace("POST /api/orders", 800, "OrderService.createOrder");
+
+        List<SlowTraceEndpoint.TraceView> traces = endpoint.slowTraces(null, null);
+
+        assertThat(traces).extracting(SlowTraceEndpoint.TraceView::name)
+                .containsExactly("POST /api/orders", "GET /api/orders");
+        assertThat(traces.get(0).spanCount()).isEqualTo(2);
+        assertThat(traces.get(0).spans().get(1).parentSpanId()).isEqualTo(traces.get(0).spans().get(0).spanId());
+    }
+
+    @Test
+    @DisplayName("traceId 로 trace 하나를 조회")
+    void traceById() {
+        String traceId = recordTrace("GET /api/orders", 300, "OrderService.getMyOrders");
+
+        SlowTraceEndpoint.TraceView trace = endpoint.trace(traceId);
+
+        assertThat(trace.durationMs()).isEqualTo(300.0);
+        assertThat(trace.spans()).extracting(SlowTraceEndpoint.SpanView::name)
+                .containsExactly("GET /api/orders", "OrderService.getMyOrders");
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 가장 오래된 span 부터 덮어씀")
+    void overwritesOldestSpans() {
+        String first = recordTrace("first", 300, "child");
+        for (int i = 0; i < 4; i++) {
+            recordTrace("next-" + i, 300, "child");
+        }
+
+        assertThat(exporter.size()).isEqualTo(8);
+        assertThat(endpoint.trace(first)).isNull();
+        assertThat(endpoint.slowTraces(0L, 100)).hasSize(4);
+    }
+
+    // 루트 span 과 자식 span 하나로 된 trace 를 기록하고 traceId 를 돌려준다
+    private String recordTrace(String rootName, long durationMs, String childName) {
+        Instant start = Instant.parse("2025-01-01T00:00:00Z");
+        Span root = tracer.spanBuilder(rootName).setStartTimestamp(start).startSpan();
+        Span child = tracer.spanBuilder(childName)
+                .setParent(Context.root().with(root))
+                .setStartTimestamp(start.plusMillis(1))
+                .startSpan();
+        child.end(start.plusMillis(durationMs - 1));
+        root.end(start.toEpochMilli() + durationMs, TimeUnit.MILLISECONDS);
+        return root.getSpanContext().getTraceId();
+    }
+}
@@ -0,0 +1,67 @@
+package com.portfolio.food_delivery.presentation.advice;
+
+import com.portfolio.food_delivery.common.exception.BusinessException;
+import com.portfolio.food_delivery.common.exception.EntityNotFoundException;
+import com.portfolio.food_delivery.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new GlobalExceptionHandler(meterRegistry, 10_000);
+    }
+
+    @Test
+    @DisplayName("4xx 비즈니스 예외는 스택 트레이스를 만들지 않음")
+    void clientErrorIsStackless() {
+        BusinessException e = new EntityNotFoundException("메뉴를 찾을 수 없습니다.");
+
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(e.getMessage()).isEqualTo("메뉴를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("5xx 비즈니스 예외는 원인 추적을 위해 스택 트레이스를 남김")
+    void serverErrorKeepsStackTrace() {
+        BusinessException e = new ServerFailureException();
+
+        assertThat(e.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("ErrorCode 별로 오류 응답 수를 집계")
+    void countsPerErrorCode() {
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<ErrorResponse> response =
+                    handler.handleBusinessException(new EntityNotFoundException("없음"));
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+        handler.handleBusinessException(new ServerFailureException());
+
+        assertThat(errorCount(ErrorCode.ENTITY_NOT_FOUND)).isEqualTo(3);
+        assertThat(errorCount(ErrorCode.INTERNAL_SERVER_ERROR)).isEqualTo(1);
+        assertThat(errorCount(ErrorCode.USER_NOT_FOUND)).isZero();
+    }
+
+    private double errorCount(ErrorCode errorCode) {
+        return meterRegistry.get("http.server.errors").tag("code", errorCode.getCode()).counter().count();
+    }
+
+    private static class ServerFailureException extends BusinessException {
+        ServerFailureException() {
+            super(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}